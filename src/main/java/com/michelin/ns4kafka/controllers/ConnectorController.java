@@ -13,6 +13,7 @@ import com.michelin.ns4kafka.utils.enums.ApplyStatus;
 import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
@@ -40,6 +41,8 @@ import reactor.core.publisher.Mono;
 @Controller(value = "/api/namespaces/{namespace}/connectors")
 @ExecuteOn(TaskExecutors.IO)
 public class ConnectorController extends NamespacedResourceController {
+    private static final int IMPORT_BATCH_SIZE = 100;
+
     @Inject
     ConnectorService connectorService;
 
@@ -57,6 +60,17 @@ public class ConnectorController extends NamespacedResourceController {
         return connectorService.findAllForNamespace(getNamespace(namespace));
     }
 
+    /**
+     * List connectors by namespace, with the state of the connectors and their tasks on the Connect clusters.
+     *
+     * @param namespace The namespace
+     * @return A list of connectors, with their status
+     */
+    @Get("/_/status")
+    public Flux<Connector> listStatuses(String namespace) {
+        return connectorService.findAllStatusesForNamespace(getNamespace(namespace));
+    }
+
     /**
      * Get a connector by namespace and name.
      *
@@ -247,7 +261,7 @@ public class ConnectorController extends NamespacedResourceController {
      * @param dryrun    Is dry run mode or not ?
      * @return The list of imported connectors
      */
-    @Post("/_/import{?dryrun}")
+    @Post(value = "/_/import{?dryrun}", produces = {MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON_STREAM})
     public Flux<Connector> importResources(String namespace, @QueryValue(defaultValue = "false") boolean dryrun) {
         Namespace ns = getNamespace(namespace);
         return connectorService.listUnsynchronizedConnectors(ns)
@@ -255,14 +269,17 @@ public class ConnectorController extends NamespacedResourceController {
                 unsynchronizedConnector.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
                 unsynchronizedConnector.getMetadata().setCluster(ns.getMetadata().getCluster());
                 unsynchronizedConnector.getMetadata().setNamespace(ns.getMetadata().getName());
-
+                return unsynchronizedConnector;
+            })
+            .buffer(IMPORT_BATCH_SIZE)
+            .concatMapIterable(connectors -> {
                 if (dryrun) {
-                    return unsynchronizedConnector;
+                    return connectors;
                 }
 
-                sendEventLog(unsynchronizedConnector, ApplyStatus.created, null, unsynchronizedConnector.getSpec());
-
-                return connectorService.createOrUpdate(unsynchronizedConnector);
+                connectors.forEach(connector -> sendEventLog(connector, ApplyStatus.created, null,
+                    connector.getSpec()));
+                return connectorService.createAll(connectors);
             });
     }
 }
@@ -3,9 +3,11 @@ package com.michelin.ns4kafka.controllers;
 import com.michelin.ns4kafka.models.Status;
 import com.michelin.ns4kafka.models.Status.StatusDetails;
 import com.michelin.ns4kafka.models.Status.StatusPhase;
+import com.michelin.ns4kafka.utils.exceptions.ConnectClusterUnavailableException;
 import com.michelin.ns4kafka.utils.exceptions.ForbiddenNamespaceException;
 import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
 import com.michelin.ns4kafka.utils.exceptions.UnknownNamespaceException;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
@@ -178,6 +180,26 @@ public class ExceptionHandlerController {
             .body(status);
     }
 
+    /**
+     * Handle Connect cluster unavailable exception.
+     *
+     * @param request   the request
+     * @param exception the exception
+     * @return the http response
+     */
+    @Error(global = true)
+    public HttpResponse<Status> error(HttpRequest<?> request, ConnectClusterUnavailableException exception) {
+        var status = Status.builder()
+            .status(StatusPhase.Failed)
+            .message(exception.getMessage())
+            .httpStatus(HttpStatus.SERVICE_UNAVAILABLE)
+            .build();
+
+        return HttpResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+            .body(status);
+    }
+
     /**
      * Handle exception.
      *
@@ -4,9 +4,12 @@ import com.michelin.ns4kafka.controllers.generic.NamespacedResourceController;
 import com.michelin.ns4kafka.models.Namespace;
 import com.michelin.ns4kafka.models.quota.ResourceQuota;
 import com.michelin.ns4kafka.models.quota.ResourceQuotaResponse;
+import com.michelin.ns4kafka.models.quota.ResourceQuotaUsage;
 import com.michelin.ns4kafka.services.ResourceQuotaService;
+import com.michelin.ns4kafka.services.ResourceQuotaUsageHistoryService;
 import com.michelin.ns4kafka.utils.enums.ApplyStatus;
 import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.annotation.Body;
@@ -21,6 +24,7 @@ import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -36,6 +40,9 @@ public class ResourceQuotaController extends NamespacedResourceController {
     @Inject
     ResourceQuotaService resourceQuotaService;
 
+    @Inject
+    ResourceQuotaUsageHistoryService resourceQuotaUsageHistoryService;
+
     /**
      * List quotas by namespace.
      *
@@ -48,6 +55,22 @@ public class ResourceQuotaController extends NamespacedResourceController {
             resourceQuotaService.findByNamespace(namespace)));
     }
 
+    /**
+     * Get the usage history of a namespace.
+     *
+     * @param namespace The namespace
+     * @param from      The start of the range, one day before its end by default
+     * @param to        The end of the range, now by default
+     * @return The usages sorted by time
+     */
+    @Get("/_/history{?from,to}")
+    public List<ResourceQuotaUsage> history(String namespace, @Nullable @QueryValue Instant from,
+                                            @Nullable @QueryValue Instant to) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(Duration.ofDays(1));
+        return resourceQuotaUsageHistoryService.findHistory(namespace, start, end);
+    }
+
     /**
      * Get a quota by namespace and name.
      *
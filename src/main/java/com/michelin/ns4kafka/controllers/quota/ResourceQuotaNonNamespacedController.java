@@ -5,8 +5,10 @@ import com.michelin.ns4kafka.models.quota.ResourceQuotaResponse;
 import com.michelin.ns4kafka.security.ResourceBasedSecurityRule;
 import com.michelin.ns4kafka.services.NamespaceService;
 import com.michelin.ns4kafka.services.ResourceQuotaService;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.QueryValue;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
@@ -28,10 +30,16 @@ public class ResourceQuotaNonNamespacedController extends NonNamespacedResourceC
     /**
      * List quotas.
      *
+     * @param sort The quota to sort by decreasing usage, among count/topics, count/partitions, disk/topics and
+     *             count/connectors
+     * @param page The page number, starting from 0
+     * @param size The page size, 0 to list all the quotas
      * @return A list of quotas
      */
     @Get
-    public List<ResourceQuotaResponse> listAll() {
-        return resourceQuotaService.getUsedQuotaByNamespaces(namespaceService.listAll());
+    public List<ResourceQuotaResponse> listAll(@Nullable @QueryValue String sort,
+                                               @QueryValue(defaultValue = "0") int page,
+                                               @QueryValue(defaultValue = "0") int size) {
+        return resourceQuotaService.getUsedQuotaByNamespaces(namespaceService.listAll(), sort, page, size);
     }
 }
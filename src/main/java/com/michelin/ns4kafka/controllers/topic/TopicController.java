@@ -1,5 +1,6 @@
 package com.michelin.ns4kafka.controllers.topic;
 
+import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidFieldValidationEmpty;
 import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidNotFound;
 import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidOwner;
 import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidTopicCollide;
@@ -13,8 +14,11 @@ import com.michelin.ns4kafka.services.ResourceQuotaService;
 import com.michelin.ns4kafka.services.TopicService;
 import com.michelin.ns4kafka.utils.enums.ApplyStatus;
 import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Delete;
@@ -22,6 +26,8 @@ import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.QueryValue;
 import io.micronaut.http.annotation.Status;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -29,19 +35,27 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.apache.kafka.common.TopicPartition;
+import reactor.core.publisher.Flux;
 
 /**
  * Controller to manage topics.
  */
 @Tag(name = "Topics", description = "Manage the topics.")
 @Controller(value = "/api/namespaces/{namespace}/topics")
+@ExecuteOn(TaskExecutors.IO)
 public class TopicController extends NamespacedResourceController {
+    private static final int IMPORT_BATCH_SIZE = 100;
+
     @Inject
     TopicService topicService;
 
@@ -183,38 +197,32 @@ public class TopicController extends NamespacedResourceController {
 
     /**
      * Import unsynchronized topics.
+     * The imported topics are streamed as soon as a batch is stored when requested as a JSON stream.
      *
      * @param namespace The namespace
      * @param dryrun    Is dry run mode or not ?
      * @return The list of imported topics
-     * @throws ExecutionException   Any execution exception
-     * @throws InterruptedException Any interrupted exception
-     * @throws TimeoutException     Any timeout exception
      */
-    @Post("/_/import{?dryrun}")
-    public List<Topic> importResources(String namespace, @QueryValue(defaultValue = "false") boolean dryrun)
-        throws ExecutionException, InterruptedException, TimeoutException {
+    @Post(value = "/_/import{?dryrun}", produces = {MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON_STREAM})
+    public Flux<Topic> importResources(String namespace, @QueryValue(defaultValue = "false") boolean dryrun) {
         Namespace ns = getNamespace(namespace);
-        List<Topic> unsynchronizedTopics = topicService.listUnsynchronizedTopics(ns);
-
-        unsynchronizedTopics.forEach(topic -> {
-            topic.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
-            topic.getMetadata().setCluster(ns.getMetadata().getCluster());
-            topic.getMetadata().setNamespace(ns.getMetadata().getName());
-            topic.setStatus(Topic.TopicStatus.ofSuccess("Imported from cluster"));
-        });
-
-        if (dryrun) {
-            return unsynchronizedTopics;
-        }
-
-        return unsynchronizedTopics
-            .stream()
+        return topicService.listUnsynchronizedTopics(ns)
             .map(topic -> {
-                sendEventLog(topic, ApplyStatus.created, null, topic.getSpec());
-                return topicService.create(topic);
+                topic.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
+                topic.getMetadata().setCluster(ns.getMetadata().getCluster());
+                topic.getMetadata().setNamespace(ns.getMetadata().getName());
+                topic.setStatus(Topic.TopicStatus.ofSuccess("Imported from cluster"));
+                return topic;
             })
-            .toList();
+            .buffer(IMPORT_BATCH_SIZE)
+            .concatMapIterable(topics -> {
+                if (dryrun) {
+                    return topics;
+                }
+
+                topics.forEach(topic -> sendEventLog(topic, ApplyStatus.created, null, topic.getSpec()));
+                return topicService.createAll(topics);
+            });
     }
 
     /**
@@ -259,13 +267,87 @@ public class TopicController extends NamespacedResourceController {
 
         return deletedRecords.entrySet()
             .stream()
-            .map(entry -> DeleteRecordsResponse.builder()
-                .spec(DeleteRecordsResponse.DeleteRecordsResponseSpec.builder()
-                    .topic(entry.getKey().topic())
-                    .partition(entry.getKey().partition())
-                    .offset(entry.getValue())
-                    .build())
-                .build())
+            .map(this::toDeleteRecordsResponse)
             .toList();
     }
+
+    /**
+     * Delete records from several topics, given by name or by prefix.
+     * The results are streamed by topic-partition when requested as a JSON stream.
+     *
+     * @param namespace The namespace
+     * @param topics    The topics
+     * @param prefix    The prefix of the topics
+     * @param dryrun    Is dry run mode or not ?
+     * @return The topic-partitions where records have been deleted
+     */
+    @Post(value = "/_/delete-records{?topics,prefix,dryrun}",
+        produces = {MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON_STREAM})
+    public Flux<DeleteRecordsResponse> bulkDeleteRecords(String namespace, @Nullable @QueryValue List<String> topics,
+                                                         @Nullable @QueryValue String prefix,
+                                                         @QueryValue(defaultValue = "false") boolean dryrun) {
+        Namespace ns = getNamespace(namespace);
+        if ((topics == null || topics.isEmpty()) && StringUtils.isEmpty(prefix)) {
+            throw new ResourceValidationException(TOPIC, namespace, invalidFieldValidationEmpty("topics"));
+        }
+
+        Map<String, Topic> namespaceTopics = topicService.findAllForNamespace(ns)
+            .stream()
+            .collect(Collectors.toMap(topic -> topic.getMetadata().getName(), Function.identity()));
+
+        List<String> validationErrors = new ArrayList<>();
+        Map<String, Topic> deleteRecordsTopics = new LinkedHashMap<>();
+
+        if (topics != null) {
+            Predicate<String> isNamespaceOwner = topicService.buildNamespaceOwnershipMatcher(namespace);
+            topics.forEach(topic -> {
+                if (!isNamespaceOwner.test(topic)) {
+                    validationErrors.add(invalidOwner(topic));
+                } else if (!namespaceTopics.containsKey(topic)) {
+                    validationErrors.add(invalidNotFound(topic));
+                } else {
+                    deleteRecordsTopics.put(topic, namespaceTopics.get(topic));
+                }
+            });
+        }
+
+        if (StringUtils.isNotEmpty(prefix)) {
+            namespaceTopics.values()
+                .stream()
+                .filter(topic -> topic.getMetadata().getName().startsWith(prefix))
+                .forEach(topic -> deleteRecordsTopics.putIfAbsent(topic.getMetadata().getName(), topic));
+        }
+
+        deleteRecordsTopics.values()
+            .forEach(topic -> topicService.validateDeleteRecordsTopic(topic)
+                .forEach(error -> validationErrors.add(topic.getMetadata().getName() + ": " + error)));
+
+        if (!validationErrors.isEmpty()) {
+            throw new ResourceValidationException(TOPIC,
+                StringUtils.isNotEmpty(prefix) ? prefix : String.join(",", topics), validationErrors);
+        }
+
+        if (!dryrun) {
+            deleteRecordsTopics.values().forEach(topic -> sendEventLog(topic, ApplyStatus.deleted, null, null));
+        }
+
+        return topicService.deleteRecords(ns, List.copyOf(deleteRecordsTopics.values()), dryrun)
+            .map(this::toDeleteRecordsResponse);
+    }
+
+    /**
+     * Build the delete records response of a topic-partition.
+     *
+     * @param entry The offset of the topic-partition
+     * @return The delete records response
+     */
+    private DeleteRecordsResponse toDeleteRecordsResponse(Map.Entry<TopicPartition, Long> entry) {
+        return DeleteRecordsResponse.builder()
+            .spec(DeleteRecordsResponse.DeleteRecordsResponseSpec.builder()
+                .topic(entry.getKey().topic())
+                .partition(entry.getKey().partition())
+                .offset(entry.getValue())
+                .build())
+            .build();
+    }
 }
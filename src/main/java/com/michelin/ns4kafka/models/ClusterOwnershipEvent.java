@@ -0,0 +1,14 @@
+package com.michelin.ns4kafka.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Cluster ownership event, published when the current replica takes or loses the ownership of a managed cluster.
+ */
+@Data
+@AllArgsConstructor
+public class ClusterOwnershipEvent {
+    private String cluster;
+    private boolean owner;
+}
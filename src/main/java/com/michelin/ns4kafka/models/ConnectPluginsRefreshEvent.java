@@ -0,0 +1,14 @@
+package com.michelin.ns4kafka.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Connect plugins refresh event.
+ */
+@Data
+@AllArgsConstructor
+public class ConnectPluginsRefreshEvent {
+    private String kafkaCluster;
+    private String connectCluster;
+}
@@ -0,0 +1,20 @@
+package com.michelin.ns4kafka.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Store change event.
+ * The previous resource is the one stored before the change, if any.
+ */
+@Data
+@AllArgsConstructor
+public class StoreChangeEvent {
+    private MetadataResource resource;
+    private boolean deleted;
+    private MetadataResource previous;
+
+    public StoreChangeEvent(MetadataResource resource, boolean deleted) {
+        this(resource, deleted, null);
+    }
+}
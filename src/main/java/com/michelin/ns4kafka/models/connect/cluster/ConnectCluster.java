@@ -2,11 +2,13 @@ package com.michelin.ns4kafka.models.connect.cluster;
 
 import static com.michelin.ns4kafka.utils.enums.Kind.CONNECT_CLUSTER;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.michelin.ns4kafka.models.Metadata;
 import com.michelin.ns4kafka.models.MetadataResource;
 import io.micronaut.core.annotation.Introspected;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.util.Date;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -44,6 +46,15 @@ public class ConnectCluster extends MetadataResource {
         IDLE
     }
 
+    /**
+     * Kafka Connect circuit breaker state.
+     */
+    public enum CircuitBreakerState {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
     /**
      * Kafka Connect Cluster specification.
      */
@@ -81,6 +92,19 @@ public class ConnectCluster extends MetadataResource {
         @EqualsAndHashCode.Exclude
         String statusMessage;
 
+        /**
+         * Gets the last time the Kafka Connect has been seen healthy.
+         */
+        @EqualsAndHashCode.Exclude
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        Date lastSeenHealthy;
+
+        /**
+         * Gets the state of the circuit breaker protecting the Kafka Connect.
+         */
+        @EqualsAndHashCode.Exclude
+        CircuitBreakerState circuitBreakerState;
+
         /**
          * Gets or sets the aes256 key.
          */
@@ -59,6 +59,8 @@ public class Connector extends MetadataResource {
         PAUSED,
         FAILED,
         DESTROYED,
+        RESTARTING,
+        STOPPED,
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.michelin.ns4kafka.models.quota;
+
+import static com.michelin.ns4kafka.utils.enums.Kind.RESOURCE_QUOTA_USAGE;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.MetadataResource;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resources used by a namespace at a point in time.
+ */
+@Data
+@Introspected
+@EqualsAndHashCode(callSuper = true)
+public class ResourceQuotaUsage extends MetadataResource {
+    @Valid
+    @NotNull
+    private ResourceQuotaUsageSpec spec;
+
+    /**
+     * Constructor.
+     *
+     * @param metadata The metadata
+     * @param spec     The spec
+     */
+    @Builder
+    public ResourceQuotaUsage(Metadata metadata, ResourceQuotaUsageSpec spec) {
+        super("v1", RESOURCE_QUOTA_USAGE, metadata);
+        this.spec = spec;
+    }
+
+    /**
+     * Resource quota usage spec.
+     */
+    @Data
+    @Builder
+    @Introspected
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResourceQuotaUsageSpec {
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        private Date timestamp;
+        private long countTopic;
+        private long countPartition;
+        private long diskTopic;
+        private long countConnector;
+    }
+}
@@ -0,0 +1,44 @@
+package com.michelin.ns4kafka.properties;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * HTTP client pool properties.
+ * Each endpoint of a kind, such as a Connect cluster or a Schema Registry, has its own HTTP client built from the
+ * properties of its kind.
+ */
+@Getter
+@Setter
+@EachProperty("ns4kafka.http-client-pools")
+public class HttpClientPoolProperties {
+    public static final String KAFKA_CONNECT = "kafka-connect";
+    public static final String SCHEMA_REGISTRY = "schema-registry";
+
+    private String name;
+    private String eventLoopGroup = "default";
+    private int maxConnections = 8;
+    private int maxPendingAcquires = 64;
+    private Duration acquireTimeout = Duration.ofSeconds(10);
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration keepAlive = Duration.ofMinutes(1);
+    private boolean http2;
+    private int maxConcurrentStreams = 32;
+
+    public HttpClientPoolProperties(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the number of requests an endpoint serves at once.
+     *
+     * @return The number of connections, times the number of streams per connection with HTTP/2
+     */
+    public int getMaxInFlightRequests() {
+        return http2 ? maxConnections * maxConcurrentStreams : maxConnections;
+    }
+}
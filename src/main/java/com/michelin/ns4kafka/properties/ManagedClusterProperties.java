@@ -4,6 +4,7 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Introspected;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
 import lombok.Getter;
@@ -27,7 +28,7 @@ public class ManagedClusterProperties {
     private Properties config;
     private Map<String, ConnectProperties> connects;
     private SchemaRegistryProperties schemaRegistry;
-    private Admin adminClient = null;
+    private volatile Admin adminClient = null;
 
     public ManagedClusterProperties(@Parameter String name) {
         this.name = name;
@@ -40,15 +41,47 @@ public class ManagedClusterProperties {
 
     /**
      * Getter for admin client service.
+     * The admin client is created once, on first use.
      *
      * @return The admin client
      */
     public Admin getAdminClient() {
-        if (this.adminClient == null) {
-            this.adminClient = Admin.create(config);
+        Admin admin = this.adminClient;
+        if (admin == null) {
+            synchronized (this) {
+                admin = this.adminClient;
+                if (admin == null) {
+                    admin = Admin.create(config);
+                    this.adminClient = admin;
+                }
+            }
         }
 
-        return this.adminClient;
+        return admin;
+    }
+
+    /**
+     * Close the admin client, so the next call to {@link #getAdminClient()} creates a new one.
+     * Nothing is done if the given admin client has already been replaced.
+     *
+     * @param admin The admin client to close
+     * @return true if the admin client has been closed, false otherwise
+     */
+    public synchronized boolean closeAdminClient(Admin admin) {
+        if (admin == null || this.adminClient != admin) {
+            return false;
+        }
+
+        this.adminClient = null;
+        admin.close(Duration.ZERO);
+        return true;
+    }
+
+    /**
+     * Close the admin client, if it has been created.
+     */
+    public synchronized void closeAdminClient() {
+        closeAdminClient(this.adminClient);
     }
 
     /**
@@ -23,6 +23,14 @@ public interface ConnectorRepository {
      */
     Connector create(Connector connector);
 
+    /**
+     * Create the given connectors.
+     *
+     * @param connectors The connectors to create
+     * @return The created connectors
+     */
+    List<Connector> createAll(List<Connector> connectors);
+
     /**
      * Delete a given connector.
      *
@@ -0,0 +1,58 @@
+package com.michelin.ns4kafka.repositories;
+
+import com.michelin.ns4kafka.models.quota.ResourceQuotaUsage;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Resource quota usage repository, holding the downsampled usage history of the namespaces.
+ */
+public interface ResourceQuotaUsageRepository {
+    /**
+     * Find all the usages of all namespaces.
+     *
+     * @return The resource quota usages
+     */
+    List<ResourceQuotaUsage> findAll();
+
+    /**
+     * Find the usages of all namespaces at a given time.
+     *
+     * @param timestamp The time of the usages
+     * @return The resource quota usages
+     */
+    List<ResourceQuotaUsage> findAllAt(Date timestamp);
+
+    /**
+     * Find the usages of all namespaces older than a given time.
+     *
+     * @param timestamp The time, exclusive
+     * @return The resource quota usages
+     */
+    List<ResourceQuotaUsage> findAllBefore(Date timestamp);
+
+    /**
+     * Find the usages of a namespace over a time range.
+     *
+     * @param namespace The namespace
+     * @param from      The start of the range, inclusive
+     * @param to        The end of the range, exclusive
+     * @return The resource quota usages sorted by time
+     */
+    List<ResourceQuotaUsage> findAllForNamespace(String namespace, Date from, Date to);
+
+    /**
+     * Create the given usages in a single batch.
+     *
+     * @param usages The usages to create
+     * @return The created usages
+     */
+    List<ResourceQuotaUsage> createAll(List<ResourceQuotaUsage> usages);
+
+    /**
+     * Delete the given usages in a single batch.
+     *
+     * @param usages The usages to delete
+     */
+    void deleteAll(List<ResourceQuotaUsage> usages);
+}
@@ -30,6 +30,14 @@ public interface TopicRepository {
      */
     Topic create(Topic topic);
 
+    /**
+     * Create the given topics in a single batch.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    List<Topic> createAll(List<Topic> topics);
+
     /**
      * Delete a given topic.
      *
@@ -9,7 +9,9 @@ import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
@@ -50,6 +52,19 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
         return this.produce(getMessageKey(connector), connector);
     }
 
+    /**
+     * Create the given connectors.
+     *
+     * @param connectors The connectors to create
+     * @return The created connectors
+     */
+    @Override
+    public List<Connector> createAll(List<Connector> connectors) {
+        Map<String, Connector> messages = new LinkedHashMap<>();
+        connectors.forEach(connector -> messages.put(getMessageKey(connector), connector));
+        return this.produceAll(messages);
+    }
+
     /**
      * Delete a given connector.
      *
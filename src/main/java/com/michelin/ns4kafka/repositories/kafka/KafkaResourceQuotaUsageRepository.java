@@ -0,0 +1,165 @@
+package com.michelin.ns4kafka.repositories.kafka;
+
+import com.michelin.ns4kafka.models.quota.ResourceQuotaUsage;
+import com.michelin.ns4kafka.repositories.ResourceQuotaUsageRepository;
+import io.micronaut.configuration.kafka.annotation.KafkaClient;
+import io.micronaut.configuration.kafka.annotation.KafkaListener;
+import io.micronaut.configuration.kafka.annotation.OffsetReset;
+import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
+import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+
+/**
+ * Kafka Resource Quota Usage repository.
+ * Each record holds the usage of a namespace over a bucket of time, so the compacted topic keeps one record by bucket.
+ * The usages are also indexed by namespace and time as they are consumed, so the reads of a time range do not go
+ * through the usages of all the namespaces.
+ */
+@Singleton
+@KafkaListener(
+    offsetReset = OffsetReset.EARLIEST,
+    groupId = "${ns4kafka.store.kafka.group-id}",
+    offsetStrategy = OffsetStrategy.DISABLED
+)
+public class KafkaResourceQuotaUsageRepository extends KafkaStore<ResourceQuotaUsage>
+    implements ResourceQuotaUsageRepository {
+    private final Map<String, NavigableMap<Long, ResourceQuotaUsage>> usagesByNamespace = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaTopic    The resource quota usage topic
+     * @param kafkaProducer The resource quota usage producer
+     */
+    public KafkaResourceQuotaUsageRepository(
+        @Value("${ns4kafka.store.kafka.topics.prefix}.resource-quota-usages") String kafkaTopic,
+        @KafkaClient("resource-quota-usages") Producer<String, ResourceQuotaUsage> kafkaProducer) {
+        super(kafkaTopic, kafkaProducer);
+    }
+
+    @Override
+    String getMessageKey(ResourceQuotaUsage message) {
+        return message.getMetadata().getNamespace() + "/" + message.getMetadata().getName();
+    }
+
+    /**
+     * Find all the usages of all namespaces.
+     *
+     * @return The resource quota usages
+     */
+    @Override
+    public List<ResourceQuotaUsage> findAll() {
+        return new ArrayList<>(getKafkaStore().values());
+    }
+
+    /**
+     * Find the usages of all namespaces at a given time.
+     *
+     * @param timestamp The time of the usages
+     * @return The resource quota usages
+     */
+    @Override
+    public List<ResourceQuotaUsage> findAllAt(Date timestamp) {
+        return usagesByNamespace.values()
+            .stream()
+            .map(usages -> usages.get(timestamp.getTime()))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Find the usages of all namespaces older than a given time.
+     *
+     * @param timestamp The time, exclusive
+     * @return The resource quota usages
+     */
+    @Override
+    public List<ResourceQuotaUsage> findAllBefore(Date timestamp) {
+        return usagesByNamespace.values()
+            .stream()
+            .flatMap(usages -> usages.headMap(timestamp.getTime()).values().stream())
+            .toList();
+    }
+
+    /**
+     * Find the usages of a namespace over a time range.
+     *
+     * @param namespace The namespace
+     * @param from      The start of the range, inclusive
+     * @param to        The end of the range, exclusive
+     * @return The resource quota usages sorted by time
+     */
+    @Override
+    public List<ResourceQuotaUsage> findAllForNamespace(String namespace, Date from, Date to) {
+        NavigableMap<Long, ResourceQuotaUsage> usages = usagesByNamespace.get(namespace);
+        if (usages == null || !from.before(to)) {
+            return List.of();
+        }
+
+        return List.copyOf(usages.subMap(from.getTime(), true, to.getTime(), false).values());
+    }
+
+    /**
+     * Consume messages from resource quota usages topic.
+     * The index is updated before the store, so a produced usage is indexed once the store reaches its offset.
+     *
+     * @param message The resource quota usage message
+     */
+    @Override
+    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.resource-quota-usages")
+    void receive(ConsumerRecord<String, ResourceQuotaUsage> message) {
+        ResourceQuotaUsage previous = getKafkaStore().get(message.key());
+        if (previous != null) {
+            usagesByNamespace.computeIfPresent(previous.getMetadata().getNamespace(), (namespace, usages) -> {
+                usages.remove(previous.getSpec().getTimestamp().getTime());
+                return usages.isEmpty() ? null : usages;
+            });
+        }
+
+        if (message.value() != null) {
+            usagesByNamespace.computeIfAbsent(message.value().getMetadata().getNamespace(),
+                    namespace -> new ConcurrentSkipListMap<>())
+                .put(message.value().getSpec().getTimestamp().getTime(), message.value());
+        }
+
+        super.receive(message);
+    }
+
+    /**
+     * Produce the given usages in a single batch.
+     *
+     * @param usages The usages to create
+     * @return The created usages
+     */
+    @Override
+    public List<ResourceQuotaUsage> createAll(List<ResourceQuotaUsage> usages) {
+        Map<String, ResourceQuotaUsage> messages = new LinkedHashMap<>();
+        usages.forEach(usage -> messages.put(getMessageKey(usage), usage));
+        return produceAll(messages);
+    }
+
+    /**
+     * Delete the given usages by pushing tomb stone messages in a single batch.
+     *
+     * @param usages The usages to delete
+     */
+    @Override
+    public void deleteAll(List<ResourceQuotaUsage> usages) {
+        Map<String, ResourceQuotaUsage> messages = new HashMap<>();
+        usages.forEach(usage -> messages.put(getMessageKey(usage), null));
+        produceAll(messages);
+    }
+}
@@ -1,5 +1,7 @@
 package com.michelin.ns4kafka.repositories.kafka;
 
+import com.michelin.ns4kafka.models.MetadataResource;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
 import com.michelin.ns4kafka.properties.KafkaStoreProperties;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Property;
@@ -9,11 +11,14 @@ import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -41,6 +46,8 @@ import org.apache.kafka.common.errors.TopicExistsException;
  */
 @Slf4j
 public abstract class KafkaStore<T> {
+    public static final String STORE_CHANGE_EXECUTOR = "store-change";
+
     private final Map<String, T> store;
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     private final ReentrantLock offsetUpdateLock;
@@ -54,6 +61,9 @@ public abstract class KafkaStore<T> {
     @Inject
     @Named(TaskExecutors.SCHEDULED)
     TaskScheduler taskScheduler;
+    @Inject
+    @Named(STORE_CHANGE_EXECUTOR)
+    ExecutorService storeChangeExecutor;
     String kafkaTopic;
     Producer<String, T> kafkaProducer;
     long offsetInSchemasTopic = -1;
@@ -228,7 +238,7 @@ public abstract class KafkaStore<T> {
      * Produce a new record.
      *
      * @param key     The record key
-     * @param message The record body
+     * @param message The record body, or null to delete the record
      * @return The produced record
      * @throws KafkaStoreException Exception thrown during the send process
      */
@@ -237,15 +247,43 @@ public abstract class KafkaStore<T> {
             throw new KafkaStoreException("Key should not be null");
         }
 
+        return produceAll(Collections.singletonMap(key, message)).get(0);
+    }
+
+    /**
+     * Produce a batch of records.
+     * All the records are sent before waiting for the acks, then the local store is awaited once.
+     *
+     * @param messages The record bodies by key
+     * @return The produced records
+     * @throws KafkaStoreException Exception thrown during the send process
+     */
+    List<T> produceAll(Map<String, T> messages) throws KafkaStoreException {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        if (messages.containsKey(null)) {
+            throw new KafkaStoreException("Key should not be null");
+        }
+
         boolean knownSuccessfulWrite = false;
         try {
-            ProducerRecord<String, T> producerRecord = new ProducerRecord<>(kafkaTopic, key, message);
-            log.trace("Sending record to topic {}", producerRecord);
-            Future<RecordMetadata> ack = kafkaProducer.send(producerRecord);
-            RecordMetadata recordMetadata = ack.get(initTimeout, TimeUnit.MILLISECONDS);
+            List<Future<RecordMetadata>> acks = new ArrayList<>();
+            for (Map.Entry<String, T> message : messages.entrySet()) {
+                ProducerRecord<String, T> producerRecord = new ProducerRecord<>(kafkaTopic, message.getKey(),
+                    message.getValue());
+                log.trace("Sending record to topic {}", producerRecord);
+                acks.add(kafkaProducer.send(producerRecord));
+            }
+
+            long maxOffset = -1;
+            for (Future<RecordMetadata> ack : acks) {
+                maxOffset = Math.max(maxOffset, ack.get(initTimeout, TimeUnit.MILLISECONDS).offset());
+            }
 
-            log.trace("Waiting for the local store to catch up to offset {}", recordMetadata.offset());
-            lastWrittenOffset = recordMetadata.offset();
+            log.trace("Waiting for the local store to catch up to offset {}", maxOffset);
+            lastWrittenOffset = maxOffset;
             waitUntilOffset(getLatestOffset(), TimeUnit.MILLISECONDS);
             knownSuccessfulWrite = true;
         } catch (InterruptedException e) {
@@ -262,23 +300,31 @@ public abstract class KafkaStore<T> {
                 this.lastWrittenOffset = -1;
             }
         }
-        return store.get(key);
+
+        return messages.keySet()
+            .stream()
+            .map(store::get)
+            .toList();
     }
 
     /**
      * Handle a new consumed record
      * See: /core/src/main/java/io/confluent/kafka/schemaregistry/storage/KafkaStoreReaderThread.java#L326
+     * The change is published once the offset of the record is reached, so the listeners never delay the writes.
      *
      * @param message The record
      */
     void receive(ConsumerRecord<String, T> message) {
+        StoreChangeEvent storeChange = null;
         try {
             if (!message.key().equals("NOOP")) {
                 log.trace("Applying update ({},{}) to the local store", message.key(), message.value());
                 if (message.value() == null) {
-                    store.remove(message.key());
+                    T removed = store.remove(message.key());
+                    storeChange = buildStoreChange(removed, removed, true);
                 } else {
-                    store.put(message.key(), message.value());
+                    T previous = store.put(message.key(), message.value());
+                    storeChange = buildStoreChange(message.value(), previous, false);
                 }
             }
 
@@ -293,6 +339,47 @@ public abstract class KafkaStore<T> {
             log.error("KafkaStoreReader thread has died for an unknown reason.", e);
             throw new KafkaStoreException(e.getMessage());
         }
+
+        if (storeChange != null) {
+            publishStoreChange(storeChange);
+        }
+    }
+
+    /**
+     * Build the change of the store, so the resource can be reconciled without waiting for the next full scan.
+     * The records replayed during the initialization are not published.
+     *
+     * @param resource The created, updated or deleted resource
+     * @param previous The resource stored before the change, if any
+     * @param deleted  Is the resource deleted or not
+     * @return The change, or null if it should not be published
+     */
+    private StoreChangeEvent buildStoreChange(T resource, T previous, boolean deleted) {
+        if (!initialized.get() || !(resource instanceof MetadataResource metadataResource)) {
+            return null;
+        }
+
+        return new StoreChangeEvent(metadataResource, deleted,
+            previous instanceof MetadataResource previousResource ? previousResource : null);
+    }
+
+    /**
+     * Publish a change of the store on the store change executor.
+     * The executor has a single thread, so the listeners receive the changes in the order of the records.
+     * A failing listener is logged and does not prevent the next changes from being published.
+     *
+     * @param storeChange The change
+     */
+    private void publishStoreChange(StoreChangeEvent storeChange) {
+        storeChangeExecutor.execute(() -> {
+            try {
+                applicationContext.getEventPublisher(StoreChangeEvent.class).publishEvent(storeChange);
+            } catch (RuntimeException e) {
+                log.error("Error handling the change of {} {} of the topic {}.",
+                    storeChange.getResource().getClass().getSimpleName(),
+                    storeChange.getResource().getMetadata().getName(), kafkaTopic, e);
+            }
+        });
     }
 
     /**
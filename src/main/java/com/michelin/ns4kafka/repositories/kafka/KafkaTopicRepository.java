@@ -9,7 +9,9 @@ import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
@@ -45,6 +47,19 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
         return this.produce(getMessageKey(topic), topic);
     }
 
+    /**
+     * Create the given topics in a single batch.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    @Override
+    public List<Topic> createAll(List<Topic> topics) {
+        Map<String, Topic> messages = new LinkedHashMap<>();
+        topics.forEach(topic -> messages.put(getMessageKey(topic), topic));
+        return this.produceAll(messages);
+    }
+
     /**
      * Delete a given topic.
      *
@@ -17,8 +17,11 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -300,6 +303,39 @@ public class AccessControlEntryService {
             });
     }
 
+    /**
+     * Build a matcher telling whether the given namespace is owner of a resource.
+     * The OWNER ACLs are resolved once, so the matcher can be applied to many resources
+     * without scanning the ACLs again.
+     *
+     * @param namespace    The namespace
+     * @param resourceType The resource type to filter
+     * @return A predicate on the resource name
+     */
+    public Predicate<String> buildNamespaceOwnershipMatcher(String namespace,
+                                                           AccessControlEntry.ResourceType resourceType) {
+        Set<String> literalResources = new HashSet<>();
+        List<String> prefixedResources = new ArrayList<>();
+
+        accessControlEntryRepository.findAll()
+            .stream()
+            .filter(accessControlEntry -> accessControlEntry.getSpec().getGrantedTo().equals(namespace))
+            .filter(accessControlEntry -> accessControlEntry.getSpec().getPermission()
+                == AccessControlEntry.Permission.OWNER)
+            .filter(accessControlEntry -> accessControlEntry.getSpec().getResourceType() == resourceType)
+            .forEach(accessControlEntry -> {
+                if (accessControlEntry.getSpec().getResourcePatternType()
+                    == AccessControlEntry.ResourcePatternType.PREFIXED) {
+                    prefixedResources.add(accessControlEntry.getSpec().getResource());
+                } else {
+                    literalResources.add(accessControlEntry.getSpec().getResource());
+                }
+            });
+
+        return resource -> literalResources.contains(resource)
+            || prefixedResources.stream().anyMatch(resource::startsWith);
+    }
+
     /**
      * Find an ACL by name.
      *
@@ -14,23 +14,29 @@ import com.michelin.ns4kafka.models.connect.cluster.VaultResponse;
 import com.michelin.ns4kafka.properties.ManagedClusterProperties;
 import com.michelin.ns4kafka.properties.SecurityProperties;
 import com.michelin.ns4kafka.repositories.ConnectClusterRepository;
+import com.michelin.ns4kafka.services.clients.connect.ConnectCircuitBreaker;
 import com.michelin.ns4kafka.services.clients.connect.KafkaConnectClient;
 import com.michelin.ns4kafka.services.clients.connect.entities.ServerInfo;
 import com.michelin.ns4kafka.utils.EncryptionUtils;
 import com.michelin.ns4kafka.utils.FormatErrorUtils;
+import io.micronaut.context.annotation.Property;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
-import io.micronaut.http.client.exceptions.HttpClientException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
@@ -50,9 +56,14 @@ public class ConnectClusterService {
 
     private static final String WILDCARD_SECRET = "*****";
 
+    private final Map<HealthKey, Health> healths = new ConcurrentHashMap<>();
+
     @Inject
     KafkaConnectClient kafkaConnectClient;
 
+    @Inject
+    ConnectCircuitBreaker connectCircuitBreaker;
+
     @Inject
     AccessControlEntryService accessControlEntryService;
 
@@ -69,13 +80,51 @@ public class ConnectClusterService {
     @Client
     HttpClient httpClient;
 
+    @Property(name = "ns4kafka.connect.health-check.timeout", defaultValue = "10s")
+    Duration healthCheckTimeout;
+
     /**
      * Find all self deployed Connect clusters.
+     * The health of the Connect clusters is checked.
      *
      * @param all Include hard-declared Connect clusters
      * @return A list of Connect clusters
      */
     public Flux<ConnectCluster> findAll(boolean all) {
+        return Flux.fromIterable(listAll(all))
+            .flatMap(this::checkHealth);
+    }
+
+    /**
+     * Check the health of all the Connect clusters of a Kafka cluster, including hard-declared Connect clusters.
+     * The Connect clusters are probed in parallel, and the results are cached to serve the health of the
+     * Connect clusters without requesting them.
+     *
+     * @param kafkaCluster The Kafka cluster
+     * @return The list of Connect clusters, with their health
+     */
+    public Flux<ConnectCluster> checkHealth(String kafkaCluster) {
+        List<ConnectCluster> connectClusters = listAll(true)
+            .stream()
+            .filter(connectCluster -> connectCluster.getMetadata().getCluster().equals(kafkaCluster))
+            .toList();
+
+        Set<HealthKey> keys = connectClusters.stream()
+            .map(connectCluster -> new HealthKey(kafkaCluster, connectCluster.getMetadata().getName()))
+            .collect(Collectors.toSet());
+        healths.keySet().removeIf(key -> key.kafkaCluster().equals(kafkaCluster) && !keys.contains(key));
+
+        return Flux.fromIterable(connectClusters)
+            .flatMap(this::checkHealth);
+    }
+
+    /**
+     * List all self deployed Connect clusters.
+     *
+     * @param all Include hard-declared Connect clusters
+     * @return A list of Connect clusters
+     */
+    private List<ConnectCluster> listAll(boolean all) {
         List<ConnectCluster> results = connectClusterRepository.findAll();
 
         if (all) {
@@ -100,19 +149,34 @@ public class ConnectClusterService {
                 .toList());
         }
 
-        return Flux.fromIterable(results)
-            .flatMap(connectCluster -> kafkaConnectClient.version(connectCluster.getMetadata().getCluster(),
-                    connectCluster.getMetadata().getName())
-                .doOnError(error -> {
-                    connectCluster.getSpec().setStatus(ConnectCluster.Status.IDLE);
-                    connectCluster.getSpec().setStatusMessage(error.getMessage());
-                })
-                .doOnSuccess(response -> {
-                    connectCluster.getSpec().setStatus(ConnectCluster.Status.HEALTHY);
-                    connectCluster.getSpec().setStatusMessage(null);
-                })
-                .map(response -> connectCluster)
-                .onErrorReturn(connectCluster));
+        return results;
+    }
+
+    /**
+     * Check the health of a Connect cluster, and cache it.
+     * A Connect cluster that does not answer before the timeout, or whose circuit breaker is open, is idle.
+     *
+     * @param connectCluster The Connect cluster
+     * @return The Connect cluster, with its health
+     */
+    private Mono<ConnectCluster> checkHealth(ConnectCluster connectCluster) {
+        HealthKey key = new HealthKey(connectCluster.getMetadata().getCluster(),
+            connectCluster.getMetadata().getName());
+
+        return Mono.defer(() -> kafkaConnectClient.version(connectCluster.getMetadata().getCluster(),
+                connectCluster.getMetadata().getName(), healthCheckTimeout))
+            .map(response -> new Health(ConnectCluster.Status.HEALTHY, null, new Date()))
+            .onErrorResume(error -> Mono.just(new Health(ConnectCluster.Status.IDLE, error.getMessage(),
+                Optional.ofNullable(healths.get(key)).map(Health::lastSeenHealthy).orElse(null))))
+            .map(health -> {
+                healths.put(key, health);
+                connectCluster.getSpec().setStatus(health.status());
+                connectCluster.getSpec().setStatusMessage(health.statusMessage());
+                connectCluster.getSpec().setLastSeenHealthy(health.lastSeenHealthy());
+                connectCluster.getSpec().setCircuitBreakerState(connectCircuitBreaker.getState(key.kafkaCluster(),
+                    key.connectCluster()));
+                return connectCluster;
+            });
     }
 
     /**
@@ -141,6 +205,7 @@ public class ConnectClusterService {
 
     /**
      * Find all self deployed Connect clusters whose namespace is owner.
+     * The health of the Connect clusters is the one of the last check, or unknown if they have not been checked yet.
      *
      * @param namespace The namespace
      * @return The list of owned Connect cluster
@@ -160,14 +225,16 @@ public class ConnectClusterService {
                         securityProperties.getAes256EncryptionKey()))
                     .aes256Format(connectCluster.getSpec().getAes256Format());
 
-                try {
-                    kafkaConnectClient.version(connectCluster.getMetadata().getCluster(),
-                        connectCluster.getMetadata().getName()).block();
-                    builder.status(ConnectCluster.Status.HEALTHY);
-                } catch (HttpClientException e) {
-                    builder.status(ConnectCluster.Status.IDLE);
-                    builder.statusMessage(e.getMessage());
+                // The health is served from the last check, so a hung Connect cluster does not block the request
+                Health health = healths.get(new HealthKey(connectCluster.getMetadata().getCluster(),
+                    connectCluster.getMetadata().getName()));
+                if (health != null) {
+                    builder.status(health.status())
+                        .statusMessage(health.statusMessage())
+                        .lastSeenHealthy(health.lastSeenHealthy());
                 }
+                builder.circuitBreakerState(connectCircuitBreaker.getState(connectCluster.getMetadata().getCluster(),
+                    connectCluster.getMetadata().getName()));
 
                 return ConnectCluster.builder()
                     .metadata(connectCluster.getMetadata())
@@ -412,4 +479,23 @@ public class ConnectClusterService {
     }
 
 
+
+    /**
+     * Key of the health of a Connect cluster.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Connect cluster
+     */
+    private record HealthKey(String kafkaCluster, String connectCluster) {
+    }
+
+    /**
+     * Health of a Connect cluster.
+     *
+     * @param status          The status
+     * @param statusMessage   The status message
+     * @param lastSeenHealthy The last time the Connect cluster has been seen healthy
+     */
+    private record Health(ConnectCluster.Status status, String statusMessage, Date lastSeenHealthy) {
+    }
 }
@@ -6,23 +6,42 @@ import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidConnectorNoPlu
 import static com.michelin.ns4kafka.utils.config.ConnectorConfig.CONNECTOR_CLASS;
 
 import com.michelin.ns4kafka.models.AccessControlEntry;
+import com.michelin.ns4kafka.models.ConnectPluginsRefreshEvent;
 import com.michelin.ns4kafka.models.Namespace;
 import com.michelin.ns4kafka.models.connector.Connector;
 import com.michelin.ns4kafka.repositories.ConnectorRepository;
+import com.michelin.ns4kafka.services.clients.connect.ConnectPluginCache;
 import com.michelin.ns4kafka.services.clients.connect.KafkaConnectClient;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorSpecs;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorStateInfo;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorStatus;
 import com.michelin.ns4kafka.services.executors.ConnectorAsyncExecutor;
 import com.michelin.ns4kafka.utils.FormatErrorUtils;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Property;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.runtime.event.annotation.EventListener;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +54,16 @@ import reactor.core.publisher.Mono;
 @Slf4j
 @Singleton
 public class ConnectorService {
+    private final Map<ValidationKey, Validation> validations = Collections.synchronizedMap(
+        new LinkedHashMap<ValidationKey, Validation>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ValidationKey, Validation> eldest) {
+                return size() > validationMaxEntries;
+            }
+        });
+
+    private final Map<ListingKey, Mono<Map<String, ConnectorStatus>>> listings = new ConcurrentHashMap<>();
+
     @Inject
     AccessControlEntryService accessControlEntryService;
 
@@ -50,6 +79,21 @@ public class ConnectorService {
     @Inject
     ConnectClusterService connectClusterService;
 
+    @Inject
+    ConnectPluginCache connectPluginCache;
+
+    @Property(name = "ns4kafka.connect.validation.ttl", defaultValue = "5m")
+    Duration validationTtl;
+
+    @Property(name = "ns4kafka.connect.validation.max-entries", defaultValue = "10000")
+    int validationMaxEntries;
+
+    @Property(name = "ns4kafka.connect.validation.skip-unchanged", defaultValue = "false")
+    boolean skipUnchangedValidation;
+
+    @Property(name = "ns4kafka.connect.status.ttl", defaultValue = "5s")
+    Duration statusTtl;
+
     /**
      * Find all connectors by given namespace.
      *
@@ -105,6 +149,46 @@ public class ConnectorService {
             .findFirst();
     }
 
+    /**
+     * Find all connectors by given namespace, with their status on the Connect clusters.
+     * The status of all the connectors of a Connect cluster is fetched by a single expanded listing, shared by all
+     * the namespaces until the TTL expires. A connector whose Connect cluster cannot be listed, or that is not
+     * deployed yet, keeps its stored status.
+     *
+     * @param namespace The namespace
+     * @return The connectors, with their status
+     */
+    public Flux<Connector> findAllStatusesForNamespace(Namespace namespace) {
+        Predicate<String> isNamespaceOwner = accessControlEntryService.buildNamespaceOwnershipMatcher(
+            namespace.getMetadata().getName(), AccessControlEntry.ResourceType.CONNECT);
+
+        Map<String, List<Connector>> connectorsByConnectCluster = connectorRepository
+            .findAllForCluster(namespace.getMetadata().getCluster())
+            .stream()
+            .filter(connector -> isNamespaceOwner.test(connector.getMetadata().getName()))
+            .collect(Collectors.groupingBy(connector -> connector.getSpec().getConnectCluster()));
+
+        Date now = new Date();
+        return Flux.fromIterable(connectorsByConnectCluster.entrySet())
+            .flatMap(entry -> getListing(namespace.getMetadata().getCluster(), entry.getKey())
+                .onErrorResume(error -> {
+                    log.warn("Cannot list the connectors of Kafka Connect {} of Kafka cluster {}: {}", entry.getKey(),
+                        namespace.getMetadata().getCluster(), error.getMessage());
+                    return Mono.just(Collections.<String, ConnectorStatus>emptyMap());
+                })
+                .flatMapIterable(listing -> entry.getValue()
+                    .stream()
+                    .map(connector -> Optional.ofNullable(listing.get(connector.getMetadata().getName()))
+                        .map(ConnectorStatus::status)
+                        .map(stateInfo -> Connector.builder()
+                            .metadata(connector.getMetadata())
+                            .spec(connector.getSpec())
+                            .status(buildConnectorStatus(stateInfo, now))
+                            .build())
+                        .orElse(connector))
+                    .toList()));
+    }
+
     /**
      * Validate configurations of a given connector against the namespace rules.
      *
@@ -133,24 +217,15 @@ public class ConnectorService {
         }
 
         // Connector type exists on this target connect cluster
-        return kafkaConnectClient.connectPlugins(namespace.getMetadata().getCluster(),
-                connector.getSpec().getConnectCluster())
-            .map(connectorPluginInfos -> {
-                Optional<String> connectorType = connectorPluginInfos
-                    .stream()
-                    .filter(connectPluginItem -> connectPluginItem.className()
-                        .equals(connector.getSpec().getConfig().get(CONNECTOR_CLASS)))
-                    .map(connectorPluginInfo -> connectorPluginInfo.type().toString().toLowerCase(Locale.ROOT))
-                    .findFirst();
-
-                if (connectorType.isEmpty()) {
-                    return List.of(invalidConnectorNoPlugin(connector.getSpec().getConfig().get(CONNECTOR_CLASS)));
-                }
-
+        return connectPluginCache.findPlugin(namespace.getMetadata().getCluster(),
+                connector.getSpec().getConnectCluster(), connector.getSpec().getConfig().get(CONNECTOR_CLASS))
+            .map(connectorPluginInfo -> {
+                String connectorType = connectorPluginInfo.type().toString().toLowerCase(Locale.ROOT);
                 return namespace.getSpec().getConnectValidator() != null
-                    ? namespace.getSpec().getConnectValidator().validate(connector, connectorType.get())
-                    : Collections.emptyList();
-            });
+                    ? namespace.getSpec().getConnectValidator().validate(connector, connectorType)
+                    : Collections.<String>emptyList();
+            })
+            .defaultIfEmpty(List.of(invalidConnectorNoPlugin(connector.getSpec().getConfig().get(CONNECTOR_CLASS))));
     }
 
     /**
@@ -167,24 +242,94 @@ public class ConnectorService {
 
     /**
      * Validate configurations of a given connector against the cluster.
+     * The errors returned by the cluster are memoized by Connect cluster, connector class and configuration
+     * until the TTL expires or the plugins of the Connect cluster are loaded again.
+     * At most max-entries validations are memoized, the least recently used one being evicted first.
+     * When enabled, a connector whose spec is unchanged is not validated again.
      *
      * @param namespace The namespace
      * @param connector The connector
      * @return A list of errors
      */
     public Mono<List<String>> validateRemotely(Namespace namespace, Connector connector) {
-        return kafkaConnectClient.validate(namespace.getMetadata().getCluster(),
-                connector.getSpec().getConnectCluster(), connector.getSpec().getConfig().get(CONNECTOR_CLASS),
-                ConnectorSpecs.builder().config(connector.getSpec().getConfig()).build())
-            .map(configInfos -> configInfos.configs()
+        if (skipUnchangedValidation && findByName(namespace, connector.getMetadata().getName())
+            .filter(existingConnector -> existingConnector.getSpec().equals(connector.getSpec()))
+            .isPresent()) {
+            log.debug("Spec of connector {} is unchanged, skipping remote validation.",
+                connector.getMetadata().getName());
+            return Mono.just(Collections.emptyList());
+        }
+
+        ValidationKey key = new ValidationKey(namespace.getMetadata().getCluster(),
+            connector.getSpec().getConnectCluster(), connector.getSpec().getConfig().get(CONNECTOR_CLASS),
+            hashConfig(connector.getSpec().getConfig()));
+
+        long now = System.nanoTime();
+        return validations.compute(key, (validationKey, validation) -> validation == null || validation.isExpired(now)
+                ? buildValidation(validationKey, connector.getSpec().getConfig(), now) : validation)
+            .errors()
+            .map(errors -> errors
                 .stream()
-                .filter(configInfo -> !configInfo.configValue().errors().isEmpty())
-                .flatMap(configInfo -> configInfo.configValue().errors()
-                    .stream()
-                    .map(error -> FormatErrorUtils.invalidConnectorRemote(connector.getMetadata().getName(), error)))
+                .map(error -> FormatErrorUtils.invalidConnectorRemote(connector.getMetadata().getName(), error))
                 .toList());
     }
 
+    /**
+     * Drop the memoized validations of a Connect cluster when its plugins are loaded again.
+     *
+     * @param event The Connect plugins refresh event
+     */
+    @EventListener
+    public void onConnectPluginsRefresh(ConnectPluginsRefreshEvent event) {
+        validations.keySet().removeIf(key -> key.kafkaCluster().equals(event.getKafkaCluster())
+            && key.connectCluster().equals(event.getConnectCluster()));
+    }
+
+    /**
+     * Build the validation of a connector configuration against the cluster.
+     * The errors are requested on first subscription, then replayed to all the subscribers.
+     * A failed request is not memoized, so the next subscriber requests the errors again.
+     *
+     * @param key    The validation key
+     * @param config The connector configuration
+     * @param now    The current time, in nanoseconds
+     * @return The validation
+     */
+    private Validation buildValidation(ValidationKey key, Map<String, String> config, long now) {
+        Mono<List<String>> errors = Mono.defer(() -> kafkaConnectClient.validate(key.kafkaCluster(),
+                    key.connectCluster(), key.connectorClass(), ConnectorSpecs.builder().config(config).build()))
+            .map(configInfos -> configInfos.configs()
+                .stream()
+                .flatMap(configInfo -> configInfo.configValue().errors().stream())
+                .toList())
+            .cache(validationErrors -> validationTtl, error -> Duration.ZERO, () -> Duration.ZERO);
+
+        return new Validation(errors, now + validationTtl.toNanos());
+    }
+
+    /**
+     * Hash a connector configuration, regardless of the order of its entries.
+     *
+     * @param config The connector configuration
+     * @return The hash
+     */
+    private static String hashConfig(Map<String, String> config) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            new TreeMap<>(config).forEach((name, value) -> {
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                if (value != null) {
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) (value == null ? 1 : 0));
+            });
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Create a given connector.
      *
@@ -195,6 +340,16 @@ public class ConnectorService {
         return connectorRepository.create(connector);
     }
 
+    /**
+     * Create the given connectors.
+     *
+     * @param connectors The connectors to create
+     * @return The created connectors
+     */
+    public List<Connector> createAll(List<Connector> connectors) {
+        return connectorRepository.createAll(connectors);
+    }
+
     /**
      * Delete a given connector.
      *
@@ -220,6 +375,8 @@ public class ConnectorService {
 
     /**
      * List the connectors that are not synchronized to Ns4Kafka by namespace.
+     * The ownership and the storage of the connectors are checked against a matcher and a set built once,
+     * not against the ACLs and the stored connectors for each connector.
      *
      * @param namespace The namespace
      * @return The list of connectors
@@ -228,16 +385,27 @@ public class ConnectorService {
         ConnectorAsyncExecutor connectorAsyncExecutor = applicationContext.getBean(ConnectorAsyncExecutor.class,
             Qualifiers.byName(namespace.getMetadata().getCluster()));
 
+        Predicate<String> isNamespaceOwner = accessControlEntryService
+            .buildNamespaceOwnershipMatcher(namespace.getMetadata().getName(), AccessControlEntry.ResourceType.CONNECT);
+
+        Set<String> ns4KafkaConnectorNames = connectorRepository.findAllForCluster(namespace.getMetadata().getCluster())
+            .stream()
+            .map(connector -> connector.getMetadata().getName())
+            .collect(Collectors.toSet());
+
         // Get all connectors from all connect clusters
         Stream<String> connectClusters = Stream.concat(namespace.getSpec().getConnectClusters().stream(),
             connectClusterService.findAllByNamespaceWrite(namespace)
                 .stream()
-                .map(connectCluster -> connectCluster.getMetadata().getName()));
+                .map(connectCluster -> connectCluster.getMetadata().getName()))
+            .distinct();
 
         return Flux.fromStream(connectClusters)
             .flatMap(connectClusterName -> connectorAsyncExecutor.collectBrokerConnectors(connectClusterName)
-                .filter(connector -> isNamespaceOwnerOfConnect(namespace, connector.getMetadata().getName()))
-                .filter(connector -> findByName(namespace, connector.getMetadata().getName()).isEmpty()));
+                // ...that belongs to this namespace
+                .filter(connector -> isNamespaceOwner.test(connector.getMetadata().getName()))
+                // ...and aren't in ns4kafka storage
+                .filter(connector -> !ns4KafkaConnectorNames.contains(connector.getMetadata().getName())));
     }
 
     /**
@@ -305,4 +473,90 @@ public class ConnectorService {
                 return HttpResponse.accepted();
             });
     }
+
+    /**
+     * Get the expanded listing of the connectors of a Connect cluster.
+     * The listing is requested on first subscription, then replayed to all the subscribers until the TTL expires.
+     * A failed request is not cached.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The connectors by name, with their status
+     */
+    private Mono<Map<String, ConnectorStatus>> getListing(String kafkaCluster, String connectCluster) {
+        return listings.computeIfAbsent(new ListingKey(kafkaCluster, connectCluster),
+            key -> Mono.defer(() -> kafkaConnectClient.listAll(kafkaCluster, connectCluster))
+                .cache(listing -> statusTtl, error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
+    /**
+     * Build the status of a connector from its state on the Connect cluster.
+     *
+     * @param stateInfo The state of the connector
+     * @param now       The time of the listing
+     * @return The connector status
+     */
+    private static Connector.ConnectorStatus buildConnectorStatus(ConnectorStateInfo stateInfo, Date now) {
+        return Connector.ConnectorStatus.builder()
+            .state(toTaskState(stateInfo.connector().getState()))
+            .workerId(stateInfo.connector().getWorkerId())
+            .tasks(stateInfo.tasks()
+                .stream()
+                .sorted()
+                .map(task -> Connector.TaskStatus.builder()
+                    .id(String.valueOf(task.getId()))
+                    .state(toTaskState(task.getState()))
+                    .trace(task.getTrace())
+                    .workerId(task.getWorkerId())
+                    .build())
+                .toList())
+            .lastUpdateTime(now)
+            .build();
+    }
+
+    /**
+     * Convert a state returned by the Connect cluster.
+     *
+     * @param state The state
+     * @return The task state, unassigned if the state is unknown
+     */
+    private static Connector.TaskState toTaskState(String state) {
+        return Arrays.stream(Connector.TaskState.values())
+            .filter(taskState -> taskState.name().equals(state))
+            .findFirst()
+            .orElse(Connector.TaskState.UNASSIGNED);
+    }
+
+    /**
+     * Key of a connector listing.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     */
+    private record ListingKey(String kafkaCluster, String connectCluster) {
+    }
+
+    /**
+     * Key of a connector validation.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param connectorClass The connector class
+     * @param configHash     The hash of the connector configuration
+     */
+    private record ValidationKey(String kafkaCluster, String connectCluster, String connectorClass,
+                                 String configHash) {
+    }
+
+    /**
+     * Memoized validation of a connector configuration.
+     *
+     * @param errors    The cached errors returned by the cluster
+     * @param expiresAt The expiry time, in nanoseconds
+     */
+    private record Validation(Mono<List<String>> errors, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
 }
@@ -10,11 +10,14 @@ import static com.michelin.ns4kafka.utils.BytesUtils.BYTE;
 import static com.michelin.ns4kafka.utils.BytesUtils.GIBIBYTE;
 import static com.michelin.ns4kafka.utils.BytesUtils.KIBIBYTE;
 import static com.michelin.ns4kafka.utils.BytesUtils.MEBIBYTE;
+import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidFieldValidationAtLeast;
 import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidFieldValidationNumber;
 import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidQuotaAlreadyExceeded;
 import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidQuotaFormat;
 import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidQuotaOperation;
 import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidQuotaOperationCannotAdd;
+import static com.michelin.ns4kafka.utils.FormatErrorUtils.invalidValueMustBeOneOf;
+import static com.michelin.ns4kafka.utils.enums.Kind.RESOURCE_QUOTA_RESPONSE;
 import static org.apache.kafka.common.config.TopicConfig.RETENTION_BYTES_CONFIG;
 
 import com.michelin.ns4kafka.models.Metadata;
@@ -25,12 +28,20 @@ import com.michelin.ns4kafka.models.quota.ResourceQuotaResponse;
 import com.michelin.ns4kafka.repositories.ResourceQuotaRepository;
 import com.michelin.ns4kafka.services.executors.UserAsyncExecutor;
 import com.michelin.ns4kafka.utils.BytesUtils;
+import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -44,14 +55,19 @@ public class ResourceQuotaService {
 
     private static final String NO_QUOTA_RESPONSE_FORMAT = "%s";
 
+    private static final List<ResourceQuota.ResourceQuotaSpecKey> SORT_KEYS =
+        List.of(COUNT_TOPICS, COUNT_PARTITIONS, DISK_TOPICS, COUNT_CONNECTORS);
+
+    private volatile UsageReport usageReport;
+
     @Inject
     ResourceQuotaRepository resourceQuotaRepository;
 
     @Inject
-    TopicService topicService;
+    ResourceQuotaUsageService resourceQuotaUsageService;
 
-    @Inject
-    ConnectorService connectorService;
+    @Property(name = "ns4kafka.quota-report.ttl", defaultValue = "10s")
+    Duration reportTtl;
 
     /**
      * Find a resource quota by namespace.
@@ -177,7 +193,7 @@ public class ResourceQuotaService {
      * @return The number of topics
      */
     public long getCurrentCountTopicsByNamespace(Namespace namespace) {
-        return topicService.findAllForNamespace(namespace).size();
+        return resourceQuotaUsageService.getUsage(namespace).countTopics();
     }
 
     /**
@@ -187,11 +203,7 @@ public class ResourceQuotaService {
      * @return The number of partitions
      */
     public long getCurrentCountPartitionsByNamespace(Namespace namespace) {
-        return topicService.findAllForNamespace(namespace)
-            .stream()
-            .map(topic -> topic.getSpec().getPartitions())
-            .reduce(0, Integer::sum)
-            .longValue();
+        return resourceQuotaUsageService.getUsage(namespace).countPartitions();
     }
 
     /**
@@ -201,11 +213,7 @@ public class ResourceQuotaService {
      * @return The number of topic disk
      */
     public long getCurrentDiskTopicsByNamespace(Namespace namespace) {
-        return topicService.findAllForNamespace(namespace)
-            .stream()
-            .map(topic -> Long.parseLong(topic.getSpec().getConfigs().getOrDefault("retention.bytes", "0"))
-                * topic.getSpec().getPartitions())
-            .reduce(0L, Long::sum);
+        return resourceQuotaUsageService.getUsage(namespace).diskTopics();
     }
 
     /**
@@ -215,7 +223,7 @@ public class ResourceQuotaService {
      * @return The number of connectors
      */
     public long getCurrentCountConnectorsByNamespace(Namespace namespace) {
-        return connectorService.findAllForNamespace(namespace).size();
+        return resourceQuotaUsageService.getUsage(namespace).countConnectors();
     }
 
     /**
@@ -309,13 +317,109 @@ public class ResourceQuotaService {
      * @return A list of quotas as response format
      */
     public List<ResourceQuotaResponse> getUsedQuotaByNamespaces(List<Namespace> namespaces) {
+        return buildUsageReport(namespaces)
+            .stream()
+            .map(UsageReportLine::response)
+            .toList();
+    }
+
+    /**
+     * Get the current consumed resources against the current quota of the given namespaces to a response,
+     * sorted by decreasing usage and paginated.
+     * The report is reused for the same namespaces until it expires.
+     *
+     * @param namespaces The namespaces
+     * @param sort       The quota to sort by, among count/topics, count/partitions, disk/topics and
+     *                   count/connectors, or null to keep the namespaces order
+     * @param page       The page number, starting from 0
+     * @param size       The page size, or 0 to get all the namespaces
+     * @throws ResourceValidationException If the page or the size is negative
+     * @return A list of quotas as response format
+     */
+    public List<ResourceQuotaResponse> getUsedQuotaByNamespaces(List<Namespace> namespaces, @Nullable String sort,
+                                                                int page, int size) {
+        List<String> validationErrors = new ArrayList<>();
+        if (page < 0) {
+            validationErrors.add(invalidFieldValidationAtLeast("page", String.valueOf(page), 0));
+        }
+
+        if (size < 0) {
+            validationErrors.add(invalidFieldValidationAtLeast("size", String.valueOf(size), 0));
+        }
+
+        if (!validationErrors.isEmpty()) {
+            throw new ResourceValidationException(RESOURCE_QUOTA_RESPONSE, page + "/" + size, validationErrors);
+        }
+
+        ToLongFunction<UsageReportLine> sortBy = sort != null ? usageOf(sort) : null;
+        List<UsageReportLine> lines = new ArrayList<>(getUsageReport(namespaces));
+
+        if (sortBy != null) {
+            lines.sort(Comparator.comparingLong(sortBy).reversed());
+        }
+
+        if (size == 0) {
+            return lines.stream().map(UsageReportLine::response).toList();
+        }
+
+        return lines
+            .stream()
+            .skip((long) page * size)
+            .limit(size)
+            .map(UsageReportLine::response)
+            .toList();
+    }
+
+    private List<UsageReportLine> getUsageReport(List<Namespace> namespaces) {
+        List<String> names = namespaces.stream().map(namespace -> namespace.getMetadata().getName()).toList();
+
+        UsageReport report = usageReport;
+        if (report != null && report.namespaces().equals(names) && System.nanoTime() < report.expiresAt()) {
+            return report.lines();
+        }
+
+        List<UsageReportLine> lines = buildUsageReport(namespaces);
+        usageReport = new UsageReport(names, System.nanoTime() + reportTtl.toNanos(), lines);
+        return lines;
+    }
+
+    private List<UsageReportLine> buildUsageReport(List<Namespace> namespaces) {
+        Map<String, ResourceQuotaUsageService.NamespaceUsage> usages = resourceQuotaUsageService.getUsages(namespaces);
+
+        Map<String, ResourceQuota> quotas = resourceQuotaRepository.findAll()
+            .stream()
+            .collect(Collectors.toMap(resourceQuota -> resourceQuota.getMetadata().getNamespace(),
+                resourceQuota -> resourceQuota, (first, second) -> first));
+
         return namespaces
             .stream()
-            .map(namespace -> getUsedResourcesByQuotaByNamespace(namespace,
-                findByNamespace(namespace.getMetadata().getName())))
+            .map(namespace -> {
+                ResourceQuotaUsageService.NamespaceUsage usage = usages.get(namespace.getMetadata().getName());
+                return new UsageReportLine(formatUsedResourceByQuotaResponse(namespace, usage.countTopics(),
+                    usage.countPartitions(), usage.diskTopics(), usage.countConnectors(),
+                    Optional.ofNullable(quotas.get(namespace.getMetadata().getName()))), usage);
+            })
             .toList();
     }
 
+    private static ToLongFunction<UsageReportLine> usageOf(String sort) {
+        ResourceQuota.ResourceQuotaSpecKey key = SORT_KEYS
+            .stream()
+            .filter(sortKey -> sortKey.getKey().equals(sort))
+            .findFirst()
+            .orElseThrow(() -> new ResourceValidationException(RESOURCE_QUOTA_RESPONSE, sort,
+                invalidValueMustBeOneOf("sort", sort, SORT_KEYS.stream()
+                    .map(ResourceQuota.ResourceQuotaSpecKey::getKey)
+                    .collect(Collectors.joining(", ")))));
+
+        return switch (key) {
+            case COUNT_PARTITIONS -> line -> line.usage().countPartitions();
+            case DISK_TOPICS -> line -> line.usage().diskTopics();
+            case COUNT_CONNECTORS -> line -> line.usage().countConnectors();
+            default -> line -> line.usage().countTopics();
+        };
+    }
+
     /**
      * Map current consumed resources and current quota of the given namespace to a response.
      *
@@ -325,13 +429,10 @@ public class ResourceQuotaService {
      */
     public ResourceQuotaResponse getUsedResourcesByQuotaByNamespace(Namespace namespace,
                                                                     Optional<ResourceQuota> resourceQuota) {
-        long currentCountTopic = getCurrentCountTopicsByNamespace(namespace);
-        long currentCountPartition = getCurrentCountPartitionsByNamespace(namespace);
-        long currentDiskTopic = getCurrentDiskTopicsByNamespace(namespace);
-        long currentCountConnector = getCurrentCountConnectorsByNamespace(namespace);
+        ResourceQuotaUsageService.NamespaceUsage usage = resourceQuotaUsageService.getUsage(namespace);
 
-        return formatUsedResourceByQuotaResponse(namespace, currentCountTopic, currentCountPartition, currentDiskTopic,
-            currentCountConnector, resourceQuota);
+        return formatUsedResourceByQuotaResponse(namespace, usage.countTopics(), usage.countPartitions(),
+            usage.diskTopics(), usage.countConnectors(), resourceQuota);
     }
 
     /**
@@ -400,4 +501,23 @@ public class ResourceQuotaService {
                 .build())
             .build();
     }
+
+    /**
+     * Usage report of namespaces, reused until it expires.
+     *
+     * @param namespaces The names of the namespaces in the report
+     * @param expiresAt  The expiry time, from {@link System#nanoTime()}
+     * @param lines      The report lines
+     */
+    private record UsageReport(List<String> namespaces, long expiresAt, List<UsageReportLine> lines) {
+    }
+
+    /**
+     * Usage of a namespace in a report, with its raw usage to sort by.
+     *
+     * @param response The quota response
+     * @param usage    The used resources
+     */
+    private record UsageReportLine(ResourceQuotaResponse response, ResourceQuotaUsageService.NamespaceUsage usage) {
+    }
 }
@@ -0,0 +1,217 @@
+package com.michelin.ns4kafka.services;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.Namespace;
+import com.michelin.ns4kafka.models.quota.ResourceQuotaUsage;
+import com.michelin.ns4kafka.repositories.ResourceQuotaUsageRepository;
+import com.michelin.ns4kafka.services.executors.LeaderElection;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service to record how the resources used by the namespaces evolve.
+ * The usage of every namespace is sampled on a schedule from the tracked usage, without reading the resources again.
+ * The recent samples are kept in memory in a bounded buffer by namespace, and the leader persists the maximum usage
+ * of each namespace by bucket of time, so older windows are served from the downsampled buckets.
+ */
+@Slf4j
+@Singleton
+public class ResourceQuotaUsageHistoryService {
+    private final Map<String, Deque<ResourceQuotaUsage>> recentUsages = new ConcurrentHashMap<>();
+
+    private final Map<String, ResourceQuotaUsage> currentBuckets = new ConcurrentHashMap<>();
+
+    @Inject
+    NamespaceService namespaceService;
+
+    @Inject
+    ResourceQuotaUsageService resourceQuotaUsageService;
+
+    @Inject
+    ResourceQuotaUsageRepository resourceQuotaUsageRepository;
+
+    @Inject
+    LeaderElection leaderElection;
+
+    @Property(name = "ns4kafka.quota-history.buffer-size", defaultValue = "288")
+    int bufferSize;
+
+    @Property(name = "ns4kafka.quota-history.bucket", defaultValue = "1h")
+    Duration bucket;
+
+    @Property(name = "ns4kafka.quota-history.retention", defaultValue = "30d")
+    Duration retention;
+
+    /**
+     * Sample the usage of all the namespaces.
+     */
+    @Scheduled(initialDelay = "1m", fixedDelay = "${ns4kafka.quota-history.sample-interval:5m}")
+    public void sample() {
+        sample(Instant.now());
+    }
+
+    /**
+     * Sample the usage of all the namespaces at the given time.
+     *
+     * @param now The sampling time
+     */
+    void sample(Instant now) {
+        List<Namespace> namespaces = namespaceService.listAll();
+        Map<String, ResourceQuotaUsageService.NamespaceUsage> usages = resourceQuotaUsageService.getUsages(namespaces);
+        Date bucketStart = new Date(now.toEpochMilli() - now.toEpochMilli() % bucket.toMillis());
+
+        boolean leader = leaderElection.isLeader();
+        if (!leader) {
+            currentBuckets.clear();
+        } else if (currentBuckets.isEmpty()) {
+            // Resume the buckets persisted before a restart or a change of leader
+            resourceQuotaUsageRepository.findAllAt(bucketStart)
+                .forEach(usage -> currentBuckets.put(usage.getMetadata().getNamespace(), usage));
+        }
+
+        List<ResourceQuotaUsage> changedBuckets = new ArrayList<>();
+        namespaces.forEach(namespace -> {
+            ResourceQuotaUsage usage = buildUsage(namespace, usages.get(namespace.getMetadata().getName()),
+                Date.from(now));
+
+            Deque<ResourceQuotaUsage> buffer = recentUsages.computeIfAbsent(namespace.getMetadata().getName(),
+                name -> new ArrayDeque<>(bufferSize));
+            synchronized (buffer) {
+                if (buffer.size() >= bufferSize) {
+                    buffer.removeFirst();
+                }
+                buffer.addLast(usage);
+            }
+
+            if (leader) {
+                ResourceQuotaUsage current = currentBuckets.get(namespace.getMetadata().getName());
+                ResourceQuotaUsage merged = mergeIntoBucket(current, usage, bucketStart);
+                if (!merged.equals(current)) {
+                    currentBuckets.put(namespace.getMetadata().getName(), merged);
+                    changedBuckets.add(merged);
+                }
+            }
+        });
+
+        Set<String> names = namespaces.stream().map(namespace -> namespace.getMetadata().getName())
+            .collect(Collectors.toSet());
+        recentUsages.keySet().retainAll(names);
+        currentBuckets.keySet().retainAll(names);
+
+        if (leader) {
+            resourceQuotaUsageRepository.createAll(changedBuckets);
+
+            List<ResourceQuotaUsage> expiredBuckets = resourceQuotaUsageRepository
+                .findAllBefore(Date.from(now.minus(retention)));
+
+            if (!expiredBuckets.isEmpty()) {
+                resourceQuotaUsageRepository.deleteAll(expiredBuckets);
+            }
+
+            log.debug("Quota usage of {} namespace(s) sampled, {} bucket(s) updated and {} expired",
+                namespaces.size(), changedBuckets.size(), expiredBuckets.size());
+        }
+    }
+
+    /**
+     * Find the usage history of a namespace over a time range.
+     * The range covered by the recent samples is served from memory, the rest from the persisted buckets.
+     *
+     * @param namespace The namespace
+     * @param from      The start of the range, inclusive
+     * @param to        The end of the range, inclusive
+     * @return The usages sorted by time
+     */
+    public List<ResourceQuotaUsage> findHistory(String namespace, Instant from, Instant to) {
+        List<ResourceQuotaUsage> recent = new ArrayList<>();
+        Deque<ResourceQuotaUsage> buffer = recentUsages.get(namespace);
+        if (buffer != null) {
+            synchronized (buffer) {
+                recent.addAll(buffer);
+            }
+        }
+
+        Date start = Date.from(from);
+        Date end = Date.from(to);
+        Date recentStart = recent.isEmpty() ? end : recent.get(0).getSpec().getTimestamp();
+
+        List<ResourceQuotaUsage> history = new ArrayList<>();
+        if (start.before(recentStart)) {
+            Date bucketsEnd = end.before(recentStart) ? new Date(end.getTime() + 1) : recentStart;
+            history.addAll(resourceQuotaUsageRepository.findAllForNamespace(namespace, start, bucketsEnd));
+        }
+
+        recent.stream()
+            .filter(usage -> !usage.getSpec().getTimestamp().before(start)
+                && !usage.getSpec().getTimestamp().after(end))
+            .forEach(history::add);
+
+        return history;
+    }
+
+    private ResourceQuotaUsage buildUsage(Namespace namespace, ResourceQuotaUsageService.NamespaceUsage usage,
+                                          Date timestamp) {
+        return ResourceQuotaUsage.builder()
+            .metadata(Metadata.builder()
+                .name(String.valueOf(timestamp.getTime()))
+                .namespace(namespace.getMetadata().getName())
+                .cluster(namespace.getMetadata().getCluster())
+                .build())
+            .spec(ResourceQuotaUsage.ResourceQuotaUsageSpec.builder()
+                .timestamp(timestamp)
+                .countTopic(usage.countTopics())
+                .countPartition(usage.countPartitions())
+                .diskTopic(usage.diskTopics())
+                .countConnector(usage.countConnectors())
+                .build())
+            .build();
+    }
+
+    /**
+     * Merge a sample into the bucket it belongs to, keeping the maximum of each resource over the bucket.
+     *
+     * @param current     The current bucket of the namespace, if any
+     * @param usage       The sample
+     * @param bucketStart The start of the bucket of the sample
+     * @return The merged bucket
+     */
+    private ResourceQuotaUsage mergeIntoBucket(ResourceQuotaUsage current, ResourceQuotaUsage usage,
+                                               Date bucketStart) {
+        boolean sameBucket = current != null && current.getSpec().getTimestamp().equals(bucketStart);
+
+        return ResourceQuotaUsage.builder()
+            .metadata(Metadata.builder()
+                .name(String.valueOf(bucketStart.getTime()))
+                .namespace(usage.getMetadata().getNamespace())
+                .cluster(usage.getMetadata().getCluster())
+                .build())
+            .spec(ResourceQuotaUsage.ResourceQuotaUsageSpec.builder()
+                .timestamp(bucketStart)
+                .countTopic(sameBucket ? Math.max(current.getSpec().getCountTopic(), usage.getSpec().getCountTopic())
+                    : usage.getSpec().getCountTopic())
+                .countPartition(sameBucket
+                    ? Math.max(current.getSpec().getCountPartition(), usage.getSpec().getCountPartition())
+                    : usage.getSpec().getCountPartition())
+                .diskTopic(sameBucket ? Math.max(current.getSpec().getDiskTopic(), usage.getSpec().getDiskTopic())
+                    : usage.getSpec().getDiskTopic())
+                .countConnector(sameBucket
+                    ? Math.max(current.getSpec().getCountConnector(), usage.getSpec().getCountConnector())
+                    : usage.getSpec().getCountConnector())
+                .build())
+            .build();
+    }
+}
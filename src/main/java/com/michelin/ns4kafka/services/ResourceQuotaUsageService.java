@@ -0,0 +1,579 @@
+package com.michelin.ns4kafka.services;
+
+import static com.michelin.ns4kafka.services.AccessControlEntryService.PUBLIC_GRANTED_TO;
+import static org.apache.kafka.common.config.TopicConfig.RETENTION_BYTES_CONFIG;
+
+import com.michelin.ns4kafka.models.AccessControlEntry;
+import com.michelin.ns4kafka.models.Namespace;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.Topic;
+import com.michelin.ns4kafka.models.connector.Connector;
+import com.michelin.ns4kafka.repositories.ConnectorRepository;
+import com.michelin.ns4kafka.repositories.TopicRepository;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service to track the resources used by the namespaces against their quota.
+ * The usage of a namespace is loaded from its owned topics and connectors on first read, then kept up to date
+ * from the changes of the stores. The loading and the updates both attribute a resource to its owners through the
+ * OWNER ACLs of the cluster, and the namespaces whose ownership is affected by an ACL change are loaded again.
+ * Loading many namespaces at once is done with a single pass over the resources of each cluster, the clusters being
+ * loaded in parallel by a dedicated executor. The owners of a cluster whose OWNER ACLs change are resolved again by
+ * the same executor. The store changes of a cluster received while one of its loads or resolutions is running are
+ * buffered, then replayed once they are done, so no change is missed and the store changes never scan the stores.
+ */
+@Slf4j
+@Singleton
+public class ResourceQuotaUsageService {
+    public static final String QUOTA_USAGE_EXECUTOR = "quota-usage";
+
+    private final Map<String, Usage> usages = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> clusterNamespaces = new ConcurrentHashMap<>();
+
+    private final Map<String, ClusterLoads> clusterLoads = new ConcurrentHashMap<>();
+
+    private final Map<String, ClusterOwnership> clusterOwnerships = new ConcurrentHashMap<>();
+
+    @Inject
+    TopicRepository topicRepository;
+
+    @Inject
+    ConnectorRepository connectorRepository;
+
+    @Inject
+    AccessControlEntryService accessControlEntryService;
+
+    @Inject
+    @Named(QUOTA_USAGE_EXECUTOR)
+    ExecutorService quotaUsageExecutor;
+
+    /**
+     * Get the resources currently used by a namespace.
+     *
+     * @param namespace The namespace
+     * @return The used resources
+     */
+    public NamespaceUsage getUsage(Namespace namespace) {
+        String name = namespace.getMetadata().getName();
+        Usage usage = usages.get(name);
+
+        if (usage == null || !usage.isLoaded()) {
+            usage = load(namespace.getMetadata().getCluster(), Set.of(name)).get(name);
+        }
+
+        synchronized (usage) {
+            return usage.toNamespaceUsage();
+        }
+    }
+
+    /**
+     * Get the resources currently used by many namespaces.
+     * The namespaces not read yet are loaded together, cluster by cluster, and the clusters are loaded in parallel
+     * by the quota usage executor.
+     *
+     * @param namespaces The namespaces
+     * @return The used resources by namespace name
+     */
+    public Map<String, NamespaceUsage> getUsages(List<Namespace> namespaces) {
+        List<CompletableFuture<Map<String, NamespaceUsage>>> clusterUsages = namespaces
+            .stream()
+            .collect(Collectors.groupingBy(namespace -> namespace.getMetadata().getCluster()))
+            .entrySet()
+            .stream()
+            .map(namespacesOfCluster -> CompletableFuture.supplyAsync(() -> getUsagesForCluster(
+                namespacesOfCluster.getKey(), namespacesOfCluster.getValue()), quotaUsageExecutor))
+            .toList();
+
+        Map<String, NamespaceUsage> allUsages = new HashMap<>();
+        clusterUsages.forEach(usagesForCluster -> usagesForCluster.join()
+            .forEach(allUsages::putIfAbsent));
+        return allUsages;
+    }
+
+    private Map<String, NamespaceUsage> getUsagesForCluster(String cluster, List<Namespace> namespaces) {
+        Set<String> notLoaded = namespaces
+            .stream()
+            .map(namespace -> namespace.getMetadata().getName())
+            .filter(name -> {
+                Usage usage = usages.get(name);
+                return usage == null || !usage.isLoaded();
+            })
+            .collect(Collectors.toSet());
+
+        if (!notLoaded.isEmpty()) {
+            load(cluster, notLoaded);
+        }
+
+        // Namespaces invalidated in the meantime are loaded one by one
+        Map<String, NamespaceUsage> clusterUsages = new HashMap<>();
+        namespaces.forEach(namespace -> clusterUsages.put(namespace.getMetadata().getName(), getUsage(namespace)));
+        return clusterUsages;
+    }
+
+    /**
+     * Load the usage of namespaces of a cluster with a single pass over its resources.
+     * The store changes of the cluster received during the pass are replayed once the last running load is done.
+     *
+     * @param cluster    The cluster
+     * @param namespaces The namespace names
+     * @return The usages by namespace name
+     */
+    private Map<String, Usage> load(String cluster, Set<String> namespaces) {
+        ClusterLoads loads = clusterLoads(cluster);
+        synchronized (loads) {
+            loads.running++;
+        }
+
+        try {
+            return loadOwnedResources(cluster, namespaces);
+        } finally {
+            finishLoad(loads);
+        }
+    }
+
+    /**
+     * Unregister a load of a cluster, and replay the store changes buffered meanwhile once no load is running.
+     * A replayed change may start a new load, in which case the remaining changes stay buffered.
+     *
+     * @param loads The loads of the cluster
+     */
+    private void finishLoad(ClusterLoads loads) {
+        synchronized (loads) {
+            loads.running--;
+            while (loads.running == 0 && !loads.changes.isEmpty()) {
+                apply(loads.changes.poll());
+            }
+        }
+    }
+
+    private Map<String, Usage> loadOwnedResources(String cluster, Set<String> namespaces) {
+        ClusterOwnership ownership = clusterOwnership(cluster);
+
+        Map<String, List<Topic>> ownedTopics = new HashMap<>();
+        topicRepository.findAllForCluster(cluster).forEach(topic -> ownership.topicOwners()
+            .ownersOf(topic.getMetadata().getName(), namespaces)
+            .forEach(owner -> ownedTopics.computeIfAbsent(owner, name -> new ArrayList<>()).add(topic)));
+
+        Map<String, List<Connector>> ownedConnectors = new HashMap<>();
+        connectorRepository.findAllForCluster(cluster).forEach(connector -> ownership.connectorOwners()
+            .ownersOf(connector.getMetadata().getName(), namespaces)
+            .forEach(owner -> ownedConnectors.computeIfAbsent(owner, name -> new ArrayList<>()).add(connector)));
+
+        Map<String, Usage> loadedUsages = new HashMap<>();
+        namespaces.forEach(namespace -> {
+            Usage usage = usages.computeIfAbsent(namespace, name -> {
+                namespacesOf(cluster).add(name);
+                return new Usage(cluster);
+            });
+
+            synchronized (usage) {
+                if (!usage.loaded) {
+                    usage.load(ownedTopics.getOrDefault(namespace, List.of()),
+                        ownedConnectors.getOrDefault(namespace, List.of()));
+                }
+            }
+
+            loadedUsages.put(namespace, usage);
+        });
+
+        log.debug("Quota usage of {} namespace(s) loaded on cluster {}", namespaces.size(), cluster);
+        return loadedUsages;
+    }
+
+    /**
+     * Get the owners of the resources of a cluster, resolved from its OWNER ACLs once until they change.
+     *
+     * @param cluster The cluster
+     * @return The owners of the topics and connectors
+     */
+    private ClusterOwnership clusterOwnership(String cluster) {
+        return clusterOwnerships.computeIfAbsent(cluster, name -> {
+            OwnershipIndex topicOwners = new OwnershipIndex();
+            OwnershipIndex connectorOwners = new OwnershipIndex();
+
+            accessControlEntryService.findAllForCluster(name)
+                .stream()
+                .filter(ResourceQuotaUsageService::isOwnership)
+                .forEach(accessControlEntry -> {
+                    if (accessControlEntry.getSpec().getResourceType() == AccessControlEntry.ResourceType.TOPIC) {
+                        topicOwners.add(accessControlEntry);
+                    } else {
+                        connectorOwners.add(accessControlEntry);
+                    }
+                });
+
+            return new ClusterOwnership(topicOwners, connectorOwners);
+        });
+    }
+
+    /**
+     * Update the usage of the namespaces affected by a change of the stores.
+     * A topic or connector change is applied to the namespaces owning it. Changes of namespaces that have not been
+     * read yet are ignored, as they will be loaded from the stores.
+     * While a load of the cluster is running, the change is buffered and replayed when the load is done.
+     *
+     * @param event The store change event
+     */
+    @EventListener
+    public void onStoreChange(StoreChangeEvent event) {
+        ClusterLoads loads = clusterLoads(event.getResource().getMetadata().getCluster());
+        synchronized (loads) {
+            if (loads.running > 0) {
+                loads.changes.add(event);
+            } else {
+                apply(event);
+            }
+        }
+    }
+
+    private void apply(StoreChangeEvent event) {
+        if (event.getResource() instanceof Topic topic) {
+            String cluster = topic.getMetadata().getCluster();
+            update(cluster, ClusterOwnership::topicOwners, topic.getMetadata().getName(), usage -> {
+                if (event.isDeleted()) {
+                    usage.removeTopic(topic.getMetadata().getName());
+                } else {
+                    usage.putTopic(topic);
+                }
+            });
+        } else if (event.getResource() instanceof Connector connector) {
+            String cluster = connector.getMetadata().getCluster();
+            update(cluster, ClusterOwnership::connectorOwners, connector.getMetadata().getName(), usage -> {
+                if (event.isDeleted()) {
+                    usage.removeConnector(connector.getMetadata().getName());
+                } else {
+                    usage.putConnector(connector.getMetadata().getName());
+                }
+            });
+        } else if (event.getResource() instanceof AccessControlEntry accessControlEntry) {
+            invalidateOwners(accessControlEntry);
+            if (event.getPrevious() instanceof AccessControlEntry previous) {
+                invalidateOwners(previous);
+            }
+        } else if (event.getResource() instanceof Namespace namespace) {
+            invalidate(namespace.getMetadata().getName());
+        }
+    }
+
+    /**
+     * Forget the owners of the cluster of an ACL, and the usage of the namespaces whose ownership it grants.
+     * A public ACL affects all the namespaces of the cluster. The owners are resolved again on the quota usage
+     * executor if namespaces of the cluster are still tracked, the store changes being buffered meanwhile.
+     *
+     * @param accessControlEntry The ACL
+     */
+    private void invalidateOwners(AccessControlEntry accessControlEntry) {
+        if (!isOwnership(accessControlEntry)) {
+            return;
+        }
+
+        String cluster = accessControlEntry.getMetadata().getCluster();
+        boolean resolved = clusterOwnerships.remove(cluster) != null;
+
+        if (accessControlEntry.getSpec().getGrantedTo().equals(PUBLIC_GRANTED_TO)) {
+            namespacesOf(cluster).forEach(this::invalidate);
+        } else {
+            invalidate(accessControlEntry.getSpec().getGrantedTo());
+        }
+
+        if (resolved && !namespacesOf(cluster).isEmpty()) {
+            ClusterLoads loads = clusterLoads(cluster);
+            synchronized (loads) {
+                loads.running++;
+            }
+
+            quotaUsageExecutor.execute(() -> {
+                try {
+                    clusterOwnership(cluster);
+                } finally {
+                    finishLoad(loads);
+                }
+            });
+        }
+    }
+
+    /**
+     * Forget the usage of a namespace, so it is loaded again on next read.
+     *
+     * @param namespace The namespace name
+     */
+    public void invalidate(String namespace) {
+        if (namespace != null) {
+            usages.computeIfPresent(namespace, (name, usage) -> {
+                namespacesOf(usage.cluster).remove(name);
+                log.trace("Quota usage of namespace {} invalidated", name);
+                return null;
+            });
+        }
+    }
+
+    private ClusterLoads clusterLoads(String cluster) {
+        return clusterLoads.computeIfAbsent(cluster != null ? cluster : "", name -> new ClusterLoads());
+    }
+
+    private void update(String cluster, Function<ClusterOwnership, OwnershipIndex> owners, String resource,
+                        Consumer<Usage> update) {
+        Set<String> namespaces = namespacesOf(cluster);
+        if (namespaces.isEmpty()) {
+            return;
+        }
+
+        // The owners are resolved before any namespace of the cluster is tracked, and again after an ACL change
+        // while the changes are buffered, so they are only unknown if that resolution has failed
+        ClusterOwnership ownership = clusterOwnerships.get(cluster);
+        if (ownership == null) {
+            namespaces.forEach(this::invalidate);
+            return;
+        }
+
+        owners.apply(ownership).ownersOf(resource, namespaces).forEach(namespace -> {
+            Usage usage = usages.get(namespace);
+            if (usage != null) {
+                synchronized (usage) {
+                    update.accept(usage);
+                }
+            }
+        });
+    }
+
+    /**
+     * Get the namespaces of a cluster whose usage is tracked.
+     *
+     * @param cluster The cluster
+     * @return The namespace names, kept up to date with the tracked usages
+     */
+    private Set<String> namespacesOf(String cluster) {
+        return clusterNamespaces.computeIfAbsent(cluster, name -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Check if an ACL grants the ownership of resources counted in the quotas.
+     *
+     * @param accessControlEntry The ACL
+     * @return true if it does, false otherwise
+     */
+    private static boolean isOwnership(AccessControlEntry accessControlEntry) {
+        return accessControlEntry.getSpec().getPermission() == AccessControlEntry.Permission.OWNER
+            && (accessControlEntry.getSpec().getResourceType() == AccessControlEntry.ResourceType.TOPIC
+            || accessControlEntry.getSpec().getResourceType() == AccessControlEntry.ResourceType.CONNECT);
+    }
+
+    /**
+     * Compute the disk space used by a topic, i.e. its retention bytes multiplied by its partitions.
+     *
+     * @param topic The topic
+     * @return The disk space in bytes
+     */
+    static long diskOf(Topic topic) {
+        if (topic.getSpec() == null) {
+            return 0;
+        }
+
+        return Long.parseLong(topic.getSpec().getConfigs().getOrDefault(RETENTION_BYTES_CONFIG, "0"))
+            * topic.getSpec().getPartitions();
+    }
+
+    /**
+     * Resources used by a namespace.
+     *
+     * @param countTopics     The number of topics
+     * @param countPartitions The number of partitions
+     * @param diskTopics      The disk space used by the topics, in bytes
+     * @param countConnectors The number of connectors
+     */
+    public record NamespaceUsage(long countTopics, long countPartitions, long diskTopics, long countConnectors) {
+    }
+
+    /**
+     * Mutable usage of a namespace, holding the contribution of each resource so a change replaces it.
+     */
+    private static final class Usage {
+        private final String cluster;
+
+        private final Map<String, TopicUsage> topics = new HashMap<>();
+
+        private final Set<String> connectors = new HashSet<>();
+
+        private long countTopics;
+
+        private long countPartitions;
+
+        private long diskTopics;
+
+        private long countConnectors;
+
+        private volatile boolean loaded;
+
+        Usage(String cluster) {
+            this.cluster = cluster;
+        }
+
+        void load(Collection<Topic> ownedTopics, Collection<Connector> ownedConnectors) {
+            topics.clear();
+            connectors.clear();
+            countTopics = 0;
+            countPartitions = 0;
+            diskTopics = 0;
+            countConnectors = 0;
+
+            ownedTopics.forEach(topic -> {
+                TopicUsage topicUsage = TopicUsage.of(topic);
+                topics.put(topic.getMetadata().getName(), topicUsage);
+                countTopics++;
+                countPartitions += topicUsage.partitions();
+                diskTopics += topicUsage.disk();
+            });
+
+            ownedConnectors.forEach(connector -> {
+                connectors.add(connector.getMetadata().getName());
+                countConnectors++;
+            });
+
+            loaded = true;
+        }
+
+        void putTopic(Topic topic) {
+            TopicUsage topicUsage = TopicUsage.of(topic);
+            TopicUsage previous = topics.put(topic.getMetadata().getName(), topicUsage);
+            if (previous == null) {
+                countTopics++;
+            } else {
+                countPartitions -= previous.partitions();
+                diskTopics -= previous.disk();
+            }
+
+            countPartitions += topicUsage.partitions();
+            diskTopics += topicUsage.disk();
+        }
+
+        void removeTopic(String name) {
+            TopicUsage previous = topics.remove(name);
+            if (previous != null) {
+                countTopics--;
+                countPartitions -= previous.partitions();
+                diskTopics -= previous.disk();
+            }
+        }
+
+        void putConnector(String name) {
+            if (connectors.add(name)) {
+                countConnectors++;
+            }
+        }
+
+        void removeConnector(String name) {
+            if (connectors.remove(name)) {
+                countConnectors--;
+            }
+        }
+
+        boolean isLoaded() {
+            return loaded;
+        }
+
+        NamespaceUsage toNamespaceUsage() {
+            return new NamespaceUsage(countTopics, countPartitions, diskTopics, countConnectors);
+        }
+    }
+
+    /**
+     * Contribution of a topic to the usage of its namespace.
+     *
+     * @param partitions The number of partitions
+     * @param disk       The disk space, in bytes
+     */
+    private record TopicUsage(long partitions, long disk) {
+        static TopicUsage of(Topic topic) {
+            return new TopicUsage(topic.getSpec() != null ? topic.getSpec().getPartitions() : 0, diskOf(topic));
+        }
+    }
+
+    /**
+     * Loads running on a cluster, and the store changes received in the meantime.
+     * Its monitor is only held to register or unregister a load and to buffer or apply a change, never during the
+     * pass over the resources or the resolution of the owners.
+     */
+    private static final class ClusterLoads {
+        private final Queue<StoreChangeEvent> changes = new ArrayDeque<>();
+
+        private int running;
+    }
+
+    /**
+     * Owners of the topics and connectors of a cluster.
+     *
+     * @param topicOwners     The owners of the topics
+     * @param connectorOwners The owners of the connectors
+     */
+    private record ClusterOwnership(OwnershipIndex topicOwners, OwnershipIndex connectorOwners) {
+    }
+
+    /**
+     * Owners of the resources of a cluster, resolved from the OWNER ACLs.
+     * A resource name is looked up once per distinct prefix length rather than matched against every ACL.
+     */
+    private static final class OwnershipIndex {
+        private final Map<String, Set<String>> literalOwners = new HashMap<>();
+
+        private final Map<String, Set<String>> prefixedOwners = new HashMap<>();
+
+        private final TreeSet<Integer> prefixLengths = new TreeSet<>();
+
+        void add(AccessControlEntry accessControlEntry) {
+            String resource = accessControlEntry.getSpec().getResource();
+            String owner = accessControlEntry.getSpec().getGrantedTo();
+
+            if (accessControlEntry.getSpec().getResourcePatternType()
+                == AccessControlEntry.ResourcePatternType.PREFIXED) {
+                prefixedOwners.computeIfAbsent(resource, name -> new HashSet<>()).add(owner);
+                prefixLengths.add(resource.length());
+            } else {
+                literalOwners.computeIfAbsent(resource, name -> new HashSet<>()).add(owner);
+            }
+        }
+
+        /**
+         * Get the namespaces owning a resource among the given ones.
+         * A resource granted to all the namespaces is owned by all of them.
+         *
+         * @param name       The resource name
+         * @param namespaces The namespaces
+         * @return The owners
+         */
+        Set<String> ownersOf(String name, Set<String> namespaces) {
+            Set<String> owners = new HashSet<>(literalOwners.getOrDefault(name, Set.of()));
+
+            for (int length : prefixLengths.headSet(name.length(), true)) {
+                owners.addAll(prefixedOwners.getOrDefault(name.substring(0, length), Set.of()));
+            }
+
+            if (owners.contains(PUBLIC_GRANTED_TO)) {
+                return namespaces;
+            }
+
+            owners.retainAll(namespaces);
+            return owners;
+        }
+    }
+}
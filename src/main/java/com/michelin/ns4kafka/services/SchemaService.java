@@ -10,6 +10,7 @@ import com.michelin.ns4kafka.models.Namespace;
 import com.michelin.ns4kafka.models.schema.Schema;
 import com.michelin.ns4kafka.models.schema.SchemaList;
 import com.michelin.ns4kafka.services.clients.schema.SchemaRegistryClient;
+import com.michelin.ns4kafka.services.clients.schema.SchemaSubjectCache;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaCompatibilityRequest;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaCompatibilityResponse;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaRequest;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -35,34 +37,38 @@ import reactor.core.publisher.Mono;
 @Slf4j
 @Singleton
 public class SchemaService {
+    private static final String KEY_SUFFIX = "-key";
+    private static final String VALUE_SUFFIX = "-value";
+
     @Inject
     AccessControlEntryService accessControlEntryService;
 
     @Inject
     SchemaRegistryClient schemaRegistryClient;
 
+    @Inject
+    SchemaSubjectCache schemaSubjectCache;
+
     /**
      * Get all the schemas by namespace.
+     * The subjects are read from the cache of the Schema Registry, and filtered by a matcher built once from the
+     * ACLs of the namespace. The list is eventually consistent, as a subject registered or deleted through another
+     * replica is only listed or removed after the next refresh of the cache.
      *
      * @param namespace The namespace
      * @return A list of schemas
      */
     public Flux<SchemaList> findAllForNamespace(Namespace namespace) {
-        List<AccessControlEntry> acls = accessControlEntryService.findAllGrantedToNamespace(namespace).stream()
-            .filter(acl -> acl.getSpec().getPermission() == AccessControlEntry.Permission.OWNER)
-            .filter(acl -> acl.getSpec().getResourceType() == AccessControlEntry.ResourceType.TOPIC).toList();
+        Predicate<String> isNamespaceOwner = accessControlEntryService
+            .buildNamespaceOwnershipMatcher(namespace.getMetadata().getName(), AccessControlEntry.ResourceType.TOPIC);
 
-        return schemaRegistryClient
+        return schemaSubjectCache
             .getSubjects(namespace.getMetadata().getCluster())
-            .filter(subject -> {
-                String underlyingTopicName = subject.replaceAll("(-key|-value)$", "");
-
-                return acls.stream()
-                    .anyMatch(accessControlEntry -> switch (accessControlEntry.getSpec().getResourcePatternType()) {
-                        case PREFIXED -> underlyingTopicName.startsWith(accessControlEntry.getSpec().getResource());
-                        case LITERAL -> underlyingTopicName.equals(accessControlEntry.getSpec().getResource());
-                    });
-            })
+            .flatMapIterable(subjects -> subjects
+                .stream()
+                .filter(subject -> isNamespaceOwner.test(getUnderlyingTopicName(subject)))
+                .sorted()
+                .toList())
             .map(subject -> SchemaList.builder()
                 .metadata(Metadata.builder()
                     .cluster(namespace.getMetadata().getCluster())
@@ -160,8 +166,8 @@ public class SchemaService {
 
             // Validate TopicNameStrategy
             // https://github.com/confluentinc/schema-registry/blob/master/schema-serializer/src/main/java/io/confluent/kafka/serializers/subject/TopicNameStrategy.java
-            if (!schema.getMetadata().getName().endsWith("-key")
-                && !schema.getMetadata().getName().endsWith("-value")) {
+            if (!schema.getMetadata().getName().endsWith(KEY_SUFFIX)
+                && !schema.getMetadata().getName().endsWith(VALUE_SUFFIX)) {
                 validationErrors.add(invalidSchemaSuffix(schema.getMetadata().getName()));
             }
 
@@ -213,6 +219,8 @@ public class SchemaService {
                     .schema(schema.getSpec().getSchema())
                     .references(schema.getSpec().getReferences())
                     .build())
+            .doOnNext(response -> schemaSubjectCache.onRegister(namespace.getMetadata().getCluster(),
+                schema.getMetadata().getName()))
             .map(SchemaResponse::id);
     }
 
@@ -228,7 +236,8 @@ public class SchemaService {
             .deleteSubject(namespace.getMetadata().getCluster(), subject, false)
             .flatMap(ids -> schemaRegistryClient
                 .deleteSubject(namespace.getMetadata().getCluster(),
-                    subject, true));
+                    subject, true))
+            .doOnNext(ids -> schemaSubjectCache.onDelete(namespace.getMetadata().getCluster(), subject));
     }
 
     /**
@@ -290,10 +299,27 @@ public class SchemaService {
      * @return true if it's owner, false otherwise
      */
     public boolean isNamespaceOwnerOfSubject(Namespace namespace, String subjectName) {
-        String underlyingTopicName = subjectName.replaceAll("(-key|-value)$", "");
         return accessControlEntryService.isNamespaceOwnerOfResource(namespace.getMetadata().getName(),
             AccessControlEntry.ResourceType.TOPIC,
-            underlyingTopicName);
+            getUnderlyingTopicName(subjectName));
+    }
+
+    /**
+     * Get the name of the topic of a subject, without its key or value suffix.
+     *
+     * @param subjectName The name of the subject
+     * @return The name of the topic
+     */
+    private static String getUnderlyingTopicName(String subjectName) {
+        if (subjectName.endsWith(KEY_SUFFIX)) {
+            return subjectName.substring(0, subjectName.length() - KEY_SUFFIX.length());
+        }
+
+        if (subjectName.endsWith(VALUE_SUFFIX)) {
+            return subjectName.substring(0, subjectName.length() - VALUE_SUFFIX.length());
+        }
+
+        return subjectName;
     }
 
     /**
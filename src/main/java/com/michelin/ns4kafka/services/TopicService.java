@@ -19,21 +19,28 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.RecordsToDelete;
 import org.apache.kafka.common.TopicPartition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Service to manage topics.
  */
 @Singleton
 public class TopicService {
+    private static final int DESCRIBE_CHUNK_SIZE = 500;
+    private static final int DELETE_RECORDS_CONCURRENCY = 4;
+
     @Inject
     TopicRepository topicRepository;
 
@@ -109,6 +116,18 @@ public class TopicService {
             topic);
     }
 
+    /**
+     * Build a matcher telling whether the given namespace is owner of a topic.
+     * The ACLs are read once, so many topics can be checked without scanning them again.
+     *
+     * @param namespace The namespace
+     * @return A predicate on the topic name
+     */
+    public Predicate<String> buildNamespaceOwnershipMatcher(String namespace) {
+        return accessControlEntryService.buildNamespaceOwnershipMatcher(namespace,
+            AccessControlEntry.ResourceType.TOPIC);
+    }
+
     /**
      * Create a given topic.
      *
@@ -119,6 +138,16 @@ public class TopicService {
         return topicRepository.create(topic);
     }
 
+    /**
+     * Create the given topics in a single batch.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    public List<Topic> createAll(List<Topic> topics) {
+        return topicRepository.createAll(topics);
+    }
+
     /**
      * Delete a given topic.
      *
@@ -148,12 +177,11 @@ public class TopicService {
             Qualifiers.byName(namespace.getMetadata().getCluster()));
 
         try {
-            List<String> clusterTopics = topicAsyncExecutor.listBrokerTopicNames();
-            return clusterTopics.stream()
+            return topicAsyncExecutor.findCollidingBrokerTopicNames(topic.getMetadata().getName())
+                .stream()
                 // existing topics with the exact same name (and not currently in Ns4Kafka) should not interfere
                 // this topic could be created on Ns4Kafka during "import" step
                 .filter(clusterTopic -> !topic.getMetadata().getName().equals(clusterTopic))
-                .filter(clusterTopic -> hasCollision(clusterTopic, topic.getMetadata().getName()))
                 .toList();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -198,43 +226,31 @@ public class TopicService {
         return validationErrors;
     }
 
-    /**
-     * Check if topics collide with "_" instead of ".".
-     *
-     * @param topicA The first topic
-     * @param topicB The second topic
-     * @return true if it does, false otherwise
-     */
-    private boolean hasCollision(String topicA, String topicB) {
-        return topicA.replace('.', '_').equals(topicB.replace('.', '_'));
-    }
-
     /**
      * List the topics that are not synchronized to Ns4Kafka by namespace.
+     * The topics are described by chunks, so they are streamed as soon as a chunk is collected.
      *
      * @param namespace The namespace
-     * @return The list of topics
-     * @throws ExecutionException   Any execution exception
-     * @throws InterruptedException Any interrupted exception
-     * @throws TimeoutException     Any timeout exception
+     * @return The topics
      */
-    public List<Topic> listUnsynchronizedTopics(Namespace namespace)
-        throws ExecutionException, InterruptedException, TimeoutException {
+    public Flux<Topic> listUnsynchronizedTopics(Namespace namespace) {
         TopicAsyncExecutor topicAsyncExecutor = applicationContext.getBean(TopicAsyncExecutor.class,
             Qualifiers.byName(namespace.getMetadata().getCluster()));
 
-        // List topics for this namespace
-        List<String> topicNames = listUnsynchronizedTopicNames(namespace);
-
-        // Get topics definitions
-        Collection<Topic> unsynchronizedTopics = topicAsyncExecutor.collectBrokerTopicsFromNames(topicNames)
-            .values();
-
-        return new ArrayList<>(unsynchronizedTopics);
+        return Mono.fromCallable(() -> listUnsynchronizedTopicNames(namespace))
+            .flatMapIterable(topicNames -> topicNames)
+            .buffer(DESCRIBE_CHUNK_SIZE)
+            .concatMap(topicNames -> Mono.fromCallable(() -> topicAsyncExecutor
+                .collectBrokerTopicsFromNames(topicNames)
+                .values()))
+            .flatMapIterable(topics -> topics)
+            .subscribeOn(Schedulers.boundedElastic());
     }
 
     /**
      * List the topic names that are not synchronized to ns4kafka by namespace.
+     * A topic stored for the cluster is synchronized, even if it is stored by another namespace, so importing it
+     * does not overwrite the topic of the other namespace.
      *
      * @param namespace The namespace
      * @return The list of topic names
@@ -247,12 +263,20 @@ public class TopicService {
         TopicAsyncExecutor topicAsyncExecutor = applicationContext.getBean(TopicAsyncExecutor.class,
             Qualifiers.byName(namespace.getMetadata().getCluster()));
 
+        Predicate<String> isNamespaceOwner = accessControlEntryService
+            .buildNamespaceOwnershipMatcher(namespace.getMetadata().getName(), AccessControlEntry.ResourceType.TOPIC);
+
+        Set<String> ns4KafkaTopicNames = topicRepository.findAllForCluster(namespace.getMetadata().getCluster())
+            .stream()
+            .map(topic -> topic.getMetadata().getName())
+            .collect(Collectors.toSet());
+
         return topicAsyncExecutor.listBrokerTopicNames()
             .stream()
             // ...that belongs to this namespace
-            .filter(topic -> isNamespaceOwnerOfTopic(namespace.getMetadata().getName(), topic))
+            .filter(isNamespaceOwner)
             // ...and aren't in ns4kafka storage
-            .filter(topic -> findByName(namespace, topic).isEmpty())
+            .filter(topic -> !ns4KafkaTopicNames.contains(topic))
             .toList();
     }
 
@@ -301,22 +325,45 @@ public class TopicService {
      *
      * @param recordsToDelete The offsets by topic-partitions
      * @return The new offsets by topic-partitions
-     * @throws InterruptedException Any interrupted exception
      */
-    public Map<TopicPartition, Long> deleteRecords(Topic topic, Map<TopicPartition, Long> recordsToDelete)
-        throws InterruptedException {
+    public Map<TopicPartition, Long> deleteRecords(Topic topic, Map<TopicPartition, Long> recordsToDelete) {
         TopicAsyncExecutor topicAsyncExecutor = applicationContext.getBean(TopicAsyncExecutor.class,
             Qualifiers.byName(topic.getMetadata().getCluster()));
 
-        try {
-            Map<TopicPartition, RecordsToDelete> recordsToDeleteMap = recordsToDelete.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, kv -> RecordsToDelete.beforeOffset(kv.getValue())));
+        Map<TopicPartition, RecordsToDelete> recordsToDeleteMap = recordsToDelete.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, kv -> RecordsToDelete.beforeOffset(kv.getValue())));
 
-            return topicAsyncExecutor.deleteRecords(recordsToDeleteMap);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new InterruptedException(e.getMessage());
-        }
+        return topicAsyncExecutor.deleteRecords(recordsToDeleteMap);
+    }
+
+    /**
+     * Delete all the records of the given topics.
+     * The topics are processed by chunks: the partitions and offsets of a chunk are resolved in one batch,
+     * then the records of several chunks are deleted concurrently.
+     *
+     * @param namespace The namespace
+     * @param topics    The topics to delete records
+     * @param dryrun    Is dry run mode or not ?
+     * @return The new offset of each topic-partition, or the offset to delete before in dry run mode
+     */
+    public Flux<Map.Entry<TopicPartition, Long>> deleteRecords(Namespace namespace, List<Topic> topics,
+                                                               boolean dryrun) {
+        TopicAsyncExecutor topicAsyncExecutor = applicationContext.getBean(TopicAsyncExecutor.class,
+            Qualifiers.byName(namespace.getMetadata().getCluster()));
+
+        return Flux.fromIterable(topics)
+            .map(topic -> topic.getMetadata().getName())
+            .buffer(DESCRIBE_CHUNK_SIZE)
+            .flatMap(topicNames -> Mono.fromCallable(() -> topicAsyncExecutor.prepareRecordsToDelete(topicNames))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(recordsToDelete -> {
+                    if (dryrun) {
+                        return Flux.fromIterable(recordsToDelete.entrySet())
+                            .map(kv -> Map.entry(kv.getKey(), kv.getValue().beforeOffset()));
+                    }
+
+                    return topicAsyncExecutor.deleteRecordsAsync(recordsToDelete);
+                }), DELETE_RECORDS_CONCURRENCY);
     }
 
     /**
@@ -0,0 +1,332 @@
+package com.michelin.ns4kafka.services.clients;
+
+import com.michelin.ns4kafka.properties.HttpClientPoolProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.BeanContext;
+import io.micronaut.http.client.DefaultHttpClientConfiguration;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.HttpClientConfiguration;
+import io.micronaut.http.client.HttpClientRegistry;
+import io.micronaut.http.client.HttpVersionSelection;
+import io.micronaut.http.client.LoadBalancer;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * HTTP client pools of the Connect clusters and Schema Registries.
+ * Each endpoint has its own HTTP client, with its own connection pool, so a slow endpoint only exhausts its own
+ * connections and pending requests. The latency of the requests, the in-flight requests and the utilization of
+ * the pool are measured by endpoint.
+ * An HTTP client evicted or replaced is stopped once its in-flight requests have completed, or after a grace period
+ * long enough for them to acquire a connection and read the response.
+ */
+@Slf4j
+@Singleton
+public class HttpClientPools {
+    public static final String REQUESTS_METRIC = "ns4kafka.http.client.requests";
+    public static final String IN_FLIGHT_METRIC = "ns4kafka.http.client.requests.in.flight";
+    public static final String UTILIZATION_METRIC = "ns4kafka.http.client.pool.utilization";
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+    private static final String KIND_TAG = "kind";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String ENDPOINT_TAG = "endpoint";
+    private static final String RESULT_TAG = "result";
+
+    private final Map<Endpoint, Pool> pools = new ConcurrentHashMap<>();
+
+    @Inject
+    BeanContext beanContext;
+
+    @Inject
+    HttpClientRegistry<HttpClient> httpClientRegistry;
+
+    @Inject
+    HttpClientConfiguration defaultHttpClientConfiguration;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    List<HttpClientPoolProperties> httpClientPoolProperties;
+
+    @Inject
+    @Named(TaskExecutors.SCHEDULED)
+    TaskScheduler taskScheduler;
+
+    /**
+     * Send a request to an endpoint with its own HTTP client.
+     *
+     * @param endpoint The endpoint
+     * @param url      The URL of the endpoint
+     * @param request  The request, sent with the HTTP client of the endpoint
+     * @param <T>      The type of the response
+     * @return The response
+     */
+    public <T> Mono<T> send(Endpoint endpoint, String url, Function<HttpClient, Publisher<T>> request) {
+        return Mono.defer(() -> {
+            Pool pool = acquirePool(endpoint, url);
+            long start = System.nanoTime();
+
+            return Mono.from(request.apply(pool.httpClient()))
+                .doFinally(signalType -> {
+                    releasePool(pool);
+                    if (signalType != SignalType.CANCEL) {
+                        Timer.builder(REQUESTS_METRIC)
+                            .tag(KIND_TAG, endpoint.kind())
+                            .tag(CLUSTER_TAG, endpoint.kafkaCluster())
+                            .tag(ENDPOINT_TAG, endpoint.name())
+                            .tag(RESULT_TAG, signalType == SignalType.ON_ERROR ? FAILURE : SUCCESS)
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                });
+        });
+    }
+
+    /**
+     * Retire the HTTP clients of the endpoints of a kind with the given name, in all the Kafka clusters.
+     * The next request to these endpoints builds a new HTTP client, while the in-flight ones complete with the
+     * retired HTTP client.
+     *
+     * @param kind The kind of endpoint
+     * @param name The name of the endpoint
+     */
+    public void evict(String kind, String name) {
+        pools.entrySet().removeIf(entry -> {
+            if (entry.getKey().kind().equals(kind) && entry.getKey().name().equals(name)) {
+                retire(entry.getValue());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Close all the HTTP clients on shutdown.
+     */
+    @PreDestroy
+    public void close() {
+        pools.values().forEach(pool -> {
+            pool.gauges().forEach(meterRegistry::remove);
+            stop(pool);
+        });
+        pools.clear();
+    }
+
+    /**
+     * Get the pool of an endpoint and count a new in-flight request on it.
+     * A pool retired in the meantime is given back, and the request goes to the pool replacing it.
+     *
+     * @param endpoint The endpoint
+     * @param url      The URL of the endpoint
+     * @return The pool
+     */
+    private Pool acquirePool(Endpoint endpoint, String url) {
+        while (true) {
+            Pool pool = getPool(endpoint, url);
+            pool.inFlightRequests().incrementAndGet();
+            if (!pool.retired().get()) {
+                return pool;
+            }
+            releasePool(pool);
+        }
+    }
+
+    /**
+     * Count the end of an in-flight request on a pool, and stop the HTTP client of a retired pool once drained.
+     *
+     * @param pool The pool
+     */
+    private void releasePool(Pool pool) {
+        if (pool.inFlightRequests().decrementAndGet() == 0 && pool.retired().get()) {
+            stop(pool);
+        }
+    }
+
+    /**
+     * Get the pool of an endpoint, building it on first use or when the URL of the endpoint has changed.
+     *
+     * @param endpoint The endpoint
+     * @param url      The URL of the endpoint
+     * @return The pool
+     */
+    private Pool getPool(Endpoint endpoint, String url) {
+        return pools.compute(endpoint, (key, existing) -> {
+            if (existing != null && existing.url().equals(url)) {
+                return existing;
+            }
+
+            if (existing != null) {
+                retire(existing);
+            }
+
+            return buildPool(endpoint, url);
+        });
+    }
+
+    /**
+     * Build the pool of an endpoint, with the properties of its kind.
+     *
+     * @param endpoint The endpoint
+     * @param url      The URL of the endpoint
+     * @return The pool
+     */
+    private Pool buildPool(Endpoint endpoint, String url) {
+        HttpClientPoolProperties properties = httpClientPoolProperties.stream()
+            .filter(poolProperties -> poolProperties.getName().equals(endpoint.kind()))
+            .findFirst()
+            .orElseGet(() -> new HttpClientPoolProperties(endpoint.kind()));
+
+        HttpClient httpClient = httpClientRegistry.resolveClient(null, LoadBalancer.fixed(URI.create(url)),
+            buildConfiguration(properties), beanContext);
+
+        log.debug("HTTP client of {} {} of Kafka cluster {} built with {} connections.", endpoint.kind(),
+            endpoint.name(), endpoint.kafkaCluster(), properties.getMaxConnections());
+
+        AtomicInteger inFlightRequests = new AtomicInteger();
+        int maxInFlightRequests = properties.getMaxInFlightRequests();
+
+        Gauge inFlightGauge = Gauge.builder(IN_FLIGHT_METRIC, inFlightRequests, AtomicInteger::get)
+            .tag(KIND_TAG, endpoint.kind())
+            .tag(CLUSTER_TAG, endpoint.kafkaCluster())
+            .tag(ENDPOINT_TAG, endpoint.name())
+            .register(meterRegistry);
+
+        Gauge utilizationGauge = Gauge.builder(UTILIZATION_METRIC, inFlightRequests,
+                requests -> Math.min(1.0, (double) requests.get() / maxInFlightRequests))
+            .tag(KIND_TAG, endpoint.kind())
+            .tag(CLUSTER_TAG, endpoint.kafkaCluster())
+            .tag(ENDPOINT_TAG, endpoint.name())
+            .register(meterRegistry);
+
+        return new Pool(url, httpClient, inFlightRequests, List.of(inFlightGauge, utilizationGauge),
+            properties.getAcquireTimeout().plus(properties.getReadTimeout()), new AtomicBoolean(),
+            new AtomicBoolean());
+    }
+
+    /**
+     * Build the HTTP client configuration of an endpoint.
+     * The SSL configuration is the one of the default HTTP client.
+     * With HTTP/2, the version is negotiated with the endpoint, which can keep HTTP/1.1.
+     *
+     * @param properties The properties of the kind of the endpoint
+     * @return The HTTP client configuration
+     */
+    HttpClientConfiguration buildConfiguration(HttpClientPoolProperties properties) {
+        DefaultHttpClientConfiguration configuration = new DefaultHttpClientConfiguration();
+        configuration.setSslConfiguration(defaultHttpClientConfiguration.getSslConfiguration());
+        configuration.setEventLoopGroup(properties.getEventLoopGroup());
+        configuration.setConnectTimeout(properties.getConnectTimeout());
+        configuration.setReadTimeout(properties.getReadTimeout());
+        configuration.setConnectionPoolIdleTimeout(properties.getKeepAlive());
+
+        if (properties.isHttp2()) {
+            configuration.setAlpnModes(List.of(HttpVersionSelection.ALPN_HTTP_2, HttpVersionSelection.ALPN_HTTP_1));
+        }
+
+        HttpClientConfiguration.ConnectionPoolConfiguration pool = configuration.getConnectionPoolConfiguration();
+        pool.setEnabled(true);
+        pool.setMaxConcurrentHttp1Connections(properties.getMaxConnections());
+        pool.setMaxConcurrentHttp2Connections(properties.getMaxConnections());
+        pool.setMaxConcurrentRequestsPerHttp2Connection(properties.getMaxConcurrentStreams());
+        pool.setMaxPendingAcquires(properties.getMaxPendingAcquires());
+        pool.setAcquireTimeout(properties.getAcquireTimeout());
+
+        return configuration;
+    }
+
+    /**
+     * Retire a pool evicted or replaced, and remove its gauges.
+     * Its HTTP client is stopped right away when it has no in-flight request, otherwise once the last one completes
+     * or the grace period expires.
+     *
+     * @param pool The pool
+     */
+    private void retire(Pool pool) {
+        pool.gauges().forEach(meterRegistry::remove);
+        pool.retired().set(true);
+
+        if (pool.inFlightRequests().get() == 0) {
+            stop(pool);
+        } else {
+            taskScheduler.schedule(pool.gracePeriod(), () -> stop(pool));
+        }
+    }
+
+    /**
+     * Stop the HTTP client of a pool, once.
+     *
+     * @param pool The pool
+     */
+    private void stop(Pool pool) {
+        if (pool.stopped().compareAndSet(false, true)) {
+            pool.httpClient().stop();
+        }
+    }
+
+    /**
+     * Endpoint of a Kafka cluster.
+     *
+     * @param kind         The kind of endpoint
+     * @param kafkaCluster The Kafka cluster
+     * @param name         The name of the endpoint
+     */
+    public record Endpoint(String kind, String kafkaCluster, String name) {
+        /**
+         * Build the endpoint of a Connect cluster.
+         *
+         * @param kafkaCluster   The Kafka cluster
+         * @param connectCluster The Kafka Connect
+         * @return The endpoint
+         */
+        public static Endpoint kafkaConnect(String kafkaCluster, String connectCluster) {
+            return new Endpoint(HttpClientPoolProperties.KAFKA_CONNECT, kafkaCluster, connectCluster);
+        }
+
+        /**
+         * Build the endpoint of the Schema Registry of a Kafka cluster.
+         *
+         * @param kafkaCluster The Kafka cluster
+         * @return The endpoint
+         */
+        public static Endpoint schemaRegistry(String kafkaCluster) {
+            return new Endpoint(HttpClientPoolProperties.SCHEMA_REGISTRY, kafkaCluster,
+                HttpClientPoolProperties.SCHEMA_REGISTRY);
+        }
+    }
+
+    /**
+     * HTTP client of an endpoint, with its in-flight requests and its gauges.
+     *
+     * @param url              The URL of the endpoint
+     * @param httpClient       The HTTP client
+     * @param inFlightRequests The in-flight requests
+     * @param gauges           The gauges
+     * @param gracePeriod      The time given to the in-flight requests to complete once retired
+     * @param retired          Whether the pool has been evicted or replaced
+     * @param stopped          Whether the HTTP client has been stopped
+     */
+    private record Pool(String url, HttpClient httpClient, AtomicInteger inFlightRequests, List<Gauge> gauges,
+                        Duration gracePeriod, AtomicBoolean retired, AtomicBoolean stopped) {
+    }
+}
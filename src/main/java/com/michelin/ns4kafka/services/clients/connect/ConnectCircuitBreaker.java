@@ -0,0 +1,333 @@
+package com.michelin.ns4kafka.services.clients.connect;
+
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.connect.cluster.ConnectCluster;
+import com.michelin.ns4kafka.models.connect.cluster.ConnectCluster.CircuitBreakerState;
+import com.michelin.ns4kafka.utils.exceptions.ConnectClusterUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Circuit breakers of the Connect clusters.
+ * Once a Connect cluster fails a number of consecutive requests, its circuit breaker opens and the requests to
+ * the Connect cluster fail fast, instead of waiting for the HTTP client to time out. When the open duration
+ * expires, a single request probes the Connect cluster. A successful probe closes the circuit breaker, a failed
+ * one opens it again for an exponentially longer duration.
+ * Only the requests the Connect cluster does not answer, answers too late or with a server error, are failures.
+ * The outcome of a request only counts in the state its permit was granted in, so a slow request permitted
+ * before the circuit breaker opened does not close or open it again.
+ */
+@Slf4j
+@Singleton
+public class ConnectCircuitBreaker {
+    public static final String STATE_METRIC = "ns4kafka.connect.circuit-breaker.state";
+    public static final String TRANSITIONS_METRIC = "ns4kafka.connect.circuit-breaker.transitions";
+    public static final String REJECTIONS_METRIC = "ns4kafka.connect.circuit-breaker.rejections";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String CONNECT_CLUSTER_TAG = "connect-cluster";
+    private static final String STATE_TAG = "state";
+
+    private final Map<BreakerKey, Breaker> breakers = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Property(name = "ns4kafka.connect.circuit-breaker.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Property(name = "ns4kafka.connect.circuit-breaker.failure-threshold", defaultValue = "5")
+    int failureThreshold;
+
+    @Property(name = "ns4kafka.connect.circuit-breaker.open-duration", defaultValue = "10s")
+    Duration openDuration;
+
+    @Property(name = "ns4kafka.connect.circuit-breaker.max-open-duration", defaultValue = "5m")
+    Duration maxOpenDuration;
+
+    @Property(name = "ns4kafka.connect.circuit-breaker.backoff-multiplier", defaultValue = "2")
+    double backoffMultiplier;
+
+    /**
+     * Protect a request to a Connect cluster with its circuit breaker.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param request        The request
+     * @param <T>            The type of the response
+     * @return The response, or a {@link ConnectClusterUnavailableException} if the circuit breaker is open
+     */
+    public <T> Mono<T> protect(String kafkaCluster, String connectCluster, Mono<T> request) {
+        if (!enabled) {
+            return request;
+        }
+
+        return Mono.defer(() -> {
+            Breaker breaker = getBreaker(kafkaCluster, connectCluster);
+            Permit permit = breaker.acquire(System.nanoTime());
+
+            if (permit.type() == PermitType.REJECTED) {
+                meterRegistry.counter(REJECTIONS_METRIC, CLUSTER_TAG, kafkaCluster, CONNECT_CLUSTER_TAG,
+                    connectCluster).increment();
+                return Mono.error(new ConnectClusterUnavailableException(connectCluster,
+                    breaker.retryAfter(System.nanoTime())));
+            }
+
+            return request
+                .doOnSuccess(response -> breaker.onSuccess(permit))
+                .doOnError(error -> {
+                    if (isFailure(error)) {
+                        breaker.onFailure(permit, System.nanoTime());
+                    } else {
+                        breaker.onSuccess(permit);
+                    }
+                })
+                .doOnCancel(() -> {
+                    if (permit.type() == PermitType.PROBE) {
+                        breaker.release(permit, System.nanoTime());
+                    }
+                });
+        });
+    }
+
+    /**
+     * Protect a request to a Connect cluster with its circuit breaker, and fail it when it does not complete in time.
+     * A request timing out is a failure of the Connect cluster.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param request        The request
+     * @param timeout        The timeout
+     * @param <T>            The type of the response
+     * @return The response, a {@link java.util.concurrent.TimeoutException} if the request timed out,
+     *     or a {@link ConnectClusterUnavailableException} if the circuit breaker is open
+     */
+    public <T> Mono<T> protect(String kafkaCluster, String connectCluster, Mono<T> request, Duration timeout) {
+        return protect(kafkaCluster, connectCluster, request.timeout(timeout));
+    }
+
+    /**
+     * Get the state of the circuit breaker of a Connect cluster.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The state, closed if the Connect cluster has not been requested yet
+     */
+    public CircuitBreakerState getState(String kafkaCluster, String connectCluster) {
+        Breaker breaker = breakers.get(new BreakerKey(kafkaCluster, connectCluster));
+        return breaker != null ? breaker.getState() : CircuitBreakerState.CLOSED;
+    }
+
+    /**
+     * Drop the circuit breakers of the Connect clusters changed in the stores.
+     *
+     * @param event The store change event
+     */
+    @EventListener
+    public void onStoreChange(StoreChangeEvent event) {
+        if (event.getResource() instanceof ConnectCluster connectCluster) {
+            breakers.entrySet().removeIf(entry -> {
+                if (entry.getKey().connectCluster().equals(connectCluster.getMetadata().getName())) {
+                    meterRegistry.remove(entry.getValue().gauge);
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Get the circuit breaker of a Connect cluster, building it on first use.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The circuit breaker
+     */
+    private Breaker getBreaker(String kafkaCluster, String connectCluster) {
+        return breakers.computeIfAbsent(new BreakerKey(kafkaCluster, connectCluster),
+            key -> new Breaker(kafkaCluster, connectCluster));
+    }
+
+    /**
+     * Is an error a failure of the Connect cluster.
+     * A Connect cluster answering with a client error is available, the request is just invalid.
+     *
+     * @param error The error
+     * @return true if it is, false otherwise
+     */
+    private boolean isFailure(Throwable error) {
+        return !(error instanceof HttpClientResponseException httpClientResponseException)
+            || httpClientResponseException.getStatus().getCode() >= 500;
+    }
+
+    /**
+     * Type of permit to request a Connect cluster.
+     */
+    private enum PermitType {
+        REJECTED,
+        PERMITTED,
+        PROBE
+    }
+
+    /**
+     * Permit to request a Connect cluster.
+     *
+     * @param type       The type of permit
+     * @param generation The generation of the state of the circuit breaker the permit was granted in
+     */
+    private record Permit(PermitType type, long generation) {
+    }
+
+    /**
+     * Key of a circuit breaker.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     */
+    private record BreakerKey(String kafkaCluster, String connectCluster) {
+    }
+
+    /**
+     * Circuit breaker of a Connect cluster.
+     */
+    private class Breaker {
+        private final String kafkaCluster;
+        private final String connectCluster;
+        private final Gauge gauge;
+        private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+        private int consecutiveFailures;
+        private Duration backoff = openDuration;
+        private long openUntil;
+        private long generation;
+
+        /**
+         * Constructor.
+         * The state is exposed as a gauge, 0 when closed, 1 when half-open and 2 when open.
+         *
+         * @param kafkaCluster   The Kafka cluster
+         * @param connectCluster The Kafka Connect
+         */
+        Breaker(String kafkaCluster, String connectCluster) {
+            this.kafkaCluster = kafkaCluster;
+            this.connectCluster = connectCluster;
+            this.gauge = Gauge.builder(STATE_METRIC, this, breaker -> breaker.getState().ordinal())
+                .tag(CLUSTER_TAG, kafkaCluster)
+                .tag(CONNECT_CLUSTER_TAG, connectCluster)
+                .register(meterRegistry);
+        }
+
+        synchronized CircuitBreakerState getState() {
+            return state;
+        }
+
+        /**
+         * Acquire a permit to request the Connect cluster.
+         * Once the open duration has expired, the first request is the probe, and the others are rejected
+         * until the probe completes.
+         *
+         * @param now The current time, in nanoseconds
+         * @return The permit
+         */
+        synchronized Permit acquire(long now) {
+            PermitType type = switch (state) {
+                case CLOSED -> PermitType.PERMITTED;
+                case HALF_OPEN -> PermitType.REJECTED;
+                case OPEN -> {
+                    if (now - openUntil < 0) {
+                        yield PermitType.REJECTED;
+                    }
+                    transition(CircuitBreakerState.HALF_OPEN);
+                    yield PermitType.PROBE;
+                }
+            };
+
+            return new Permit(type, generation);
+        }
+
+        synchronized Duration retryAfter(long now) {
+            return Duration.ofNanos(Math.max(0, openUntil - now));
+        }
+
+        /**
+         * Record a success of the Connect cluster.
+         * The successes of the requests permitted in a previous state are ignored.
+         *
+         * @param permit The permit of the request
+         */
+        synchronized void onSuccess(Permit permit) {
+            if (permit.generation() != generation) {
+                return;
+            }
+
+            consecutiveFailures = 0;
+            backoff = openDuration;
+            if (state != CircuitBreakerState.CLOSED) {
+                transition(CircuitBreakerState.CLOSED);
+            }
+        }
+
+        /**
+         * Record a failure of the Connect cluster.
+         * The failures of the requests permitted in a previous state, such as before the circuit breaker opened,
+         * are ignored.
+         *
+         * @param permit The permit of the request
+         * @param now    The current time, in nanoseconds
+         */
+        synchronized void onFailure(Permit permit, long now) {
+            if (permit.generation() != generation || state == CircuitBreakerState.OPEN) {
+                return;
+            }
+
+            consecutiveFailures++;
+            if (state == CircuitBreakerState.HALF_OPEN) {
+                backoff = Duration.ofNanos(Math.min((long) (backoff.toNanos() * backoffMultiplier),
+                    maxOpenDuration.toNanos()));
+                open(now);
+            } else if (consecutiveFailures >= failureThreshold) {
+                open(now);
+            }
+        }
+
+        /**
+         * Give back the permit of a cancelled probe, so the next request probes the Connect cluster.
+         *
+         * @param permit The permit of the probe
+         * @param now    The current time, in nanoseconds
+         */
+        synchronized void release(Permit permit, long now) {
+            if (permit.generation() == generation && state == CircuitBreakerState.HALF_OPEN) {
+                openUntil = now;
+                transition(CircuitBreakerState.OPEN);
+            }
+        }
+
+        private void open(long now) {
+            openUntil = now + backoff.toNanos();
+            transition(CircuitBreakerState.OPEN);
+            log.warn("Circuit breaker of Kafka Connect {} of Kafka cluster {} opened for {} after {} failures.",
+                connectCluster, kafkaCluster, backoff, consecutiveFailures);
+        }
+
+        private void transition(CircuitBreakerState newState) {
+            if (newState == CircuitBreakerState.CLOSED) {
+                log.info("Circuit breaker of Kafka Connect {} of Kafka cluster {} closed.", connectCluster,
+                    kafkaCluster);
+            }
+
+            state = newState;
+            generation++;
+            meterRegistry.counter(TRANSITIONS_METRIC, CLUSTER_TAG, kafkaCluster, CONNECT_CLUSTER_TAG, connectCluster,
+                STATE_TAG, newState.name()).increment();
+        }
+    }
+}
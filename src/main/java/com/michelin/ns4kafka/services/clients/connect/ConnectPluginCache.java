@@ -0,0 +1,186 @@
+package com.michelin.ns4kafka.services.clients.connect;
+
+import com.michelin.ns4kafka.models.ConnectPluginsRefreshEvent;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorPluginInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of the connector plugins installed on the Connect clusters, indexed by class name.
+ * The catalog of a Connect cluster is shared by all the requests and expires after a TTL. Concurrent misses
+ * are coalesced into a single request to the Connect cluster, and failed requests are not cached.
+ * A catalog missing a class is requested again on demand, at most once per refresh interval.
+ * Each load of a catalog is published, so the results depending on the plugins can be invalidated.
+ */
+@Slf4j
+@Singleton
+public class ConnectPluginCache {
+    public static final String LOADS_METRIC = "ns4kafka.connect.plugins.loads";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String CONNECT_CLUSTER_TAG = "connect-cluster";
+    private static final String RESULT_TAG = "result";
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+
+    private final Map<String, Catalog> catalogs = new ConcurrentHashMap<>();
+
+    @Inject
+    KafkaConnectClient kafkaConnectClient;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    ApplicationEventPublisher<ConnectPluginsRefreshEvent> applicationEventPublisher;
+
+    @Property(name = "ns4kafka.connect.plugins.ttl", defaultValue = "10m")
+    Duration ttl;
+
+    @Property(name = "ns4kafka.connect.plugins.min-refresh-interval", defaultValue = "30s")
+    Duration minRefreshInterval;
+
+    /**
+     * Get the connector plugins of a Connect cluster.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The connector plugins by class name
+     */
+    public Mono<Map<String, ConnectorPluginInfo>> getPlugins(String kafkaCluster, String connectCluster) {
+        return getCatalog(kafkaCluster, connectCluster).plugins();
+    }
+
+    /**
+     * Find a connector plugin of a Connect cluster by class name.
+     * If the class is missing from a catalog older than the refresh interval, the catalog is requested again,
+     * so a plugin installed since the last load is found.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param className      The connector class
+     * @return The connector plugin, or empty if it is not installed
+     */
+    public Mono<ConnectorPluginInfo> findPlugin(String kafkaCluster, String connectCluster, String className) {
+        Catalog catalog = getCatalog(kafkaCluster, connectCluster);
+        return catalog.plugins()
+            .flatMap(plugins -> {
+                if (plugins.containsKey(className)) {
+                    return Mono.just(plugins.get(className));
+                }
+
+                if (System.nanoTime() - catalog.loadedAt().get() < minRefreshInterval.toNanos()) {
+                    return Mono.empty();
+                }
+
+                log.debug("Connector class {} not found on Kafka Connect {} of Kafka cluster {}, refreshing plugins.",
+                    className, connectCluster, kafkaCluster);
+
+                return refresh(kafkaCluster, connectCluster, catalog)
+                    .flatMap(refreshedPlugins -> Mono.justOrEmpty(refreshedPlugins.get(className)));
+            });
+    }
+
+    /**
+     * Request the connector plugins of a Connect cluster again.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The connector plugins by class name
+     */
+    public Mono<Map<String, ConnectorPluginInfo>> refresh(String kafkaCluster, String connectCluster) {
+        return refresh(kafkaCluster, connectCluster, catalogs.get(key(kafkaCluster, connectCluster)));
+    }
+
+    /**
+     * Replace a stale catalog with a new one.
+     * Concurrent refreshes of the same stale catalog share the new one.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param stale          The stale catalog
+     * @return The connector plugins by class name
+     */
+    private Mono<Map<String, ConnectorPluginInfo>> refresh(String kafkaCluster, String connectCluster,
+                                                           Catalog stale) {
+        return catalogs.compute(key(kafkaCluster, connectCluster), (key, current) -> current == null
+                || current == stale ? buildCatalog(kafkaCluster, connectCluster) : current)
+            .plugins();
+    }
+
+    /**
+     * Get the catalog of a Connect cluster, building it on first use.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The catalog
+     */
+    private Catalog getCatalog(String kafkaCluster, String connectCluster) {
+        return catalogs.computeIfAbsent(key(kafkaCluster, connectCluster),
+            key -> buildCatalog(kafkaCluster, connectCluster));
+    }
+
+    /**
+     * Build the catalog of a Connect cluster.
+     * The plugins are requested on first subscription, then replayed to all the subscribers until the TTL expires.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The catalog
+     */
+    private Catalog buildCatalog(String kafkaCluster, String connectCluster) {
+        AtomicLong loadedAt = new AtomicLong(System.nanoTime());
+        Mono<Map<String, ConnectorPluginInfo>> plugins = Mono.defer(() ->
+                kafkaConnectClient.connectPlugins(kafkaCluster, connectCluster))
+            .map(connectorPluginInfos -> connectorPluginInfos
+                .stream()
+                .collect(Collectors.toMap(ConnectorPluginInfo::className, Function.identity(),
+                    (first, second) -> first)))
+            .doOnNext(index -> {
+                loadedAt.set(System.nanoTime());
+                recordLoad(kafkaCluster, connectCluster, SUCCESS);
+                applicationEventPublisher.publishEvent(new ConnectPluginsRefreshEvent(kafkaCluster, connectCluster));
+                log.debug("{} connector plugins loaded from Kafka Connect {} of Kafka cluster {}.", index.size(),
+                    connectCluster, kafkaCluster);
+            })
+            .doOnError(error -> recordLoad(kafkaCluster, connectCluster, FAILURE))
+            .cache(index -> ttl, error -> Duration.ZERO, () -> Duration.ZERO);
+
+        return new Catalog(plugins, loadedAt);
+    }
+
+    /**
+     * Record a request of the plugins of a Connect cluster.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param result         The result of the request
+     */
+    private void recordLoad(String kafkaCluster, String connectCluster, String result) {
+        meterRegistry.counter(LOADS_METRIC, CLUSTER_TAG, kafkaCluster, CONNECT_CLUSTER_TAG, connectCluster,
+            RESULT_TAG, result).increment();
+    }
+
+    private String key(String kafkaCluster, String connectCluster) {
+        return kafkaCluster + "/" + connectCluster;
+    }
+
+    /**
+     * Catalog of the connector plugins of a Connect cluster.
+     *
+     * @param plugins  The cached connector plugins by class name
+     * @param loadedAt The time the plugins have been loaded, in nanoseconds
+     */
+    private record Catalog(Mono<Map<String, ConnectorPluginInfo>> plugins, AtomicLong loadedAt) {
+    }
+}
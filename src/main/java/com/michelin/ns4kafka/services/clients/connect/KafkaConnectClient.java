@@ -1,9 +1,12 @@
 package com.michelin.ns4kafka.services.clients.connect;
 
+import com.michelin.ns4kafka.models.StoreChangeEvent;
 import com.michelin.ns4kafka.models.connect.cluster.ConnectCluster;
+import com.michelin.ns4kafka.properties.HttpClientPoolProperties;
 import com.michelin.ns4kafka.properties.ManagedClusterProperties;
 import com.michelin.ns4kafka.properties.SecurityProperties;
 import com.michelin.ns4kafka.repositories.ConnectClusterRepository;
+import com.michelin.ns4kafka.services.clients.HttpClientPools;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConfigInfos;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorInfo;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorPluginInfo;
@@ -15,50 +18,65 @@ import com.michelin.ns4kafka.utils.EncryptionUtils;
 import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.HttpClient;
-import io.micronaut.http.client.annotation.Client;
+import io.micronaut.runtime.event.annotation.EventListener;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 /**
  * Kafka Connect client.
+ * All the requests to a Connect cluster are sent with its own HTTP client, and go through its circuit breaker.
  */
 @Slf4j
 @Singleton
 public class KafkaConnectClient {
     private static final String CONNECTORS = "/connectors/";
+    private final Map<ConfigKey, KafkaConnectHttpConfig> kafkaConnectConfigs = new ConcurrentHashMap<>();
     @Inject
     ConnectClusterRepository connectClusterRepository;
     @Inject
-    @Client(id = "kafka-connect")
-    private HttpClient httpClient;
+    HttpClientPools httpClientPools;
     @Inject
-    private List<ManagedClusterProperties> managedClusterProperties;
+    List<ManagedClusterProperties> managedClusterProperties;
     @Inject
-    private SecurityProperties securityProperties;
+    SecurityProperties securityProperties;
+    @Inject
+    ConnectCircuitBreaker connectCircuitBreaker;
 
     /**
      * Get the Kafka connect version.
+     * A Connect cluster that does not answer before the timeout fails the request, which counts as a failure in its
+     * circuit breaker.
      *
      * @param kafkaCluster   The Kafka cluster
      * @param connectCluster The Kafka Connect
+     * @param timeout        The timeout
      * @return The version
      */
-    public Mono<HttpResponse<ServerInfo>> version(String kafkaCluster, String connectCluster) {
+    public Mono<HttpResponse<ServerInfo>> version(String kafkaCluster, String connectCluster, Duration timeout) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request = HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), "/")))
-            .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, ServerInfo.class));
+        return send(kafkaCluster, connectCluster, config,
+            httpClient -> httpClient.exchange(config.request(HttpMethod.GET, config.getRootUri()), ServerInfo.class),
+            timeout);
     }
 
     /**
@@ -70,10 +88,9 @@ public class KafkaConnectClient {
      */
     public Mono<Map<String, ConnectorStatus>> listAll(String kafkaCluster, String connectCluster) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request = HttpRequest.GET(
-                URI.create(StringUtils.prependUri(config.getUrl(), "/connectors?expand=info&expand=status")))
-            .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, Argument.mapOf(String.class, ConnectorStatus.class)));
+        return send(kafkaCluster, connectCluster, config, httpClient -> httpClient.retrieve(
+            config.request(HttpMethod.GET, config.getConnectorsUri()),
+            Argument.mapOf(String.class, ConnectorStatus.class)));
     }
 
     /**
@@ -88,12 +105,11 @@ public class KafkaConnectClient {
     public Mono<ConfigInfos> validate(String kafkaCluster, String connectCluster, String connectorClass,
                                       ConnectorSpecs connectorSpecs) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request = HttpRequest.PUT(URI.create(
-                    StringUtils.prependUri(config.getUrl(), "/connector-plugins/"
-                        + connectorClass + "/config/validate")),
-                connectorSpecs)
-            .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, ConfigInfos.class));
+        HttpRequest<?> request = config.request(HttpMethod.PUT,
+                config.uri("/connector-plugins/" + connectorClass + "/config/validate"))
+            .body(connectorSpecs);
+        return send(kafkaCluster, connectCluster, config,
+            httpClient -> httpClient.retrieve(request, ConfigInfos.class));
     }
 
     /**
@@ -108,11 +124,10 @@ public class KafkaConnectClient {
     public Mono<ConnectorInfo> createOrUpdate(String kafkaCluster, String connectCluster, String connector,
                                               ConnectorSpecs connectorSpecs) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request =
-            HttpRequest.PUT(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/config")),
-                    connectorSpecs)
-                .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, ConnectorInfo.class));
+        HttpRequest<?> request = config.request(HttpMethod.PUT, config.uri(CONNECTORS + connector + "/config"))
+            .body(connectorSpecs);
+        return send(kafkaCluster, connectCluster, config,
+            httpClient -> httpClient.retrieve(request, ConnectorInfo.class));
     }
 
     /**
@@ -125,10 +140,8 @@ public class KafkaConnectClient {
      */
     public Mono<HttpResponse<Void>> delete(String kafkaCluster, String connectCluster, String connector) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request =
-            HttpRequest.DELETE(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector)))
-                .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return send(kafkaCluster, connectCluster, config, httpClient -> httpClient.exchange(
+            config.request(HttpMethod.DELETE, config.uri(CONNECTORS + connector)), Void.class));
     }
 
     /**
@@ -140,10 +153,9 @@ public class KafkaConnectClient {
      */
     public Mono<List<ConnectorPluginInfo>> connectPlugins(String kafkaCluster, String connectCluster) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request =
-            HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), "/connector-plugins")))
-                .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, Argument.listOf(ConnectorPluginInfo.class)));
+        return send(kafkaCluster, connectCluster, config, httpClient -> httpClient.retrieve(
+            config.request(HttpMethod.GET, config.getConnectorPluginsUri()),
+            Argument.listOf(ConnectorPluginInfo.class)));
     }
 
     /**
@@ -156,10 +168,23 @@ public class KafkaConnectClient {
      */
     public Mono<ConnectorStateInfo> status(String kafkaCluster, String connectCluster, String connector) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request =
-            HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/status")))
-                .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, ConnectorStateInfo.class));
+        return send(kafkaCluster, connectCluster, config, httpClient -> httpClient.retrieve(
+            config.request(HttpMethod.GET, config.uri(CONNECTORS + connector + "/status")), ConnectorStateInfo.class));
+    }
+
+    /**
+     * Restart a connector and its failed tasks.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param connector      The connector
+     * @return The restart response
+     */
+    public Mono<HttpResponse<Void>> restart(String kafkaCluster, String connectCluster, String connector) {
+        KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
+        return send(kafkaCluster, connectCluster, config, httpClient -> httpClient.exchange(
+            config.request(HttpMethod.POST, config.uri(CONNECTORS + connector
+                + "/restart?includeTasks=true&onlyFailed=true")), Void.class));
     }
 
     /**
@@ -173,11 +198,9 @@ public class KafkaConnectClient {
      */
     public Mono<HttpResponse<Void>> restart(String kafkaCluster, String connectCluster, String connector, int taskId) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request = HttpRequest.POST(URI.create(
-                StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/tasks/"
-                    + taskId + "/restart")), null)
-            .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return send(kafkaCluster, connectCluster, config, httpClient -> httpClient.exchange(
+            config.request(HttpMethod.POST, config.uri(CONNECTORS + connector + "/tasks/" + taskId + "/restart")),
+            Void.class));
     }
 
     /**
@@ -190,11 +213,8 @@ public class KafkaConnectClient {
      */
     public Mono<HttpResponse<Void>> pause(String kafkaCluster, String connectCluster, String connector) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request =
-            HttpRequest.PUT(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/pause")),
-                    null)
-                .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return send(kafkaCluster, connectCluster, config, httpClient -> httpClient.exchange(
+            config.request(HttpMethod.PUT, config.uri(CONNECTORS + connector + "/pause")), Void.class));
     }
 
     /**
@@ -207,21 +227,46 @@ public class KafkaConnectClient {
      */
     public Mono<HttpResponse<Void>> resume(String kafkaCluster, String connectCluster, String connector) {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
-        HttpRequest<?> request =
-            HttpRequest.PUT(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/resume")),
-                    null)
-                .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return send(kafkaCluster, connectCluster, config, httpClient -> httpClient.exchange(
+            config.request(HttpMethod.PUT, config.uri(CONNECTORS + connector + "/resume")), Void.class));
     }
 
     /**
      * Get the Kafka Connect configuration.
+     * The resolved configuration is cached, with the password decrypted, until the Connect cluster changes.
      *
      * @param kafkaCluster   The Kafka cluster
      * @param connectCluster The Kafka Connect
      * @return The Kafka Connect configuration
      */
     public KafkaConnectClient.KafkaConnectHttpConfig getKafkaConnectConfig(String kafkaCluster, String connectCluster) {
+        return kafkaConnectConfigs.computeIfAbsent(new ConfigKey(kafkaCluster, connectCluster),
+            key -> resolveKafkaConnectConfig(kafkaCluster, connectCluster));
+    }
+
+    /**
+     * Evict the configuration and the HTTP client of the Connect clusters changed in the stores.
+     *
+     * @param event The store change event
+     */
+    @EventListener
+    public void onStoreChange(StoreChangeEvent event) {
+        if (event.getResource() instanceof ConnectCluster connectCluster) {
+            kafkaConnectConfigs.keySet()
+                .removeIf(key -> key.connectCluster().equals(connectCluster.getMetadata().getName()));
+            httpClientPools.evict(HttpClientPoolProperties.KAFKA_CONNECT, connectCluster.getMetadata().getName());
+        }
+    }
+
+    /**
+     * Resolve the Kafka Connect configuration.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The Kafka Connect configuration
+     */
+    private KafkaConnectClient.KafkaConnectHttpConfig resolveKafkaConnectConfig(String kafkaCluster,
+                                                                                String connectCluster) {
         Optional<ManagedClusterProperties> config = managedClusterProperties.stream()
             .filter(kafkaAsyncExecutorConfig -> kafkaAsyncExecutorConfig.getName().equals(kafkaCluster))
             .findFirst();
@@ -257,14 +302,101 @@ public class KafkaConnectClient {
             .build();
     }
 
+    /**
+     * Send a request to a Connect cluster with its own HTTP client, through its circuit breaker.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param config         The Kafka Connect configuration
+     * @param request        The request
+     * @param <T>            The type of the response
+     * @return The response
+     */
+    private <T> Mono<T> send(String kafkaCluster, String connectCluster, KafkaConnectHttpConfig config,
+                             Function<HttpClient, Publisher<T>> request) {
+        return connectCircuitBreaker.protect(kafkaCluster, connectCluster, httpClientPools.send(
+            HttpClientPools.Endpoint.kafkaConnect(kafkaCluster, connectCluster), config.getUrl(), request));
+    }
+
+    /**
+     * Send a request to a Connect cluster with its own HTTP client, through its circuit breaker, with a timeout.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param config         The Kafka Connect configuration
+     * @param request        The request
+     * @param timeout        The timeout
+     * @param <T>            The type of the response
+     * @return The response
+     */
+    private <T> Mono<T> send(String kafkaCluster, String connectCluster, KafkaConnectHttpConfig config,
+                             Function<HttpClient, Publisher<T>> request, Duration timeout) {
+        return connectCircuitBreaker.protect(kafkaCluster, connectCluster, httpClientPools.send(
+            HttpClientPools.Endpoint.kafkaConnect(kafkaCluster, connectCluster), config.getUrl(), request), timeout);
+    }
+
+    /**
+     * Key of a Kafka Connect configuration.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     */
+    private record ConfigKey(String kafkaCluster, String connectCluster) {
+    }
+
     /**
      * Kafka Connect HTTP configuration.
+     * The URIs of the fixed endpoints and the authorization header are built once, and shared by all the requests.
      */
     @Getter
-    @Builder
     public static class KafkaConnectHttpConfig {
-        private String url;
-        private String username;
-        private String password;
+        private final String url;
+        private final String username;
+        private final String password;
+        private final String authorization;
+        private final URI rootUri;
+        private final URI connectorsUri;
+        private final URI connectorPluginsUri;
+
+        /**
+         * Constructor.
+         *
+         * @param url      The URL
+         * @param username The basic authentication username
+         * @param password The basic authentication password
+         */
+        @Builder
+        public KafkaConnectHttpConfig(String url, String username, String password) {
+            this.url = url;
+            this.username = username;
+            this.password = password;
+            this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.ISO_8859_1));
+            this.rootUri = uri("/");
+            this.connectorsUri = uri("/connectors?expand=info&expand=status");
+            this.connectorPluginsUri = uri("/connector-plugins");
+        }
+
+        /**
+         * Build the URI of a path of the Kafka Connect.
+         *
+         * @param path The path
+         * @return The URI
+         */
+        public URI uri(String path) {
+            return URI.create(StringUtils.prependUri(url, path));
+        }
+
+        /**
+         * Build an authenticated request to the Kafka Connect.
+         *
+         * @param method The HTTP method
+         * @param uri    The URI
+         * @return The request
+         */
+        public MutableHttpRequest<Object> request(HttpMethod method, URI uri) {
+            return HttpRequest.create(method, uri.toString())
+                .header(HttpHeaders.AUTHORIZATION, authorization);
+        }
     }
 }
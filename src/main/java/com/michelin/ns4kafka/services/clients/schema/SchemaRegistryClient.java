@@ -1,6 +1,7 @@
 package com.michelin.ns4kafka.services.clients.schema;
 
 import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import com.michelin.ns4kafka.services.clients.HttpClientPools;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaCompatibilityCheckResponse;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaCompatibilityRequest;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaCompatibilityResponse;
@@ -17,7 +18,6 @@ import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.HttpClient;
-import io.micronaut.http.client.annotation.Client;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -25,7 +25,9 @@ import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -39,8 +41,7 @@ public class SchemaRegistryClient {
     private static final String CONFIG = "/config/";
 
     @Inject
-    @Client(id = "schema-registry")
-    private HttpClient httpClient;
+    private HttpClientPools httpClientPools;
 
     @Inject
     private List<ManagedClusterProperties> managedClusterProperties;
@@ -55,7 +56,8 @@ public class SchemaRegistryClient {
         ManagedClusterProperties.SchemaRegistryProperties config = getSchemaRegistry(kafkaCluster);
         HttpRequest<?> request = HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), "/subjects")))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Flux.from(httpClient.retrieve(request, String[].class)).flatMap(Flux::fromArray);
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, String[].class))
+            .flatMapMany(Flux::fromArray);
     }
 
     /**
@@ -71,7 +73,7 @@ public class SchemaRegistryClient {
         HttpRequest<?> request = HttpRequest.GET(
                 URI.create(StringUtils.prependUri(config.getUrl(), SUBJECTS + subject + "/versions/" + version)))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, SchemaResponse.class))
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, SchemaResponse.class))
             .onErrorResume(HttpClientResponseException.class,
                 ex -> ex.getStatus().equals(HttpStatus.NOT_FOUND) ? Mono.empty() : Mono.error(ex));
     }
@@ -89,14 +91,15 @@ public class SchemaRegistryClient {
                 URI.create(StringUtils.prependUri(config.getUrl(), SUBJECTS + subject + "/versions")))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
 
-        return Flux.from(httpClient.retrieve(request, Integer[].class))
-            .flatMap(ids -> Flux.fromIterable(Arrays.asList(ids))
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, Integer[].class))
+            .flatMapMany(ids -> Flux.fromIterable(Arrays.asList(ids))
                 .flatMap(id -> {
                     HttpRequest<?> requestVersion = HttpRequest.GET(
                             URI.create(StringUtils.prependUri(config.getUrl(), SUBJECTS + subject + "/versions/" + id)))
                         .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
 
-                    return httpClient.retrieve(requestVersion, SchemaResponse.class);
+                    return send(kafkaCluster, config,
+                        httpClient -> httpClient.retrieve(requestVersion, SchemaResponse.class));
                 }))
             .onErrorResume(HttpClientResponseException.class,
                 ex -> ex.getStatus().equals(HttpStatus.NOT_FOUND) ? Flux.empty() : Flux.error(ex));
@@ -116,7 +119,7 @@ public class SchemaRegistryClient {
             HttpRequest.POST(URI.create(StringUtils.prependUri(config.getUrl(), SUBJECTS + subject + "/versions")),
                     body)
                 .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, SchemaResponse.class));
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, SchemaResponse.class));
     }
 
     /**
@@ -132,7 +135,7 @@ public class SchemaRegistryClient {
         MutableHttpRequest<?> request = HttpRequest.DELETE(
                 URI.create(StringUtils.prependUri(config.getUrl(), SUBJECTS + subject + "?permanent=" + hardDelete)))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, Integer[].class));
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, Integer[].class));
     }
 
     /**
@@ -151,7 +154,8 @@ public class SchemaRegistryClient {
                         + "/versions?verbose=true")),
                 body)
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, SchemaCompatibilityCheckResponse.class))
+        return send(kafkaCluster, config,
+            httpClient -> httpClient.retrieve(request, SchemaCompatibilityCheckResponse.class))
             .onErrorResume(HttpClientResponseException.class,
                 ex -> ex.getStatus().equals(HttpStatus.NOT_FOUND) ? Mono.empty() : Mono.error(ex));
     }
@@ -170,7 +174,8 @@ public class SchemaRegistryClient {
         HttpRequest<?> request =
             HttpRequest.PUT(URI.create(StringUtils.prependUri(config.getUrl(), CONFIG + subject)), body)
                 .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, SchemaCompatibilityResponse.class));
+        return send(kafkaCluster, config,
+            httpClient -> httpClient.retrieve(request, SchemaCompatibilityResponse.class));
     }
 
     /**
@@ -184,7 +189,7 @@ public class SchemaRegistryClient {
         ManagedClusterProperties.SchemaRegistryProperties config = getSchemaRegistry(kafkaCluster);
         HttpRequest<?> request = HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), CONFIG + subject)))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, SchemaCompatibilityResponse.class))
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, SchemaCompatibilityResponse.class))
             .onErrorResume(HttpClientResponseException.class,
                 ex -> ex.getStatus().equals(HttpStatus.NOT_FOUND) ? Mono.empty() : Mono.error(ex));
     }
@@ -201,7 +206,8 @@ public class SchemaRegistryClient {
         MutableHttpRequest<?> request =
             HttpRequest.DELETE(URI.create(StringUtils.prependUri(config.getUrl(), CONFIG + subject)))
                 .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, SchemaCompatibilityResponse.class));
+        return send(kafkaCluster, config,
+            httpClient -> httpClient.retrieve(request, SchemaCompatibilityResponse.class));
     }
 
     /**
@@ -216,7 +222,7 @@ public class SchemaRegistryClient {
             .GET(URI.create(StringUtils.prependUri(
                 config.getUrl(), "/catalog/v1/types/tagdefs")))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, Argument.listOf(TagInfo.class)));
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, Argument.listOf(TagInfo.class)));
     }
 
 
@@ -232,7 +238,7 @@ public class SchemaRegistryClient {
             .GET(URI.create(StringUtils.prependUri(
                 config.getUrl(), "/catalog/v1/search/basic?type=kafka_topic&tag=*")))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, TagEntities.class));
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, TagEntities.class));
     }
 
     /**
@@ -249,7 +255,8 @@ public class SchemaRegistryClient {
                 config.getUrl(),
                 "/catalog/v1/entity/tags")), tagSpecs)
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, Argument.listOf(TagTopicInfo.class)));
+        return send(kafkaCluster, config,
+            httpClient -> httpClient.retrieve(request, Argument.listOf(TagTopicInfo.class)));
     }
 
     /**
@@ -264,7 +271,7 @@ public class SchemaRegistryClient {
         HttpRequest<?> request = HttpRequest.POST(URI.create(StringUtils.prependUri(
                 config.getUrl(), "/catalog/v1/types/tagdefs")), tags)
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, Argument.listOf(TagInfo.class)));
+        return send(kafkaCluster, config, httpClient -> httpClient.retrieve(request, Argument.listOf(TagInfo.class)));
     }
 
     /**
@@ -282,7 +289,21 @@ public class SchemaRegistryClient {
                 config.getUrl(),
                 "/catalog/v1/entity/type/kafka_topic/name/" + entityName + "/tags/" + tagName)))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return send(kafkaCluster, config, httpClient -> httpClient.exchange(request, Void.class));
+    }
+
+    /**
+     * Send a request to the schema registry of the given Kafka cluster with its own HTTP client.
+     *
+     * @param kafkaCluster The Kafka cluster
+     * @param config       The schema registry configuration
+     * @param request      The request
+     * @param <T>          The type of the response
+     * @return The response
+     */
+    private <T> Mono<T> send(String kafkaCluster, ManagedClusterProperties.SchemaRegistryProperties config,
+                             Function<HttpClient, Publisher<T>> request) {
+        return httpClientPools.send(HttpClientPools.Endpoint.schemaRegistry(kafkaCluster), config.getUrl(), request);
     }
 
     /**
@@ -0,0 +1,214 @@
+package com.michelin.ns4kafka.services.clients.schema;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of the subjects of the Schema Registries, by Kafka cluster.
+ * The subjects of a Schema Registry are requested on first use, then refreshed in the background and shared by
+ * all the requests. Concurrent misses are coalesced into a single request to the Schema Registry, and failed
+ * requests are not cached. A Schema Registry whose subjects are not read anymore is not refreshed.
+ * The cache is local to each replica, so the subject lists are eventually consistent. The subjects registered or
+ * deleted through Ns4Kafka are applied immediately by the replica that handled the request, including to a refresh
+ * in progress, while the other replicas only see them at their next refresh.
+ */
+@Slf4j
+@Singleton
+public class SchemaSubjectCache {
+    public static final String LOADS_METRIC = "ns4kafka.schema.subjects.loads";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String RESULT_TAG = "result";
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+
+    private final Map<String, Subjects> subjects = new ConcurrentHashMap<>();
+
+    @Inject
+    SchemaRegistryClient schemaRegistryClient;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Property(name = "ns4kafka.schema.subjects.expire-after-access", defaultValue = "30m")
+    Duration expireAfterAccess;
+
+    /**
+     * Get the subjects of the Schema Registry of a Kafka cluster.
+     *
+     * @param kafkaCluster The Kafka cluster
+     * @return The subjects
+     */
+    public Mono<Set<String>> getSubjects(String kafkaCluster) {
+        Subjects cached = subjects.computeIfAbsent(kafkaCluster, Subjects::new);
+        cached.accessedAt = System.nanoTime();
+        return cached.get();
+    }
+
+    /**
+     * Add a subject registered through Ns4Kafka.
+     *
+     * @param kafkaCluster The Kafka cluster
+     * @param subject      The subject
+     */
+    public void onRegister(String kafkaCluster, String subject) {
+        update(kafkaCluster, subject, true);
+    }
+
+    /**
+     * Remove a subject deleted through Ns4Kafka.
+     *
+     * @param kafkaCluster The Kafka cluster
+     * @param subject      The subject
+     */
+    public void onDelete(String kafkaCluster, String subject) {
+        update(kafkaCluster, subject, false);
+    }
+
+    /**
+     * Refresh the subjects of the Schema Registries read recently, and drop the ones not read since the expiry.
+     */
+    @Scheduled(initialDelay = "${ns4kafka.schema.subjects.refresh-interval:1m}",
+        fixedDelay = "${ns4kafka.schema.subjects.refresh-interval:1m}")
+    public void refresh() {
+        long now = System.nanoTime();
+        subjects.values().removeIf(cached -> now - cached.accessedAt > expireAfterAccess.toNanos());
+        subjects.values().forEach(cached -> cached.load.subscribe(loaded -> { },
+            error -> log.warn("Error refreshing the subjects of the Schema Registry of Kafka cluster {}: {}",
+                cached.kafkaCluster, error.getMessage())));
+    }
+
+    /**
+     * Apply a subject registered or deleted through Ns4Kafka to the cached subjects.
+     *
+     * @param kafkaCluster The Kafka cluster
+     * @param subject      The subject
+     * @param registered   true if the subject has been registered, false if it has been deleted
+     */
+    private void update(String kafkaCluster, String subject, boolean registered) {
+        Subjects cached = subjects.get(kafkaCluster);
+        if (cached != null) {
+            cached.update(subject, registered, System.nanoTime());
+        }
+    }
+
+    /**
+     * Record a request of the subjects of a Schema Registry.
+     *
+     * @param kafkaCluster The Kafka cluster
+     * @param result       The result of the request
+     */
+    private void recordLoad(String kafkaCluster, String result) {
+        meterRegistry.counter(LOADS_METRIC, CLUSTER_TAG, kafkaCluster, RESULT_TAG, result).increment();
+    }
+
+    /**
+     * Change of a subject made through Ns4Kafka.
+     *
+     * @param registered true if the subject has been registered, false if it has been deleted
+     * @param changedAt  The time of the change, in nanoseconds
+     */
+    private record Change(boolean registered, long changedAt) {
+    }
+
+    /**
+     * Subjects of the Schema Registry of a Kafka cluster.
+     */
+    private class Subjects {
+        private final String kafkaCluster;
+        private final Map<String, Change> changes = new HashMap<>();
+        private final Mono<Set<String>> load;
+        private volatile Set<String> names;
+        private volatile long accessedAt = System.nanoTime();
+
+        /**
+         * Constructor.
+         * The subjects are requested on subscription to the load. The subscribers of a load in progress share it,
+         * and a completed load is not replayed, so each refresh requests the Schema Registry again.
+         *
+         * @param kafkaCluster The Kafka cluster
+         */
+        Subjects(String kafkaCluster) {
+            this.kafkaCluster = kafkaCluster;
+            this.load = Mono.defer(this::fetch)
+                .doOnNext(loaded -> {
+                    recordLoad(kafkaCluster, SUCCESS);
+                    log.debug("{} subjects loaded from the Schema Registry of Kafka cluster {}.", loaded.size(),
+                        kafkaCluster);
+                })
+                .doOnError(error -> recordLoad(kafkaCluster, FAILURE))
+                .cache(loaded -> Duration.ZERO, error -> Duration.ZERO, () -> Duration.ZERO);
+        }
+
+        /**
+         * Request the subjects to the Schema Registry.
+         *
+         * @return The subjects
+         */
+        private Mono<Set<String>> fetch() {
+            long startedAt = System.nanoTime();
+            return schemaRegistryClient.getSubjects(kafkaCluster)
+                .collect(Collectors.toCollection(ConcurrentHashMap::<String>newKeySet))
+                .map(loaded -> replace(loaded, startedAt));
+        }
+
+        /**
+         * Get the subjects, loading them if they have never been loaded.
+         *
+         * @return The subjects
+         */
+        Mono<Set<String>> get() {
+            Set<String> current = names;
+            return current != null ? Mono.just(Collections.unmodifiableSet(current)) : load;
+        }
+
+        /**
+         * Replace the subjects with the loaded ones.
+         * The changes made since the load started may be missing from the loaded subjects, so they are applied
+         * again. The older ones are already in the loaded subjects, and are forgotten.
+         *
+         * @param loaded    The loaded subjects
+         * @param startedAt The time the load started, in nanoseconds
+         * @return The subjects
+         */
+        synchronized Set<String> replace(Set<String> loaded, long startedAt) {
+            changes.values().removeIf(change -> change.changedAt() - startedAt < 0);
+            changes.forEach((subject, change) -> apply(loaded, subject, change.registered()));
+            names = loaded;
+            return Collections.unmodifiableSet(loaded);
+        }
+
+        /**
+         * Apply a change made through Ns4Kafka.
+         *
+         * @param subject    The subject
+         * @param registered true if the subject has been registered, false if it has been deleted
+         * @param changedAt  The time of the change, in nanoseconds
+         */
+        synchronized void update(String subject, boolean registered, long changedAt) {
+            changes.put(subject, new Change(registered, changedAt));
+            if (names != null) {
+                apply(names, subject, registered);
+            }
+        }
+
+        private void apply(Set<String> target, String subject, boolean registered) {
+            if (registered) {
+                target.add(subject);
+            } else {
+                target.remove(subject);
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.michelin.ns4kafka.services.AccessControlEntryService;
 import com.michelin.ns4kafka.services.ConnectorService;
 import com.michelin.ns4kafka.services.StreamService;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,9 +24,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Stream;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -42,7 +43,6 @@ import org.apache.kafka.common.resource.ResourceType;
 @Slf4j
 @EachBean(ManagedClusterProperties.class)
 @Singleton
-@AllArgsConstructor
 public class AccessControlEntryAsyncExecutor {
     private static final String USER_PRINCIPAL = "User:";
 
@@ -56,19 +56,54 @@ public class AccessControlEntryAsyncExecutor {
 
     private NamespaceRepository namespaceRepository;
 
+    private ManagedAdminClient managedAdminClient;
+
+    private AdminRequestCoalescer adminRequestCoalescer;
+
+    /**
+     * Constructor.
+     *
+     * @param managedClusterProperties  The managed cluster properties
+     * @param accessControlEntryService The access control entry service
+     * @param streamService             The stream service
+     * @param connectorService          The connector service
+     * @param namespaceRepository       The namespace repository
+     * @param managedAdminClient        The managed admin client of the same cluster
+     * @param adminRequestCoalescer     The admin request coalescer of the same cluster
+     */
+    public AccessControlEntryAsyncExecutor(ManagedClusterProperties managedClusterProperties,
+                                           AccessControlEntryService accessControlEntryService,
+                                           StreamService streamService, ConnectorService connectorService,
+                                           NamespaceRepository namespaceRepository,
+                                           @Parameter ManagedAdminClient managedAdminClient,
+                                           @Parameter AdminRequestCoalescer adminRequestCoalescer) {
+        this.managedClusterProperties = managedClusterProperties;
+        this.accessControlEntryService = accessControlEntryService;
+        this.streamService = streamService;
+        this.connectorService = connectorService;
+        this.namespaceRepository = namespaceRepository;
+        this.managedAdminClient = managedAdminClient;
+        this.adminRequestCoalescer = adminRequestCoalescer;
+    }
+
     /**
      * Run the ACLs synchronization.
+     *
+     * @return true if a drift has been found between Ns4Kafka and the broker, false otherwise
      */
-    public void run() {
+    public synchronized boolean run() {
         if (this.managedClusterProperties.isManageAcls()) {
-            synchronizeAcls();
+            return synchronizeAcls();
         }
+        return false;
     }
 
     /**
      * Start the ACLs synchronization.
+     *
+     * @return true if a drift has been found between Ns4Kafka and the broker, false otherwise
      */
-    private void synchronizeAcls() {
+    private boolean synchronizeAcls() {
         log.debug("Starting ACL collection for cluster {}", managedClusterProperties.getName());
 
         try {
@@ -106,12 +141,15 @@ public class AccessControlEntryAsyncExecutor {
             if (managedClusterProperties.isDropUnsyncAcls()) {
                 deleteAcls(toDelete);
             }
+
+            return !toCreate.isEmpty() || (managedClusterProperties.isDropUnsyncAcls() && !toDelete.isEmpty());
         } catch (KafkaStoreException | ExecutionException | TimeoutException e) {
             log.error("An error occurred collecting ACLs from broker during ACLs synchronization", e);
         } catch (InterruptedException e) {
             log.error("An error occurred during ACLs synchronization", e);
             Thread.currentThread().interrupt();
         }
+        return false;
     }
 
     /**
@@ -189,9 +227,7 @@ public class AccessControlEntryAsyncExecutor {
             null, AclOperation.ANY, AclPermissionType.ANY);
         AclBindingFilter aclBindingFilter = new AclBindingFilter(ResourcePatternFilter.ANY, accessControlEntryFilter);
 
-        List<AclBinding> userAcls = getAdminClient()
-            .describeAcls(aclBindingFilter)
-            .values().get(10, TimeUnit.SECONDS)
+        List<AclBinding> userAcls = adminRequestCoalescer.describeAcls(aclBindingFilter, 10000)
             .stream()
             .filter(aclBinding -> validResourceTypes.contains(aclBinding.pattern().resourceType()))
             .toList();
@@ -340,10 +376,11 @@ public class AccessControlEntryAsyncExecutor {
      * @param toDelete The list of ACLs to delete
      */
     private void deleteAcls(List<AclBinding> toDelete) {
-        getAdminClient()
-            .deleteAcls(toDelete.stream()
-                .map(AclBinding::toFilter)
-                .toList())
+        managedAdminClient.call("deleteAcls",
+                admin -> admin.deleteAcls(toDelete.stream()
+                    .map(AclBinding::toFilter)
+                    .toList()),
+                DeleteAclsResult::all)
             .values().forEach((key, value) -> {
                 try {
                     value.get(10, TimeUnit.SECONDS);
@@ -403,7 +440,7 @@ public class AccessControlEntryAsyncExecutor {
      * @param toCreate The list of ACLs to create
      */
     private void createAcls(List<AclBinding> toCreate) {
-        getAdminClient().createAcls(toCreate)
+        managedAdminClient.call("createAcls", admin -> admin.createAcls(toCreate), CreateAclsResult::all)
             .values()
             .forEach((key, value) -> {
                 try {
@@ -418,13 +455,4 @@ public class AccessControlEntryAsyncExecutor {
                 }
             });
     }
-
-    /**
-     * Getter for admin client service.
-     *
-     * @return The admin client
-     */
-    private Admin getAdminClient() {
-        return managedClusterProperties.getAdminClient();
-    }
 }
@@ -0,0 +1,198 @@
+package com.michelin.ns4kafka.services.executors;
+
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+
+/**
+ * Single-flight layer around the admin client of a cluster.
+ * Identical concurrent read requests share the same in-flight request, and its result is reused
+ * by the identical requests sent within the staleness tolerance after its completion.
+ */
+@Slf4j
+@EachBean(ManagedClusterProperties.class)
+@Singleton
+public class AdminRequestCoalescer {
+    public static final String REQUESTS_METRIC = "ns4kafka.admin.coalesced.requests";
+    public static final String SENT = "sent";
+    public static final String COALESCED = "coalesced";
+    public static final String REUSED = "reused";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String OPERATION_TAG = "operation";
+    private static final String RESULT_TAG = "result";
+
+    private final ManagedClusterProperties managedClusterProperties;
+
+    private final ManagedAdminClient managedAdminClient;
+
+    private final Map<RequestKey, Request<?>> requests = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Property(name = "ns4kafka.admin.coalescing.staleness", defaultValue = "0s")
+    Duration staleness;
+
+    /**
+     * Constructor.
+     *
+     * @param managedClusterProperties The managed cluster properties
+     * @param managedAdminClient       The managed admin client of the same cluster
+     */
+    public AdminRequestCoalescer(ManagedClusterProperties managedClusterProperties,
+                                 @Parameter ManagedAdminClient managedAdminClient) {
+        this.managedClusterProperties = managedClusterProperties;
+        this.managedAdminClient = managedAdminClient;
+    }
+
+    /**
+     * List the topics of the cluster.
+     *
+     * @param timeout The timeout, in milliseconds
+     * @return The topic listings
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public Collection<TopicListing> listTopics(long timeout)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        return execute("listTopics", null, admin -> admin.listTopics().listings(), timeout);
+    }
+
+    /**
+     * Describe the ACLs of the cluster matching a filter.
+     *
+     * @param filter  The ACL binding filter
+     * @param timeout The timeout, in milliseconds
+     * @return The ACL bindings
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public Collection<AclBinding> describeAcls(AclBindingFilter filter, long timeout)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        return execute("describeAcls", filter, admin -> admin.describeAcls(filter).values(), timeout);
+    }
+
+    /**
+     * Execute a read request, or join the identical one in flight or completed within the staleness tolerance.
+     *
+     * @param operation The admin operation
+     * @param argument  The argument of the operation, identifying identical requests along with the operation
+     * @param request   The request to send if no identical one can be shared
+     * @param timeout   The timeout, in milliseconds
+     * @param <T>       The type of the result
+     * @return The result of the request
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object argument, Function<Admin, KafkaFuture<T>> request, long timeout)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        RequestKey key = new RequestKey(operation, argument);
+        Request<T> candidate = new Request<>(new CompletableFuture<>());
+        Request<T> actual = (Request<T>) requests.compute(key, (k, existing) ->
+            existing != null && isShareable(existing) ? existing : candidate);
+
+        if (actual != candidate) {
+            record(operation, actual.future().isDone() ? REUSED : COALESCED);
+            return actual.future().get(timeout, TimeUnit.MILLISECONDS);
+        }
+
+        record(operation, SENT);
+        try {
+            managedAdminClient.call(operation, request)
+                .whenComplete((result, error) -> {
+                    candidate.completedAt = System.nanoTime();
+                    if (error != null) {
+                        requests.remove(key, candidate);
+                        candidate.future().completeExceptionally(error);
+                    } else {
+                        if (staleness.isZero()) {
+                            requests.remove(key, candidate);
+                        }
+                        candidate.future().complete(result);
+                    }
+                });
+        } catch (RuntimeException e) {
+            requests.remove(key, candidate);
+            candidate.future().completeExceptionally(e);
+        }
+
+        return candidate.future().get(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Check if a request can be shared, i.e. it is in flight or it has succeeded within the staleness tolerance.
+     *
+     * @param request The request
+     * @return true if it can, false otherwise
+     */
+    private boolean isShareable(Request<?> request) {
+        if (!request.future().isDone()) {
+            return true;
+        }
+
+        return !request.future().isCompletedExceptionally()
+            && System.nanoTime() - request.completedAt < staleness.toNanos();
+    }
+
+    /**
+     * Record a request.
+     *
+     * @param operation The admin operation
+     * @param result    Whether the request has been sent, coalesced with an in-flight one or reused
+     */
+    private void record(String operation, String result) {
+        meterRegistry.counter(REQUESTS_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            OPERATION_TAG, operation, RESULT_TAG, result).increment();
+    }
+
+    /**
+     * Identifier of identical requests.
+     *
+     * @param operation The admin operation
+     * @param argument  The argument of the operation
+     */
+    private record RequestKey(String operation, Object argument) {
+    }
+
+    /**
+     * Request shared between identical requests.
+     *
+     * @param <T> The type of the result
+     */
+    private static final class Request<T> {
+        private final CompletableFuture<T> future;
+
+        private volatile long completedAt;
+
+        Request(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        CompletableFuture<T> future() {
+            return future;
+        }
+    }
+}
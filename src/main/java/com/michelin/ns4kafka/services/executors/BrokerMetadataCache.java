@@ -0,0 +1,470 @@
+package com.michelin.ns4kafka.services.executors;
+
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.Topic;
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.event.ApplicationEventListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+
+/**
+ * Broker metadata cache of a cluster.
+ * It holds the topic names, and the partitions, replication factor and dynamic configs of the topics.
+ * The entries expire after a TTL, and the topics changed in the stores are evicted so they are described
+ * again before being reconciled. Concurrent misses are coalesced into a single broker request.
+ */
+@Slf4j
+@EachBean(ManagedClusterProperties.class)
+@Singleton
+public class BrokerMetadataCache implements ApplicationEventListener<StoreChangeEvent> {
+    public static final String REQUESTS_METRIC = "ns4kafka.metadata.cache.requests";
+    public static final String HIT_RATIO_METRIC = "ns4kafka.metadata.cache.hit.ratio";
+    public static final String NAMES_CACHE = "names";
+    public static final String TOPICS_CACHE = "topics";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String CACHE_TAG = "cache";
+    private static final String RESULT_TAG = "result";
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+    private static final String COALESCED = "coalesced";
+
+    private final ManagedClusterProperties managedClusterProperties;
+
+    private final ManagedAdminClient managedAdminClient;
+
+    private final AdminRequestCoalescer adminRequestCoalescer;
+
+    private final Map<String, Set<String>> topicNamesByNormalizedName = new ConcurrentHashMap<>();
+
+    private final Map<String, CacheEntry<TopicMetadata>> topics = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Optional<TopicMetadata>>> inFlightTopics = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong requests = new AtomicLong();
+
+    private volatile long topicNamesLoadedAt = -1;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Property(name = "ns4kafka.metadata-cache.ttl", defaultValue = "30s")
+    Duration ttl;
+
+    /**
+     * Constructor.
+     *
+     * @param managedClusterProperties The managed cluster properties
+     * @param managedAdminClient       The managed admin client of the same cluster
+     * @param adminRequestCoalescer    The admin request coalescer of the same cluster
+     */
+    public BrokerMetadataCache(ManagedClusterProperties managedClusterProperties,
+                               @Parameter ManagedAdminClient managedAdminClient,
+                               @Parameter AdminRequestCoalescer adminRequestCoalescer) {
+        this.managedClusterProperties = managedClusterProperties;
+        this.managedAdminClient = managedAdminClient;
+        this.adminRequestCoalescer = adminRequestCoalescer;
+    }
+
+    /**
+     * Register the hit ratio of the cache as a gauge.
+     */
+    @PostConstruct
+    public void registerHitRatio() {
+        Gauge.builder(HIT_RATIO_METRIC, this, cache -> cache.requests.get() == 0
+                ? 0 : (double) cache.hits.get() / cache.requests.get())
+            .tag(CLUSTER_TAG, managedClusterProperties.getName())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Evict the topics changed in the stores, so they are described again before being reconciled.
+     *
+     * @param event The store change event
+     */
+    @Override
+    public void onApplicationEvent(StoreChangeEvent event) {
+        if (event.getResource() instanceof Topic topic
+            && managedClusterProperties.getName().equals(topic.getMetadata().getCluster())) {
+            topics.remove(topic.getMetadata().getName());
+        }
+    }
+
+    /**
+     * Get the topic names on broker, listed again if they have expired.
+     *
+     * @return The topic names
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public Set<String> getTopicNames() throws InterruptedException, ExecutionException, TimeoutException {
+        if (isFresh(topicNamesLoadedAt)) {
+            record(NAMES_CACHE, HIT);
+            return getIndexedTopicNames();
+        }
+
+        return refreshTopicNames();
+    }
+
+    /**
+     * List the topic names on broker again, whether they have expired or not.
+     * A listing already in flight is shared through the admin request coalescer.
+     *
+     * @return The topic names
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public Set<String> refreshTopicNames() throws InterruptedException, ExecutionException, TimeoutException {
+        record(NAMES_CACHE, MISS);
+
+        long loadedAt = System.nanoTime();
+        Set<String> topicNames = adminRequestCoalescer.listTopics(30000)
+            .stream()
+            .map(TopicListing::name)
+            .collect(Collectors.toSet());
+
+        indexTopicNames(topicNames);
+        topicNamesLoadedAt = loadedAt;
+        return topicNames;
+    }
+
+    /**
+     * List the topic names on broker that collide with the given topic name,
+     * i.e. that are equal once periods are replaced by underscores.
+     *
+     * @param topicName The topic name
+     * @return The colliding topic names, including the given topic name if it exists on broker
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public List<String> findCollidingTopicNames(String topicName)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        getTopicNames();
+        Set<String> collidingTopicNames = topicNamesByNormalizedName.get(normalizeTopicName(topicName));
+        return collidingTopicNames == null ? List.of() : List.copyOf(collidingTopicNames);
+    }
+
+    /**
+     * Check if a topic exists on broker.
+     *
+     * @param topicName The topic name
+     * @return true if it does, false otherwise
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public boolean containsTopic(String topicName) throws InterruptedException, ExecutionException, TimeoutException {
+        getTopicNames();
+        return topicNamesByNormalizedName
+            .getOrDefault(normalizeTopicName(topicName), Set.of())
+            .contains(topicName);
+    }
+
+    /**
+     * Get the metadata of the given topics, described again if they have expired.
+     * The topics that do not exist on broker are absent from the result.
+     *
+     * @param topicNames The topic names
+     * @return The metadata by topic name
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public Map<String, TopicMetadata> getTopics(Collection<String> topicNames)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        Map<String, TopicMetadata> result = new HashMap<>();
+        List<String> staleTopicNames = new ArrayList<>();
+
+        topicNames.forEach(topicName -> {
+            CacheEntry<TopicMetadata> entry = topics.get(topicName);
+            if (entry != null && isFresh(entry.loadedAt())) {
+                record(TOPICS_CACHE, HIT);
+                result.put(topicName, entry.value());
+            } else {
+                staleTopicNames.add(topicName);
+            }
+        });
+
+        if (!staleTopicNames.isEmpty()) {
+            result.putAll(refreshTopics(staleTopicNames));
+        }
+
+        return result;
+    }
+
+    /**
+     * Describe the given topics on broker again, whether they have expired or not.
+     * The descriptions already in flight are shared, the other topics are described in a single request.
+     * The topics that do not exist on broker are absent from the result.
+     *
+     * @param topicNames The topic names
+     * @return The metadata by topic name
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public Map<String, TopicMetadata> refreshTopics(Collection<String> topicNames)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        Map<String, CompletableFuture<Optional<TopicMetadata>>> futures = new HashMap<>();
+        Map<String, CompletableFuture<Optional<TopicMetadata>>> ownedFutures = new HashMap<>();
+
+        topicNames.forEach(topicName -> {
+            CompletableFuture<Optional<TopicMetadata>> future = new CompletableFuture<>();
+            CompletableFuture<Optional<TopicMetadata>> inFlight = inFlightTopics.putIfAbsent(topicName, future);
+            if (inFlight != null) {
+                record(TOPICS_CACHE, COALESCED);
+                futures.put(topicName, inFlight);
+            } else {
+                record(TOPICS_CACHE, MISS);
+                futures.put(topicName, future);
+                ownedFutures.put(topicName, future);
+            }
+        });
+
+        if (!ownedFutures.isEmpty()) {
+            try {
+                long loadedAt = System.nanoTime();
+                Map<String, TopicMetadata> described = describeTopics(ownedFutures.keySet());
+                ownedFutures.forEach((topicName, future) -> {
+                    TopicMetadata topicMetadata = described.get(topicName);
+                    if (topicMetadata != null) {
+                        topics.put(topicName, new CacheEntry<>(topicMetadata, loadedAt));
+                    } else {
+                        topics.remove(topicName);
+                    }
+                    future.complete(Optional.ofNullable(topicMetadata));
+                });
+            } catch (InterruptedException | ExecutionException | TimeoutException | RuntimeException e) {
+                ownedFutures.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                ownedFutures.keySet().forEach(inFlightTopics::remove);
+            }
+        }
+
+        Map<String, TopicMetadata> result = new HashMap<>();
+        for (Map.Entry<String, CompletableFuture<Optional<TopicMetadata>>> future : futures.entrySet()) {
+            future.getValue()
+                .get(30, TimeUnit.SECONDS)
+                .ifPresent(topicMetadata -> result.put(future.getKey(), topicMetadata));
+        }
+        return result;
+    }
+
+    /**
+     * Add a topic created on broker to the cache.
+     * Its metadata are described on the next read.
+     *
+     * @param topicName The topic name
+     */
+    public void addTopic(String topicName) {
+        topicNamesByNormalizedName
+            .computeIfAbsent(normalizeTopicName(topicName), key -> ConcurrentHashMap.newKeySet())
+            .add(topicName);
+        topics.remove(topicName);
+    }
+
+    /**
+     * Remove a topic deleted from broker from the cache.
+     *
+     * @param topicName The topic name
+     */
+    public void removeTopic(String topicName) {
+        topicNamesByNormalizedName.computeIfPresent(normalizeTopicName(topicName), (key, topicNames) -> {
+            topicNames.remove(topicName);
+            return topicNames.isEmpty() ? null : topicNames;
+        });
+        topics.remove(topicName);
+    }
+
+    /**
+     * Evict the metadata of a topic changed on broker, so they are described on the next read.
+     *
+     * @param topicName The topic name
+     */
+    public void invalidateTopic(String topicName) {
+        topics.remove(topicName);
+    }
+
+    /**
+     * Describe the partitions and the dynamic configs of topics.
+     *
+     * @param topicNames The topic names
+     * @return The metadata of the existing topics by topic name
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    private Map<String, TopicMetadata> describeTopics(Collection<String> topicNames)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        DescribeTopicsResult describeTopicsResult = managedAdminClient.call("describeTopics",
+            admin -> admin.describeTopics(topicNames),
+            result -> KafkaFuture.allOf(result.topicNameValues().values().toArray(new KafkaFuture<?>[0])));
+        DescribeConfigsResult describeConfigsResult = managedAdminClient.call("describeConfigs",
+            admin -> admin.describeConfigs(topicNames
+                .stream()
+                .map(topicName -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
+                .toList()),
+            result -> KafkaFuture.allOf(result.values().values().toArray(new KafkaFuture<?>[0])));
+
+        Map<String, KafkaFuture<TopicDescription>> descriptions = describeTopicsResult.topicNameValues();
+        Map<ConfigResource, KafkaFuture<Config>> configs = describeConfigsResult.values();
+
+        Map<String, TopicMetadata> result = new HashMap<>();
+        for (String topicName : topicNames) {
+            try {
+                TopicDescription description = descriptions.get(topicName).get(30, TimeUnit.SECONDS);
+                Config config = configs.get(new ConfigResource(ConfigResource.Type.TOPIC, topicName))
+                    .get(30, TimeUnit.SECONDS);
+
+                result.put(topicName, new TopicMetadata(
+                    topicName,
+                    description.partitions().size(),
+                    description.partitions().get(0).replicas().size(),
+                    config.entries()
+                        .stream()
+                        .filter(configEntry -> configEntry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG)
+                        .collect(Collectors.toMap(ConfigEntry::name, ConfigEntry::value))));
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+                    throw e;
+                }
+                log.trace("Topic {} does not exist on {}", topicName, managedClusterProperties.getName());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replace the index of topic names by normalized name.
+     *
+     * @param topicNames The topic names currently on broker
+     */
+    private void indexTopicNames(Collection<String> topicNames) {
+        Map<String, Set<String>> index = topicNames
+            .stream()
+            .collect(Collectors.groupingBy(this::normalizeTopicName,
+                Collectors.toCollection(ConcurrentHashMap::newKeySet)));
+
+        topicNamesByNormalizedName.keySet().retainAll(index.keySet());
+        topicNamesByNormalizedName.putAll(index);
+        topics.keySet().retainAll(topicNames);
+    }
+
+    /**
+     * Get the indexed topic names.
+     *
+     * @return The topic names
+     */
+    private Set<String> getIndexedTopicNames() {
+        return topicNamesByNormalizedName.values()
+            .stream()
+            .flatMap(Set::stream)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Normalize a topic name, so topic names with a period or an underscore at the same place are equal.
+     *
+     * @param topicName The topic name
+     * @return The normalized topic name
+     */
+    private String normalizeTopicName(String topicName) {
+        return topicName.replace('.', '_');
+    }
+
+    /**
+     * Check if an entry loaded at the given time has not expired yet.
+     *
+     * @param loadedAt The time the entry has been loaded, in nanoseconds
+     * @return true if it has not, false otherwise
+     */
+    private boolean isFresh(long loadedAt) {
+        return loadedAt >= 0 && System.nanoTime() - loadedAt < ttl.toNanos();
+    }
+
+    /**
+     * Record a request to the cache.
+     *
+     * @param cache  The requested cache
+     * @param result The result of the request
+     */
+    private void record(String cache, String result) {
+        requests.incrementAndGet();
+        if (HIT.equals(result)) {
+            hits.incrementAndGet();
+        }
+
+        meterRegistry.counter(REQUESTS_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            CACHE_TAG, cache, RESULT_TAG, result).increment();
+    }
+
+    /**
+     * Metadata of a topic on broker.
+     *
+     * @param name              The topic name
+     * @param partitions        The number of partitions
+     * @param replicationFactor The replication factor
+     * @param configs           The dynamic configs
+     */
+    public record TopicMetadata(String name, int partitions, int replicationFactor, Map<String, String> configs) {
+        /**
+         * Get the partitions of the topic.
+         *
+         * @return The topic-partitions
+         */
+        public List<TopicPartition> topicPartitions() {
+            List<TopicPartition> topicPartitions = new ArrayList<>(partitions);
+            for (int partition = 0; partition < partitions; partition++) {
+                topicPartitions.add(new TopicPartition(name, partition));
+            }
+            return topicPartitions;
+        }
+    }
+
+    /**
+     * Entry of the cache.
+     *
+     * @param value    The cached value
+     * @param loadedAt The time the value has been loaded, in nanoseconds
+     * @param <T>      The type of the value
+     */
+    private record CacheEntry<T>(T value, long loadedAt) {
+    }
+}
@@ -9,16 +9,25 @@ import com.michelin.ns4kafka.services.ConnectClusterService;
 import com.michelin.ns4kafka.services.clients.connect.KafkaConnectClient;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorInfo;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorSpecs;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorStateInfo;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Property;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -29,18 +38,83 @@ import reactor.core.publisher.Mono;
 @Slf4j
 @EachBean(ManagedClusterProperties.class)
 @Singleton
-@AllArgsConstructor
 public class ConnectorAsyncExecutor {
+    public static final String SYNCHRONIZATION_METRIC = "ns4kafka.connector.synchronization";
+
+    public static final String CHANGES_METRIC = "ns4kafka.connector.synchronization.changes";
+
+    public static final String CREATE = "create";
+
+    public static final String UPDATE = "update";
+
+    public static final String RESTARTS_METRIC = "ns4kafka.connector.restarts";
+
+    private static final String CLUSTER_TAG = "cluster";
+
+    private static final String CONNECT_CLUSTER_TAG = "connect-cluster";
+
+    private static final String OPERATION_TAG = "operation";
+
+    private static final String RESULT_TAG = "result";
+
+    private static final String FAILED = "FAILED";
+
     private final Set<String> healthyConnectClusters = new HashSet<>();
     private final Set<String> idleConnectClusters = new HashSet<>();
 
+    private final Map<RestartKey, RestartBackoff> restartBackoffs = new ConcurrentHashMap<>();
+
+    private final Map<String, RestartBudget> restartBudgets = new ConcurrentHashMap<>();
+
     private final ManagedClusterProperties managedClusterProperties;
 
-    private ConnectorRepository connectorRepository;
+    private final ConnectorRepository connectorRepository;
 
-    private KafkaConnectClient kafkaConnectClient;
+    private final KafkaConnectClient kafkaConnectClient;
 
-    private ConnectClusterService connectClusterService;
+    private final ConnectClusterService connectClusterService;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Property(name = "ns4kafka.connect.deployment.max-concurrency", defaultValue = "4")
+    int deploymentConcurrency;
+
+    @Property(name = "ns4kafka.connect.deployment.rate", defaultValue = "10")
+    double deploymentRate;
+
+    @Property(name = "ns4kafka.connect.auto-restart.enabled", defaultValue = "false")
+    boolean autoRestartEnabled;
+
+    @Property(name = "ns4kafka.connect.auto-restart.initial-backoff", defaultValue = "1m")
+    Duration restartInitialBackoff;
+
+    @Property(name = "ns4kafka.connect.auto-restart.max-backoff", defaultValue = "1h")
+    Duration restartMaxBackoff;
+
+    @Property(name = "ns4kafka.connect.auto-restart.budget", defaultValue = "10")
+    int restartBudget;
+
+    @Property(name = "ns4kafka.connect.auto-restart.budget-window", defaultValue = "5m")
+    Duration restartBudgetWindow;
+
+    /**
+     * Constructor.
+     *
+     * @param managedClusterProperties The managed cluster properties
+     * @param connectorRepository      The connector repository
+     * @param kafkaConnectClient       The Kafka Connect client
+     * @param connectClusterService    The Connect cluster service
+     */
+    public ConnectorAsyncExecutor(ManagedClusterProperties managedClusterProperties,
+                                  ConnectorRepository connectorRepository,
+                                  KafkaConnectClient kafkaConnectClient,
+                                  ConnectClusterService connectClusterService) {
+        this.managedClusterProperties = managedClusterProperties;
+        this.connectorRepository = connectorRepository;
+        this.kafkaConnectClient = kafkaConnectClient;
+        this.connectClusterService = connectClusterService;
+    }
 
     /**
      * Run the connector synchronization.
@@ -69,13 +143,12 @@ public class ConnectorAsyncExecutor {
     /**
      * Get all connect clusters of the current Kafka cluster execution, including
      * both self-declared Connect clusters and hard-declared Connect clusters.
+     * Their health is checked in parallel, and cached to be served through the API.
      *
      * @return A list of Connect clusters
      */
     private Flux<ConnectCluster> getConnectClusters() {
-        return connectClusterService.findAll(true)
-            .filter(
-                connectCluster -> connectCluster.getMetadata().getCluster().equals(managedClusterProperties.getName()));
+        return connectClusterService.checkHealth(managedClusterProperties.getName());
     }
 
     /**
@@ -121,6 +194,9 @@ public class ConnectorAsyncExecutor {
 
     /**
      * Synchronize connectors of given connect cluster.
+     * The connectors are deployed with a bounded concurrency and rate, so a large drift does not send all the
+     * requests to the Connect workers at once and trigger rebalances.
+     * When enabled, the failed connectors and tasks found in the same listing are restarted.
      *
      * @param connectCluster The connect cluster
      */
@@ -128,7 +204,8 @@ public class ConnectorAsyncExecutor {
         log.debug("Starting connector collection for Kafka cluster {} and Kafka Connect {}.",
             managedClusterProperties.getName(), connectCluster);
 
-        return collectBrokerConnectors(connectCluster)
+        long start = System.nanoTime();
+        return kafkaConnectClient.listAll(managedClusterProperties.getName(), connectCluster)
             .doOnError(error -> {
                 if (error instanceof HttpClientResponseException httpClientResponseException) {
                     log.error(
@@ -142,24 +219,25 @@ public class ConnectorAsyncExecutor {
                         managedClusterProperties.getName(), connectCluster, error.getMessage());
                 }
             })
-            .collectList()
             .flatMapMany(brokerConnectors -> {
-                List<Connector> ns4kafkaConnectors = collectNs4KafkaConnectors(connectCluster);
-
-                List<Connector> toCreate = ns4kafkaConnectors.stream()
-                    .filter(connector -> brokerConnectors.stream().noneMatch(
-                        connector1 -> connector1.getMetadata().getName().equals(connector.getMetadata().getName())))
-                    .toList();
-
-                List<Connector> toUpdate = ns4kafkaConnectors.stream()
-                    .filter(connector -> brokerConnectors.stream()
-                        .anyMatch(connector1 -> {
-                            if (connector1.getMetadata().getName().equals(connector.getMetadata().getName())) {
-                                return !connectorsAreSame(connector, connector1);
-                            }
-                            return false;
-                        }))
-                    .toList();
+                log.debug("{} connectors found on Kafka Connect {} of Kafka cluster {}.", brokerConnectors.size(),
+                    connectCluster, managedClusterProperties.getName());
+
+                List<Connector> toCreate = new ArrayList<>();
+                List<Connector> toUpdate = new ArrayList<>();
+                List<ConnectorStateInfo> toRestart = new ArrayList<>();
+
+                collectNs4KafkaConnectors(connectCluster).forEach(connector -> {
+                    ConnectorStatus brokerConnector = brokerConnectors.get(connector.getMetadata().getName());
+                    if (brokerConnector == null) {
+                        toCreate.add(connector);
+                    } else if (!connectorsAreSame(connector,
+                        buildConnectorFromConnectorStatus(brokerConnector, connectCluster))) {
+                        toUpdate.add(connector);
+                    } else if (autoRestartEnabled && isFailed(brokerConnector.status())) {
+                        toRestart.add(brokerConnector.status());
+                    }
+                });
 
                 if (!toCreate.isEmpty()) {
                     log.debug("Connector(s) to create: " + String.join(",",
@@ -171,11 +249,163 @@ public class ConnectorAsyncExecutor {
                         toUpdate.stream().map(connector -> connector.getMetadata().getName()).toList()));
                 }
 
-                return Flux.fromStream(Stream.concat(toCreate.stream(), toUpdate.stream()))
-                    .flatMap(this::deployConnector);
+                Flux<Connector> toDeploy = Flux.fromStream(Stream.concat(toCreate.stream(), toUpdate.stream()));
+                if (deploymentRate > 0) {
+                    toDeploy = toDeploy.delayElements(Duration.ofNanos((long) (1_000_000_000 / deploymentRate)));
+                }
+
+                return toDeploy
+                    .flatMap(this::deployConnector, deploymentConcurrency)
+                    .doFinally(signal -> report(connectCluster, toCreate.size(), toUpdate.size(), start))
+                    .concatWith(restartFailedConnectors(connectCluster, toRestart).then(Mono.<ConnectorInfo>empty()));
+            });
+    }
+
+    /**
+     * Report the size of the drift and the duration of the synchronization of a connect cluster.
+     *
+     * @param connectCluster The connect cluster
+     * @param created        The number of connectors to create
+     * @param updated        The number of connectors to update
+     * @param start          The start of the synchronization, from {@link System#nanoTime()}
+     */
+    private void report(String connectCluster, int created, int updated, long start) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        Timer.builder(SYNCHRONIZATION_METRIC)
+            .tag(CLUSTER_TAG, managedClusterProperties.getName())
+            .tag(CONNECT_CLUSTER_TAG, connectCluster)
+            .register(meterRegistry)
+            .record(duration);
+        meterRegistry.summary(CHANGES_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            CONNECT_CLUSTER_TAG, connectCluster, OPERATION_TAG, CREATE).record(created);
+        meterRegistry.summary(CHANGES_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            CONNECT_CLUSTER_TAG, connectCluster, OPERATION_TAG, UPDATE).record(updated);
+
+        if (created > 0 || updated > 0) {
+            log.info("Connectors of Kafka Connect {} of Kafka cluster {} synchronized in {} ms: {} created,"
+                    + " {} updated.", connectCluster, managedClusterProperties.getName(), duration.toMillis(),
+                created, updated);
+        } else {
+            log.debug("Connectors of Kafka Connect {} of Kafka cluster {} synchronized in {} ms: no drift.",
+                connectCluster, managedClusterProperties.getName(), duration.toMillis());
+        }
+    }
+
+    /**
+     * Restart the failed connectors of a connect cluster.
+     * A connector is restarted again only once its backoff expires, the backoff doubling after each restart up to a
+     * maximum. The backoff of a connector is reset once it stays healthy until its backoff expires, so a connector
+     * failing again shortly after a restart keeps backing off. The restarts of a connect cluster are also limited
+     * by a budget per time window, so a widespread failure does not restart all the connectors at once.
+     *
+     * @param connectCluster   The connect cluster
+     * @param failedConnectors The state of the failed connectors
+     * @return The restarts
+     */
+    private Mono<Void> restartFailedConnectors(String connectCluster, List<ConnectorStateInfo> failedConnectors) {
+        long now = System.nanoTime();
+
+        Set<String> failedNames = failedConnectors
+            .stream()
+            .map(ConnectorStateInfo::name)
+            .collect(Collectors.toSet());
+        restartBackoffs.entrySet().removeIf(entry -> entry.getKey().connectCluster().equals(connectCluster)
+            && !failedNames.contains(entry.getKey().connector())
+            && entry.getValue().isExpired(now));
+
+        return Flux.fromIterable(failedConnectors)
+            .filter(stateInfo -> Optional.ofNullable(restartBackoffs.get(new RestartKey(connectCluster,
+                    stateInfo.name())))
+                .map(backoff -> backoff.isExpired(now))
+                .orElse(true))
+            .filter(stateInfo -> acquireRestartBudget(connectCluster, stateInfo.name(), now))
+            .concatMap(stateInfo -> restartConnector(connectCluster, stateInfo, now))
+            .then();
+    }
+
+    /**
+     * Restart a failed connector, or its failed tasks if the connector itself is running.
+     *
+     * @param connectCluster The connect cluster
+     * @param stateInfo      The state of the connector
+     * @param now            The current time, in nanoseconds
+     * @return The restart
+     */
+    private Mono<Void> restartConnector(String connectCluster, ConnectorStateInfo stateInfo, long now) {
+        restartBackoffs.compute(new RestartKey(connectCluster, stateInfo.name()), (key, backoff) -> {
+            long delay = backoff == null ? restartInitialBackoff.toNanos()
+                : Math.min(backoff.delay() * 2, restartMaxBackoff.toNanos());
+            return new RestartBackoff(delay, now + delay);
+        });
+
+        Mono<Void> restart = FAILED.equals(stateInfo.connector().getState())
+            ? kafkaConnectClient.restart(managedClusterProperties.getName(), connectCluster, stateInfo.name()).then()
+            : Flux.fromIterable(stateInfo.tasks())
+                .filter(task -> FAILED.equals(task.getState()))
+                .concatMap(task -> kafkaConnectClient.restart(managedClusterProperties.getName(), connectCluster,
+                    stateInfo.name(), task.getId()))
+                .then();
+
+        return restart
+            .doOnSuccess(response -> {
+                log.info("Success restarting failed connector {} on Kafka Connect {} of Kafka cluster {}.",
+                    stateInfo.name(), connectCluster, managedClusterProperties.getName());
+                recordRestart(connectCluster, "success");
+            })
+            .onErrorResume(error -> {
+                log.error("Error restarting failed connector {} on Kafka Connect {} of Kafka cluster {}: {}",
+                    stateInfo.name(), connectCluster, managedClusterProperties.getName(), error.getMessage());
+                recordRestart(connectCluster, "failure");
+                return Mono.empty();
             });
     }
 
+    /**
+     * Take a restart from the budget of a connect cluster.
+     *
+     * @param connectCluster The connect cluster
+     * @param connector      The connector to restart
+     * @param now            The current time, in nanoseconds
+     * @return true if the budget allows the restart, false otherwise
+     */
+    private boolean acquireRestartBudget(String connectCluster, String connector, long now) {
+        RestartBudget budget = restartBudgets.compute(connectCluster, (key, current) ->
+            current == null || now - current.windowStart() >= restartBudgetWindow.toNanos()
+                ? new RestartBudget(now, 1) : new RestartBudget(current.windowStart(), current.used() + 1));
+
+        if (budget.used() > restartBudget) {
+            log.warn("Restart budget of Kafka Connect {} of Kafka cluster {} exhausted, not restarting failed"
+                + " connector {}.", connectCluster, managedClusterProperties.getName(), connector);
+            recordRestart(connectCluster, "throttled");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Record a restart of a failed connector.
+     *
+     * @param connectCluster The connect cluster
+     * @param result         The result of the restart
+     */
+    private void recordRestart(String connectCluster, String result) {
+        meterRegistry.counter(RESTARTS_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            CONNECT_CLUSTER_TAG, connectCluster, RESULT_TAG, result).increment();
+    }
+
+    /**
+     * Is a connector or one of its tasks failed.
+     *
+     * @param stateInfo The state of the connector
+     * @return true if it is, false otherwise
+     */
+    private boolean isFailed(ConnectorStateInfo stateInfo) {
+        return stateInfo != null && (FAILED.equals(stateInfo.connector().getState())
+            || stateInfo.tasks().stream().anyMatch(task -> FAILED.equals(task.getState())));
+    }
+
     /**
      * Collect the connectors deployed on the given connect cluster.
      *
@@ -270,4 +500,34 @@ public class ConnectorAsyncExecutor {
                     connector.getMetadata().getName(), connector.getSpec().getConnectCluster(),
                     managedClusterProperties.getName(), httpError.getMessage()));
     }
+
+    /**
+     * Key of the restart backoff of a connector.
+     *
+     * @param connectCluster The connect cluster
+     * @param connector      The connector
+     */
+    private record RestartKey(String connectCluster, String connector) {
+    }
+
+    /**
+     * Restart backoff of a connector.
+     *
+     * @param delay         The delay after the last restart, in nanoseconds
+     * @param nextRestartAt The time before which the connector is not restarted again, in nanoseconds
+     */
+    private record RestartBackoff(long delay, long nextRestartAt) {
+        boolean isExpired(long now) {
+            return now - nextRestartAt >= 0;
+        }
+    }
+
+    /**
+     * Restart budget of a connect cluster.
+     *
+     * @param windowStart The start of the current window, in nanoseconds
+     * @param used        The number of restarts in the current window
+     */
+    private record RestartBudget(long windowStart, int used) {
+    }
 }
@@ -2,21 +2,21 @@ package com.michelin.ns4kafka.services.executors;
 
 import com.michelin.ns4kafka.properties.ManagedClusterProperties;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.ConsumerGroupDescription;
 import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 
 /**
  * Consumer group executor.
@@ -24,22 +24,32 @@ import org.apache.kafka.common.TopicPartition;
 @Slf4j
 @EachBean(ManagedClusterProperties.class)
 @Singleton
-@AllArgsConstructor
 public class ConsumerGroupAsyncExecutor {
     private final ManagedClusterProperties managedClusterProperties;
 
+    private final BrokerMetadataCache brokerMetadataCache;
+
+    private final ManagedAdminClient managedAdminClient;
+
     /**
-     * Getter for Kafka Admin client.
+     * Constructor.
      *
-     * @return A Kafka Admin client instance
+     * @param managedClusterProperties The managed cluster properties
+     * @param brokerMetadataCache      The broker metadata cache of the same cluster
+     * @param managedAdminClient       The managed admin client of the same cluster
      */
-    private Admin getAdminClient() {
-        return managedClusterProperties.getAdminClient();
+    public ConsumerGroupAsyncExecutor(ManagedClusterProperties managedClusterProperties,
+                                      @Parameter BrokerMetadataCache brokerMetadataCache,
+                                      @Parameter ManagedAdminClient managedAdminClient) {
+        this.managedClusterProperties = managedClusterProperties;
+        this.brokerMetadataCache = brokerMetadataCache;
+        this.managedAdminClient = managedAdminClient;
     }
 
     public Map<String, ConsumerGroupDescription> describeConsumerGroups(List<String> groupIds)
         throws ExecutionException, InterruptedException {
-        return getAdminClient().describeConsumerGroups(groupIds).all().get();
+        return managedAdminClient.call("describeConsumerGroups",
+            admin -> admin.describeConsumerGroups(groupIds).all()).get();
     }
 
     /**
@@ -52,11 +62,12 @@ public class ConsumerGroupAsyncExecutor {
      */
     public void alterConsumerGroupOffsets(String consumerGroupId, Map<TopicPartition, Long> preparedOffsets)
         throws InterruptedException, ExecutionException {
-        getAdminClient().alterConsumerGroupOffsets(consumerGroupId,
-            preparedOffsets.entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> new OffsetAndMetadata(e.getValue())))
-        ).all().get();
+        Map<TopicPartition, OffsetAndMetadata> offsets = preparedOffsets.entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> new OffsetAndMetadata(e.getValue())));
+
+        managedAdminClient.call("alterConsumerGroupOffsets",
+            admin -> admin.alterConsumerGroupOffsets(consumerGroupId, offsets).all()).get();
         log.info("Consumer group {} changed offset", consumerGroupId);
         if (log.isDebugEnabled()) {
             preparedOffsets.forEach(
@@ -75,8 +86,7 @@ public class ConsumerGroupAsyncExecutor {
      */
     public Map<TopicPartition, Long> listOffsets(Map<TopicPartition, OffsetSpec> offsetsForTheSpec)
         throws InterruptedException, ExecutionException {
-        return getAdminClient().listOffsets(offsetsForTheSpec)
-            .all()
+        return managedAdminClient.call("listOffsets", admin -> admin.listOffsets(offsetsForTheSpec).all())
             .get()
             .entrySet()
             .stream()
@@ -93,8 +103,8 @@ public class ConsumerGroupAsyncExecutor {
      */
     public Map<TopicPartition, Long> getCommittedOffsets(String groupId)
         throws ExecutionException, InterruptedException {
-        return getAdminClient().listConsumerGroupOffsets(groupId)
-            .partitionsToOffsetAndMetadata()
+        return managedAdminClient.call("listConsumerGroupOffsets",
+                admin -> admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata())
             .get()
             .entrySet()
             .stream()
@@ -103,6 +113,8 @@ public class ConsumerGroupAsyncExecutor {
 
     /**
      * Get the list of partitions of a given topic.
+     * The partitions are described again rather than served by the metadata cache, so the partitions added since
+     * are not skipped.
      *
      * @param topicName The topic name
      * @return A list of partitions
@@ -110,14 +122,19 @@ public class ConsumerGroupAsyncExecutor {
      * @throws InterruptedException Any interrupted exception during topics description
      */
     public List<TopicPartition> getTopicPartitions(String topicName) throws ExecutionException, InterruptedException {
-        return getAdminClient().describeTopics(Collections.singletonList(topicName))
-            .all()
-            .get()
-            .get(topicName)
-            .partitions()
-            .stream()
-            .map(partitionInfo -> new TopicPartition(topicName, partitionInfo.partition()))
-            .toList();
+        try {
+            BrokerMetadataCache.TopicMetadata topicMetadata = brokerMetadataCache.refreshTopics(List.of(topicName))
+                .get(topicName);
+
+            if (topicMetadata == null) {
+                throw new ExecutionException(new UnknownTopicOrPartitionException(
+                    "This server does not host this topic-partition."));
+            }
+
+            return topicMetadata.topicPartitions();
+        } catch (TimeoutException e) {
+            throw new ExecutionException(e);
+        }
     }
 
     /**
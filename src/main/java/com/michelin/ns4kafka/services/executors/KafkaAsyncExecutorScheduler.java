@@ -1,5 +1,8 @@
 package com.michelin.ns4kafka.services.executors;
 
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.runtime.event.ApplicationStartupEvent;
 import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.scheduling.annotation.Scheduled;
@@ -7,9 +10,15 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Schedule the asynchronous executors.
@@ -17,19 +26,29 @@ import reactor.core.publisher.Flux;
 @Slf4j
 @Singleton
 public class KafkaAsyncExecutorScheduler {
+    private static final int IDLE_SCANS_BEFORE_BACKOFF = 3;
+    private static final int MAX_SKIPPED_SCANS = 15;
+
     private final AtomicBoolean ready = new AtomicBoolean(false);
 
+    private final Set<String> ownedClusters = ConcurrentHashMap.newKeySet();
+
+    private final Map<Object, FullScanBackoff> fullScanBackoffs = new ConcurrentHashMap<>();
+
     @Inject
-    List<TopicAsyncExecutor> topicAsyncExecutors;
+    ApplicationContext applicationContext;
 
     @Inject
-    List<AccessControlEntryAsyncExecutor> accessControlEntryAsyncExecutors;
+    List<ManagedClusterProperties> managedClusterProperties;
 
     @Inject
-    List<ConnectorAsyncExecutor> connectorAsyncExecutors;
+    ReconciliationQueue reconciliationQueue;
 
     @Inject
-    List<UserAsyncExecutor> userAsyncExecutors;
+    LeaderElection leaderElection;
+
+    @Inject
+    List<ConnectorAsyncExecutor> connectorAsyncExecutors;
 
     /**
      * Register when the application is ready.
@@ -41,31 +60,133 @@ public class KafkaAsyncExecutorScheduler {
         ready.compareAndSet(false, true);
         scheduleConnectHealthCheck();
         scheduleConnectorSynchronization();
+        scheduleReconciliation();
     }
 
     /**
      * Schedule resource synchronization.
+     * Only the owner of a managed cluster synchronizes its resources.
+     * The full scans of an executor back off when several consecutive scans found no drift,
+     * and run at the normal pace again when the current replica has just taken the ownership of the cluster.
      */
     @Scheduled(initialDelay = "12s", fixedDelay = "20s")
     public void schedule() {
-        if (ready.get()) {
-            topicAsyncExecutors.forEach(TopicAsyncExecutor::run);
-            accessControlEntryAsyncExecutors.forEach(AccessControlEntryAsyncExecutor::run);
-            userAsyncExecutors.forEach(UserAsyncExecutor::run);
-        } else {
+        if (!ready.get()) {
             log.warn("Scheduled jobs did not start because Micronaut is not ready yet");
+            return;
+        }
+
+        managedClusterProperties.forEach(cluster -> {
+            if (leaderElection.isOwner(cluster.getName())) {
+                synchronize(cluster.getName());
+            } else if (ownedClusters.remove(cluster.getName())) {
+                log.info("Scheduled jobs of cluster {} stopped because the current replica does not own it anymore",
+                    cluster.getName());
+            }
+        });
+    }
+
+    /**
+     * Run the full scans of the executors of a cluster.
+     *
+     * @param cluster The cluster
+     */
+    private void synchronize(String cluster) {
+        TopicAsyncExecutor topicAsyncExecutor = applicationContext.getBean(TopicAsyncExecutor.class,
+            Qualifiers.byName(cluster));
+        AccessControlEntryAsyncExecutor accessControlEntryAsyncExecutor = applicationContext
+            .getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName(cluster));
+        UserAsyncExecutor userAsyncExecutor = applicationContext.getBean(UserAsyncExecutor.class,
+            Qualifiers.byName(cluster));
+
+        if (ownedClusters.add(cluster)) {
+            log.info("Scheduled jobs of cluster {} started because the current replica owns it", cluster);
+            fullScanBackoffs.remove(topicAsyncExecutor);
+            fullScanBackoffs.remove(accessControlEntryAsyncExecutor);
+            fullScanBackoffs.remove(userAsyncExecutor);
+        }
+
+        runFullScan(topicAsyncExecutor, topicAsyncExecutor::run);
+        runFullScan(accessControlEntryAsyncExecutor, accessControlEntryAsyncExecutor::run);
+        runFullScan(userAsyncExecutor, userAsyncExecutor::run);
+    }
+
+    /**
+     * Schedule the reconciliation of the resources changed in the stores.
+     * Only the owner of a managed cluster enqueues and reconciles its resources. A new owner catches up on the
+     * changes made before with its first full scan.
+     */
+    public void scheduleReconciliation() {
+        Flux.interval(Duration.ofSeconds(1))
+            .onBackpressureDrop(onDropped -> log.trace(
+                "Skipping next reconciliation. The previous one is still running."))
+            .concatMap(mapper -> Flux.fromIterable(managedClusterProperties)
+                .filter(cluster -> leaderElection.isOwner(cluster.getName()))
+                .concatMap(cluster -> Mono.fromRunnable(() -> reconcile(cluster.getName()))
+                    .subscribeOn(Schedulers.boundedElastic())))
+            .onErrorContinue((error, body) -> log.trace(
+                "Continue reconciliation after error: " + error.getMessage() + "."))
+            .subscribe();
+    }
+
+    /**
+     * Reconcile the pending resources of a cluster.
+     *
+     * @param cluster The cluster
+     */
+    private void reconcile(String cluster) {
+        Map<String, Long> pendingTopics = reconciliationQueue.drainTopics(cluster);
+        if (!pendingTopics.isEmpty()) {
+            TopicAsyncExecutor topicAsyncExecutor = applicationContext.getBean(TopicAsyncExecutor.class,
+                Qualifiers.byName(cluster));
+            topicAsyncExecutor.reconcileTopics(pendingTopics.keySet());
+            resetFullScanBackoff(topicAsyncExecutor);
+            reconciliationQueue.recordReconciled(cluster, ReconciliationQueue.TOPIC_RESOURCE, pendingTopics.values());
         }
+
+        reconciliationQueue.drainAcls(cluster).ifPresent(enqueuedAt -> {
+            AccessControlEntryAsyncExecutor accessControlEntryAsyncExecutor = applicationContext
+                .getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName(cluster));
+            accessControlEntryAsyncExecutor.run();
+            resetFullScanBackoff(accessControlEntryAsyncExecutor);
+            reconciliationQueue.recordReconciled(cluster, ReconciliationQueue.ACL_RESOURCE, List.of(enqueuedAt));
+        });
+    }
+
+    /**
+     * Run the full scan of an executor, unless it is backing off.
+     *
+     * @param executor The executor
+     * @param fullScan The full scan, returning true if a drift has been found
+     */
+    private void runFullScan(Object executor, BooleanSupplier fullScan) {
+        FullScanBackoff backoff = fullScanBackoffs.computeIfAbsent(executor, key -> new FullScanBackoff());
+        if (backoff.shouldScan()) {
+            backoff.record(fullScan.getAsBoolean());
+        }
+    }
+
+    /**
+     * Reset the full scan backoff of an executor, so the next full scans run at the normal pace.
+     *
+     * @param executor The executor
+     */
+    private void resetFullScanBackoff(Object executor) {
+        fullScanBackoffs.computeIfAbsent(executor, key -> new FullScanBackoff()).record(true);
     }
 
     /**
      * Schedule connector synchronization.
+     * Only the owner of a managed cluster synchronizes its connectors.
      */
     public void scheduleConnectorSynchronization() {
         Flux.interval(Duration.ofSeconds(12), Duration.ofSeconds(30))
             .onBackpressureDrop(
                 onDropped -> log.debug("Skipping next connector synchronization. The previous one is still running."))
-            .concatMap(mapper -> Flux.fromIterable(connectorAsyncExecutors)
-                .flatMap(ConnectorAsyncExecutor::run))
+            .concatMap(mapper -> Flux.fromIterable(managedClusterProperties)
+                .filter(cluster -> leaderElection.isOwner(cluster.getName()))
+                .flatMap(cluster -> applicationContext.getBean(ConnectorAsyncExecutor.class,
+                    Qualifiers.byName(cluster.getName())).run()))
             .onErrorContinue((error, body) -> log.trace(
                 "Continue connector synchronization after error: " + error.getMessage() + "."))
             .subscribe(connectorInfo -> log.trace(
@@ -73,7 +194,9 @@ public class KafkaAsyncExecutorScheduler {
     }
 
     /**
-     * Schedule connector synchronization.
+     * Schedule Connect cluster health check.
+     * All the replicas check the health of the Connect clusters, as they all serve it through the API
+     * and a new owner of a managed cluster needs it to synchronize the connectors.
      */
     public void scheduleConnectHealthCheck() {
         Flux.interval(Duration.ofSeconds(5), Duration.ofMinutes(1))
@@ -86,4 +209,45 @@ public class KafkaAsyncExecutorScheduler {
             .subscribe(connectCluster -> log.trace(
                 "Health check completed for Connect cluster \"" + connectCluster.getMetadata().getName() + "\"."));
     }
+
+    /**
+     * Backoff of the full scans of an executor.
+     * After several consecutive scans without drift, the number of skipped scans doubles at each idle scan,
+     * up to a maximum.
+     */
+    private static class FullScanBackoff {
+        private int idleScans;
+
+        private int skippedScans;
+
+        /**
+         * Check if the next full scan should run, or be skipped.
+         *
+         * @return true if it should run, false otherwise
+         */
+        synchronized boolean shouldScan() {
+            int scansToSkip = idleScans < IDLE_SCANS_BEFORE_BACKOFF
+                ? 0 : Math.min(1 << (idleScans - IDLE_SCANS_BEFORE_BACKOFF), MAX_SKIPPED_SCANS);
+
+            if (skippedScans < scansToSkip) {
+                skippedScans++;
+                return false;
+            }
+
+            skippedScans = 0;
+            return true;
+        }
+
+        /**
+         * Record the result of a full scan.
+         *
+         * @param drift Has a drift been found or not
+         */
+        synchronized void record(boolean drift) {
+            idleScans = drift ? 0 : Math.min(idleScans + 1, IDLE_SCANS_BEFORE_BACKOFF + 4);
+            if (drift) {
+                skippedScans = 0;
+            }
+        }
+    }
 }
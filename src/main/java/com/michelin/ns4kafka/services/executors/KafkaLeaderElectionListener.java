@@ -0,0 +1,149 @@
+package com.michelin.ns4kafka.services.executors;
+
+import com.michelin.ns4kafka.properties.KafkaStoreProperties;
+import io.micronaut.configuration.kafka.annotation.KafkaListener;
+import io.micronaut.configuration.kafka.annotation.OffsetReset;
+import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
+import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TopicExistsException;
+
+/**
+ * Leader election based on the Kafka group membership.
+ * All the replicas join the same consumer group on the leader election topic, and the partitions assigned to a
+ * replica give the managed clusters it owns. The rebalance protocol revokes a partition from its previous replica
+ * before assigning it to another one, so a managed cluster never has two owners.
+ * When a replica stops or stops heart beating, its partitions are reassigned to the other replicas. The cooperative
+ * sticky assignor keeps the other partitions where they are, and only revokes the partitions that move to another
+ * replica, so a rebalance does not interrupt the ownership of the clusters that stay on their replica.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ns4kafka.leader-election.enabled", value = StringUtils.TRUE)
+@KafkaListener(
+    groupId = "${ns4kafka.leader-election.group-id:${ns4kafka.store.kafka.topics.prefix}.leader}",
+    offsetReset = OffsetReset.LATEST,
+    offsetStrategy = OffsetStrategy.DISABLED,
+    properties = {
+        @Property(name = ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG,
+            value = "${ns4kafka.leader-election.session-timeout:10000}"),
+        @Property(name = ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG,
+            value = "${ns4kafka.leader-election.heartbeat-interval:3000}"),
+        @Property(name = ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG,
+            value = "org.apache.kafka.clients.consumer.CooperativeStickyAssignor")
+    }
+)
+public class KafkaLeaderElectionListener implements ConsumerRebalanceListener {
+    @Inject
+    LeaderElection leaderElection;
+
+    @Inject
+    AdminClient adminClient;
+
+    @Inject
+    KafkaStoreProperties kafkaStoreProperties;
+
+    @Property(name = "ns4kafka.store.kafka.init-timeout")
+    int initTimeout;
+
+    /**
+     * Create the leader election topic if it does not exist, or add the partitions it misses.
+     */
+    @PostConstruct
+    public void createTopic() {
+        String topic = kafkaStoreProperties.getPrefix() + ".leader";
+        int partitions = leaderElection.getPartitions();
+
+        try {
+            Set<String> allTopics = adminClient.listTopics()
+                .names()
+                .get(initTimeout, TimeUnit.MILLISECONDS);
+
+            if (!allTopics.contains(topic)) {
+                log.info("Creating topic {} with {} partition(s).", topic, partitions);
+
+                adminClient.createTopics(Collections.singleton(
+                        new NewTopic(topic, partitions, (short) kafkaStoreProperties.getReplicationFactor())))
+                    .all()
+                    .get(initTimeout, TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            int currentPartitions = adminClient.describeTopics(Collections.singleton(topic))
+                .allTopicNames()
+                .get(initTimeout, TimeUnit.MILLISECONDS)
+                .get(topic)
+                .partitions()
+                .size();
+
+            if (currentPartitions < partitions) {
+                log.info("Increasing the partitions of topic {} from {} to {}.", topic, currentPartitions,
+                    partitions);
+
+                adminClient.createPartitions(Map.of(topic, NewPartitions.increaseTo(partitions)))
+                    .all()
+                    .get(initTimeout, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Thread interrupted trying to create topic {}.", topic, e);
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof TopicExistsException)) {
+                log.error("Execution error trying to create topic {}.", topic, e);
+            }
+        } catch (TimeoutException e) {
+            log.error("Timed out trying to create topic {}.", topic, e);
+        }
+    }
+
+    /**
+     * Nothing is ever produced to the leader election topic, only the assignment of its partitions matters.
+     *
+     * @param message The message
+     */
+    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.leader")
+    void receive(ConsumerRecord<String, String> message) {
+        log.trace("Ignoring message {} of the leader election topic.", message.key());
+    }
+
+    /**
+     * Take the ownership of the partitions newly assigned to the current replica.
+     * With the cooperative protocol, the partitions kept from the previous assignment are not given again.
+     *
+     * @param partitions The newly assigned partitions
+     */
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        leaderElection.assign(partitions.stream().map(TopicPartition::partition).toList());
+    }
+
+    /**
+     * Release the ownership of the partitions moved to another replica, or lost by the current replica.
+     *
+     * @param partitions The revoked partitions
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        leaderElection.revoke(partitions.stream().map(TopicPartition::partition).toList());
+    }
+}
@@ -0,0 +1,179 @@
+package com.michelin.ns4kafka.services.executors;
+
+import com.michelin.ns4kafka.models.ClusterOwnershipEvent;
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Leadership of the current ns4kafka replica.
+ * Only the owner of a managed cluster runs its executors, so several replicas do not synchronize the same
+ * resources concurrently. The ownership follows the partitions of the leader election topic assigned to the current
+ * replica, which the group rebalance protocol never assigns to two replicas at once.
+ * The replica assigned the first partition is the leader. Without sharding, the leader owns all the managed clusters.
+ * With sharding, each managed cluster has its own partition, so the clusters are spread across the live replicas.
+ * When the leader election is disabled, the current replica is always the leader and owns all the managed clusters.
+ */
+@Slf4j
+@Singleton
+public class LeaderElection {
+    public static final String LEADER_METRIC = "ns4kafka.leader";
+    public static final String CLUSTER_OWNER_METRIC = "ns4kafka.cluster.owner";
+    private static final int LEADER_PARTITION = 0;
+
+    private final Set<Integer> assignedPartitions = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    List<ManagedClusterProperties> managedClusterProperties;
+
+    @Inject
+    ApplicationEventPublisher<ClusterOwnershipEvent> applicationEventPublisher;
+
+    @Property(name = "ns4kafka.leader-election.enabled", defaultValue = StringUtils.FALSE)
+    boolean enabled;
+
+    @Property(name = "ns4kafka.leader-election.sharding", defaultValue = StringUtils.FALSE)
+    boolean sharding;
+
+    /**
+     * Register the role of the current replica as gauges, equal to 1 when leader or owner and 0 otherwise.
+     */
+    @PostConstruct
+    public void registerRoleMetric() {
+        Gauge.builder(LEADER_METRIC, this, leaderElection -> leaderElection.isLeader() ? 1 : 0)
+            .description("Whether the current replica is the leader or not")
+            .register(meterRegistry);
+
+        managedClusterProperties.forEach(cluster -> Gauge.builder(CLUSTER_OWNER_METRIC, this,
+                leaderElection -> leaderElection.isOwner(cluster.getName()) ? 1 : 0)
+            .description("Whether the current replica runs the executors of the cluster or not")
+            .tag("cluster", cluster.getName())
+            .register(meterRegistry));
+    }
+
+    /**
+     * Get the number of partitions of the leader election topic.
+     *
+     * @return One partition per managed cluster with sharding, a single partition otherwise
+     */
+    public int getPartitions() {
+        return sharding ? Math.max(1, managedClusterProperties.size()) : 1;
+    }
+
+    /**
+     * Check if the current replica is the leader.
+     *
+     * @return true if it is, false otherwise
+     */
+    public boolean isLeader() {
+        return !enabled || assignedPartitions.contains(LEADER_PARTITION);
+    }
+
+    /**
+     * Check if the current replica owns a managed cluster, and runs its executors.
+     *
+     * @param cluster The managed cluster
+     * @return true if it does, false otherwise
+     */
+    public boolean isOwner(String cluster) {
+        if (!enabled || !sharding) {
+            return isLeader();
+        }
+
+        return assignedPartitions.contains(getPartition(cluster));
+    }
+
+    /**
+     * Take the ownership of the managed clusters of the partitions assigned to the current replica.
+     *
+     * @param partitions The assigned partitions
+     */
+    public void assign(Collection<Integer> partitions) {
+        Set<String> ownedClusters = getOwnedClusters();
+        boolean wasLeader = isLeader();
+        assignedPartitions.addAll(partitions);
+
+        if (!wasLeader && isLeader()) {
+            log.info("The current replica has been elected leader.");
+        }
+
+        publishOwnershipChanges(ownedClusters);
+    }
+
+    /**
+     * Release the ownership of the managed clusters of the partitions revoked from the current replica.
+     *
+     * @param partitions The revoked partitions
+     */
+    public void revoke(Collection<Integer> partitions) {
+        Set<String> ownedClusters = getOwnedClusters();
+        boolean wasLeader = isLeader();
+        assignedPartitions.removeAll(partitions);
+
+        if (wasLeader && !isLeader()) {
+            log.info("The current replica is no longer the leader.");
+        }
+
+        publishOwnershipChanges(ownedClusters);
+    }
+
+    /**
+     * Get the partition of a managed cluster.
+     * The clusters are numbered in the order of the configuration, which is the same on all the replicas.
+     *
+     * @param cluster The managed cluster
+     * @return The partition, or -1 if the cluster is not managed
+     */
+    private int getPartition(String cluster) {
+        for (int i = 0; i < managedClusterProperties.size(); i++) {
+            if (managedClusterProperties.get(i).getName().equals(cluster)) {
+                return i % getPartitions();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the managed clusters owned by the current replica.
+     *
+     * @return The names of the owned clusters
+     */
+    private Set<String> getOwnedClusters() {
+        return managedClusterProperties.stream()
+            .map(ManagedClusterProperties::getName)
+            .filter(this::isOwner)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Publish the clusters whose ownership has changed.
+     *
+     * @param previouslyOwnedClusters The clusters owned before the change
+     */
+    private void publishOwnershipChanges(Set<String> previouslyOwnedClusters) {
+        Set<String> ownedClusters = getOwnedClusters();
+        managedClusterProperties.stream()
+            .map(ManagedClusterProperties::getName)
+            .filter(cluster -> ownedClusters.contains(cluster) != previouslyOwnedClusters.contains(cluster))
+            .forEach(cluster -> {
+                boolean owner = ownedClusters.contains(cluster);
+                log.info("The current replica {} cluster {}.", owner ? "now owns" : "no longer owns", cluster);
+                applicationEventPublisher.publishEvent(new ClusterOwnershipEvent(cluster, owner));
+            });
+    }
+}
@@ -0,0 +1,218 @@
+package com.michelin.ns4kafka.services.executors;
+
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Property;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.errors.AuthenticationException;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+
+/**
+ * Managed admin client of a cluster.
+ * It bounds the number of in-flight admin requests sent to the cluster, measures their latency by API,
+ * and closes the admin client after an unrecoverable error so the next request uses a new one.
+ */
+@Slf4j
+@EachBean(ManagedClusterProperties.class)
+@Singleton
+public class ManagedAdminClient {
+    public static final String REQUESTS_METRIC = "ns4kafka.admin.requests";
+    public static final String IN_FLIGHT_METRIC = "ns4kafka.admin.requests.in.flight";
+    public static final String REBUILDS_METRIC = "ns4kafka.admin.rebuilds";
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String API_TAG = "api";
+    private static final String RESULT_TAG = "result";
+    private static final String CLIENT_THREAD_ERROR = "The AdminClient thread";
+
+    private final ManagedClusterProperties managedClusterProperties;
+
+    private Semaphore inFlightRequests;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Property(name = "ns4kafka.admin.max-in-flight-requests", defaultValue = "100")
+    int maxInFlightRequests;
+
+    @Property(name = "ns4kafka.admin.acquire-timeout", defaultValue = "30s")
+    Duration acquireTimeout;
+
+    /**
+     * Constructor.
+     *
+     * @param managedClusterProperties The managed cluster properties
+     */
+    public ManagedAdminClient(ManagedClusterProperties managedClusterProperties) {
+        this.managedClusterProperties = managedClusterProperties;
+    }
+
+    /**
+     * Create the in-flight requests limit and register its gauge.
+     */
+    @PostConstruct
+    public void init() {
+        inFlightRequests = new Semaphore(maxInFlightRequests, true);
+
+        Gauge.builder(IN_FLIGHT_METRIC, inFlightRequests,
+                semaphore -> maxInFlightRequests - semaphore.availablePermits())
+            .tag(CLUSTER_TAG, managedClusterProperties.getName())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Close the admin client on shutdown.
+     */
+    @PreDestroy
+    public void close() {
+        managedClusterProperties.closeAdminClient();
+    }
+
+    /**
+     * Send an admin request whose result is a single future.
+     *
+     * @param api     The admin API
+     * @param request The request
+     * @param <T>     The type of the result
+     * @return The future of the result, failed if no slot has been obtained in time
+     */
+    public <T> KafkaFuture<T> call(String api, Function<Admin, KafkaFuture<T>> request) {
+        try {
+            return call(api, request, Function.identity());
+        } catch (TimeoutException | InterruptException e) {
+            KafkaFutureImpl<T> failed = new KafkaFutureImpl<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Send an admin request.
+     * The caller waits for a free slot if too many requests are in flight. The slot is released
+     * when the completion future of the result completes.
+     *
+     * @param api        The admin API
+     * @param request    The request
+     * @param completion The future completing with the whole result
+     * @param <R>        The type of the result
+     * @return The result of the request
+     * @throws TimeoutException   If no slot has been obtained in time
+     * @throws InterruptException If the thread has been interrupted while waiting for a slot
+     */
+    public <R> R call(String api, Function<Admin, R> request, Function<R, KafkaFuture<?>> completion) {
+        acquire(api);
+
+        long start = System.nanoTime();
+        Admin admin = null;
+        R result;
+        try {
+            admin = managedClusterProperties.getAdminClient();
+            result = request.apply(admin);
+        } catch (RuntimeException e) {
+            complete(api, admin, start, e);
+            throw e;
+        }
+
+        Admin sender = admin;
+        completion.apply(result).whenComplete((value, error) -> complete(api, sender, start, error));
+        return result;
+    }
+
+    /**
+     * Wait for a free slot.
+     *
+     * @param api The admin API
+     */
+    private void acquire(String api) {
+        try {
+            if (!inFlightRequests.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException(String.format("Too many in-flight admin requests on %s to send %s",
+                    managedClusterProperties.getName(), api));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptException(e);
+        }
+    }
+
+    /**
+     * Release the slot of a completed request, record its latency, and close the admin client
+     * if the request failed with an unrecoverable error.
+     *
+     * @param api   The admin API
+     * @param admin The admin client which sent the request
+     * @param start The start of the request, in nanoseconds
+     * @param error The error, if any
+     */
+    private void complete(String api, Admin admin, long start, Throwable error) {
+        inFlightRequests.release();
+
+        Timer.builder(REQUESTS_METRIC)
+            .tag(CLUSTER_TAG, managedClusterProperties.getName())
+            .tag(API_TAG, api)
+            .tag(RESULT_TAG, error == null ? SUCCESS : FAILURE)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (error != null && isFatal(unwrap(error)) && managedClusterProperties.closeAdminClient(admin)) {
+            log.warn("Admin client of {} closed after an unrecoverable error on {}",
+                managedClusterProperties.getName(), api, error);
+            meterRegistry.counter(REBUILDS_METRIC, CLUSTER_TAG, managedClusterProperties.getName()).increment();
+        }
+    }
+
+    /**
+     * Check if an error cannot be recovered by retrying with the same admin client.
+     * Errors returned by the brokers and retriable errors are recoverable, except authentication errors
+     * and the admin client thread no longer accepting requests.
+     *
+     * @param error The error
+     * @return true if it cannot, false otherwise
+     */
+    static boolean isFatal(Throwable error) {
+        if (error instanceof AuthenticationException) {
+            return true;
+        }
+
+        if (error instanceof TimeoutException && error.getMessage() != null
+            && error.getMessage().startsWith(CLIENT_THREAD_ERROR)) {
+            return true;
+        }
+
+        return error instanceof KafkaException
+            && !(error instanceof ApiException)
+            && !(error instanceof RetriableException)
+            && !(error instanceof InterruptException);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
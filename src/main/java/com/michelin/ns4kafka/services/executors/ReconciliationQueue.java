@@ -0,0 +1,208 @@
+package com.michelin.ns4kafka.services.executors;
+
+import com.michelin.ns4kafka.models.AccessControlEntry;
+import com.michelin.ns4kafka.models.ClusterOwnershipEvent;
+import com.michelin.ns4kafka.models.KafkaStream;
+import com.michelin.ns4kafka.models.MetadataResource;
+import com.michelin.ns4kafka.models.Namespace;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.Topic;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queue of the resources to reconcile, filled by the changes of the stores.
+ * The pending resources are tracked by cluster, along with the time they have been enqueued.
+ * Only the owner of a cluster enqueues its resources, and the queue of a cluster is cleared when its ownership
+ * changes, as the new owner starts with a full scan.
+ */
+@Slf4j
+@Singleton
+public class ReconciliationQueue {
+    public static final String QUEUE_DEPTH_METRIC = "ns4kafka.reconciliation.queue.depth";
+    public static final String TIME_TO_RECONCILE_METRIC = "ns4kafka.reconciliation.time";
+    public static final String TOPIC_RESOURCE = "topic";
+    public static final String ACL_RESOURCE = "acl";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String RESOURCE_TAG = "resource";
+
+    private final Map<String, Map<String, Long>> pendingTopicsByCluster = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> pendingAclsByCluster = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    LeaderElection leaderElection;
+
+    /**
+     * Enqueue the resources affected by a change of the stores.
+     *
+     * @param event The store change event
+     */
+    @EventListener
+    public void onStoreChange(StoreChangeEvent event) {
+        String cluster = event.getResource().getMetadata().getCluster();
+        if (cluster == null) {
+            return;
+        }
+
+        if (event.getResource() instanceof Topic topic) {
+            // Deleted topics are removed from the broker synchronously, and the status written by the executor
+            // after a reconciliation leaves the spec unchanged
+            if (!event.isDeleted() && isSpecChanged(topic, event.getPrevious())) {
+                enqueueTopic(cluster, topic.getMetadata().getName());
+            }
+        } else if (event.getResource() instanceof AccessControlEntry
+            || event.getResource() instanceof KafkaStream
+            || event.getResource() instanceof Namespace) {
+            enqueueAcls(cluster);
+        }
+    }
+
+    /**
+     * Check if the spec of a topic has changed.
+     *
+     * @param topic    The stored topic
+     * @param previous The topic stored before, if any
+     * @return true if the topic is new or its spec has changed, false otherwise
+     */
+    private boolean isSpecChanged(Topic topic, MetadataResource previous) {
+        return !(previous instanceof Topic previousTopic) || !Objects.equals(previousTopic.getSpec(), topic.getSpec());
+    }
+
+    /**
+     * Enqueue a topic to reconcile.
+     *
+     * @param cluster   The cluster
+     * @param topicName The topic name
+     */
+    public void enqueueTopic(String cluster, String topicName) {
+        if (!leaderElection.isOwner(cluster)) {
+            return;
+        }
+
+        log.trace("Topic {} of cluster {} enqueued for reconciliation", topicName, cluster);
+        getPendingTopics(cluster).putIfAbsent(topicName, System.nanoTime());
+    }
+
+    /**
+     * Enqueue the ACLs of a cluster to reconcile.
+     *
+     * @param cluster The cluster
+     */
+    public void enqueueAcls(String cluster) {
+        if (!leaderElection.isOwner(cluster)) {
+            return;
+        }
+
+        log.trace("ACLs of cluster {} enqueued for reconciliation", cluster);
+        registerQueueDepth(cluster);
+        pendingAclsByCluster.putIfAbsent(cluster, System.nanoTime());
+    }
+
+    /**
+     * Clear the pending resources of a cluster whose ownership has changed.
+     * A former owner would otherwise keep them forever, and report their old enqueue time when it takes
+     * the ownership back.
+     *
+     * @param event The cluster ownership event
+     */
+    @EventListener
+    public void onOwnershipChange(ClusterOwnershipEvent event) {
+        log.debug("Reconciliation queue of cluster {} cleared after an ownership change", event.getCluster());
+        pendingTopicsByCluster.remove(event.getCluster());
+        pendingAclsByCluster.remove(event.getCluster());
+    }
+
+    /**
+     * Remove all the pending topics of a cluster.
+     *
+     * @param cluster The cluster
+     * @return The time each topic has been enqueued, by topic name
+     */
+    public Map<String, Long> drainTopics(String cluster) {
+        Map<String, Long> pendingTopics = getPendingTopics(cluster);
+        Map<String, Long> drainedTopics = new HashMap<>();
+        pendingTopics.keySet().forEach(topicName -> {
+            Long enqueuedAt = pendingTopics.remove(topicName);
+            if (enqueuedAt != null) {
+                drainedTopics.put(topicName, enqueuedAt);
+            }
+        });
+        return drainedTopics;
+    }
+
+    /**
+     * Remove the pending ACLs of a cluster.
+     *
+     * @param cluster The cluster
+     * @return The time the ACLs have been enqueued, if any
+     */
+    public Optional<Long> drainAcls(String cluster) {
+        return Optional.ofNullable(pendingAclsByCluster.remove(cluster));
+    }
+
+    /**
+     * Record the time to reconcile of resources.
+     *
+     * @param cluster     The cluster
+     * @param resource    The kind of resources
+     * @param enqueuedAts The time each resource has been enqueued
+     */
+    public void recordReconciled(String cluster, String resource, Collection<Long> enqueuedAts) {
+        Timer timer = Timer.builder(TIME_TO_RECONCILE_METRIC)
+            .tag(CLUSTER_TAG, cluster)
+            .tag(RESOURCE_TAG, resource)
+            .register(meterRegistry);
+
+        long now = System.nanoTime();
+        enqueuedAts.forEach(enqueuedAt -> timer.record(Duration.ofNanos(now - enqueuedAt)));
+    }
+
+    /**
+     * Get the pending topics of a cluster.
+     *
+     * @param cluster The cluster
+     * @return The time each topic has been enqueued, by topic name
+     */
+    private Map<String, Long> getPendingTopics(String cluster) {
+        return pendingTopicsByCluster.computeIfAbsent(cluster, key -> {
+            registerQueueDepth(cluster);
+            return new ConcurrentHashMap<>();
+        });
+    }
+
+    /**
+     * Register the queue depth gauges of a cluster.
+     * Registering an existing gauge again returns the existing one.
+     *
+     * @param cluster The cluster
+     */
+    private void registerQueueDepth(String cluster) {
+        Gauge.builder(QUEUE_DEPTH_METRIC, pendingTopicsByCluster,
+                pendingTopics -> pendingTopics.getOrDefault(cluster, Map.of()).size())
+            .tag(CLUSTER_TAG, cluster)
+            .tag(RESOURCE_TAG, TOPIC_RESOURCE)
+            .register(meterRegistry);
+
+        Gauge.builder(QUEUE_DEPTH_METRIC, pendingAclsByCluster,
+                pendingAcls -> pendingAcls.containsKey(cluster) ? 1 : 0)
+            .tag(CLUSTER_TAG, cluster)
+            .tag(RESOURCE_TAG, ACL_RESOURCE)
+            .register(meterRegistry);
+    }
+}
@@ -7,42 +7,46 @@ import com.michelin.ns4kafka.repositories.TopicRepository;
 import com.michelin.ns4kafka.repositories.kafka.KafkaStoreException;
 import com.michelin.ns4kafka.services.clients.schema.SchemaRegistryClient;
 import com.michelin.ns4kafka.services.clients.schema.entities.TagEntities;
-import com.michelin.ns4kafka.services.clients.schema.entities.TagEntity;
 import com.michelin.ns4kafka.services.clients.schema.entities.TagInfo;
 import com.michelin.ns4kafka.services.clients.schema.entities.TagTopicInfo;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DeleteRecordsResult;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.RecordsToDelete;
-import org.apache.kafka.clients.admin.TopicDescription;
-import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.TopicExistsException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Topic executor.
@@ -50,132 +54,231 @@ import org.apache.kafka.common.config.ConfigResource;
 @Slf4j
 @EachBean(ManagedClusterProperties.class)
 @Singleton
-@AllArgsConstructor
 public class TopicAsyncExecutor {
     public static final String CLUSTER_ID = "cluster.id";
     public static final String TOPIC_ENTITY_TYPE = "kafka_topic";
+    public static final String TAG_OPERATIONS_METRIC = "ns4kafka.topic.tag.operations";
+    private static final String CLUSTER_TAG = "cluster";
+    private static final String OPERATION_TAG = "operation";
+    private static final String RESULT_TAG = "result";
+    private static final String TAG_OPERATION_ASSOCIATE = "associate";
+    private static final String TAG_OPERATION_DISSOCIATE = "dissociate";
+    private static final int TAG_BATCH_SIZE = 100;
+    private static final int TAG_REQUEST_CONCURRENCY = 4;
+    private static final Duration RETRY_BACKOFF_INITIAL = Duration.ofSeconds(30);
+    private static final Duration RETRY_BACKOFF_MAX = Duration.ofMinutes(10);
 
     private final ManagedClusterProperties managedClusterProperties;
 
+    private final Map<String, FailedTopic> failedTopics = new ConcurrentHashMap<>();
+
     private TopicRepository topicRepository;
 
     private SchemaRegistryClient schemaRegistryClient;
 
-    private Admin getAdminClient() {
-        return managedClusterProperties.getAdminClient();
+    private MeterRegistry meterRegistry;
+
+    private BrokerMetadataCache brokerMetadataCache;
+
+    private ManagedAdminClient managedAdminClient;
+
+    /**
+     * Constructor.
+     *
+     * @param managedClusterProperties The managed cluster properties
+     * @param topicRepository          The topic repository
+     * @param schemaRegistryClient     The Schema Registry client
+     * @param meterRegistry            The meter registry
+     * @param brokerMetadataCache      The broker metadata cache of the same cluster
+     * @param managedAdminClient       The managed admin client of the same cluster
+     */
+    public TopicAsyncExecutor(ManagedClusterProperties managedClusterProperties, TopicRepository topicRepository,
+                              SchemaRegistryClient schemaRegistryClient, MeterRegistry meterRegistry,
+                              @Parameter BrokerMetadataCache brokerMetadataCache,
+                              @Parameter ManagedAdminClient managedAdminClient) {
+        this.managedClusterProperties = managedClusterProperties;
+        this.topicRepository = topicRepository;
+        this.schemaRegistryClient = schemaRegistryClient;
+        this.meterRegistry = meterRegistry;
+        this.brokerMetadataCache = brokerMetadataCache;
+        this.managedAdminClient = managedAdminClient;
     }
 
     /**
      * Run the topic synchronization.
+     *
+     * @return true if a drift has been found between Ns4Kafka and the broker, false otherwise
      */
-    public void run() {
+    public synchronized boolean run() {
         if (this.managedClusterProperties.isManageTopics()) {
-            synchronizeTopics();
+            return synchronizeTopics();
         }
+        return false;
     }
 
     /**
      * Start the topic synchronization.
+     *
+     * @return true if a drift has been found between Ns4Kafka and the broker, false otherwise
      */
-    public void synchronizeTopics() {
+    public boolean synchronizeTopics() {
         log.debug("Starting topic collection for cluster {}", managedClusterProperties.getName());
 
         try {
             Map<String, Topic> brokerTopics = collectBrokerTopics();
             List<Topic> ns4kafkaTopics = topicRepository.findAllForCluster(managedClusterProperties.getName());
+            return synchronizeTopics(ns4kafkaTopics, brokerTopics);
+        } catch (ExecutionException | TimeoutException | CancellationException | KafkaStoreException e) {
+            log.error("An error occurred during the topic synchronization", e);
+        } catch (InterruptedException e) {
+            log.error("Thread interrupted during the topic synchronization", e);
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
 
-            List<Topic> createTopics = ns4kafkaTopics.stream()
-                .filter(topic -> !brokerTopics.containsKey(topic.getMetadata().getName()))
-                .toList();
-
-            List<Topic> checkTopics = ns4kafkaTopics.stream()
-                .filter(topic -> brokerTopics.containsKey(topic.getMetadata().getName()))
-                .toList();
+    /**
+     * Reconcile the given topics only.
+     * Only these topics are described on the broker, so a change can be applied without a full scan.
+     *
+     * @param topicNames The names of the topics to reconcile
+     */
+    public synchronized void reconcileTopics(Collection<String> topicNames) {
+        if (!this.managedClusterProperties.isManageTopics()) {
+            return;
+        }
 
-            Map<ConfigResource, Collection<AlterConfigOp>> updateTopics = checkTopics.stream()
-                .map(topic -> {
-                    Map<String, String> actualConf =
-                        brokerTopics.get(topic.getMetadata().getName()).getSpec().getConfigs();
-                    Map<String, String> expectedConf =
-                        topic.getSpec().getConfigs() == null ? Map.of() : topic.getSpec().getConfigs();
-                    Collection<AlterConfigOp> topicConfigChanges = computeConfigChanges(expectedConf, actualConf);
-                    if (!topicConfigChanges.isEmpty()) {
-                        ConfigResource cr =
-                            new ConfigResource(ConfigResource.Type.TOPIC, topic.getMetadata().getName());
-                        return Map.entry(cr, topicConfigChanges);
-                    }
-                    return null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        log.debug("Starting reconciliation of topic(s) {} for cluster {}", String.join(", ", topicNames),
+            managedClusterProperties.getName());
 
-            if (!createTopics.isEmpty()) {
-                log.debug("Topic(s) to create: "
-                    + String.join(", ", createTopics.stream().map(topic -> topic.getMetadata().getName()).toList()));
-            }
+        try {
+            Set<String> names = Set.copyOf(topicNames);
+            List<Topic> ns4kafkaTopics = topicRepository.findAllForCluster(managedClusterProperties.getName())
+                .stream()
+                .filter(topic -> names.contains(topic.getMetadata().getName()))
+                .toList();
 
-            if (!updateTopics.isEmpty()) {
-                log.debug("Topic(s) to update: "
-                    + String.join(", ", updateTopics.keySet().stream().map(ConfigResource::name).toList()));
-                for (Map.Entry<ConfigResource, Collection<AlterConfigOp>> e : updateTopics.entrySet()) {
-                    for (AlterConfigOp op : e.getValue()) {
-                        log.debug(
-                            e.getKey().name() + " " + op.opType().toString() + " " + op.configEntry().name() + "("
-                                + op.configEntry().value() + ")");
-                    }
-                }
-            }
+            Set<String> allBrokerTopicNames = brokerMetadataCache.getTopicNames();
+            List<String> brokerTopicNames = ns4kafkaTopics
+                .stream()
+                .map(topic -> topic.getMetadata().getName())
+                .filter(allBrokerTopicNames::contains)
+                .toList();
 
-            createTopics(createTopics);
-            alterTopics(updateTopics, checkTopics);
+            Map<String, Topic> brokerTopics = brokerTopicNames.isEmpty()
+                ? Map.of() : collectBrokerTopicsFromNames(brokerTopicNames);
 
-            if (isConfluentCloud()) {
-                alterTags(checkTopics, brokerTopics);
-            }
+            synchronizeTopics(ns4kafkaTopics, brokerTopics);
         } catch (ExecutionException | TimeoutException | CancellationException | KafkaStoreException e) {
-            log.error("An error occurred during the topic synchronization", e);
+            log.error("An error occurred during the topic reconciliation", e);
         } catch (InterruptedException e) {
-            log.error("Thread interrupted during the topic synchronization", e);
+            log.error("Thread interrupted during the topic reconciliation", e);
             Thread.currentThread().interrupt();
         }
     }
 
     /**
-     * Alter tags.
+     * Synchronize the given Ns4Kafka topics with the given broker topics.
+     * The topics whose creation or update has failed are skipped until their retry backoff has elapsed,
+     * unless their spec has changed since.
      *
      * @param ns4kafkaTopics Topics from ns4kafka
      * @param brokerTopics   Topics from broker
+     * @return true if a drift has been found between Ns4Kafka and the broker, false otherwise
      */
-    public void alterTags(List<Topic> ns4kafkaTopics, Map<String, Topic> brokerTopics) {
-        List<TagTopicInfo> tagsToCreate = ns4kafkaTopics
-            .stream()
-            .flatMap(topic -> {
-                Topic brokerTopic = brokerTopics.get(topic.getMetadata().getName());
+    private boolean synchronizeTopics(List<Topic> ns4kafkaTopics, Map<String, Topic> brokerTopics)
+        throws ExecutionException, InterruptedException, TimeoutException {
+        List<Topic> retryableTopics = ns4kafkaTopics.stream()
+            .filter(this::isRetryable)
+            .toList();
 
-                // Get tags to delete
-                Set<String> existingTags = new HashSet<>(brokerTopic.getSpec().getTags());
-                existingTags.removeAll(Set.copyOf(topic.getSpec().getTags()));
-                dissociateTags(existingTags, topic.getMetadata().getName());
+        List<Topic> createTopics = retryableTopics.stream()
+            .filter(topic -> !brokerTopics.containsKey(topic.getMetadata().getName()))
+            .toList();
 
-                // Get tags to create
-                Set<String> newTags = new HashSet<>(topic.getSpec().getTags());
-                newTags.removeAll(Set.copyOf(brokerTopic.getSpec().getTags()));
+        List<Topic> checkTopics = retryableTopics.stream()
+            .filter(topic -> brokerTopics.containsKey(topic.getMetadata().getName()))
+            .toList();
 
-                return newTags
-                    .stream()
-                    .map(tag -> TagTopicInfo.builder()
-                        .entityName(managedClusterProperties
-                            .getConfig()
-                            .getProperty(CLUSTER_ID) + ":" + topic.getMetadata().getName())
-                        .typeName(tag)
-                        .entityType(TOPIC_ENTITY_TYPE)
-                        .build());
+        Map<ConfigResource, Collection<AlterConfigOp>> updateTopics = checkTopics.stream()
+            .map(topic -> {
+                Map<String, String> actualConf =
+                    brokerTopics.get(topic.getMetadata().getName()).getSpec().getConfigs();
+                Map<String, String> expectedConf =
+                    topic.getSpec().getConfigs() == null ? Map.of() : topic.getSpec().getConfigs();
+                Collection<AlterConfigOp> topicConfigChanges = computeConfigChanges(expectedConf, actualConf);
+                if (!topicConfigChanges.isEmpty()) {
+                    ConfigResource cr =
+                        new ConfigResource(ConfigResource.Type.TOPIC, topic.getMetadata().getName());
+                    return Map.entry(cr, topicConfigChanges);
+                }
+                return null;
             })
-            .toList();
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        if (!createTopics.isEmpty()) {
+            log.debug("Topic(s) to create: "
+                + String.join(", ", createTopics.stream().map(topic -> topic.getMetadata().getName()).toList()));
+        }
+
+        if (!updateTopics.isEmpty()) {
+            log.debug("Topic(s) to update: "
+                + String.join(", ", updateTopics.keySet().stream().map(ConfigResource::name).toList()));
+            for (Map.Entry<ConfigResource, Collection<AlterConfigOp>> e : updateTopics.entrySet()) {
+                for (AlterConfigOp op : e.getValue()) {
+                    log.debug(
+                        e.getKey().name() + " " + op.opType().toString() + " " + op.configEntry().name() + "("
+                            + op.configEntry().value() + ")");
+                }
+            }
+        }
+
+        createTopics(createTopics);
+        alterTopics(updateTopics, checkTopics);
+
+        boolean tagsDrift = false;
+        if (isConfluentCloud()) {
+            tagsDrift = alterTags(checkTopics, brokerTopics);
+        }
+
+        return !createTopics.isEmpty() || !updateTopics.isEmpty() || tagsDrift;
+    }
+
+    /**
+     * Alter tags.
+     *
+     * @param ns4kafkaTopics Topics from ns4kafka
+     * @param brokerTopics   Topics from broker
+     * @return true if some tags have been added or removed, false otherwise
+     */
+    public boolean alterTags(List<Topic> ns4kafkaTopics, Map<String, Topic> brokerTopics) {
+        List<TagTopicInfo> tagsToDissociate = new ArrayList<>();
+        List<TagTopicInfo> tagsToAssociate = new ArrayList<>();
+
+        ns4kafkaTopics.forEach(topic -> {
+            Topic brokerTopic = brokerTopics.get(topic.getMetadata().getName());
+
+            // Get tags to delete
+            Set<String> existingTags = new HashSet<>(brokerTopic.getSpec().getTags());
+            existingTags.removeAll(Set.copyOf(topic.getSpec().getTags()));
+            existingTags.forEach(tag -> tagsToDissociate.add(buildTagTopicInfo(topic.getMetadata().getName(), tag)));
+
+            // Get tags to create
+            Set<String> newTags = new HashSet<>(topic.getSpec().getTags());
+            newTags.removeAll(Set.copyOf(brokerTopic.getSpec().getTags()));
+            newTags.forEach(tag -> tagsToAssociate.add(buildTagTopicInfo(topic.getMetadata().getName(), tag)));
+        });
+
+        if (!tagsToDissociate.isEmpty()) {
+            dissociateTags(tagsToDissociate);
+        }
 
-        if (!tagsToCreate.isEmpty()) {
-            createAndAssociateTags(tagsToCreate);
+        if (!tagsToAssociate.isEmpty()) {
+            createAndAssociateTags(tagsToAssociate);
         }
+
+        return !tagsToDissociate.isEmpty() || !tagsToAssociate.isEmpty();
     }
 
     /**
@@ -184,25 +287,33 @@ public class TopicAsyncExecutor {
      * @param topic The topic to delete
      */
     public void deleteTopic(Topic topic) throws InterruptedException, ExecutionException, TimeoutException {
-        getAdminClient().deleteTopics(List.of(topic.getMetadata().getName()))
-            .all()
+        managedAdminClient.call("deleteTopics",
+                admin -> admin.deleteTopics(List.of(topic.getMetadata().getName())).all())
             .get(30, TimeUnit.SECONDS);
 
         log.info("Success deleting topic {} on {}", topic.getMetadata().getName(),
             managedClusterProperties.getName());
 
+        brokerMetadataCache.removeTopic(topic.getMetadata().getName());
+        failedTopics.remove(topic.getMetadata().getName());
+
         if (isConfluentCloud() && !topic.getSpec().getTags().isEmpty()) {
-            dissociateTags(topic.getSpec().getTags(), topic.getMetadata().getName());
+            dissociateTags(topic.getSpec()
+                .getTags()
+                .stream()
+                .map(tag -> buildTagTopicInfo(topic.getMetadata().getName(), tag))
+                .toList());
         }
     }
 
     /**
      * Collect all topics on broker.
+     * The topic names and the topics are requested again from the broker, and refresh the metadata cache.
      *
      * @return All topics by name
      */
     public Map<String, Topic> collectBrokerTopics() throws ExecutionException, InterruptedException, TimeoutException {
-        return collectBrokerTopicsFromNames(listBrokerTopicNames());
+        return buildBrokerTopics(brokerMetadataCache.refreshTopics(brokerMetadataCache.refreshTopicNames()));
     }
 
     /**
@@ -211,11 +322,24 @@ public class TopicAsyncExecutor {
      * @return All topic names
      */
     public List<String> listBrokerTopicNames() throws InterruptedException, ExecutionException, TimeoutException {
-        return getAdminClient().listTopics().listings()
-            .get(30, TimeUnit.SECONDS)
-            .stream()
-            .map(TopicListing::name)
-            .toList();
+        return List.copyOf(brokerMetadataCache.getTopicNames());
+    }
+
+    /**
+     * List the topic names on broker that collide with the given topic name,
+     * i.e. that are equal once periods are replaced by underscores.
+     * The lookup is served by the metadata cache, so the broker is only requested when the topic names
+     * have expired.
+     *
+     * @param topicName The topic name
+     * @return The colliding topic names, including the given topic name if it exists on broker
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    public List<String> findCollidingBrokerTopicNames(String topicName)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        return brokerMetadataCache.findCollidingTopicNames(topicName);
     }
 
     /**
@@ -227,12 +351,15 @@ public class TopicAsyncExecutor {
         if (isConfluentCloud()) {
             TagEntities tagEntities = schemaRegistryClient.getTopicWithTags(managedClusterProperties.getName()).block();
             if (tagEntities != null) {
-                topics.forEach((key, value) -> {
-                    Optional<List<String>> tags = tagEntities.entities().stream()
-                        .filter(tagEntity -> value.getMetadata().getName().equals(tagEntity.displayText()))
-                        .map(TagEntity::classificationNames).findFirst();
-                    value.getSpec().setTags(tags.orElse(Collections.emptyList()));
-                });
+                Map<String, List<String>> tagsByTopicName = new HashMap<>();
+                tagEntities.entities()
+                    .stream()
+                    .filter(tagEntity -> tagEntity.classificationNames() != null)
+                    .forEach(tagEntity ->
+                        tagsByTopicName.putIfAbsent(tagEntity.displayText(), tagEntity.classificationNames()));
+
+                topics.forEach((key, value) -> value.getSpec().setTags(tagsByTopicName
+                    .getOrDefault(value.getMetadata().getName(), Collections.emptyList())));
             }
         }
     }
@@ -247,7 +374,7 @@ public class TopicAsyncExecutor {
     }
 
     /**
-     * Collect all topics on broker from a list of topic names.
+     * Collect all topics on broker from a list of topic names, served by the metadata cache.
      *
      * @param topicNames The topic names
      * @return All topics by name
@@ -257,39 +384,29 @@ public class TopicAsyncExecutor {
      */
     public Map<String, Topic> collectBrokerTopicsFromNames(List<String> topicNames)
         throws InterruptedException, ExecutionException, TimeoutException {
-        Map<String, TopicDescription> topicDescriptions = getAdminClient().describeTopics(topicNames)
-            .allTopicNames().get();
-
-        Map<String, Topic> topics = getAdminClient()
-            .describeConfigs(topicNames.stream()
-                .map(s -> new ConfigResource(ConfigResource.Type.TOPIC, s))
-                .toList())
-            .all()
-            .get(30, TimeUnit.SECONDS)
-            .entrySet()
-            .stream()
-            .collect(Collectors.toMap(
-                configResourceConfigEntry -> configResourceConfigEntry.getKey().name(),
-                configResourceConfigEntry -> configResourceConfigEntry.getValue().entries()
-                    .stream()
-                    .filter(configEntry -> configEntry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG)
-                    .collect(Collectors.toMap(ConfigEntry::name, ConfigEntry::value))
-            ))
-            .entrySet()
+        return buildBrokerTopics(brokerMetadataCache.getTopics(topicNames));
+    }
+
+    /**
+     * Build the topics on broker from their metadata.
+     *
+     * @param topicsMetadata The metadata by topic name
+     * @return All topics by name
+     */
+    private Map<String, Topic> buildBrokerTopics(Map<String, BrokerMetadataCache.TopicMetadata> topicsMetadata) {
+        Map<String, Topic> topics = topicsMetadata.values()
             .stream()
-            .map(stringMapEntry -> Topic.builder()
+            .map(topicMetadata -> Topic.builder()
                 .metadata(Metadata.builder()
                     .cluster(managedClusterProperties.getName())
-                    .name(stringMapEntry.getKey())
+                    .name(topicMetadata.name())
                     .build())
                 .spec(Topic.TopicSpec.builder()
-                    .replicationFactor(
-                        topicDescriptions.get(stringMapEntry.getKey()).partitions().get(0).replicas().size())
-                    .partitions(topicDescriptions.get(stringMapEntry.getKey()).partitions().size())
-                    .configs(stringMapEntry.getValue())
+                    .replicationFactor(topicMetadata.replicationFactor())
+                    .partitions(topicMetadata.partitions())
+                    .configs(new HashMap<>(topicMetadata.configs()))
                     .build())
-                .build()
-            )
+                .build())
             .collect(Collectors.toMap(topic -> topic.getMetadata().getName(), Function.identity()));
 
         enrichWithTags(topics);
@@ -304,7 +421,12 @@ public class TopicAsyncExecutor {
      * @param topics   The current topics
      */
     private void alterTopics(Map<ConfigResource, Collection<AlterConfigOp>> toUpdate, List<Topic> topics) {
-        AlterConfigsResult alterConfigsResult = getAdminClient().incrementalAlterConfigs(toUpdate);
+        if (toUpdate.isEmpty()) {
+            return;
+        }
+
+        AlterConfigsResult alterConfigsResult = managedAdminClient.call("incrementalAlterConfigs",
+            admin -> admin.incrementalAlterConfigs(toUpdate), AlterConfigsResult::all);
         alterConfigsResult.values().forEach((key, value) -> {
             Topic updatedTopic = topics
                 .stream()
@@ -317,6 +439,8 @@ public class TopicAsyncExecutor {
                 updatedTopic.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
                 updatedTopic.getMetadata().setGeneration(updatedTopic.getMetadata().getGeneration() + 1);
                 updatedTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic configs updated"));
+                brokerMetadataCache.invalidateTopic(key.name());
+                failedTopics.remove(key.name());
 
                 log.info("Success updating topic configs {} on {}: [{}]",
                     key.name(),
@@ -328,6 +452,7 @@ public class TopicAsyncExecutor {
             } catch (Exception e) {
                 updatedTopic.setStatus(
                     Topic.TopicStatus.ofFailed("Error while updating topic configs: " + e.getMessage()));
+                recordFailure(updatedTopic);
                 log.error(String.format("Error while updating topic configs %s on %s", key.name(),
                     managedClusterProperties.getName()), e);
             }
@@ -337,10 +462,15 @@ public class TopicAsyncExecutor {
 
     /**
      * Create topics.
+     * A topic that already exists on broker is added to the metadata cache, and is not marked as failed.
      *
      * @param topics The topics to create
      */
     private void createTopics(List<Topic> topics) {
+        if (topics.isEmpty()) {
+            return;
+        }
+
         List<NewTopic> newTopics = topics.stream()
             .map(topic -> {
                 log.debug("Creating topic {} on {}", topic.getMetadata().getName(), topic.getMetadata().getCluster());
@@ -351,7 +481,8 @@ public class TopicAsyncExecutor {
             })
             .toList();
 
-        CreateTopicsResult createTopicsResult = getAdminClient().createTopics(newTopics);
+        CreateTopicsResult createTopicsResult = managedAdminClient.call("createTopics",
+            admin -> admin.createTopics(newTopics), CreateTopicsResult::all);
         createTopicsResult.values().forEach((key, value) -> {
             Topic createdTopic = topics
                 .stream()
@@ -364,12 +495,23 @@ public class TopicAsyncExecutor {
                 createdTopic.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
                 createdTopic.getMetadata().setGeneration(1);
                 createdTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic created"));
+                brokerMetadataCache.addTopic(key);
+                failedTopics.remove(key);
                 log.info("Success creating topic {} on {}", key, managedClusterProperties.getName());
             } catch (InterruptedException e) {
                 log.error("Error", e);
                 Thread.currentThread().interrupt();
             } catch (Exception e) {
+                if (e.getCause() instanceof TopicExistsException) {
+                    // The cached topic names were stale, the next synchronization updates the topic instead
+                    brokerMetadataCache.addTopic(key);
+                    log.info("Topic {} already exists on {}, it will be updated instead of created", key,
+                        managedClusterProperties.getName());
+                    return;
+                }
+
                 createdTopic.setStatus(Topic.TopicStatus.ofFailed("Error while creating topic: " + e.getMessage()));
+                recordFailure(createdTopic);
                 log.error(
                     String.format("Error while creating topic %s on %s", key, managedClusterProperties.getName()),
                     e);
@@ -378,58 +520,175 @@ public class TopicAsyncExecutor {
         });
     }
 
+    /**
+     * Check if a topic can be created or updated.
+     * A failed topic is retried once its backoff has elapsed, or right away when its spec has changed.
+     *
+     * @param topic The topic
+     * @return true if it can, false if it is backing off
+     */
+    private boolean isRetryable(Topic topic) {
+        FailedTopic failedTopic = failedTopics.get(topic.getMetadata().getName());
+        if (failedTopic == null) {
+            return true;
+        }
+
+        if (!failedTopic.spec().equals(topic.getSpec())) {
+            failedTopics.remove(topic.getMetadata().getName(), failedTopic);
+            return true;
+        }
+
+        return System.nanoTime() - failedTopic.retryAt() >= 0;
+    }
+
+    /**
+     * Record a failed creation or update of a topic.
+     * The backoff doubles at each consecutive failure of the same spec, up to a maximum.
+     *
+     * @param topic The topic
+     */
+    private void recordFailure(Topic topic) {
+        failedTopics.compute(topic.getMetadata().getName(), (name, previous) -> {
+            int failures = previous != null && previous.spec().equals(topic.getSpec()) ? previous.failures() + 1 : 1;
+            Duration backoff = RETRY_BACKOFF_INITIAL.multipliedBy(1L << Math.min(failures - 1, 10));
+            if (backoff.compareTo(RETRY_BACKOFF_MAX) > 0) {
+                backoff = RETRY_BACKOFF_MAX;
+            }
+
+            log.debug("Topic {} on {} will be retried in {}s after {} failure(s)", name,
+                managedClusterProperties.getName(), backoff.toSeconds(), failures);
+            return new FailedTopic(topic.getSpec(), failures, System.nanoTime() + backoff.toNanos());
+        });
+    }
+
     /**
      * Create tags and associate them.
+     * The tag definitions are created in one request, then the associations are sent by batches.
      *
      * @param tagsToAssociate The tags to create and associate
      */
     private void createAndAssociateTags(List<TagTopicInfo> tagsToAssociate) {
         List<TagInfo> tagsToCreate = tagsToAssociate
             .stream()
+            .map(TagTopicInfo::typeName)
+            .distinct()
             .map(tag -> TagInfo
                 .builder()
-                .name(tag.typeName())
+                .name(tag)
                 .build())
             .toList();
 
-        String stringTags = String.join(", ", tagsToAssociate
+        String stringTags = String.join(", ", tagsToCreate
             .stream()
-            .map(Record::toString)
+            .map(TagInfo::name)
             .toList());
 
-        schemaRegistryClient.createTags(tagsToCreate, managedClusterProperties.getName())
-            .subscribe(
-                successCreation ->
-                    schemaRegistryClient.associateTags(
-                            managedClusterProperties.getName(),
-                            tagsToAssociate)
-                        .subscribe(
-                            successAssociation ->
-                                log.info(String.format("Success associating tag %s.", stringTags)),
-                            error ->
-                                log.error(String.format("Error associating tag %s.", stringTags), error)),
-                error -> log.error(String.format("Error creating tag %s.", stringTags), error));
+        Boolean created = schemaRegistryClient.createTags(tagsToCreate, managedClusterProperties.getName())
+            .thenReturn(true)
+            .onErrorResume(error -> {
+                log.error(String.format("Error creating tag %s.", stringTags), error);
+                return Mono.just(false);
+            })
+            .block();
+
+        if (!Boolean.TRUE.equals(created)) {
+            reportTagOperations(TAG_OPERATION_ASSOCIATE, 0, tagsToAssociate.size());
+            return;
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        Flux.fromIterable(tagsToAssociate)
+            .buffer(TAG_BATCH_SIZE)
+            .flatMap(tags -> schemaRegistryClient.associateTags(managedClusterProperties.getName(), tags)
+                .doOnSuccess(success -> {
+                    succeeded.addAndGet(tags.size());
+                    log.info(String.format("Success associating tag %s.", joinTags(tags)));
+                })
+                .onErrorResume(error -> {
+                    failed.addAndGet(tags.size());
+                    log.error(String.format("Error associating tag %s.", joinTags(tags)), error);
+                    return Mono.empty();
+                }), TAG_REQUEST_CONCURRENCY)
+            .blockLast();
+
+        reportTagOperations(TAG_OPERATION_ASSOCIATE, succeeded.get(), failed.get());
     }
 
     /**
-     * Dissociate tags to a topic.
+     * Dissociate tags from topics.
+     * The Schema Registry catalog only deletes a tag from an entity one at a time,
+     * so the requests are sent with a bounded concurrency.
      *
      * @param tagsToDissociate The tags to dissociate
-     * @param topicName        The topic name
      */
-    private void dissociateTags(Collection<String> tagsToDissociate, String topicName) {
-        tagsToDissociate
-            .forEach(tag -> schemaRegistryClient.dissociateTag(managedClusterProperties.getName(),
-                    managedClusterProperties.getConfig().getProperty(CLUSTER_ID)
-                        + ":" + topicName, tag)
-                .subscribe(success -> log.info(String.format("Success dissociating tag %s.",
-                        managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
-                            + topicName
-                            + "/" + tag)),
-                    error -> log.error(String.format("Error dissociating tag %s.",
-                        managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
-                            + topicName
-                            + "/" + tag), error)));
+    private void dissociateTags(List<TagTopicInfo> tagsToDissociate) {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        Flux.fromIterable(tagsToDissociate)
+            .flatMap(tag -> schemaRegistryClient.dissociateTag(managedClusterProperties.getName(),
+                    tag.entityName(), tag.typeName())
+                .doOnSuccess(success -> {
+                    succeeded.incrementAndGet();
+                    log.info(String.format("Success dissociating tag %s.", tag));
+                })
+                .onErrorResume(error -> {
+                    failed.incrementAndGet();
+                    log.error(String.format("Error dissociating tag %s.", tag), error);
+                    return Mono.empty();
+                }), TAG_REQUEST_CONCURRENCY)
+            .blockLast();
+
+        reportTagOperations(TAG_OPERATION_DISSOCIATE, succeeded.get(), failed.get());
+    }
+
+    /**
+     * Build the tag information of a topic.
+     *
+     * @param topicName The topic name
+     * @param tag       The tag
+     * @return The tag information
+     */
+    private TagTopicInfo buildTagTopicInfo(String topicName, String tag) {
+        return TagTopicInfo.builder()
+            .entityName(managedClusterProperties
+                .getConfig()
+                .getProperty(CLUSTER_ID) + ":" + topicName)
+            .typeName(tag)
+            .entityType(TOPIC_ENTITY_TYPE)
+            .build();
+    }
+
+    /**
+     * Join tags for logging.
+     *
+     * @param tags The tags
+     * @return The joined tags
+     */
+    private String joinTags(List<TagTopicInfo> tags) {
+        return String.join(", ", tags
+            .stream()
+            .map(Record::toString)
+            .toList());
+    }
+
+    /**
+     * Report the result of a tag operation of the synchronization cycle.
+     *
+     * @param operation The operation
+     * @param succeeded The number of succeeded tags
+     * @param failed    The number of failed tags
+     */
+    private void reportTagOperations(String operation, int succeeded, int failed) {
+        log.debug("Tag {} on cluster {}: {} succeeded, {} failed", operation, managedClusterProperties.getName(),
+            succeeded, failed);
+
+        meterRegistry.counter(TAG_OPERATIONS_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            OPERATION_TAG, operation, RESULT_TAG, "success").increment(succeeded);
+        meterRegistry.counter(TAG_OPERATIONS_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            OPERATION_TAG, operation, RESULT_TAG, "failure").increment(failed);
     }
 
     /**
@@ -487,17 +746,37 @@ public class TopicAsyncExecutor {
      */
     public Map<TopicPartition, RecordsToDelete> prepareRecordsToDelete(String topic)
         throws ExecutionException, InterruptedException {
-        // List all partitions for topic and prepare a listOffsets call
-        Map<TopicPartition, OffsetSpec> topicsPartitionsToDelete =
-            getAdminClient().describeTopics(List.of(topic)).allTopicNames().get()
-                .entrySet()
+        return prepareRecordsToDelete(List.of(topic));
+    }
+
+    /**
+     * For the given topics, get each latest offset by partition in order to delete all the records
+     * before these offsets.
+     * The partitions of the topics are described again rather than served by the metadata cache, so the partitions
+     * added since are not skipped. The offsets of all the topics are resolved with a single list offsets call.
+     *
+     * @param topics The topics to delete records
+     * @return A map of offsets by topic-partitions
+     * @throws ExecutionException   Any execution exception
+     * @throws InterruptedException Any interrupted exception
+     */
+    public Map<TopicPartition, RecordsToDelete> prepareRecordsToDelete(Collection<String> topics)
+        throws ExecutionException, InterruptedException {
+        // List all partitions for topics and prepare a listOffsets call
+        Map<TopicPartition, OffsetSpec> topicsPartitionsToDelete;
+        try {
+            topicsPartitionsToDelete = brokerMetadataCache.refreshTopics(topics)
+                .values()
                 .stream()
-                .flatMap(topicDescriptionEntry -> topicDescriptionEntry.getValue().partitions().stream())
-                .map(partitionInfo -> new TopicPartition(topic, partitionInfo.partition()))
+                .flatMap(topicMetadata -> topicMetadata.topicPartitions().stream())
                 .collect(Collectors.toMap(Function.identity(), v -> OffsetSpec.latest()));
+        } catch (TimeoutException e) {
+            throw new ExecutionException(e);
+        }
 
         // list all latest offsets for each partitions
-        return getAdminClient().listOffsets(topicsPartitionsToDelete).all().get()
+        return managedAdminClient.call("listOffsets", admin -> admin.listOffsets(topicsPartitionsToDelete).all())
+            .get()
             .entrySet()
             .stream()
             .collect(Collectors.toMap(Map.Entry::getKey, kv -> RecordsToDelete.beforeOffset(kv.getValue().offset())));
@@ -508,29 +787,44 @@ public class TopicAsyncExecutor {
      *
      * @param recordsToDelete The offsets by topic-partitions
      * @return The new offsets by topic-partitions
-     * @throws InterruptedException Any interrupted exception
      */
-    public Map<TopicPartition, Long> deleteRecords(Map<TopicPartition, RecordsToDelete> recordsToDelete)
-        throws InterruptedException {
-        return getAdminClient().deleteRecords(recordsToDelete).lowWatermarks().entrySet().stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, kv -> {
-                try {
-                    var newValue = kv.getValue().get().lowWatermark();
-                    log.info("Deleting records {} of topic-partition {}", newValue, kv.getKey());
-                    return newValue;
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.error(String.format("Thread interrupted deleting records of topic-partition %s", kv.getKey()),
-                        e);
-                    return -1L;
-                } catch (ExecutionException e) {
-                    log.error(String.format("Execution error deleting records of topic-partition %s", kv.getKey()), e);
-                    return -1L;
-                } catch (Exception e) {
-                    log.error(String.format("Error deleting records of topic-partition %s", kv.getKey()), e);
-                    return -1L;
-                }
-            }));
+    public Map<TopicPartition, Long> deleteRecords(Map<TopicPartition, RecordsToDelete> recordsToDelete) {
+        return deleteRecordsAsync(recordsToDelete)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .block();
+    }
 
+    /**
+     * Delete the records for each partition, before each offset.
+     * The new offsets are emitted as soon as each partition is purged.
+     *
+     * @param recordsToDelete The offsets by topic-partitions
+     * @return The new offset of each topic-partition, or -1 if the deletion failed
+     */
+    public Flux<Map.Entry<TopicPartition, Long>> deleteRecordsAsync(
+        Map<TopicPartition, RecordsToDelete> recordsToDelete) {
+        DeleteRecordsResult deleteRecordsResult = managedAdminClient.call("deleteRecords",
+            admin -> admin.deleteRecords(recordsToDelete), DeleteRecordsResult::all);
+
+        return Flux.fromIterable(deleteRecordsResult.lowWatermarks().entrySet())
+            .flatMap(kv -> Mono.fromCompletionStage(kv.getValue().toCompletionStage())
+                .map(deletedRecords -> {
+                    log.info("Deleting records {} of topic-partition {}", deletedRecords.lowWatermark(), kv.getKey());
+                    return Map.entry(kv.getKey(), deletedRecords.lowWatermark());
+                })
+                .onErrorResume(error -> {
+                    log.error(String.format("Error deleting records of topic-partition %s", kv.getKey()), error);
+                    return Mono.just(Map.entry(kv.getKey(), -1L));
+                }));
+    }
+
+    /**
+     * Failed creation or update of a topic.
+     *
+     * @param spec     The spec that failed
+     * @param failures The number of consecutive failures of this spec
+     * @param retryAt  The time of the next retry, in nanoseconds
+     */
+    private record FailedTopic(Topic.TopicSpec spec, int failures, long retryAt) {
     }
 }
@@ -8,20 +8,28 @@ import com.michelin.ns4kafka.properties.ManagedClusterProperties;
 import com.michelin.ns4kafka.repositories.NamespaceRepository;
 import com.michelin.ns4kafka.repositories.ResourceQuotaRepository;
 import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Property;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
@@ -39,8 +47,32 @@ import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 public class UserAsyncExecutor {
     public static final double BYTE_RATE_DEFAULT_VALUE = 102400.0;
 
+    public static final String SYNCHRONIZATION_METRIC = "ns4kafka.user.quotas.synchronization";
+
+    public static final String ALTERATIONS_METRIC = "ns4kafka.user.quotas.alterations";
+
+    public static final String CREATE = "create";
+
+    public static final String UPDATE = "update";
+
+    public static final String DELETE = "delete";
+
+    public static final String SUCCESS = "success";
+
+    public static final String FAILURE = "failure";
+
+    private static final String CLUSTER_TAG = "cluster";
+
+    private static final String OPERATION_TAG = "operation";
+
+    private static final String RESULT_TAG = "result";
+
     private static final String USER_QUOTA_PREFIX = "user/";
 
+    private static final List<String> BYTE_RATE_QUOTAS = List.of("producer_byte_rate", "consumer_byte_rate");
+
+    private static final double QUOTA_TOLERANCE = 1e-6;
+
     private final ManagedClusterProperties managedClusterProperties;
 
     private final AbstractUserSynchronizer userExecutor;
@@ -51,16 +83,27 @@ public class UserAsyncExecutor {
     @Inject
     ResourceQuotaRepository quotaRepository;
 
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Property(name = "ns4kafka.user-quotas.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @Property(name = "ns4kafka.user-quotas.delete-orphans", defaultValue = "false")
+    boolean deleteOrphanQuotas;
+
     /**
      * Constructor.
      *
      * @param managedClusterProperties The managed cluster properties
+     * @param managedAdminClient       The managed admin client of the same cluster
      */
-    public UserAsyncExecutor(ManagedClusterProperties managedClusterProperties) {
+    public UserAsyncExecutor(ManagedClusterProperties managedClusterProperties,
+                             @Parameter ManagedAdminClient managedAdminClient) {
         this.managedClusterProperties = managedClusterProperties;
         if (Objects.requireNonNull(managedClusterProperties.getProvider())
             == ManagedClusterProperties.KafkaProvider.SELF_MANAGED) {
-            this.userExecutor = new Scram512UserSynchronizer(managedClusterProperties.getAdminClient());
+            this.userExecutor = new Scram512UserSynchronizer(managedAdminClient);
         } else {
             this.userExecutor = new UnimplementedUserSynchronizer();
         }
@@ -68,18 +111,24 @@ public class UserAsyncExecutor {
 
     /**
      * Run the user synchronization.
+     *
+     * @return true if a drift has been found between Ns4Kafka and the broker, false otherwise
      */
-    public void run() {
+    public boolean run() {
         if (this.managedClusterProperties.isManageUsers() && userExecutor.canSynchronizeQuotas()) {
-            synchronizeUsers();
+            return synchronizeUsers();
         }
-
+        return false;
     }
 
     /**
      * Start the user synchronization.
+     * The quotas to create, update or remove are sent in batches of multi-user alterations.
+     *
+     * @return true if a drift has been found between Ns4Kafka and the broker, false otherwise
      */
-    public void synchronizeUsers() {
+    public boolean synchronizeUsers() {
+        long start = System.nanoTime();
         log.debug("Starting user collection for cluster {}", managedClusterProperties.getName());
         // List user details from broker
         Map<String, Map<String, Double>> brokerUserQuotas = userExecutor.listQuotas();
@@ -93,13 +142,13 @@ public class UserAsyncExecutor {
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         Map<String, Map<String, Double>> toDelete = brokerUserQuotas.entrySet()
             .stream()
-            .filter(entry -> !ns4kafkaUserQuotas.containsKey(entry.getKey()))
+            .filter(entry -> entry.getKey() != null && !ns4kafkaUserQuotas.containsKey(entry.getKey()))
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         Map<String, Map<String, Double>> toUpdate = ns4kafkaUserQuotas.entrySet()
             .stream()
             .filter(entry -> brokerUserQuotas.containsKey(entry.getKey()))
-            .filter(
-                entry -> !entry.getValue().isEmpty() && !entry.getValue().equals(brokerUserQuotas.get(entry.getKey())))
+            .filter(entry -> !entry.getValue().isEmpty()
+                && !isSameQuotas(entry.getValue(), brokerUserQuotas.get(entry.getKey())))
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
         if (log.isDebugEnabled()) {
@@ -108,8 +157,51 @@ public class UserAsyncExecutor {
             log.debug("UserQuotas to update : " + toUpdate.size());
         }
 
-        createUserQuotas(toCreate);
-        createUserQuotas(toUpdate);
+        recordAlterations(CREATE, toCreate.keySet(), userExecutor.applyQuotas(toCreate, batchSize));
+        recordAlterations(UPDATE, toUpdate.keySet(), userExecutor.applyQuotas(toUpdate, batchSize));
+
+        boolean drift = !toCreate.isEmpty() || !toUpdate.isEmpty();
+        if (deleteOrphanQuotas && !toDelete.isEmpty()) {
+            recordAlterations(DELETE, toDelete.keySet(), userExecutor.removeQuotas(toDelete, batchSize));
+            drift = true;
+        }
+
+        Timer.builder(SYNCHRONIZATION_METRIC)
+            .tag(CLUSTER_TAG, managedClusterProperties.getName())
+            .register(meterRegistry)
+            .record(Duration.ofNanos(System.nanoTime() - start));
+
+        return drift;
+    }
+
+    /**
+     * Check whether the quotas of a user in Ns4Kafka match the quotas of the user on the broker.
+     * The byte rates not set in Ns4Kafka are compared to their default value, and the values are compared with a
+     * relative tolerance, so a quota that went through a floating-point round trip is not applied again.
+     *
+     * @param ns4kafkaQuotas The quotas in Ns4Kafka
+     * @param brokerQuotas   The quotas on the broker
+     * @return true if the quotas match, false otherwise
+     */
+    static boolean isSameQuotas(Map<String, Double> ns4kafkaQuotas, Map<String, Double> brokerQuotas) {
+        return BYTE_RATE_QUOTAS.stream().allMatch(quota -> {
+            Double brokerQuota = brokerQuotas.get(quota);
+            double ns4kafkaQuota = ns4kafkaQuotas.getOrDefault(quota, BYTE_RATE_DEFAULT_VALUE);
+
+            return brokerQuota != null && Math.abs(ns4kafkaQuota - brokerQuota)
+                <= QUOTA_TOLERANCE * Math.max(Math.abs(ns4kafkaQuota), Math.abs(brokerQuota));
+        });
+    }
+
+    private void recordAlterations(String operation, Set<String> users, Set<String> failedUsers) {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        meterRegistry.counter(ALTERATIONS_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            OPERATION_TAG, operation, RESULT_TAG, SUCCESS).increment(users.size() - failedUsers.size());
+        meterRegistry.counter(ALTERATIONS_METRIC, CLUSTER_TAG, managedClusterProperties.getName(),
+            OPERATION_TAG, operation, RESULT_TAG, FAILURE).increment(failedUsers.size());
     }
 
     /**
@@ -128,10 +220,15 @@ public class UserAsyncExecutor {
     }
 
     private Map<String, Map<String, Double>> collectNs4kafkaQuotas() {
+        Map<String, ResourceQuota> quotas = quotaRepository.findAll()
+            .stream()
+            .collect(Collectors.toMap(resourceQuota -> resourceQuota.getMetadata().getNamespace(),
+                resourceQuota -> resourceQuota, (first, second) -> first));
+
         return namespaceRepository.findAllForCluster(managedClusterProperties.getName())
             .stream()
             .map(namespace -> {
-                Optional<ResourceQuota> quota = quotaRepository.findForNamespace(namespace.getMetadata().getName());
+                Optional<ResourceQuota> quota = Optional.ofNullable(quotas.get(namespace.getMetadata().getName()));
                 Map<String, Double> userQuota = new HashMap<>();
 
                 quota.ifPresent(resourceQuota -> resourceQuota.getSpec().entrySet()
@@ -146,10 +243,6 @@ public class UserAsyncExecutor {
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private void createUserQuotas(Map<String, Map<String, Double>> toCreate) {
-        toCreate.forEach(userExecutor::applyQuotas);
-    }
-
     interface AbstractUserSynchronizer {
         boolean canSynchronizeQuotas();
 
@@ -157,7 +250,23 @@ public class UserAsyncExecutor {
 
         String resetPassword(String user);
 
-        void applyQuotas(String user, Map<String, Double> quotas);
+        /**
+         * Apply the byte rate quotas of the given users.
+         *
+         * @param quotas    The quotas by user, the byte rates not given are set to their default value
+         * @param batchSize The maximum number of users altered by a single request
+         * @return The users whose quotas could not be applied
+         */
+        Set<String> applyQuotas(Map<String, Map<String, Double>> quotas, int batchSize);
+
+        /**
+         * Remove the quotas of the given users.
+         *
+         * @param quotas    The current quotas by user
+         * @param batchSize The maximum number of users altered by a single request
+         * @return The users whose quotas could not be removed
+         */
+        Set<String> removeQuotas(Map<String, Map<String, Double>> quotas, int batchSize);
 
         Map<String, Map<String, Double>> listQuotas();
     }
@@ -166,10 +275,10 @@ public class UserAsyncExecutor {
 
         private final ScramCredentialInfo info = new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096);
         private final SecureRandom secureRandom = new SecureRandom();
-        private final Admin admin;
+        private final ManagedAdminClient managedAdminClient;
 
-        public Scram512UserSynchronizer(Admin admin) {
-            this.admin = admin;
+        public Scram512UserSynchronizer(ManagedAdminClient managedAdminClient) {
+            this.managedAdminClient = managedAdminClient;
         }
 
         @Override
@@ -189,7 +298,9 @@ public class UserAsyncExecutor {
             String password = Base64.getEncoder().encodeToString(randomBytes);
             UserScramCredentialUpsertion update = new UserScramCredentialUpsertion(user, info, password);
             try {
-                admin.alterUserScramCredentials(List.of(update)).all().get(10, TimeUnit.SECONDS);
+                managedAdminClient.call("alterUserScramCredentials",
+                        admin -> admin.alterUserScramCredentials(List.of(update)).all())
+                    .get(10, TimeUnit.SECONDS);
                 log.info("Success resetting password for user {}", user);
             } catch (InterruptedException e) {
                 log.error("Error", e);
@@ -206,7 +317,9 @@ public class UserAsyncExecutor {
             ClientQuotaFilter filter = ClientQuotaFilter.containsOnly(
                 List.of(ClientQuotaFilterComponent.ofEntityType(ClientQuotaEntity.USER)));
             try {
-                return admin.describeClientQuotas(filter).entities().get(10, TimeUnit.SECONDS)
+                return managedAdminClient.call("describeClientQuotas",
+                        admin -> admin.describeClientQuotas(filter).entities())
+                    .get(10, TimeUnit.SECONDS)
                     .entrySet()
                     .stream()
                     .map(entry -> Map.entry(entry.getKey().entries().get(ClientQuotaEntity.USER), entry.getValue()))
@@ -222,25 +335,71 @@ public class UserAsyncExecutor {
         }
 
         @Override
-        public void applyQuotas(String user, Map<String, Double> quotas) {
-            ClientQuotaEntity client = new ClientQuotaEntity(Map.of("user", user));
-            ClientQuotaAlteration.Op producerQuota = new ClientQuotaAlteration.Op("producer_byte_rate",
-                quotas.getOrDefault("producer_byte_rate", BYTE_RATE_DEFAULT_VALUE));
-            ClientQuotaAlteration.Op consumerQuota = new ClientQuotaAlteration.Op("consumer_byte_rate",
-                quotas.getOrDefault("consumer_byte_rate", BYTE_RATE_DEFAULT_VALUE));
-            ClientQuotaAlteration clientQuota =
-                new ClientQuotaAlteration(client, List.of(producerQuota, consumerQuota));
-            try {
-                admin.alterClientQuotas(List.of(clientQuota)).all().get(10, TimeUnit.SECONDS);
-                log.info("Success applying quotas {} for user {}", clientQuota.ops(), user);
-            } catch (InterruptedException e) {
-                log.error("Error", e);
-                Thread.currentThread().interrupt();
-            } catch (Exception e) {
-                log.error(String.format("Error while applying quotas for user %s", user), e);
+        public Set<String> applyQuotas(Map<String, Map<String, Double>> quotas, int batchSize) {
+            return alterQuotas(quotas.entrySet()
+                .stream()
+                .map(entry -> new ClientQuotaAlteration(userEntity(entry.getKey()), BYTE_RATE_QUOTAS
+                    .stream()
+                    .map(quota -> new ClientQuotaAlteration.Op(quota,
+                        entry.getValue().getOrDefault(quota, BYTE_RATE_DEFAULT_VALUE)))
+                    .toList()))
+                .toList(), batchSize);
+        }
+
+        @Override
+        public Set<String> removeQuotas(Map<String, Map<String, Double>> quotas, int batchSize) {
+            return alterQuotas(quotas.entrySet()
+                .stream()
+                .map(entry -> new ClientQuotaAlteration(userEntity(entry.getKey()), entry.getValue().keySet()
+                    .stream()
+                    .map(quota -> new ClientQuotaAlteration.Op(quota, null))
+                    .toList()))
+                .toList(), batchSize);
+        }
 
+        /**
+         * Send the alterations in batches, all the batches being sent before waiting for the results.
+         *
+         * @param alterations The alterations
+         * @param batchSize   The maximum number of alterations by request
+         * @return The users whose alteration failed
+         */
+        private Set<String> alterQuotas(List<ClientQuotaAlteration> alterations, int batchSize) {
+            List<AlterClientQuotasResult> results = new ArrayList<>();
+            Set<String> failedUsers = new HashSet<>();
+
+            for (int i = 0; i < alterations.size(); i += batchSize) {
+                List<ClientQuotaAlteration> batch = alterations.subList(i, Math.min(i + batchSize, alterations.size()));
+                try {
+                    results.add(managedAdminClient.call("alterClientQuotas",
+                        admin -> admin.alterClientQuotas(batch), AlterClientQuotasResult::all));
+                } catch (Exception e) {
+                    log.error("Error while sending quotas of {} user(s)", batch.size(), e);
+                    batch.forEach(alteration -> failedUsers.add(alteration.entity().entries()
+                        .get(ClientQuotaEntity.USER)));
+                }
             }
 
+            results.forEach(result -> result.values().forEach((entity, future) -> {
+                String user = entity.entries().get(ClientQuotaEntity.USER);
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                    log.info("Success altering quotas for user {}", user);
+                } catch (InterruptedException e) {
+                    log.error("Error", e);
+                    failedUsers.add(user);
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    log.error(String.format("Error while altering quotas for user %s", user), e);
+                    failedUsers.add(user);
+                }
+            }));
+
+            return failedUsers;
+        }
+
+        private static ClientQuotaEntity userEntity(String user) {
+            return new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, user));
         }
     }
 
@@ -265,7 +424,12 @@ public class UserAsyncExecutor {
         }
 
         @Override
-        public void applyQuotas(String user, Map<String, Double> quotas) {
+        public Set<String> applyQuotas(Map<String, Map<String, Double>> quotas, int batchSize) {
+            throw exception;
+        }
+
+        @Override
+        public Set<String> removeQuotas(Map<String, Map<String, Double>> quotas, int batchSize) {
             throw exception;
         }
 
@@ -18,6 +18,7 @@ public enum Kind {
     NAMESPACE("Namespace"),
     RESOURCE_QUOTA("ResourceQuota"),
     RESOURCE_QUOTA_RESPONSE("ResourceQuotaResponse"),
+    RESOURCE_QUOTA_USAGE("ResourceQuotaUsage"),
     ROLE_BINDING("RoleBinding"),
     SCHEMA("Schema"),
     SCHEMA_COMPATIBILITY_STATE("SchemaCompatibilityState"),
@@ -0,0 +1,28 @@
+package com.michelin.ns4kafka.utils.exceptions;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Exception thrown when a Connect cluster is not requested because its circuit breaker is open.
+ */
+@Getter
+public class ConnectClusterUnavailableException extends RuntimeException {
+    private static final String MESSAGE = "Connect cluster \"%s\" is unavailable, retry in %d seconds";
+
+    private final String connectCluster;
+
+    private final transient Duration retryAfter;
+
+    /**
+     * Constructor.
+     *
+     * @param connectCluster The Connect cluster
+     * @param retryAfter     The time before the Connect cluster is requested again
+     */
+    public ConnectClusterUnavailableException(String connectCluster, Duration retryAfter) {
+        super(String.format(MESSAGE, connectCluster, Math.max(1, retryAfter.toSeconds())));
+        this.connectCluster = connectCluster;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -97,6 +97,30 @@ class ConnectorControllerTest {
         assertEquals(2, actual.size());
     }
 
+    @Test
+    void listConnectorStatuses() {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("test")
+                .cluster("local")
+                .build())
+            .build();
+
+        when(namespaceService.findByName("test"))
+            .thenReturn(Optional.of(ns));
+        when(connectorService.findAllStatusesForNamespace(ns))
+            .thenReturn(Flux.just(Connector.builder()
+                .metadata(Metadata.builder().name("connect1").build())
+                .status(Connector.ConnectorStatus.builder()
+                    .state(Connector.TaskState.RUNNING)
+                    .build())
+                .build()));
+
+        StepVerifier.create(connectorController.listStatuses("test"))
+            .consumeNextWith(connector -> assertEquals(Connector.TaskState.RUNNING, connector.getStatus().getState()))
+            .verifyComplete();
+    }
+
     @Test
     void getConnectorEmpty() {
         Namespace ns = Namespace.builder()
@@ -524,13 +548,14 @@ class ConnectorControllerTest {
         when(connectorService.listUnsynchronizedConnectors(ns))
             .thenReturn(Flux.fromIterable(List.of(connector1, connector2)));
 
-        when(connectorService.createOrUpdate(connector1)).thenReturn(connector1);
-        when(connectorService.createOrUpdate(connector2)).thenReturn(connector2);
+        when(connectorService.createAll(List.of(connector1, connector2))).thenReturn(List.of(connector1, connector2));
 
         StepVerifier.create(connectorController.importResources("test", false))
             .consumeNextWith(connect1 -> assertEquals("connect1", connect1.getMetadata().getName()))
             .consumeNextWith(connect2 -> assertEquals("connect2", connect2.getMetadata().getName()))
             .verifyComplete();
+
+        verify(connectorService, never()).createOrUpdate(any());
     }
 
     @Test
@@ -559,6 +584,7 @@ class ConnectorControllerTest {
         verify(connectorService, never()).createOrUpdate(connector1);
         verify(connectorService, never()).createOrUpdate(connector2);
         verify(connectorService, never()).createOrUpdate(connector3);
+        verify(connectorService, never()).createAll(any());
     }
 
     @Test
@@ -17,14 +17,18 @@ import com.michelin.ns4kafka.models.Metadata;
 import com.michelin.ns4kafka.models.Namespace;
 import com.michelin.ns4kafka.models.quota.ResourceQuota;
 import com.michelin.ns4kafka.models.quota.ResourceQuotaResponse;
+import com.michelin.ns4kafka.models.quota.ResourceQuotaUsage;
 import com.michelin.ns4kafka.security.ResourceBasedSecurityRule;
 import com.michelin.ns4kafka.services.NamespaceService;
 import com.michelin.ns4kafka.services.ResourceQuotaService;
+import com.michelin.ns4kafka.services.ResourceQuotaUsageHistoryService;
 import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.security.utils.SecurityService;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,12 +50,37 @@ class ResourceQuotaControllerTest {
     @Mock
     NamespaceService namespaceService;
 
+    @Mock
+    ResourceQuotaUsageHistoryService resourceQuotaUsageHistoryService;
+
     @Mock
     SecurityService securityService;
 
     @Mock
     ApplicationEventPublisher<AuditLog> applicationEventPublisher;
 
+    @Test
+    void history() {
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant to = Instant.parse("2024-01-02T00:00:00Z");
+        ResourceQuotaUsage usage = ResourceQuotaUsage.builder()
+            .metadata(Metadata.builder()
+                .name("1704067200000")
+                .namespace("test")
+                .build())
+            .spec(ResourceQuotaUsage.ResourceQuotaUsageSpec.builder()
+                .countTopic(1)
+                .build())
+            .build();
+
+        when(resourceQuotaUsageHistoryService.findHistory("test", from, to)).thenReturn(List.of(usage));
+        when(resourceQuotaUsageHistoryService.findHistory("test", from.minus(Duration.ofDays(1)), from))
+            .thenReturn(List.of());
+
+        assertEquals(List.of(usage), resourceQuotaController.history("test", from, to));
+        assertEquals(List.of(), resourceQuotaController.history("test", null, from));
+    }
+
     @Test
     void list() {
         Namespace ns = Namespace.builder()
@@ -2,6 +2,8 @@ package com.michelin.ns4kafka.controllers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.controllers.quota.ResourceQuotaNonNamespacedController;
@@ -49,10 +51,21 @@ class ResourceQuotaNonNamespacedControllerTest {
             .build();
 
         when(namespaceService.listAll()).thenReturn(List.of(namespace));
-        when(resourceQuotaService.getUsedQuotaByNamespaces(any())).thenReturn(List.of(response));
+        when(resourceQuotaService.getUsedQuotaByNamespaces(any(), any(), anyInt(), anyInt()))
+            .thenReturn(List.of(response));
 
-        List<ResourceQuotaResponse> actual = resourceQuotaController.listAll();
+        List<ResourceQuotaResponse> actual = resourceQuotaController.listAll(null, 0, 0);
         assertEquals(1, actual.size());
         assertEquals(response, actual.get(0));
     }
+
+    @Test
+    void listAllSortedAndPaginated() {
+        when(namespaceService.listAll()).thenReturn(List.of());
+        when(resourceQuotaService.getUsedQuotaByNamespaces(List.of(), "disk/topics", 2, 50))
+            .thenReturn(List.of());
+
+        assertEquals(List.of(), resourceQuotaController.listAll("disk/topics", 2, 50));
+        verify(resourceQuotaService).getUsedQuotaByNamespaces(List.of(), "disk/topics", 2, 50);
+    }
 }
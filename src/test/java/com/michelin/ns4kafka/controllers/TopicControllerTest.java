@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
@@ -43,6 +45,8 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class TopicControllerTest {
@@ -740,7 +744,7 @@ class TopicControllerTest {
     }
 
     @Test
-    void importTopic() throws InterruptedException, ExecutionException, TimeoutException {
+    void importTopic() {
         Namespace ns = Namespace.builder()
             .metadata(Metadata.builder()
                 .name("test")
@@ -780,12 +784,10 @@ class TopicControllerTest {
         when(namespaceService.findByName("test"))
             .thenReturn(Optional.of(ns));
         when(topicService.listUnsynchronizedTopics(ns))
-            .thenReturn(List.of(topic1, topic2));
-        when(topicService.create(topic1)).thenReturn(topic1);
-        when(topicService.create(topic2)).thenReturn(topic2);
+            .thenReturn(Flux.fromIterable(List.of(topic1, topic2)));
+        when(topicService.createAll(List.of(topic1, topic2))).thenReturn(List.of(topic1, topic2));
 
-
-        List<Topic> actual = topicController.importResources("test", false);
+        List<Topic> actual = topicController.importResources("test", false).collectList().block();
 
         assertTrue(actual.stream()
             .anyMatch(t ->
@@ -808,7 +810,7 @@ class TopicControllerTest {
     }
 
     @Test
-    void importTopicDryRun() throws InterruptedException, ExecutionException, TimeoutException {
+    void importTopicDryRun() {
         Namespace ns = Namespace.builder()
             .metadata(Metadata.builder()
                 .name("test")
@@ -848,9 +850,9 @@ class TopicControllerTest {
         when(namespaceService.findByName("test"))
             .thenReturn(Optional.of(ns));
         when(topicService.listUnsynchronizedTopics(ns))
-            .thenReturn(List.of(topic1, topic2));
+            .thenReturn(Flux.fromIterable(List.of(topic1, topic2)));
 
-        List<Topic> actual = topicController.importResources("test", true);
+        List<Topic> actual = topicController.importResources("test", true).collectList().block();
 
         assertTrue(actual.stream()
             .anyMatch(t ->
@@ -1057,6 +1059,95 @@ class TopicControllerTest {
             actual.getValidationErrors());
     }
 
+    @Test
+    void bulkDeleteRecordsByPrefix() {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("test")
+                .cluster("local")
+                .build())
+            .build();
+
+        Topic topic1 = Topic.builder().metadata(Metadata.builder().name("test.topic1").build()).build();
+        Topic topic2 = Topic.builder().metadata(Metadata.builder().name("test.topic2").build()).build();
+        Topic otherTopic = Topic.builder().metadata(Metadata.builder().name("other.topic").build()).build();
+
+        when(namespaceService.findByName("test"))
+            .thenReturn(Optional.of(ns));
+        when(topicService.findAllForNamespace(ns))
+            .thenReturn(List.of(topic1, topic2, otherTopic));
+        when(topicService.validateDeleteRecordsTopic(any()))
+            .thenReturn(List.of());
+        when(topicService.deleteRecords(ns, List.of(topic1, topic2), false))
+            .thenReturn(Flux.just(
+                Map.entry(new TopicPartition("test.topic1", 0), 100L),
+                Map.entry(new TopicPartition("test.topic2", 0), 200L)));
+
+        StepVerifier.create(topicController.bulkDeleteRecords("test", null, "test.", false))
+            .consumeNextWith(response -> {
+                assertEquals("test.topic1", response.getSpec().getTopic());
+                assertEquals(0, response.getSpec().getPartition());
+                assertEquals(100L, response.getSpec().getOffset());
+            })
+            .consumeNextWith(response -> {
+                assertEquals("test.topic2", response.getSpec().getTopic());
+                assertEquals(0, response.getSpec().getPartition());
+                assertEquals(200L, response.getSpec().getOffset());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void bulkDeleteRecordsNoTopic() {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("test")
+                .cluster("local")
+                .build())
+            .build();
+
+        when(namespaceService.findByName("test"))
+            .thenReturn(Optional.of(ns));
+
+        ResourceValidationException actual = assertThrows(ResourceValidationException.class,
+            () -> topicController.bulkDeleteRecords("test", null, null, false));
+
+        assertEquals(1, actual.getValidationErrors().size());
+        verify(topicService, never()).deleteRecords(any(), anyList(), anyBoolean());
+    }
+
+    @Test
+    void bulkDeleteRecordsNotOwnerAndCompactedTopics() {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("test")
+                .cluster("local")
+                .build())
+            .build();
+
+        Topic compactedTopic = Topic.builder().metadata(Metadata.builder().name("test.compacted").build()).build();
+
+        when(namespaceService.findByName("test"))
+            .thenReturn(Optional.of(ns));
+        when(topicService.findAllForNamespace(ns))
+            .thenReturn(List.of(compactedTopic));
+        when(topicService.buildNamespaceOwnershipMatcher("test"))
+            .thenReturn(topic -> topic.startsWith("test."));
+        when(topicService.validateDeleteRecordsTopic(compactedTopic))
+            .thenReturn(List.of("Cannot delete records on a compacted topic. Please delete and recreate the topic."));
+
+        List<String> topics = List.of("test.compacted", "other.topic");
+        ResourceValidationException actual = assertThrows(ResourceValidationException.class,
+            () -> topicController.bulkDeleteRecords("test", topics, null, false));
+
+        assertLinesMatch(List.of(
+                "Invalid value \"other.topic\" for field \"name\": namespace is not owner of the resource.",
+                "test.compacted: Cannot delete records on a compacted topic. Please delete and recreate the topic."),
+            actual.getValidationErrors());
+        verify(topicService, never()).isNamespaceOwnerOfTopic(any(), any());
+        verify(topicService, never()).deleteRecords(any(), anyList(), anyBoolean());
+    }
+
     @Test
     void createCollidingTopic() throws InterruptedException, ExecutionException, TimeoutException {
         Namespace ns = Namespace.builder()
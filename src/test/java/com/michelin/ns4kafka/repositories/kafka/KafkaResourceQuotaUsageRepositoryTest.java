@@ -0,0 +1,101 @@
+package com.michelin.ns4kafka.repositories.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.quota.ResourceQuotaUsage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaResourceQuotaUsageRepositoryTest {
+    private static final String STORE_TOPIC = "ns4kafka.resource-quota-usages";
+    private static final Instant TEN_AM = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    Producer<String, ResourceQuotaUsage> kafkaProducer;
+
+    KafkaResourceQuotaUsageRepository kafkaResourceQuotaUsageRepository;
+
+    long nextOffset;
+
+    @BeforeEach
+    void setUp() {
+        kafkaResourceQuotaUsageRepository = new KafkaResourceQuotaUsageRepository(STORE_TOPIC, kafkaProducer);
+    }
+
+    @Test
+    void shouldFindUsagesByNamespaceAndTime() {
+        ResourceQuotaUsage nine = buildBucket("ns", TEN_AM.minus(Duration.ofHours(1)), 1);
+        ResourceQuotaUsage ten = buildBucket("ns", TEN_AM, 1);
+        ResourceQuotaUsage eleven = buildBucket("ns", TEN_AM.plus(Duration.ofHours(1)), 1);
+        ResourceQuotaUsage otherTen = buildBucket("other", TEN_AM, 1);
+
+        receive(eleven);
+        receive(nine);
+        receive(otherTen);
+        receive(ten);
+
+        assertEquals(List.of(ten, eleven), kafkaResourceQuotaUsageRepository.findAllForNamespace("ns",
+            Date.from(TEN_AM), Date.from(TEN_AM.plus(Duration.ofHours(2)))));
+        assertEquals(List.of(nine), kafkaResourceQuotaUsageRepository.findAllForNamespace("ns",
+            Date.from(TEN_AM.minus(Duration.ofHours(2))), Date.from(TEN_AM)));
+        assertTrue(kafkaResourceQuotaUsageRepository.findAllForNamespace("unknown",
+            Date.from(TEN_AM), Date.from(TEN_AM.plus(Duration.ofHours(1)))).isEmpty());
+        assertEquals(2, kafkaResourceQuotaUsageRepository.findAllAt(Date.from(TEN_AM)).size());
+        assertTrue(kafkaResourceQuotaUsageRepository.findAllAt(Date.from(TEN_AM)).containsAll(List.of(ten, otherTen)));
+        assertEquals(List.of(nine), kafkaResourceQuotaUsageRepository.findAllBefore(Date.from(TEN_AM)));
+    }
+
+    @Test
+    void shouldKeepIndexUpToDateWithStore() {
+        ResourceQuotaUsage ten = buildBucket("ns", TEN_AM, 1);
+        ResourceQuotaUsage updatedTen = buildBucket("ns", TEN_AM, 2);
+        ResourceQuotaUsage eleven = buildBucket("ns", TEN_AM.plus(Duration.ofHours(1)), 1);
+
+        receive(ten);
+        receive(eleven);
+        receive(updatedTen);
+
+        assertEquals(List.of(updatedTen), kafkaResourceQuotaUsageRepository.findAllAt(Date.from(TEN_AM)));
+
+        receive("ns/" + TEN_AM.toEpochMilli(), null);
+
+        assertTrue(kafkaResourceQuotaUsageRepository.findAllAt(Date.from(TEN_AM)).isEmpty());
+        assertEquals(List.of(eleven), kafkaResourceQuotaUsageRepository.findAllForNamespace("ns",
+            Date.from(TEN_AM), Date.from(TEN_AM.plus(Duration.ofHours(2)))));
+        assertEquals(List.of(eleven), kafkaResourceQuotaUsageRepository.findAll());
+    }
+
+    private void receive(ResourceQuotaUsage usage) {
+        receive(kafkaResourceQuotaUsageRepository.getMessageKey(usage), usage);
+    }
+
+    private void receive(String key, ResourceQuotaUsage usage) {
+        kafkaResourceQuotaUsageRepository.receive(new ConsumerRecord<>(STORE_TOPIC, 0, nextOffset++, key, usage));
+    }
+
+    private ResourceQuotaUsage buildBucket(String namespace, Instant bucketStart, long countTopic) {
+        return ResourceQuotaUsage.builder()
+            .metadata(Metadata.builder()
+                .name(String.valueOf(bucketStart.toEpochMilli()))
+                .namespace(namespace)
+                .cluster("local")
+                .build())
+            .spec(ResourceQuotaUsage.ResourceQuotaUsageSpec.builder()
+                .timestamp(Date.from(bucketStart))
+                .countTopic(countTopic)
+                .build())
+            .build();
+    }
+}
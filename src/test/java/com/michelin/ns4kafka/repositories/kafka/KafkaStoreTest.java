@@ -0,0 +1,189 @@
+package com.michelin.ns4kafka.repositories.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.Topic;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaStoreTest {
+    private static final String STORE_TOPIC = "ns4kafka.topics";
+
+    @Mock
+    Producer<String, Topic> kafkaProducer;
+
+    @Mock
+    ApplicationContext applicationContext;
+
+    @Mock
+    ApplicationEventPublisher<StoreChangeEvent> storeChangePublisher;
+
+    @Mock
+    ExecutorService storeChangeExecutor;
+
+    KafkaTopicRepository kafkaTopicRepository;
+
+    AtomicLong nextOffset = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        kafkaTopicRepository = new KafkaTopicRepository(STORE_TOPIC, kafkaProducer);
+        kafkaTopicRepository.initTimeout = 100;
+        kafkaTopicRepository.applicationContext = applicationContext;
+        kafkaTopicRepository.storeChangeExecutor = storeChangeExecutor;
+    }
+
+    @Test
+    void shouldProduceAllAndReturnStoredRecordsInOrder() {
+        when(kafkaProducer.send(any())).thenAnswer(invocation -> ack(invocation.getArgument(0), true));
+
+        Map<String, Topic> messages = new LinkedHashMap<>();
+        messages.put("local/topic-c", topic("topic-c"));
+        messages.put("local/topic-a", topic("topic-a"));
+        messages.put("local/topic-b", topic("topic-b"));
+
+        List<Topic> actual = kafkaTopicRepository.produceAll(messages);
+
+        assertEquals(List.copyOf(messages.values()), actual);
+        assertEquals(messages, kafkaTopicRepository.getKafkaStore());
+        verify(kafkaProducer, times(3)).send(any());
+    }
+
+    @Test
+    void shouldNotSendAnythingWhenNoRecord() {
+        assertTrue(kafkaTopicRepository.produceAll(Map.of()).isEmpty());
+        verify(kafkaProducer, never()).send(any());
+    }
+
+    @Test
+    void shouldWaitUntilLastAckedOffsetIsRead() {
+        // The reader only applies the first record, the second one is acked but never read
+        when(kafkaProducer.send(any()))
+            .thenAnswer(invocation -> ack(invocation.getArgument(0), true))
+            .thenAnswer(invocation -> ack(invocation.getArgument(0), false));
+
+        Map<String, Topic> messages = new LinkedHashMap<>();
+        messages.put("local/topic-a", topic("topic-a"));
+        messages.put("local/topic-b", topic("topic-b"));
+
+        KafkaStoreException exception = assertThrows(KafkaStoreException.class,
+            () -> kafkaTopicRepository.produceAll(messages));
+
+        assertTrue(exception.getMessage().startsWith("Failed to reach target offset within the timeout interval. "
+            + "targetOffset: 1, offsetReached: 0"));
+        assertEquals(-1, kafkaTopicRepository.lastWrittenOffset);
+    }
+
+    @Test
+    void shouldFailWhenOneRecordIsNotAcked() {
+        when(kafkaProducer.send(any()))
+            .thenAnswer(invocation -> ack(invocation.getArgument(0), true))
+            .thenReturn(CompletableFuture.failedFuture(new KafkaException("Not enough replicas")))
+            .thenAnswer(invocation -> ack(invocation.getArgument(0), true));
+
+        Map<String, Topic> messages = new LinkedHashMap<>();
+        messages.put("local/topic-a", topic("topic-a"));
+        messages.put("local/topic-b", topic("topic-b"));
+        messages.put("local/topic-c", topic("topic-c"));
+
+        KafkaStoreException exception = assertThrows(KafkaStoreException.class,
+            () -> kafkaTopicRepository.produceAll(messages));
+
+        assertEquals("Put operation failed while waiting for an ack from Kafka", exception.getMessage());
+        assertEquals(-1, kafkaTopicRepository.lastWrittenOffset);
+        verify(kafkaProducer, times(3)).send(any());
+    }
+
+    @Test
+    void shouldProduceAndDeleteSingleRecord() {
+        when(kafkaProducer.send(any())).thenAnswer(invocation -> ack(invocation.getArgument(0), true));
+
+        Topic topic = topic("topic-a");
+
+        assertEquals(topic, kafkaTopicRepository.produce("local/topic-a", topic));
+        assertEquals(Map.of("local/topic-a", topic), kafkaTopicRepository.getKafkaStore());
+
+        assertNull(kafkaTopicRepository.produce("local/topic-a", null));
+        assertTrue(kafkaTopicRepository.getKafkaStore().isEmpty());
+        verify(kafkaProducer, times(2)).send(any());
+    }
+
+    @Test
+    void shouldPublishStoreChangeOnceOffsetIsReached() {
+        when(kafkaProducer.send(any())).thenAnswer(invocation -> ack(invocation.getArgument(0), true));
+        kafkaTopicRepository.waitUntilKafkaReaderReachesLastOffsetInit();
+
+        Topic topic = topic("topic-a");
+        assertEquals(topic, kafkaTopicRepository.produce("local/topic-a", topic));
+
+        // The write completes before any listener runs
+        ArgumentCaptor<Runnable> publication = ArgumentCaptor.forClass(Runnable.class);
+        verify(storeChangeExecutor).execute(publication.capture());
+        verify(applicationContext, never()).getEventPublisher(StoreChangeEvent.class);
+
+        when(applicationContext.getEventPublisher(StoreChangeEvent.class)).thenReturn(storeChangePublisher);
+        doThrow(new IllegalStateException("Listener failure")).when(storeChangePublisher).publishEvent(any());
+
+        assertDoesNotThrow(() -> publication.getValue().run());
+        verify(storeChangePublisher).publishEvent(new StoreChangeEvent(topic, false, null));
+    }
+
+    @Test
+    void shouldRejectNullKey() {
+        Map<String, Topic> messages = new LinkedHashMap<>();
+        messages.put(null, topic("topic-a"));
+
+        assertThrows(KafkaStoreException.class, () -> kafkaTopicRepository.produceAll(messages));
+        verify(kafkaProducer, never()).send(any());
+    }
+
+    private CompletableFuture<RecordMetadata> ack(ProducerRecord<String, Topic> producerRecord, boolean read) {
+        long offset = nextOffset.getAndIncrement();
+        if (read) {
+            kafkaTopicRepository.receive(new ConsumerRecord<>(STORE_TOPIC, 0, offset, producerRecord.key(),
+                producerRecord.value()));
+        }
+        return CompletableFuture.completedFuture(new RecordMetadata(new TopicPartition(STORE_TOPIC, 0), offset, 0,
+            0L, 0, 0));
+    }
+
+    private Topic topic(String name) {
+        return Topic.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .cluster("local")
+                .build())
+            .build();
+    }
+}
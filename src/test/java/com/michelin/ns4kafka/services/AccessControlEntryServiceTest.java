@@ -12,6 +12,7 @@ import com.michelin.ns4kafka.repositories.AccessControlEntryRepository;
 import io.micronaut.context.ApplicationContext;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -888,4 +889,60 @@ class AccessControlEntryServiceTest {
                 AccessControlEntry.ResourceType.CONNECT,
                 "connect"));
     }
+
+    @Test
+    void buildNamespaceOwnershipMatcher() {
+        AccessControlEntry ace1 = AccessControlEntry.builder()
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                .permission(AccessControlEntry.Permission.OWNER)
+                .resource("main")
+                .grantedTo("namespace")
+                .build()
+            )
+            .build();
+        AccessControlEntry ace2 = AccessControlEntry.builder()
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
+                .permission(AccessControlEntry.Permission.OWNER)
+                .resource("other.topic")
+                .grantedTo("namespace")
+                .build()
+            )
+            .build();
+        AccessControlEntry ace3 = AccessControlEntry.builder()
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                .permission(AccessControlEntry.Permission.READ)
+                .resource("shared")
+                .grantedTo("namespace")
+                .build()
+            )
+            .build();
+        AccessControlEntry ace4 = AccessControlEntry.builder()
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(AccessControlEntry.ResourceType.CONNECT)
+                .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                .permission(AccessControlEntry.Permission.OWNER)
+                .resource("connect")
+                .grantedTo("namespace")
+                .build()
+            )
+            .build();
+        when(accessControlEntryRepository.findAll())
+            .thenReturn(List.of(ace1, ace2, ace3, ace4));
+
+        Predicate<String> isOwner = accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.TOPIC);
+
+        assertTrue(isOwner.test("main"));
+        assertTrue(isOwner.test("main.sub"));
+        assertTrue(isOwner.test("other.topic"));
+        Assertions.assertFalse(isOwner.test("other.topic.sub"));
+        Assertions.assertFalse(isOwner.test("shared.topic"));
+        Assertions.assertFalse(isOwner.test("connect.topic"));
+    }
 }
@@ -2,10 +2,12 @@ package com.michelin.ns4kafka.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,19 +19,24 @@ import com.michelin.ns4kafka.models.connect.cluster.VaultResponse;
 import com.michelin.ns4kafka.properties.ManagedClusterProperties;
 import com.michelin.ns4kafka.properties.SecurityProperties;
 import com.michelin.ns4kafka.repositories.ConnectClusterRepository;
+import com.michelin.ns4kafka.services.clients.connect.ConnectCircuitBreaker;
 import com.michelin.ns4kafka.services.clients.connect.KafkaConnectClient;
 import com.michelin.ns4kafka.services.clients.connect.entities.ServerInfo;
 import com.michelin.ns4kafka.utils.EncryptionUtils;
+import com.michelin.ns4kafka.utils.exceptions.ConnectClusterUnavailableException;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.exceptions.HttpClientException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -46,6 +53,9 @@ class ConnectClusterServiceTest {
     @Mock
     KafkaConnectClient kafkaConnectClient;
 
+    @Mock
+    ConnectCircuitBreaker connectCircuitBreaker;
+
     @Mock
     ConnectClusterRepository connectClusterRepository;
 
@@ -64,6 +74,11 @@ class ConnectClusterServiceTest {
     @Mock
     HttpClient httpClient;
 
+    @BeforeEach
+    void setUp() {
+        connectClusterService.healthCheckTimeout = Duration.ofSeconds(5);
+    }
+
     @Test
     void findAllEmpty() {
         when(connectClusterRepository.findAll()).thenReturn(List.of());
@@ -83,7 +98,7 @@ class ConnectClusterServiceTest {
             .build();
 
         when(connectClusterRepository.findAll()).thenReturn(List.of(connectCluster));
-        when(kafkaConnectClient.version(any(), any()))
+        when(kafkaConnectClient.version(any(), any(), any()))
             .thenReturn(Mono.just(HttpResponse.ok()));
 
         StepVerifier.create(connectClusterService.findAll(false))
@@ -105,7 +120,7 @@ class ConnectClusterServiceTest {
         ManagedClusterProperties kafka = new ManagedClusterProperties("local");
         kafka.setConnects(Map.of("test-connect", new ManagedClusterProperties.ConnectProperties()));
         when(managedClusterPropertiesList.stream()).thenReturn(Stream.of(kafka));
-        when(kafkaConnectClient.version(any(), any()))
+        when(kafkaConnectClient.version(any(), any(), any()))
             .thenReturn(Mono.just(HttpResponse.ok()))
             .thenReturn(Mono.error(new Exception("error")));
 
@@ -246,7 +261,7 @@ class ConnectClusterServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.version("local", "prefix.connect-cluster"))
+        when(kafkaConnectClient.version("local", "prefix.connect-cluster", Duration.ofSeconds(5)))
             .thenReturn(Mono.just(HttpResponse.ok()));
 
         when(connectClusterRepository.findAllForCluster("local"))
@@ -265,6 +280,11 @@ class ConnectClusterServiceTest {
                     .build()
             ));
 
+        when(connectClusterRepository.findAll()).thenReturn(new ArrayList<>(List.of(connectCluster)));
+        when(managedClusterPropertiesList.stream()).thenReturn(Stream.empty());
+
+        connectClusterService.checkHealth("local").blockLast();
+
         Optional<ConnectCluster> actual =
             connectClusterService.findByNamespaceAndNameOwner(namespace, "prefix.connect-cluster");
 
@@ -294,7 +314,7 @@ class ConnectClusterServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.version("local", "prefix.connect-cluster"))
+        when(kafkaConnectClient.version("local", "prefix.connect-cluster", Duration.ofSeconds(5)))
             .thenReturn(Mono.error(new HttpClientException("Internal Server Error")));
 
         when(connectClusterRepository.findAllForCluster("local"))
@@ -313,6 +333,11 @@ class ConnectClusterServiceTest {
                     .build()
             ));
 
+        when(connectClusterRepository.findAll()).thenReturn(new ArrayList<>(List.of(connectCluster)));
+        when(managedClusterPropertiesList.stream()).thenReturn(Stream.empty());
+
+        connectClusterService.checkHealth("local").blockLast();
+
         Optional<ConnectCluster> actual =
             connectClusterService.findByNamespaceAndNameOwner(namespace, "prefix.connect-cluster");
 
@@ -343,9 +368,6 @@ class ConnectClusterServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.version("local", "prefix.connect-cluster"))
-            .thenReturn(Mono.just(HttpResponse.ok()));
-
         when(connectClusterRepository.findAllForCluster("local"))
             .thenReturn(List.of(connectCluster));
 
@@ -846,6 +868,109 @@ class ConnectClusterServiceTest {
         assertEquals("secret", actual.get(0).getSpec().getEncrypted());
     }
 
+    @Test
+    void shouldNotRequestHealthOfOwnedConnectClusters() {
+        Namespace namespace = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("myNamespace")
+                .cluster("local")
+                .build())
+            .spec(Namespace.NamespaceSpec.builder()
+                .build())
+            .build();
+
+        when(connectClusterRepository.findAllForCluster("local"))
+            .thenReturn(List.of(ConnectCluster.builder()
+                .metadata(Metadata.builder()
+                    .name("prefix.connect-cluster")
+                    .cluster("local")
+                    .build())
+                .spec(ConnectCluster.ConnectClusterSpec.builder()
+                    .url("https://after")
+                    .build())
+                .build()));
+        when(accessControlEntryService.findAllGrantedToNamespace(namespace))
+            .thenReturn(List.of(AccessControlEntry.builder()
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                    .permission(AccessControlEntry.Permission.OWNER)
+                    .grantedTo("namespace")
+                    .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                    .resourceType(AccessControlEntry.ResourceType.CONNECT_CLUSTER)
+                    .resource("prefix.")
+                    .build())
+                .build()));
+
+        List<ConnectCluster> actual = connectClusterService.findAllByNamespaceOwner(namespace);
+
+        assertEquals(1, actual.size());
+        assertNull(actual.get(0).getSpec().getStatus());
+        verify(kafkaConnectClient, never()).version(any(), any(), any());
+    }
+
+    @Test
+    void shouldKeepLastSeenHealthyWhenHealthCheckTimesOut() {
+        connectClusterService.healthCheckTimeout = Duration.ofMillis(50);
+
+        ConnectCluster connectCluster = ConnectCluster.builder()
+            .metadata(Metadata.builder()
+                .name("connect-cluster")
+                .cluster("local")
+                .build())
+            .spec(ConnectCluster.ConnectClusterSpec.builder()
+                .url("https://after")
+                .build())
+            .build();
+
+        when(connectClusterRepository.findAll()).thenAnswer(invocation -> new ArrayList<>(List.of(connectCluster)));
+        when(managedClusterPropertiesList.stream()).thenAnswer(invocation -> Stream.empty());
+        when(kafkaConnectClient.version("local", "connect-cluster", Duration.ofMillis(50)))
+            .thenReturn(Mono.just(HttpResponse.ok()))
+            .thenReturn(Mono.error(new TimeoutException("Did not observe any item within 50ms")));
+
+        StepVerifier.create(connectClusterService.checkHealth("local"))
+            .consumeNextWith(result -> assertEquals(ConnectCluster.Status.HEALTHY, result.getSpec().getStatus()))
+            .verifyComplete();
+
+        var lastSeenHealthy = connectCluster.getSpec().getLastSeenHealthy();
+        assertNotNull(lastSeenHealthy);
+
+        StepVerifier.create(connectClusterService.checkHealth("local"))
+            .consumeNextWith(result -> {
+                assertEquals(ConnectCluster.Status.IDLE, result.getSpec().getStatus());
+                assertEquals(lastSeenHealthy, result.getSpec().getLastSeenHealthy());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldExposeCircuitBreakerStateWhenConnectClusterIsUnavailable() {
+        ConnectCluster connectCluster = ConnectCluster.builder()
+            .metadata(Metadata.builder()
+                .name("connect-cluster")
+                .cluster("local")
+                .build())
+            .spec(ConnectCluster.ConnectClusterSpec.builder()
+                .url("https://after")
+                .build())
+            .build();
+
+        when(connectClusterRepository.findAll()).thenAnswer(invocation -> new ArrayList<>(List.of(connectCluster)));
+        when(managedClusterPropertiesList.stream()).thenAnswer(invocation -> Stream.empty());
+        when(kafkaConnectClient.version("local", "connect-cluster", Duration.ofSeconds(5)))
+            .thenReturn(Mono.error(new ConnectClusterUnavailableException("connect-cluster", Duration.ofSeconds(10))));
+        when(connectCircuitBreaker.getState("local", "connect-cluster"))
+            .thenReturn(ConnectCluster.CircuitBreakerState.OPEN);
+
+        StepVerifier.create(connectClusterService.checkHealth("local"))
+            .consumeNextWith(result -> {
+                assertEquals(ConnectCluster.Status.IDLE, result.getSpec().getStatus());
+                assertEquals("Connect cluster \"connect-cluster\" is unavailable, retry in 10 seconds",
+                    result.getSpec().getStatusMessage());
+                assertEquals(ConnectCluster.CircuitBreakerState.OPEN, result.getSpec().getCircuitBreakerState());
+            })
+            .verifyComplete();
+    }
+
     /**
      * Test vault password if no connect cluster with aes256 config define.
      */
@@ -885,9 +1010,6 @@ class ConnectClusterServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.version(any(), any()))
-            .thenReturn(Mono.just(HttpResponse.ok()));
-
         when(connectClusterRepository.findAllForCluster("local"))
             .thenReturn(List.of(connectCluster, connectClusterOwner));
 
@@ -992,9 +1114,6 @@ class ConnectClusterServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.version(any(), any()))
-            .thenReturn(Mono.just(HttpResponse.ok()));
-
         when(connectClusterRepository.findAllForCluster("local"))
             .thenReturn(List.of(connectCluster, connectClusterOwner));
 
@@ -1054,9 +1173,6 @@ class ConnectClusterServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.version(any(), any()))
-            .thenReturn(Mono.just(HttpResponse.ok()));
-
         when(connectClusterRepository.findAllForCluster("local"))
             .thenReturn(List.of(connectCluster, connectClusterOwner));
 
@@ -1,6 +1,7 @@
 package com.michelin.ns4kafka.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -10,18 +11,23 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.models.AccessControlEntry;
+import com.michelin.ns4kafka.models.ConnectPluginsRefreshEvent;
 import com.michelin.ns4kafka.models.Metadata;
 import com.michelin.ns4kafka.models.Namespace;
 import com.michelin.ns4kafka.models.Namespace.NamespaceSpec;
 import com.michelin.ns4kafka.models.connect.cluster.ConnectCluster;
 import com.michelin.ns4kafka.models.connector.Connector;
 import com.michelin.ns4kafka.repositories.ConnectorRepository;
+import com.michelin.ns4kafka.services.clients.connect.ConnectPluginCache;
 import com.michelin.ns4kafka.services.clients.connect.KafkaConnectClient;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConfigInfo;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConfigInfos;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConfigKeyInfo;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConfigValueInfo;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorInfo;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorPluginInfo;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorStateInfo;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorStatus;
 import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorType;
 import com.michelin.ns4kafka.services.executors.ConnectorAsyncExecutor;
 import com.michelin.ns4kafka.validation.ConnectValidator;
@@ -31,10 +37,13 @@ import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
@@ -65,6 +74,16 @@ class ConnectorServiceTest {
     @Mock
     ConnectClusterService connectClusterService;
 
+    @Mock
+    ConnectPluginCache connectPluginCache;
+
+    @BeforeEach
+    void setUp() {
+        connectorService.validationTtl = Duration.ofMinutes(5);
+        connectorService.validationMaxEntries = 10000;
+        connectorService.statusTtl = Duration.ofSeconds(5);
+    }
+
     @Test
     void findByNamespaceNone() {
         Namespace ns = Namespace.builder()
@@ -414,8 +433,9 @@ class ConnectorServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.connectPlugins("local", "local-name"))
-            .thenReturn(Mono.just(List.of()));
+        when(connectPluginCache.findPlugin("local", "local-name",
+            "org.apache.kafka.connect.file.FileStreamSinkConnector"))
+            .thenReturn(Mono.empty());
 
         StepVerifier.create(connectorService.validateLocally(ns, connector))
             .consumeNextWith(response -> {
@@ -454,10 +474,11 @@ class ConnectorServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.connectPlugins("local", "local-name"))
-            .thenReturn(Mono.just(List.of(
+        when(connectPluginCache.findPlugin("local", "local-name",
+            "org.apache.kafka.connect.file.FileStreamSinkConnector"))
+            .thenReturn(Mono.just(
                 new ConnectorPluginInfo("org.apache.kafka.connect.file.FileStreamSinkConnector", ConnectorType.SINK,
-                    "v1"))));
+                    "v1")));
 
         StepVerifier.create(connectorService.validateLocally(ns, connector))
             .consumeNextWith(response -> {
@@ -493,10 +514,11 @@ class ConnectorServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.connectPlugins("local", "local-name"))
-            .thenReturn(Mono.just(List.of(
+        when(connectPluginCache.findPlugin("local", "local-name",
+            "org.apache.kafka.connect.file.FileStreamSinkConnector"))
+            .thenReturn(Mono.just(
                 new ConnectorPluginInfo("org.apache.kafka.connect.file.FileStreamSinkConnector", ConnectorType.SINK,
-                    "v1"))));
+                    "v1")));
 
         StepVerifier.create(connectorService.validateLocally(ns, connector))
             .consumeNextWith(response -> assertTrue(response.isEmpty()))
@@ -523,10 +545,11 @@ class ConnectorServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.connectPlugins("local", "local-name"))
-            .thenReturn(Mono.just(List.of(
+        when(connectPluginCache.findPlugin("local", "local-name",
+            "org.apache.kafka.connect.file.FileStreamSinkConnector"))
+            .thenReturn(Mono.just(
                 new ConnectorPluginInfo("org.apache.kafka.connect.file.FileStreamSinkConnector", ConnectorType.SINK,
-                    "v1"))));
+                    "v1")));
 
         StepVerifier.create(connectorService.validateLocally(ns, connector))
             .consumeNextWith(response -> assertTrue(response.isEmpty()))
@@ -558,10 +581,11 @@ class ConnectorServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.connectPlugins("local", "local-name"))
-            .thenReturn(Mono.just(List.of(
+        when(connectPluginCache.findPlugin("local", "local-name",
+            "org.apache.kafka.connect.file.FileStreamSinkConnector"))
+            .thenReturn(Mono.just(
                 new ConnectorPluginInfo("org.apache.kafka.connect.file.FileStreamSinkConnector", ConnectorType.SINK,
-                    "v1"))));
+                    "v1")));
 
         StepVerifier.create(connectorService.validateLocally(ns, connector))
             .consumeNextWith(response -> assertTrue(response.isEmpty()))
@@ -592,10 +616,11 @@ class ConnectorServiceTest {
                 .build())
             .build();
 
-        when(kafkaConnectClient.connectPlugins("local", "local-name"))
-            .thenReturn(Mono.just(List.of(
+        when(connectPluginCache.findPlugin("local", "local-name",
+            "org.apache.kafka.connect.file.FileStreamSinkConnector"))
+            .thenReturn(Mono.just(
                 new ConnectorPluginInfo("org.apache.kafka.connect.file.FileStreamSinkConnector", ConnectorType.SINK,
-                    "v1"))));
+                    "v1")));
 
         StepVerifier.create(connectorService.validateLocally(ns, connector))
             .consumeNextWith(response -> assertTrue(response.isEmpty()))
@@ -633,10 +658,11 @@ class ConnectorServiceTest {
                 .name("local-name")
                 .build())
             .build()));
-        when(kafkaConnectClient.connectPlugins("local", "local-name"))
-            .thenReturn(Mono.just(List.of(
+        when(connectPluginCache.findPlugin("local", "local-name",
+            "org.apache.kafka.connect.file.FileStreamSinkConnector"))
+            .thenReturn(Mono.just(
                 new ConnectorPluginInfo("org.apache.kafka.connect.file.FileStreamSinkConnector", ConnectorType.SINK,
-                    "v1"))));
+                    "v1")));
 
         StepVerifier.create(connectorService.validateLocally(ns, connector))
             .consumeNextWith(response -> assertTrue(response.isEmpty()))
@@ -716,6 +742,171 @@ class ConnectorServiceTest {
             .verifyComplete();
     }
 
+    @Test
+    void validateRemotelyMemoized() {
+        Namespace ns = buildValidationNamespace();
+        ConfigInfos configInfos = new ConfigInfos("name", 1, List.of(),
+            List.of(new ConfigInfo(new ConfigKeyInfo(null, null, false, null, null, null, null, 0, null, null, null),
+                new ConfigValueInfo(null, null, null, List.of("error_message"), true))));
+
+        when(kafkaConnectClient.validate(
+            ArgumentMatchers.eq("local"),
+            ArgumentMatchers.eq("local-name"),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any()))
+            .thenReturn(Mono.just(configInfos));
+
+        StepVerifier.create(connectorService.validateRemotely(ns, buildValidationConnector("connect1",
+                new LinkedHashMap<>(Map.of("connector.class", "com.michelin.NoClass", "tasks.max", "1")))))
+            .consumeNextWith(response -> assertEquals(List.of("Invalid \"connect1\": error_message."), response))
+            .verifyComplete();
+
+        // Same configuration in another order
+        Map<String, String> config = new LinkedHashMap<>();
+        config.put("tasks.max", "1");
+        config.put("connector.class", "com.michelin.NoClass");
+        StepVerifier.create(connectorService.validateRemotely(ns, buildValidationConnector("connect1", config)))
+            .consumeNextWith(response -> assertEquals(List.of("Invalid \"connect1\": error_message."), response))
+            .verifyComplete();
+
+        verify(kafkaConnectClient, times(1)).validate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        StepVerifier.create(connectorService.validateRemotely(ns, buildValidationConnector("connect1",
+                Map.of("connector.class", "com.michelin.NoClass", "tasks.max", "2"))))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(kafkaConnectClient, times(2)).validate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void validateRemotelyEvictsLeastRecentlyUsedBeyondMaxEntries() {
+        connectorService.validationMaxEntries = 2;
+
+        Namespace ns = buildValidationNamespace();
+        when(kafkaConnectClient.validate(
+            ArgumentMatchers.eq("local"),
+            ArgumentMatchers.eq("local-name"),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any()))
+            .thenReturn(Mono.just(new ConfigInfos("name", 1, List.of(), List.of())));
+
+        for (String tasks : List.of("1", "2", "3")) {
+            StepVerifier.create(connectorService.validateRemotely(ns, buildValidationConnector("connect1",
+                    Map.of("connector.class", "com.michelin.NoClass", "tasks.max", tasks))))
+                .expectNextCount(1)
+                .verifyComplete();
+        }
+
+        verify(kafkaConnectClient, times(3)).validate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        // The most recent validation is still memoized
+        StepVerifier.create(connectorService.validateRemotely(ns, buildValidationConnector("connect1",
+                Map.of("connector.class", "com.michelin.NoClass", "tasks.max", "3"))))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(kafkaConnectClient, times(3)).validate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        // The oldest one has been evicted although it has not expired
+        StepVerifier.create(connectorService.validateRemotely(ns, buildValidationConnector("connect1",
+                Map.of("connector.class", "com.michelin.NoClass", "tasks.max", "1"))))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(kafkaConnectClient, times(4)).validate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void validateRemotelyAgainAfterPluginsRefresh() {
+        Namespace ns = buildValidationNamespace();
+        Connector connector = buildValidationConnector("connect1",
+            Map.of("connector.class", "org.apache.kafka.connect.file.FileStreamSinkConnector"));
+
+        when(kafkaConnectClient.validate(
+            ArgumentMatchers.eq("local"),
+            ArgumentMatchers.eq("local-name"),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any()))
+            .thenReturn(Mono.just(new ConfigInfos("name", 1, List.of(), List.of())));
+
+        StepVerifier.create(connectorService.validateRemotely(ns, connector))
+            .consumeNextWith(response -> assertTrue(response.isEmpty()))
+            .verifyComplete();
+
+        connectorService.onConnectPluginsRefresh(new ConnectPluginsRefreshEvent("local", "other-connect"));
+
+        StepVerifier.create(connectorService.validateRemotely(ns, connector))
+            .consumeNextWith(response -> assertTrue(response.isEmpty()))
+            .verifyComplete();
+
+        connectorService.onConnectPluginsRefresh(new ConnectPluginsRefreshEvent("local", "local-name"));
+
+        StepVerifier.create(connectorService.validateRemotely(ns, connector))
+            .consumeNextWith(response -> assertTrue(response.isEmpty()))
+            .verifyComplete();
+
+        verify(kafkaConnectClient, times(2)).validate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void validateRemotelyNotMemoizedOnFailure() {
+        Namespace ns = buildValidationNamespace();
+        Connector connector = buildValidationConnector("connect1",
+            Map.of("connector.class", "org.apache.kafka.connect.file.FileStreamSinkConnector"));
+
+        when(kafkaConnectClient.validate(
+            ArgumentMatchers.eq("local"),
+            ArgumentMatchers.eq("local-name"),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any()))
+            .thenReturn(Mono.error(new HttpClientResponseException("Error", HttpResponse.serverError())))
+            .thenReturn(Mono.just(new ConfigInfos("name", 1, List.of(), List.of())));
+
+        StepVerifier.create(connectorService.validateRemotely(ns, connector))
+            .verifyError(HttpClientResponseException.class);
+
+        StepVerifier.create(connectorService.validateRemotely(ns, connector))
+            .consumeNextWith(response -> assertTrue(response.isEmpty()))
+            .verifyComplete();
+    }
+
+    @Test
+    void validateRemotelySkipUnchanged() {
+        connectorService.skipUnchangedValidation = true;
+
+        Namespace ns = buildValidationNamespace();
+        Connector connector = buildValidationConnector("ns-connect1",
+            Map.of("connector.class", "org.apache.kafka.connect.file.FileStreamSinkConnector"));
+
+        when(accessControlEntryService.findAllGrantedToNamespace(ns))
+            .thenReturn(List.of(AccessControlEntry.builder()
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                    .permission(AccessControlEntry.Permission.OWNER)
+                    .grantedTo("namespace")
+                    .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                    .resourceType(AccessControlEntry.ResourceType.CONNECT)
+                    .resource("ns-")
+                    .build())
+                .build()));
+        when(connectorRepository.findAllForCluster("local"))
+            .thenReturn(List.of(buildValidationConnector("ns-connect1",
+                Map.of("connector.class", "org.apache.kafka.connect.file.FileStreamSinkConnector"))));
+
+        StepVerifier.create(connectorService.validateRemotely(ns, connector))
+            .consumeNextWith(response -> assertTrue(response.isEmpty()))
+            .verifyComplete();
+
+        verify(kafkaConnectClient, never()).validate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
     @Test
     void listUnsynchronizedNoExistingConnectors() {
         Namespace ns = Namespace.builder()
@@ -759,43 +950,11 @@ class ConnectorServiceTest {
         when(connectorAsyncExecutor.collectBrokerConnectors("ns-connect-cluster"))
             .thenReturn(Flux.fromIterable(List.of(c5)));
 
-        // list of existing Ns4Kafka access control entries
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns-connect1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns-connect2"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns1-connect1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns1-connect2"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns2-connect1"))
-            .thenReturn(false);
-
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resource("ns1-connect1")
-                        .build())
-                    .build()));
+        // ownership of the namespace
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.CONNECT))
+            .thenReturn(connector -> connector.startsWith("ns-") || connector.equals("ns1-connect1")
+                || connector.equals("ns1-connect2"));
 
         // no connects exists into Ns4Kafka
         when(connectorRepository.findAllForCluster("local"))
@@ -855,53 +1014,11 @@ class ConnectorServiceTest {
         when(connectorRepository.findAllForCluster("local"))
             .thenReturn(List.of(c1, c2, c3, c4, c5));
 
-        // list of existing Ns4Kafka access control entries
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns-connect1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns-connect2"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns1-connect1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns1-connect2"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns2-connect1"))
-            .thenReturn(false);
-
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resource("ns1-connect1")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resource("ns1-connect2")
-                        .build())
-                    .build()
-            ));
+        // ownership of the namespace
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.CONNECT))
+            .thenReturn(connector -> connector.startsWith("ns-") || connector.equals("ns1-connect1")
+                || connector.equals("ns1-connect2"));
 
         StepVerifier.create(connectorService.listUnsynchronizedConnectors(ns))
             .verifyComplete();
@@ -946,41 +1063,10 @@ class ConnectorServiceTest {
             .thenReturn(List.of(c1, c2, c3, c4));
 
 
-        // list of existing Ns4Kafka access control entries
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns-connect1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns-connect2"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns1-connect1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT,
-            "ns2-connect1"))
-            .thenReturn(false);
-
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resource("ns1-connect1")
-                        .build())
-                    .build()
-            ));
+        // ownership of the namespace
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.CONNECT))
+            .thenReturn(connector -> connector.startsWith("ns-") || connector.equals("ns1-connect1"));
 
         when(connectorRepository.findAllForCluster("local"))
             .thenReturn(List.of(c1));
@@ -1050,4 +1136,78 @@ class ConnectorServiceTest {
 
         verify(connectorRepository, never()).delete(connector);
     }
+
+    @Test
+    void findAllStatusesForNamespaceFromSharedListing() {
+        Namespace ns = buildValidationNamespace();
+
+        Connector running = buildValidationConnector("ns-connect1", Map.of());
+        Connector notDeployed = buildValidationConnector("ns-connect2", Map.of());
+        Connector unreachable = Connector.builder()
+            .metadata(Metadata.builder().name("ns-connect3").build())
+            .spec(Connector.ConnectorSpec.builder()
+                .connectCluster("other-name")
+                .config(Map.of())
+                .build())
+            .build();
+
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.CONNECT))
+            .thenReturn(name -> name.startsWith("ns-"));
+        when(connectorRepository.findAllForCluster("local"))
+            .thenReturn(List.of(running, notDeployed, unreachable,
+                buildValidationConnector("other-connect1", Map.of())));
+        when(kafkaConnectClient.listAll("local", "local-name"))
+            .thenReturn(Mono.just(Map.of("ns-connect1", new ConnectorStatus(
+                new ConnectorInfo("ns-connect1", Map.of(), List.of(), ConnectorType.SINK),
+                new ConnectorStateInfo("ns-connect1",
+                    new ConnectorStateInfo.ConnectorState("RUNNING", "worker:8083", null),
+                    List.of(new ConnectorStateInfo.TaskState(0, "FAILED", "worker:8083", "trace")),
+                    ConnectorType.SINK)))));
+        when(kafkaConnectClient.listAll("local", "other-name"))
+            .thenReturn(Mono.error(new HttpClientResponseException("Error", HttpResponse.serverError())));
+
+        StepVerifier.create(connectorService.findAllStatusesForNamespace(ns).collectMap(
+                connector -> connector.getMetadata().getName()))
+            .consumeNextWith(connectors -> {
+                assertEquals(3, connectors.size());
+                assertEquals(Connector.TaskState.RUNNING, connectors.get("ns-connect1").getStatus().getState());
+                assertEquals(Connector.TaskState.FAILED,
+                    connectors.get("ns-connect1").getStatus().getTasks().get(0).getState());
+                assertEquals("trace", connectors.get("ns-connect1").getStatus().getTasks().get(0).getTrace());
+                assertNull(connectors.get("ns-connect2").getStatus());
+                assertNull(connectors.get("ns-connect3").getStatus());
+            })
+            .verifyComplete();
+
+        StepVerifier.create(connectorService.findAllStatusesForNamespace(ns))
+            .expectNextCount(3)
+            .verifyComplete();
+
+        assertNull(running.getStatus());
+        verify(kafkaConnectClient, times(1)).listAll("local", "local-name");
+        verify(kafkaConnectClient, times(2)).listAll("local", "other-name");
+    }
+
+    private Namespace buildValidationNamespace() {
+        return Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster("local")
+                .build())
+            .spec(NamespaceSpec.builder()
+                .connectClusters(List.of("local-name"))
+                .build())
+            .build();
+    }
+
+    private Connector buildValidationConnector(String name, Map<String, String> config) {
+        return Connector.builder()
+            .metadata(Metadata.builder().name(name).build())
+            .spec(Connector.ConnectorSpec.builder()
+                .connectCluster("local-name")
+                .config(config)
+                .build())
+            .build();
+    }
 }
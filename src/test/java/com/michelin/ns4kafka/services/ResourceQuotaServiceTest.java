@@ -8,23 +8,31 @@ import static com.michelin.ns4kafka.models.quota.ResourceQuota.ResourceQuotaSpec
 import static com.michelin.ns4kafka.models.quota.ResourceQuota.ResourceQuotaSpecKey.USER_PRODUCER_BYTE_RATE;
 import static org.apache.kafka.common.config.TopicConfig.RETENTION_BYTES_CONFIG;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.michelin.ns4kafka.models.AccessControlEntry;
 import com.michelin.ns4kafka.models.Metadata;
 import com.michelin.ns4kafka.models.Namespace;
 import com.michelin.ns4kafka.models.Topic;
 import com.michelin.ns4kafka.models.connector.Connector;
 import com.michelin.ns4kafka.models.quota.ResourceQuota;
 import com.michelin.ns4kafka.models.quota.ResourceQuotaResponse;
+import com.michelin.ns4kafka.repositories.ConnectorRepository;
 import com.michelin.ns4kafka.repositories.ResourceQuotaRepository;
+import com.michelin.ns4kafka.repositories.TopicRepository;
+import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -40,10 +48,24 @@ class ResourceQuotaServiceTest {
     ResourceQuotaRepository resourceQuotaRepository;
 
     @Mock
-    TopicService topicService;
+    TopicRepository topicRepository;
 
     @Mock
-    ConnectorService connectorService;
+    ConnectorRepository connectorRepository;
+
+    @Mock
+    AccessControlEntryService accessControlEntryService;
+
+    @BeforeEach
+    void setUp() {
+        ResourceQuotaUsageService resourceQuotaUsageService = new ResourceQuotaUsageService();
+        resourceQuotaUsageService.topicRepository = topicRepository;
+        resourceQuotaUsageService.connectorRepository = connectorRepository;
+        resourceQuotaUsageService.accessControlEntryService = accessControlEntryService;
+        resourceQuotaUsageService.quotaUsageExecutor = Executors.newSingleThreadExecutor();
+        resourceQuotaService.resourceQuotaUsageService = resourceQuotaUsageService;
+        resourceQuotaService.reportTtl = Duration.ofSeconds(10);
+    }
 
     @Test
     void findByNamespace() {
@@ -246,7 +268,8 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
 
         List<String> validationErrors = resourceQuotaService.validateNewResourceQuota(ns, resourceQuota);
@@ -294,7 +317,8 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
 
         List<String> validationErrors = resourceQuotaService.validateNewResourceQuota(ns, resourceQuota);
@@ -353,7 +377,8 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
 
         List<String> validationErrors = resourceQuotaService.validateNewResourceQuota(ns, resourceQuota);
@@ -430,7 +455,8 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2));
 
         List<String> validationErrors = resourceQuotaService.validateNewResourceQuota(ns, resourceQuota);
@@ -459,7 +485,8 @@ class ResourceQuotaServiceTest {
             .spec(Map.of(COUNT_CONNECTORS.toString(), "1"))
             .build();
 
-        when(connectorService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(connectorRepository.findAllForCluster("local"))
             .thenReturn(List.of(
                 Connector.builder().metadata(Metadata.builder().name("connect1").build()).build(),
                 Connector.builder().metadata(Metadata.builder().name("connect2").build()).build()));
@@ -552,7 +579,8 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
 
         long currentlyUsed = resourceQuotaService.getCurrentCountTopicsByNamespace(ns);
@@ -601,7 +629,8 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
 
         long currentlyUsed = resourceQuotaService.getCurrentCountPartitionsByNamespace(ns);
@@ -620,7 +649,8 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(connectorService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(connectorRepository.findAllForCluster("local"))
             .thenReturn(List.of(
                 Connector.builder().metadata(Metadata.builder().name("connect1").build()).build(),
                 Connector.builder().metadata(Metadata.builder().name("connect2").build()).build()));
@@ -674,7 +704,8 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns)).thenReturn(List.of(topic1, topic2, topic3));
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of(topic1, topic2, topic3));
 
         long currentlyUsed = resourceQuotaService.getCurrentDiskTopicsByNamespace(ns);
         assertEquals(181000L, currentlyUsed);
@@ -749,7 +780,8 @@ class ResourceQuotaServiceTest {
 
         when(resourceQuotaRepository.findForNamespace("namespace"))
             .thenReturn(Optional.of(resourceQuota));
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
 
         List<String> validationErrors = resourceQuotaService.validateTopicQuota(ns, Optional.empty(), newTopic);
@@ -853,7 +885,8 @@ class ResourceQuotaServiceTest {
 
         when(resourceQuotaRepository.findForNamespace("namespace"))
             .thenReturn(Optional.of(resourceQuota));
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
 
         List<String> validationErrors = resourceQuotaService.validateTopicQuota(ns, Optional.empty(), newTopic);
@@ -934,7 +967,8 @@ class ResourceQuotaServiceTest {
 
         when(resourceQuotaRepository.findForNamespace("namespace"))
             .thenReturn(Optional.of(resourceQuota));
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
 
         List<String> validationErrors = resourceQuotaService.validateTopicQuota(ns, Optional.of(topic1), newTopic);
@@ -966,7 +1000,8 @@ class ResourceQuotaServiceTest {
 
         when(resourceQuotaRepository.findForNamespace("namespace"))
             .thenReturn(Optional.of(resourceQuota));
-        when(connectorService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(connectorRepository.findAllForCluster("local"))
             .thenReturn(List.of(
                 Connector.builder().metadata(Metadata.builder().name("connect1").build()).build(),
                 Connector.builder().metadata(Metadata.builder().name("connect2").build()).build()));
@@ -1016,7 +1051,8 @@ class ResourceQuotaServiceTest {
 
         when(resourceQuotaRepository.findForNamespace("namespace"))
             .thenReturn(Optional.of(resourceQuota));
-        when(connectorService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(connectorRepository.findAllForCluster("local"))
             .thenReturn(List.of(
                 Connector.builder().metadata(Metadata.builder().name("connect1").build()).build(),
                 Connector.builder().metadata(Metadata.builder().name("connect2").build()).build()));
@@ -1083,9 +1119,10 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
-        when(connectorService.findAllForNamespace(ns))
+        when(connectorRepository.findAllForCluster("local"))
             .thenReturn(List.of(
                 Connector.builder().metadata(Metadata.builder().name("connect1").build()).build(),
                 Connector.builder().metadata(Metadata.builder().name("connect2").build()).build()));
@@ -1144,9 +1181,10 @@ class ResourceQuotaServiceTest {
                 .build())
             .build();
 
-        when(topicService.findAllForNamespace(ns))
+        mockOwnerAcls();
+        when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(topic1, topic2, topic3));
-        when(connectorService.findAllForNamespace(ns))
+        when(connectorRepository.findAllForCluster("local"))
             .thenReturn(List.of(
                 Connector.builder().metadata(Metadata.builder().name("connect1").build()).build(),
                 Connector.builder().metadata(Metadata.builder().name("connect2").build()).build()));
@@ -1162,107 +1200,152 @@ class ResourceQuotaServiceTest {
 
     @Test
     void getUsedQuotaByNamespaces() {
-        Namespace ns1 = Namespace.builder()
-            .metadata(Metadata.builder()
-                .name("namespace")
-                .cluster("local")
-                .build())
-            .spec(Namespace.NamespaceSpec.builder()
-                .connectClusters(List.of("local-name"))
-                .build())
-            .build();
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("namespace", AccessControlEntry.ResourceType.TOPIC, "ns1-"),
+            buildOwnerAcl("namespace2", AccessControlEntry.ResourceType.TOPIC, "ns2-"),
+            buildOwnerAcl("namespace3", AccessControlEntry.ResourceType.TOPIC, "ns3-"),
+            buildOwnerAcl("namespace", AccessControlEntry.ResourceType.CONNECT, "ns1-")));
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of(
+            buildTopic("ns1-topic", 6, "1000"),
+            buildTopic("ns2-topic", 3, "2000"),
+            buildTopic("ns3-topic", 10, "4000")));
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(
+            Connector.builder().metadata(Metadata.builder().name("ns1-connect1").build()).build(),
+            Connector.builder().metadata(Metadata.builder().name("ns1-connect2").build()).build()));
+        when(resourceQuotaRepository.findAll()).thenReturn(List.of(buildQuota("namespace")));
+
+        List<ResourceQuotaResponse> response = resourceQuotaService.getUsedQuotaByNamespaces(List.of(
+            buildNamespace("namespace"), buildNamespace("namespace2"), buildNamespace("namespace3"),
+            buildNamespace("namespace4")));
+
+        assertEquals(4, response.size());
+        assertEquals("1/3", response.get(0).getSpec().getCountTopic());
+        assertEquals("6/20", response.get(0).getSpec().getCountPartition());
+        assertEquals("5.86KiB/60KiB", response.get(0).getSpec().getDiskTopic());
+        assertEquals("2/2", response.get(0).getSpec().getCountConnector());
+        assertEquals("3", response.get(1).getSpec().getCountPartition());
+        assertEquals("namespace2", response.get(1).getMetadata().getNamespace());
+        assertEquals("0", response.get(3).getSpec().getCountTopic());
+        verify(topicRepository, times(1)).findAllForCluster("local");
+    }
+
+    @Test
+    void getUsedQuotaByNamespacesSortedAndPaginated() {
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("namespace", AccessControlEntry.ResourceType.TOPIC, "ns1-"),
+            buildOwnerAcl("namespace2", AccessControlEntry.ResourceType.TOPIC, "ns2-"),
+            buildOwnerAcl("namespace3", AccessControlEntry.ResourceType.TOPIC, "ns3-")));
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of(
+            buildTopic("ns1-topic", 6, "1000"),
+            buildTopic("ns2-topic", 3, "2000"),
+            buildTopic("ns3-topic", 10, "4000")));
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of());
+        when(resourceQuotaRepository.findAll()).thenReturn(List.of());
+
+        List<Namespace> namespaces = List.of(buildNamespace("namespace"), buildNamespace("namespace2"),
+            buildNamespace("namespace3"));
+
+        List<ResourceQuotaResponse> firstPage = resourceQuotaService.getUsedQuotaByNamespaces(namespaces,
+            COUNT_PARTITIONS.getKey(), 0, 2);
+        List<ResourceQuotaResponse> secondPage = resourceQuotaService.getUsedQuotaByNamespaces(namespaces,
+            COUNT_PARTITIONS.getKey(), 1, 2);
+
+        assertEquals(List.of("namespace3", "namespace"),
+            firstPage.stream().map(quota -> quota.getMetadata().getNamespace()).toList());
+        assertEquals(List.of("namespace2"),
+            secondPage.stream().map(quota -> quota.getMetadata().getNamespace()).toList());
+
+        // The report is reused until it expires
+        verify(resourceQuotaRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getUsedQuotaByNamespacesShouldRejectUnknownSort() {
+        List<Namespace> namespaces = List.of(buildNamespace("namespace"));
+        ResourceValidationException exception = assertThrows(ResourceValidationException.class,
+            () -> resourceQuotaService.getUsedQuotaByNamespaces(namespaces, "count/unknown", 0, 0));
 
-        Namespace ns2 = Namespace.builder()
+        assertEquals(List.of("Invalid value \"count/unknown\" for field \"sort\": value must be one of "
+            + "\"count/topics, count/partitions, disk/topics, count/connectors\"."), exception.getValidationErrors());
+    }
+
+    @Test
+    void getUsedQuotaByNamespacesShouldRejectNegativePageOrSize() {
+        List<Namespace> namespaces = List.of(buildNamespace("namespace"));
+        ResourceValidationException exception = assertThrows(ResourceValidationException.class,
+            () -> resourceQuotaService.getUsedQuotaByNamespaces(namespaces, null, -1, 10));
+
+        assertEquals(List.of("Invalid value \"-1\" for field \"page\": value must be at least 0."),
+            exception.getValidationErrors());
+
+        exception = assertThrows(ResourceValidationException.class,
+            () -> resourceQuotaService.getUsedQuotaByNamespaces(namespaces, null, 0, -10));
+
+        assertEquals(List.of("Invalid value \"-10\" for field \"size\": value must be at least 0."),
+            exception.getValidationErrors());
+        verify(resourceQuotaRepository, never()).findAll();
+    }
+
+    private Namespace buildNamespace(String name) {
+        return Namespace.builder()
             .metadata(Metadata.builder()
-                .name("namespace2")
+                .name(name)
                 .cluster("local")
                 .build())
             .spec(Namespace.NamespaceSpec.builder()
                 .connectClusters(List.of("local-name"))
                 .build())
             .build();
+    }
 
-        Namespace ns3 = Namespace.builder()
+    private void mockOwnerAcls() {
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("namespace", AccessControlEntry.ResourceType.TOPIC, ""),
+            buildOwnerAcl("namespace", AccessControlEntry.ResourceType.CONNECT, "")));
+    }
+
+    private AccessControlEntry buildOwnerAcl(String namespace, AccessControlEntry.ResourceType resourceType,
+                                             String prefix) {
+        return AccessControlEntry.builder()
             .metadata(Metadata.builder()
-                .name("namespace3")
+                .name(namespace + "-" + resourceType)
+                .namespace("admin")
                 .cluster("local")
                 .build())
-            .spec(Namespace.NamespaceSpec.builder()
-                .connectClusters(List.of("local-name"))
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(resourceType)
+                .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                .resource(prefix)
+                .permission(AccessControlEntry.Permission.OWNER)
+                .grantedTo(namespace)
                 .build())
             .build();
+    }
 
-        Namespace ns4 = Namespace.builder()
+    private Topic buildTopic(String name, int partitions, String retentionBytes) {
+        return Topic.builder()
             .metadata(Metadata.builder()
-                .name("namespace4")
+                .name(name)
                 .cluster("local")
                 .build())
-            .spec(Namespace.NamespaceSpec.builder()
-                .connectClusters(List.of("local-name"))
+            .spec(Topic.TopicSpec.builder()
+                .partitions(partitions)
+                .configs(Map.of(RETENTION_BYTES_CONFIG, retentionBytes))
                 .build())
             .build();
+    }
 
-        ResourceQuota resourceQuota = ResourceQuota.builder()
+    private ResourceQuota buildQuota(String namespace) {
+        return ResourceQuota.builder()
             .metadata(Metadata.builder()
                 .cluster("local")
                 .name("test")
+                .namespace(namespace)
                 .build())
             .spec(Map.of(COUNT_TOPICS.toString(), "3",
                 COUNT_PARTITIONS.toString(), "20",
                 COUNT_CONNECTORS.toString(), "2",
                 DISK_TOPICS.toString(), "60KiB"))
             .build();
-
-        Topic topic1 = Topic.builder()
-            .metadata(Metadata.builder()
-                .name("topic")
-                .namespace("namespace")
-                .build())
-            .spec(Topic.TopicSpec.builder()
-                .partitions(6)
-                .configs(Map.of("retention.bytes", "1000"))
-                .build())
-            .build();
-
-        Topic topic2 = Topic.builder()
-            .metadata(Metadata.builder()
-                .name("topic")
-                .namespace("namespace2")
-                .build())
-            .spec(Topic.TopicSpec.builder()
-                .partitions(3)
-                .configs(Map.of("retention.bytes", "2000"))
-                .build())
-            .build();
-
-        Topic topic3 = Topic.builder()
-            .metadata(Metadata.builder()
-                .name("topic")
-                .namespace("namespace3")
-                .build())
-            .spec(Topic.TopicSpec.builder()
-                .partitions(10)
-                .configs(Map.of("retention.bytes", "4000"))
-                .build())
-            .build();
-
-        when(topicService.findAllForNamespace(ns1))
-            .thenReturn(List.of(topic1));
-        when(topicService.findAllForNamespace(ns2))
-            .thenReturn(List.of(topic2));
-        when(topicService.findAllForNamespace(ns3))
-            .thenReturn(List.of(topic3));
-        when(topicService.findAllForNamespace(ns4))
-            .thenReturn(List.of());
-        when(connectorService.findAllForNamespace(any()))
-            .thenReturn(List.of(
-                Connector.builder().metadata(Metadata.builder().name("connect1").build()).build(),
-                Connector.builder().metadata(Metadata.builder().name("connect2").build()).build()));
-        when(resourceQuotaRepository.findForNamespace(any()))
-            .thenReturn(Optional.of(resourceQuota));
-
-        List<ResourceQuotaResponse> response =
-            resourceQuotaService.getUsedQuotaByNamespaces(List.of(ns1, ns2, ns3, ns4));
-        assertEquals(4, response.size());
     }
 }
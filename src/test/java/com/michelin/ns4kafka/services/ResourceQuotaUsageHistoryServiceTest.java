@@ -0,0 +1,164 @@
+package com.michelin.ns4kafka.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.Namespace;
+import com.michelin.ns4kafka.models.quota.ResourceQuotaUsage;
+import com.michelin.ns4kafka.repositories.ResourceQuotaUsageRepository;
+import com.michelin.ns4kafka.services.executors.LeaderElection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceQuotaUsageHistoryServiceTest {
+    private static final Instant TEN_AM = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    NamespaceService namespaceService;
+
+    @Mock
+    ResourceQuotaUsageService resourceQuotaUsageService;
+
+    @Mock
+    ResourceQuotaUsageRepository resourceQuotaUsageRepository;
+
+    @Mock
+    LeaderElection leaderElection;
+
+    @Captor
+    ArgumentCaptor<List<ResourceQuotaUsage>> usagesCaptor;
+
+    @InjectMocks
+    ResourceQuotaUsageHistoryService resourceQuotaUsageHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        resourceQuotaUsageHistoryService.bufferSize = 2;
+        resourceQuotaUsageHistoryService.bucket = Duration.ofHours(1);
+        resourceQuotaUsageHistoryService.retention = Duration.ofDays(1);
+    }
+
+    @Test
+    void shouldKeepRecentSamplesInBoundedBuffer() {
+        when(namespaceService.listAll()).thenReturn(List.of(buildNamespace()));
+        when(resourceQuotaUsageService.getUsages(any())).thenReturn(Map.of("ns", buildUsage(1, 3)));
+        when(leaderElection.isLeader()).thenReturn(false);
+
+        resourceQuotaUsageHistoryService.sample(TEN_AM);
+        resourceQuotaUsageHistoryService.sample(TEN_AM.plus(Duration.ofMinutes(5)));
+        resourceQuotaUsageHistoryService.sample(TEN_AM.plus(Duration.ofMinutes(10)));
+
+        List<ResourceQuotaUsage> history = resourceQuotaUsageHistoryService.findHistory("ns",
+            TEN_AM.plus(Duration.ofMinutes(5)), TEN_AM.plus(Duration.ofHours(1)));
+
+        assertEquals(List.of(Date.from(TEN_AM.plus(Duration.ofMinutes(5))),
+                Date.from(TEN_AM.plus(Duration.ofMinutes(10)))),
+            history.stream().map(usage -> usage.getSpec().getTimestamp()).toList());
+        verify(resourceQuotaUsageRepository, never()).createAll(any());
+        verify(resourceQuotaUsageRepository, never()).findAllForNamespace(any(), any(), any());
+    }
+
+    @Test
+    void shouldPersistMaximumUsageByBucket() {
+        when(namespaceService.listAll()).thenReturn(List.of(buildNamespace()));
+        when(resourceQuotaUsageService.getUsages(any()))
+            .thenReturn(Map.of("ns", buildUsage(1, 3)))
+            .thenReturn(Map.of("ns", buildUsage(2, 2)))
+            .thenReturn(Map.of("ns", buildUsage(1, 1)));
+        when(leaderElection.isLeader()).thenReturn(true);
+        when(resourceQuotaUsageRepository.findAllAt(Date.from(TEN_AM))).thenReturn(List.of());
+
+        resourceQuotaUsageHistoryService.sample(TEN_AM.plus(Duration.ofMinutes(1)));
+        resourceQuotaUsageHistoryService.sample(TEN_AM.plus(Duration.ofMinutes(6)));
+        resourceQuotaUsageHistoryService.sample(TEN_AM.plus(Duration.ofMinutes(11)));
+
+        verify(resourceQuotaUsageRepository, times(3)).createAll(usagesCaptor.capture());
+        assertEquals(List.of(1, 1, 0), usagesCaptor.getAllValues().stream().map(List::size).toList());
+
+        ResourceQuotaUsage bucket = usagesCaptor.getAllValues().get(1).get(0);
+        assertEquals(Date.from(TEN_AM), bucket.getSpec().getTimestamp());
+        assertEquals(2, bucket.getSpec().getCountTopic());
+        assertEquals(3, bucket.getSpec().getCountPartition());
+        verify(resourceQuotaUsageRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void shouldDeleteExpiredBuckets() {
+        ResourceQuotaUsage expired = buildBucket(TEN_AM.minus(Duration.ofDays(2)));
+
+        when(namespaceService.listAll()).thenReturn(List.of(buildNamespace()));
+        when(resourceQuotaUsageService.getUsages(any())).thenReturn(Map.of("ns", buildUsage(1, 3)));
+        when(leaderElection.isLeader()).thenReturn(true);
+        when(resourceQuotaUsageRepository.findAllAt(Date.from(TEN_AM))).thenReturn(List.of(buildBucket(TEN_AM)));
+        when(resourceQuotaUsageRepository.findAllBefore(Date.from(TEN_AM.plus(Duration.ofMinutes(1))
+            .minus(Duration.ofDays(1))))).thenReturn(List.of(expired));
+
+        resourceQuotaUsageHistoryService.sample(TEN_AM.plus(Duration.ofMinutes(1)));
+
+        verify(resourceQuotaUsageRepository).deleteAll(List.of(expired));
+    }
+
+    @Test
+    void shouldServeOlderRangeFromBuckets() {
+        when(namespaceService.listAll()).thenReturn(List.of(buildNamespace()));
+        when(resourceQuotaUsageService.getUsages(any())).thenReturn(Map.of("ns", buildUsage(1, 3)));
+        when(leaderElection.isLeader()).thenReturn(false);
+        when(resourceQuotaUsageRepository.findAllForNamespace("ns", Date.from(TEN_AM.minus(Duration.ofMinutes(30))),
+            Date.from(TEN_AM.plus(Duration.ofHours(2))))).thenReturn(List.of(
+            buildBucket(TEN_AM),
+            buildBucket(TEN_AM.plus(Duration.ofHours(1)))));
+
+        resourceQuotaUsageHistoryService.sample(TEN_AM.plus(Duration.ofHours(2)));
+
+        List<ResourceQuotaUsage> history = resourceQuotaUsageHistoryService.findHistory("ns",
+            TEN_AM.minus(Duration.ofMinutes(30)), TEN_AM.plus(Duration.ofHours(3)));
+
+        assertEquals(List.of(Date.from(TEN_AM), Date.from(TEN_AM.plus(Duration.ofHours(1))),
+                Date.from(TEN_AM.plus(Duration.ofHours(2)))),
+            history.stream().map(usage -> usage.getSpec().getTimestamp()).toList());
+    }
+
+    private Namespace buildNamespace() {
+        return Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("ns")
+                .cluster("local")
+                .build())
+            .build();
+    }
+
+    private ResourceQuotaUsageService.NamespaceUsage buildUsage(long countTopics, long countPartitions) {
+        return new ResourceQuotaUsageService.NamespaceUsage(countTopics, countPartitions, 0, 0);
+    }
+
+    private ResourceQuotaUsage buildBucket(Instant bucketStart) {
+        return ResourceQuotaUsage.builder()
+            .metadata(Metadata.builder()
+                .name(String.valueOf(bucketStart.toEpochMilli()))
+                .namespace("ns")
+                .cluster("local")
+                .build())
+            .spec(ResourceQuotaUsage.ResourceQuotaUsageSpec.builder()
+                .timestamp(Date.from(bucketStart))
+                .countTopic(1)
+                .build())
+            .build();
+    }
+}
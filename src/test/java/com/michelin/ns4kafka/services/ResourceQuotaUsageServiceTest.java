@@ -0,0 +1,333 @@
+package com.michelin.ns4kafka.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.AccessControlEntry;
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.Namespace;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.Topic;
+import com.michelin.ns4kafka.models.connector.Connector;
+import com.michelin.ns4kafka.repositories.ConnectorRepository;
+import com.michelin.ns4kafka.repositories.TopicRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceQuotaUsageServiceTest {
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    ConnectorRepository connectorRepository;
+
+    @Mock
+    AccessControlEntryService accessControlEntryService;
+
+    @InjectMocks
+    ResourceQuotaUsageService resourceQuotaUsageService;
+
+    @BeforeEach
+    void setUp() {
+        resourceQuotaUsageService.quotaUsageExecutor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resourceQuotaUsageService.quotaUsageExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldLoadUsageOnce() {
+        Namespace ns = buildNamespace();
+
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-"),
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.CONNECT,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-")));
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of(
+            buildTopic("ns-topic1", 3, "1000"),
+            buildTopic("ns-topic2", 6, null)));
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(buildConnector("ns-connect1")));
+
+        ResourceQuotaUsageService.NamespaceUsage usage = resourceQuotaUsageService.getUsage(ns);
+        resourceQuotaUsageService.getUsage(ns);
+
+        assertEquals(new ResourceQuotaUsageService.NamespaceUsage(2, 9, 3000, 1), usage);
+        verify(topicRepository, times(1)).findAllForCluster("local");
+        verify(connectorRepository, times(1)).findAllForCluster("local");
+    }
+
+    @Test
+    void shouldUpdateUsageFromStoreChanges() {
+        Namespace ns = buildNamespace();
+
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-"),
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.CONNECT,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-")));
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of(buildTopic("ns-topic1", 3, "1000")));
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of());
+
+        resourceQuotaUsageService.getUsage(ns);
+
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildTopic("ns-topic1", 6, "1000"), false));
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildTopic("ns-topic2", 1, "500"), false));
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildConnector("ns-connect1"), false));
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildConnector("ns-connect1"), false));
+
+        assertEquals(new ResourceQuotaUsageService.NamespaceUsage(2, 7, 6500, 1),
+            resourceQuotaUsageService.getUsage(ns));
+
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildTopic("ns-topic1", 6, "1000"), true));
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildConnector("ns-connect1"), true));
+
+        assertEquals(new ResourceQuotaUsageService.NamespaceUsage(1, 1, 500, 0),
+            resourceQuotaUsageService.getUsage(ns));
+        verify(topicRepository, times(1)).findAllForCluster("local");
+        verify(accessControlEntryService, times(1)).findAllForCluster("local");
+    }
+
+    @Test
+    void shouldReplayStoreChangesReceivedDuringLoad() {
+        Namespace ns = buildNamespace();
+
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-")));
+        when(topicRepository.findAllForCluster("local")).thenAnswer(invocation -> {
+            // Received from the store while the pass over the topics is running
+            resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildTopic("ns-topic2", 6, null), false));
+            return List.of(buildTopic("ns-topic1", 3, null));
+        });
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of());
+
+        assertEquals(new ResourceQuotaUsageService.NamespaceUsage(2, 9, 0, 0),
+            resourceQuotaUsageService.getUsages(List.of(ns)).get("ns"));
+    }
+
+    @Test
+    void shouldAttributeStoreChangesToAclOwners() {
+        Namespace ns = buildNamespace();
+        Namespace other = buildNamespace("other");
+
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-"),
+            buildOwnerAcl("*", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.LITERAL, "public-topic")));
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of());
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of());
+
+        resourceQuotaUsageService.getUsages(List.of(ns, other));
+
+        // Stored by another namespace, but owned by the ACLs
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildTopic("ns-topic1", 3, null, "other"),
+            false));
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildTopic("public-topic", 2, null, "ns"),
+            false));
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildTopic("unowned-topic", 1, null, "ns"),
+            false));
+
+        assertEquals(new ResourceQuotaUsageService.NamespaceUsage(2, 5, 0, 0),
+            resourceQuotaUsageService.getUsage(ns));
+        assertEquals(new ResourceQuotaUsageService.NamespaceUsage(1, 2, 0, 0),
+            resourceQuotaUsageService.getUsage(other));
+    }
+
+    @Test
+    void shouldLoadUsageAgainWhenOwnershipChanges() {
+        Namespace ns = buildNamespace();
+        AccessControlEntry ownerAcl = buildOwnerAcl("ns", AccessControlEntry.ResourceType.TOPIC,
+            AccessControlEntry.ResourcePatternType.PREFIXED, "ns-");
+
+        when(accessControlEntryService.findAllForCluster("local"))
+            .thenReturn(List.of(ownerAcl))
+            .thenReturn(List.of());
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of(buildTopic("ns-topic1", 3, "1000")));
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of());
+
+        assertEquals(1, resourceQuotaUsageService.getUsage(ns).countTopics());
+
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(ownerAcl, true));
+
+        assertEquals(0, resourceQuotaUsageService.getUsage(ns).countTopics());
+        verify(topicRepository, times(2)).findAllForCluster("local");
+    }
+
+    @Test
+    void shouldLoadAllUsagesOfClusterAgainWhenPublicOwnershipChanges() {
+        Namespace ns = buildNamespace();
+        Namespace other = buildNamespace("other");
+        AccessControlEntry publicAcl = buildOwnerAcl("*", AccessControlEntry.ResourceType.TOPIC,
+            AccessControlEntry.ResourcePatternType.LITERAL, "public-topic");
+
+        when(accessControlEntryService.findAllForCluster("local"))
+            .thenReturn(List.of())
+            .thenReturn(List.of(publicAcl));
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of(buildTopic("public-topic", 3, null)));
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of());
+
+        resourceQuotaUsageService.getUsages(List.of(ns, other));
+
+        // A READ ACL does not change the ownership
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildAcl("*",
+            AccessControlEntry.ResourceType.TOPIC, AccessControlEntry.ResourcePatternType.LITERAL, "public-topic",
+            AccessControlEntry.Permission.READ), false));
+
+        assertEquals(0, resourceQuotaUsageService.getUsage(ns).countTopics());
+
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(publicAcl, false));
+
+        assertEquals(1, resourceQuotaUsageService.getUsage(ns).countTopics());
+        assertEquals(1, resourceQuotaUsageService.getUsage(other).countTopics());
+    }
+
+    @Test
+    void shouldResolveOwnersAgainOnExecutorAndBufferStoreChanges() {
+        Namespace ns = buildNamespace();
+        Namespace other = buildNamespace("other");
+
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-"),
+            buildOwnerAcl("other", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "other-")));
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of());
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of());
+
+        resourceQuotaUsageService.getUsage(ns);
+        resourceQuotaUsageService.getUsage(other);
+
+        resourceQuotaUsageService.quotaUsageExecutor.shutdownNow();
+        resourceQuotaUsageService.quotaUsageExecutor = mock(ExecutorService.class);
+
+        // The owners are not resolved on the thread of the store change
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildOwnerAcl("other",
+            AccessControlEntry.ResourceType.TOPIC, AccessControlEntry.ResourcePatternType.LITERAL, "shared"), false));
+        resourceQuotaUsageService.onStoreChange(new StoreChangeEvent(buildTopic("ns-topic1", 3, null), false));
+
+        ArgumentCaptor<Runnable> resolution = ArgumentCaptor.forClass(Runnable.class);
+        verify(resourceQuotaUsageService.quotaUsageExecutor).execute(resolution.capture());
+        verify(accessControlEntryService, times(1)).findAllForCluster("local");
+        assertEquals(0, resourceQuotaUsageService.getUsage(ns).countTopics());
+
+        resolution.getValue().run();
+
+        verify(accessControlEntryService, times(2)).findAllForCluster("local");
+        assertEquals(1, resourceQuotaUsageService.getUsage(ns).countTopics());
+    }
+
+    @Test
+    void shouldLoadUsagesOfClusterInSinglePass() {
+        Namespace ns = buildNamespace();
+        Namespace other = buildNamespace("other");
+
+        when(accessControlEntryService.findAllForCluster("local")).thenReturn(List.of(
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-"),
+            buildOwnerAcl("other", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.LITERAL, "ns-topic2"),
+            buildOwnerAcl("*", AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.LITERAL, "public-topic"),
+            buildOwnerAcl("ns", AccessControlEntry.ResourceType.CONNECT,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-")));
+        when(topicRepository.findAllForCluster("local")).thenReturn(List.of(
+            buildTopic("ns-topic1", 3, "1000"),
+            buildTopic("ns-topic2", 6, null),
+            buildTopic("public-topic", 1, null),
+            buildTopic("unowned-topic", 1, null)));
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(
+            buildConnector("ns-connect1"),
+            buildConnector("unowned-connect")));
+
+        Map<String, ResourceQuotaUsageService.NamespaceUsage> usages =
+            resourceQuotaUsageService.getUsages(List.of(ns, other));
+
+        assertEquals(new ResourceQuotaUsageService.NamespaceUsage(3, 10, 3000, 1), usages.get("ns"));
+        assertEquals(new ResourceQuotaUsageService.NamespaceUsage(2, 7, 0, 0), usages.get("other"));
+        assertEquals(usages.get("ns"), resourceQuotaUsageService.getUsage(ns));
+        verify(topicRepository, times(1)).findAllForCluster("local");
+    }
+
+    private Namespace buildNamespace() {
+        return buildNamespace("ns");
+    }
+
+    private Namespace buildNamespace(String name) {
+        return Namespace.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .cluster("local")
+                .build())
+            .build();
+    }
+
+    private AccessControlEntry buildOwnerAcl(String grantedTo, AccessControlEntry.ResourceType resourceType,
+                                             AccessControlEntry.ResourcePatternType patternType, String resource) {
+        return buildAcl(grantedTo, resourceType, patternType, resource, AccessControlEntry.Permission.OWNER);
+    }
+
+    private AccessControlEntry buildAcl(String grantedTo, AccessControlEntry.ResourceType resourceType,
+                                        AccessControlEntry.ResourcePatternType patternType, String resource,
+                                        AccessControlEntry.Permission permission) {
+        return AccessControlEntry.builder()
+            .metadata(Metadata.builder()
+                .name(grantedTo + "-" + resource)
+                .namespace("admin")
+                .cluster("local")
+                .build())
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(resourceType)
+                .resourcePatternType(patternType)
+                .resource(resource)
+                .permission(permission)
+                .grantedTo(grantedTo)
+                .build())
+            .build();
+    }
+
+    private Topic buildTopic(String name, int partitions, String retentionBytes) {
+        return buildTopic(name, partitions, retentionBytes, "ns");
+    }
+
+    private Topic buildTopic(String name, int partitions, String retentionBytes, String namespace) {
+        return Topic.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .namespace(namespace)
+                .cluster("local")
+                .build())
+            .spec(Topic.TopicSpec.builder()
+                .partitions(partitions)
+                .configs(retentionBytes == null ? Map.of() : Map.of("retention.bytes", retentionBytes))
+                .build())
+            .build();
+    }
+
+    private Connector buildConnector(String name) {
+        return Connector.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .namespace("ns")
+                .cluster("local")
+                .build())
+            .build();
+    }
+}
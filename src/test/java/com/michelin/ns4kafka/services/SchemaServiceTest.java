@@ -11,13 +11,15 @@ import com.michelin.ns4kafka.models.AccessControlEntry;
 import com.michelin.ns4kafka.models.Metadata;
 import com.michelin.ns4kafka.models.Namespace;
 import com.michelin.ns4kafka.models.schema.Schema;
+import com.michelin.ns4kafka.repositories.AccessControlEntryRepository;
 import com.michelin.ns4kafka.services.clients.schema.SchemaRegistryClient;
+import com.michelin.ns4kafka.services.clients.schema.SchemaSubjectCache;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaCompatibilityCheckResponse;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaCompatibilityResponse;
 import com.michelin.ns4kafka.services.clients.schema.entities.SchemaResponse;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,65 +41,60 @@ class SchemaServiceTest {
     @Mock
     SchemaRegistryClient schemaRegistryClient;
 
+    @Mock
+    SchemaSubjectCache schemaSubjectCache;
+
+    @Mock
+    AccessControlEntryRepository accessControlEntryRepository;
+
     @Test
     void getAllByNamespace() {
         Namespace namespace = buildNamespace();
-        List<String> subjectsResponse =
-            Arrays.asList("prefix.schema-one", "prefix2.schema-two", "prefix2.schema-three");
-
-        when(schemaRegistryClient.getSubjects(namespace.getMetadata().getCluster())).thenReturn(
-            Flux.fromIterable(subjectsResponse));
-        when(accessControlEntryService.findAllGrantedToNamespace(namespace))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("prefix.")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("prefix2.schema-two")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.READ)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("prefix3.")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resource("ns-")
-                        .build())
-                    .build()
-            ));
+
+        when(schemaSubjectCache.getSubjects(namespace.getMetadata().getCluster())).thenReturn(
+            Mono.just(Set.of("prefix.schema-one-value", "prefix.schema-one-key", "prefix2.schema-two",
+                "prefix2.schema-three", "prefix3.schema-four-value")));
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("myNamespace",
+            AccessControlEntry.ResourceType.TOPIC))
+            .thenReturn(topic -> topic.startsWith("prefix.") || topic.equals("prefix2.schema-two"));
 
         StepVerifier.create(schemaService.findAllForNamespace(namespace))
-            .consumeNextWith(schema -> assertEquals("prefix.schema-one", schema.getMetadata().getName()))
+            .consumeNextWith(schema -> assertEquals("prefix.schema-one-key", schema.getMetadata().getName()))
+            .consumeNextWith(schema -> assertEquals("prefix.schema-one-value", schema.getMetadata().getName()))
             .consumeNextWith(schema -> assertEquals("prefix2.schema-two", schema.getMetadata().getName()))
             .verifyComplete();
     }
 
+    @Test
+    void getAllByNamespaceOnlyOwnedTopics() {
+        Namespace namespace = buildNamespace();
+        AccessControlEntryService realAccessControlEntryService = new AccessControlEntryService();
+        realAccessControlEntryService.accessControlEntryRepository = accessControlEntryRepository;
+        schemaService.accessControlEntryService = realAccessControlEntryService;
+
+        when(accessControlEntryRepository.findAll()).thenReturn(List.of(
+            buildAcl("myNamespace", AccessControlEntry.ResourceType.TOPIC, AccessControlEntry.Permission.OWNER,
+                "prefix."),
+            buildAcl("myNamespace", AccessControlEntry.ResourceType.TOPIC, AccessControlEntry.Permission.READ,
+                "prefix2."),
+            buildAcl("myNamespace", AccessControlEntry.ResourceType.CONNECT, AccessControlEntry.Permission.OWNER,
+                "prefix3."),
+            buildAcl("otherNamespace", AccessControlEntry.ResourceType.TOPIC, AccessControlEntry.Permission.OWNER,
+                "prefix4.")));
+        when(schemaSubjectCache.getSubjects(namespace.getMetadata().getCluster())).thenReturn(
+            Mono.just(Set.of("prefix.schema-one-value", "prefix2.schema-two-value", "prefix3.schema-three-value",
+                "prefix4.schema-four-value")));
+
+        StepVerifier.create(schemaService.findAllForNamespace(namespace))
+            .consumeNextWith(schema -> assertEquals("prefix.schema-one-value", schema.getMetadata().getName()))
+            .verifyComplete();
+    }
+
     @Test
     void getAllByNamespaceEmptyResponse() {
         Namespace namespace = buildNamespace();
 
-        when(schemaRegistryClient.getSubjects(namespace.getMetadata().getCluster())).thenReturn(Flux.empty());
+        when(schemaSubjectCache.getSubjects(namespace.getMetadata().getCluster())).thenReturn(Mono.just(Set.of()));
 
         StepVerifier.create(schemaService.findAllForNamespace(namespace))
             .verifyComplete();
@@ -162,6 +159,8 @@ class SchemaServiceTest {
         StepVerifier.create(schemaService.register(namespace, schema))
             .consumeNextWith(id -> assertEquals(1, id))
             .verifyComplete();
+
+        verify(schemaSubjectCache).onRegister(namespace.getMetadata().getCluster(), schema.getMetadata().getName());
     }
 
     @Test
@@ -186,6 +185,7 @@ class SchemaServiceTest {
 
         verify(schemaRegistryClient, times(1)).deleteSubject(namespace.getMetadata().getCluster(),
             "prefix.schema-one", true);
+        verify(schemaSubjectCache).onDelete(namespace.getMetadata().getCluster(), "prefix.schema-one");
     }
 
     @Test
@@ -408,6 +408,19 @@ class SchemaServiceTest {
             .verifyComplete();
     }
 
+    private AccessControlEntry buildAcl(String grantedTo, AccessControlEntry.ResourceType resourceType,
+                                        AccessControlEntry.Permission permission, String resource) {
+        return AccessControlEntry.builder()
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(resourceType)
+                .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                .permission(permission)
+                .resource(resource)
+                .grantedTo(grantedTo)
+                .build())
+            .build();
+    }
+
     private Namespace buildNamespace() {
         return Namespace.builder()
             .metadata(Metadata.builder()
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.models.AccessControlEntry;
@@ -17,6 +20,7 @@ import com.michelin.ns4kafka.services.clients.schema.SchemaRegistryClient;
 import com.michelin.ns4kafka.services.executors.TopicAsyncExecutor;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +30,8 @@ import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
+import org.apache.kafka.clients.admin.RecordsToDelete;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +39,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class TopicServiceTest {
@@ -290,41 +298,10 @@ class TopicServiceTest {
         when(topicAsyncExecutor.listBrokerTopicNames()).thenReturn(List.of("ns-topic1", "ns-topic2",
             "ns1-topic1", "ns2-topic1"));
 
-        // list of existing ns4kfk access control entries
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            "ns-topic1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            "ns-topic2"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            "ns1-topic1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            "ns2-topic1"))
-            .thenReturn(false);
-
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns1-topic1")
-                        .build())
-                    .build()
-            ));
+        // ownership of the namespace
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.TOPIC))
+            .thenReturn(topic -> topic.startsWith("ns-") || topic.equals("ns1-topic1"));
 
         // no topic exists into ns4kfk
         when(topicRepository.findAllForCluster("local"))
@@ -377,41 +354,10 @@ class TopicServiceTest {
             List.of(t1.getMetadata().getName(), t2.getMetadata().getName(),
                 t3.getMetadata().getName(), t4.getMetadata().getName()));
 
-        // list of existing ns4kfk access control entries
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            t1.getMetadata().getName()))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            t2.getMetadata().getName()))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            t3.getMetadata().getName()))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            t4.getMetadata().getName()))
-            .thenReturn(false);
-
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns1-topic1")
-                        .build())
-                    .build()
-            ));
+        // ownership of the namespace
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.TOPIC))
+            .thenReturn(topic -> topic.startsWith("ns-") || topic.equals("ns1-topic1"));
 
         // all topic exists into ns4kfk
         when(topicRepository.findAllForCluster("local"))
@@ -449,41 +395,10 @@ class TopicServiceTest {
         when(topicAsyncExecutor.listBrokerTopicNames()).thenReturn(List.of("ns-topic1", "ns-topic2",
             "ns1-topic1", "ns2-topic1"));
 
-        // list of existing ns4kfk access control entries
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            "ns-topic1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            "ns-topic2"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            "ns1-topic1"))
-            .thenReturn(true);
-        when(accessControlEntryService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.TOPIC,
-            "ns2-topic1"))
-            .thenReturn(false);
-
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns1-topic1")
-                        .build())
-                    .build()
-            ));
+        // ownership of the namespace
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.TOPIC))
+            .thenReturn(topic -> topic.startsWith("ns-") || topic.equals("ns1-topic1"));
 
         // partial number of topics exists into ns4kfk
         when(topicRepository.findAllForCluster("local"))
@@ -501,6 +416,137 @@ class TopicServiceTest {
 
     }
 
+    @Test
+    void listUnsynchronizedIgnoreTopicsStoredInOtherNamespace()
+        throws InterruptedException, ExecutionException, TimeoutException {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster("local")
+                .build())
+            .build();
+
+        // stored in the same cluster, but by another namespace
+        Topic otherNamespaceTopic = Topic.builder()
+            .metadata(Metadata.builder()
+                .name("ns-topic1")
+                .namespace("other-namespace")
+                .cluster("local")
+                .build())
+            .build();
+
+        TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
+        when(applicationContext.getBean(TopicAsyncExecutor.class,
+            Qualifiers.byName(ns.getMetadata().getCluster()))).thenReturn(topicAsyncExecutor);
+        when(topicAsyncExecutor.listBrokerTopicNames()).thenReturn(List.of("ns-topic1", "ns-topic2"));
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.TOPIC))
+            .thenReturn(topic -> topic.startsWith("ns-"));
+        when(topicRepository.findAllForCluster("local"))
+            .thenReturn(List.of(otherNamespaceTopic));
+
+        List<String> actual = topicService.listUnsynchronizedTopicNames(ns);
+
+        assertEquals(List.of("ns-topic2"), actual);
+    }
+
+    @Test
+    void listUnsynchronizedTopics()throws InterruptedException, ExecutionException, TimeoutException {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster("local")
+                .build())
+            .build();
+
+        Topic t1 = Topic.builder()
+            .metadata(Metadata.builder().name("ns-topic1").build())
+            .build();
+        Topic t2 = Topic.builder()
+            .metadata(Metadata.builder().name("ns-topic2").build())
+            .build();
+
+        TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
+        when(applicationContext.getBean(TopicAsyncExecutor.class,
+            Qualifiers.byName(ns.getMetadata().getCluster()))).thenReturn(topicAsyncExecutor);
+        when(topicAsyncExecutor.listBrokerTopicNames()).thenReturn(List.of("ns-topic1", "ns-topic2", "ns2-topic1"));
+        when(accessControlEntryService.buildNamespaceOwnershipMatcher("namespace",
+            AccessControlEntry.ResourceType.TOPIC))
+            .thenReturn(topic -> topic.startsWith("ns-"));
+        when(topicRepository.findAllForCluster("local"))
+            .thenReturn(List.of());
+        when(topicAsyncExecutor.collectBrokerTopicsFromNames(List.of("ns-topic1", "ns-topic2")))
+            .thenReturn(Map.of("ns-topic1", t1, "ns-topic2", t2));
+
+        StepVerifier.create(topicService.listUnsynchronizedTopics(ns))
+            .recordWith(ArrayList::new)
+            .expectNextCount(2)
+            .consumeRecordedWith(topics -> assertTrue(topics.containsAll(List.of(t1, t2))))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldDeleteRecordsOfSeveralTopics() throws ExecutionException, InterruptedException {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster("local")
+                .build())
+            .build();
+
+        Topic t1 = Topic.builder()
+            .metadata(Metadata.builder().name("ns-topic1").build())
+            .build();
+        Topic t2 = Topic.builder()
+            .metadata(Metadata.builder().name("ns-topic2").build())
+            .build();
+
+        Map<TopicPartition, RecordsToDelete> recordsToDelete = Map.of(
+            new TopicPartition("ns-topic1", 0), RecordsToDelete.beforeOffset(100L),
+            new TopicPartition("ns-topic2", 0), RecordsToDelete.beforeOffset(200L));
+
+        TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
+        when(applicationContext.getBean(TopicAsyncExecutor.class,
+            Qualifiers.byName(ns.getMetadata().getCluster()))).thenReturn(topicAsyncExecutor);
+        when(topicAsyncExecutor.prepareRecordsToDelete(List.of("ns-topic1", "ns-topic2")))
+            .thenReturn(recordsToDelete);
+        when(topicAsyncExecutor.deleteRecordsAsync(recordsToDelete))
+            .thenReturn(Flux.just(
+                Map.entry(new TopicPartition("ns-topic1", 0), 100L),
+                Map.entry(new TopicPartition("ns-topic2", 0), 200L)));
+
+        StepVerifier.create(topicService.deleteRecords(ns, List.of(t1, t2), false))
+            .expectNext(Map.entry(new TopicPartition("ns-topic1", 0), 100L))
+            .expectNext(Map.entry(new TopicPartition("ns-topic2", 0), 200L))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldNotDeleteRecordsOfSeveralTopicsInDryRunMode() throws ExecutionException, InterruptedException {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster("local")
+                .build())
+            .build();
+
+        Topic t1 = Topic.builder()
+            .metadata(Metadata.builder().name("ns-topic1").build())
+            .build();
+
+        TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
+        when(applicationContext.getBean(TopicAsyncExecutor.class,
+            Qualifiers.byName(ns.getMetadata().getCluster()))).thenReturn(topicAsyncExecutor);
+        when(topicAsyncExecutor.prepareRecordsToDelete(List.of("ns-topic1")))
+            .thenReturn(Map.of(new TopicPartition("ns-topic1", 0), RecordsToDelete.beforeOffset(100L)));
+
+        StepVerifier.create(topicService.deleteRecords(ns, List.of(t1), true))
+            .expectNext(Map.entry(new TopicPartition("ns-topic1", 0), 100L))
+            .verifyComplete();
+
+        verify(topicAsyncExecutor, never()).deleteRecordsAsync(any());
+    }
+
     @Test
     void findCollidingTopicsNoCollision() throws ExecutionException, InterruptedException, TimeoutException {
         Namespace ns = Namespace.builder()
@@ -516,8 +562,8 @@ class TopicServiceTest {
         TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
             .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames())
-            .thenReturn(List.of("project2.topic", "project1.other"));
+        when(topicAsyncExecutor.findCollidingBrokerTopicNames("project1.topic"))
+            .thenReturn(List.of());
 
         List<String> actual = topicService.findCollidingTopics(ns, topic);
 
@@ -539,8 +585,8 @@ class TopicServiceTest {
         TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
             .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames())
-            .thenReturn(List.of("project1.topic", "project2.topic", "project1.other"));
+        when(topicAsyncExecutor.findCollidingBrokerTopicNames("project1.topic"))
+            .thenReturn(List.of("project1.topic"));
 
         List<String> actual = topicService.findCollidingTopics(ns, topic);
 
@@ -562,7 +608,7 @@ class TopicServiceTest {
         TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
             .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames())
+        when(topicAsyncExecutor.findCollidingBrokerTopicNames("project1.topic"))
             .thenReturn(List.of("project1_topic"));
 
         List<String> actual = topicService.findCollidingTopics(ns, topic);
@@ -586,7 +632,7 @@ class TopicServiceTest {
         TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
             .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames())
+        when(topicAsyncExecutor.findCollidingBrokerTopicNames("project1.topic"))
             .thenThrow(new InterruptedException());
 
         assertThrows(InterruptedException.class,
@@ -611,7 +657,7 @@ class TopicServiceTest {
         TopicAsyncExecutor topicAsyncExecutor = Mockito.mock(TopicAsyncExecutor.class);
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
             .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames())
+        when(topicAsyncExecutor.findCollidingBrokerTopicNames("project1.topic"))
             .thenThrow(new RuntimeException("Unknown Error"));
 
         assertThrows(RuntimeException.class,
@@ -0,0 +1,227 @@
+package com.michelin.ns4kafka.services.clients;
+
+import static com.michelin.ns4kafka.services.clients.HttpClientPools.IN_FLIGHT_METRIC;
+import static com.michelin.ns4kafka.services.clients.HttpClientPools.REQUESTS_METRIC;
+import static com.michelin.ns4kafka.services.clients.HttpClientPools.UTILIZATION_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.properties.HttpClientPoolProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.BeanContext;
+import io.micronaut.http.client.DefaultHttpClientConfiguration;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.HttpClientConfiguration;
+import io.micronaut.http.client.HttpClientRegistry;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.scheduling.TaskScheduler;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class HttpClientPoolsTest {
+    @Mock
+    BeanContext beanContext;
+
+    @Mock
+    HttpClientRegistry<HttpClient> httpClientRegistry;
+
+    @Mock
+    HttpClient firstHttpClient;
+
+    @Mock
+    HttpClient secondHttpClient;
+
+    @Mock
+    TaskScheduler taskScheduler;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    HttpClientPools httpClientPools;
+
+    @BeforeEach
+    void setUp() {
+        HttpClientPoolProperties properties = new HttpClientPoolProperties(HttpClientPoolProperties.KAFKA_CONNECT);
+        properties.setMaxConnections(4);
+
+        httpClientPools = new HttpClientPools();
+        httpClientPools.beanContext = beanContext;
+        httpClientPools.httpClientRegistry = httpClientRegistry;
+        httpClientPools.defaultHttpClientConfiguration = new DefaultHttpClientConfiguration();
+        httpClientPools.meterRegistry = meterRegistry;
+        httpClientPools.httpClientPoolProperties = List.of(properties);
+        httpClientPools.taskScheduler = taskScheduler;
+    }
+
+    @Test
+    void shouldSendWithOneHttpClientPerEndpoint() {
+        when(httpClientRegistry.resolveClient(isNull(), any(), any(), any()))
+            .thenReturn(firstHttpClient)
+            .thenReturn(secondHttpClient);
+
+        HttpClientPools.Endpoint first = HttpClientPools.Endpoint.kafkaConnect("local", "first-connect");
+        HttpClientPools.Endpoint second = HttpClientPools.Endpoint.kafkaConnect("local", "second-connect");
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(httpClientPools.send(first, "http://first:8083", httpClient -> {
+                assertSame(firstHttpClient, httpClient);
+                return Mono.just("first");
+            }))
+                .expectNext("first")
+                .verifyComplete();
+        }
+
+        StepVerifier.create(httpClientPools.send(second, "http://second:8083",
+                httpClient -> Mono.<String>error(new HttpClientException("Connect refused"))))
+            .verifyError(HttpClientException.class);
+
+        verify(httpClientRegistry, times(2)).resolveClient(isNull(), any(), any(), any());
+        assertEquals(2, meterRegistry.get(REQUESTS_METRIC)
+            .tag("endpoint", "first-connect")
+            .tag("result", HttpClientPools.SUCCESS)
+            .timer()
+            .count());
+        assertEquals(1, meterRegistry.get(REQUESTS_METRIC)
+            .tag("endpoint", "second-connect")
+            .tag("result", HttpClientPools.FAILURE)
+            .timer()
+            .count());
+    }
+
+    @Test
+    void shouldMeasureInFlightRequests() {
+        when(httpClientRegistry.resolveClient(isNull(), any(), any(), any())).thenReturn(firstHttpClient);
+
+        HttpClientPools.Endpoint endpoint = HttpClientPools.Endpoint.kafkaConnect("local", "local-connect");
+        Sinks.One<String> response = Sinks.one();
+
+        StepVerifier.create(httpClientPools.send(endpoint, "http://connect:8083", httpClient -> response.asMono()))
+            .then(() -> {
+                assertEquals(1, meterRegistry.get(IN_FLIGHT_METRIC).tag("endpoint", "local-connect").gauge().value());
+                assertEquals(0.25, meterRegistry.get(UTILIZATION_METRIC).tag("endpoint", "local-connect").gauge()
+                    .value());
+                response.tryEmitValue("ok");
+            })
+            .expectNext("ok")
+            .verifyComplete();
+
+        assertEquals(0, meterRegistry.get(IN_FLIGHT_METRIC).tag("endpoint", "local-connect").gauge().value());
+    }
+
+    @Test
+    void shouldCloseHttpClientWhenEvictedOrMoved() {
+        when(httpClientRegistry.resolveClient(isNull(), any(), any(), any()))
+            .thenReturn(firstHttpClient)
+            .thenReturn(secondHttpClient);
+
+        HttpClientPools.Endpoint endpoint = HttpClientPools.Endpoint.kafkaConnect("local", "local-connect");
+
+        StepVerifier.create(httpClientPools.send(endpoint, "http://connect:8083", httpClient -> Mono.just("ok")))
+            .expectNext("ok")
+            .verifyComplete();
+        StepVerifier.create(httpClientPools.send(endpoint, "http://other-connect:8083", httpClient -> Mono.just("ok")))
+            .expectNext("ok")
+            .verifyComplete();
+
+        verify(firstHttpClient).stop();
+        verify(secondHttpClient, never()).stop();
+
+        httpClientPools.evict(HttpClientPoolProperties.KAFKA_CONNECT, "local-connect");
+
+        verify(secondHttpClient).stop();
+        assertTrue(meterRegistry.find(IN_FLIGHT_METRIC).gauges().isEmpty());
+    }
+
+    @Test
+    void shouldStopEvictedHttpClientOnceInFlightRequestsComplete() {
+        when(httpClientRegistry.resolveClient(isNull(), any(), any(), any()))
+            .thenReturn(firstHttpClient)
+            .thenReturn(secondHttpClient);
+
+        HttpClientPools.Endpoint endpoint = HttpClientPools.Endpoint.kafkaConnect("local", "local-connect");
+        Sinks.One<String> response = Sinks.one();
+
+        StepVerifier.create(httpClientPools.send(endpoint, "http://connect:8083", httpClient -> response.asMono()))
+            .then(() -> {
+                httpClientPools.evict(HttpClientPoolProperties.KAFKA_CONNECT, "local-connect");
+                verify(firstHttpClient, never()).stop();
+
+                // The next request goes to a new HTTP client
+                StepVerifier.create(httpClientPools.send(endpoint, "http://connect:8083", httpClient -> {
+                    assertSame(secondHttpClient, httpClient);
+                    return Mono.just("new");
+                }))
+                    .expectNext("new")
+                    .verifyComplete();
+
+                response.tryEmitValue("ok");
+            })
+            .expectNext("ok")
+            .verifyComplete();
+
+        verify(firstHttpClient).stop();
+        verify(secondHttpClient, never()).stop();
+    }
+
+    @Test
+    void shouldStopEvictedHttpClientAfterGracePeriod() {
+        when(httpClientRegistry.resolveClient(isNull(), any(), any(), any())).thenReturn(firstHttpClient);
+
+        HttpClientPools.Endpoint endpoint = HttpClientPools.Endpoint.kafkaConnect("local", "local-connect");
+        Sinks.One<String> response = Sinks.one();
+        ArgumentCaptor<Runnable> stop = ArgumentCaptor.forClass(Runnable.class);
+
+        StepVerifier.create(httpClientPools.send(endpoint, "http://connect:8083", httpClient -> response.asMono()))
+            .then(() -> {
+                httpClientPools.evict(HttpClientPoolProperties.KAFKA_CONNECT, "local-connect");
+
+                // The acquire timeout and the read timeout of the pool
+                verify(taskScheduler).schedule(eq(Duration.ofSeconds(20)), stop.capture());
+                stop.getValue().run();
+                verify(firstHttpClient).stop();
+
+                response.tryEmitValue("ok");
+            })
+            .expectNext("ok")
+            .verifyComplete();
+
+        verify(firstHttpClient, times(1)).stop();
+    }
+
+    @Test
+    void shouldBuildConfigurationFromPoolProperties() {
+        HttpClientPoolProperties properties = new HttpClientPoolProperties(HttpClientPoolProperties.SCHEMA_REGISTRY);
+        properties.setEventLoopGroup("schema");
+        properties.setMaxConnections(2);
+        properties.setMaxPendingAcquires(10);
+        properties.setReadTimeout(Duration.ofSeconds(20));
+        properties.setHttp2(true);
+
+        HttpClientConfiguration configuration = httpClientPools.buildConfiguration(properties);
+
+        assertEquals("schema", configuration.getEventLoopGroup());
+        assertEquals(Duration.ofSeconds(20), configuration.getReadTimeout().orElseThrow());
+        assertEquals(2, configuration.getConnectionPoolConfiguration().getMaxConcurrentHttp1Connections());
+        assertEquals(10, configuration.getConnectionPoolConfiguration().getMaxPendingAcquires());
+        assertTrue(configuration.getAlpnModes().contains("h2"));
+        assertEquals(64, properties.getMaxInFlightRequests());
+    }
+}
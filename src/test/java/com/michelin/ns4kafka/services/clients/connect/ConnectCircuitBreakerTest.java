@@ -0,0 +1,179 @@
+package com.michelin.ns4kafka.services.clients.connect;
+
+import static com.michelin.ns4kafka.services.clients.connect.ConnectCircuitBreaker.REJECTIONS_METRIC;
+import static com.michelin.ns4kafka.services.clients.connect.ConnectCircuitBreaker.STATE_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.connect.cluster.ConnectCluster;
+import com.michelin.ns4kafka.models.connect.cluster.ConnectCluster.CircuitBreakerState;
+import com.michelin.ns4kafka.utils.exceptions.ConnectClusterUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class ConnectCircuitBreakerTest {
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ConnectCircuitBreaker connectCircuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        connectCircuitBreaker = new ConnectCircuitBreaker();
+        connectCircuitBreaker.meterRegistry = meterRegistry;
+        connectCircuitBreaker.enabled = true;
+        connectCircuitBreaker.failureThreshold = 2;
+        connectCircuitBreaker.openDuration = Duration.ofMinutes(1);
+        connectCircuitBreaker.maxOpenDuration = Duration.ofMinutes(5);
+        connectCircuitBreaker.backoffMultiplier = 2;
+    }
+
+    @Test
+    void shouldFailFastOnceOpen() {
+        AtomicInteger requests = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            requests.incrementAndGet();
+            return Mono.error(new HttpClientException("Connect refused"));
+        });
+
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", request))
+            .verifyError(HttpClientException.class);
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", request))
+            .verifyError(HttpClientException.class);
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", request))
+            .verifyError(ConnectClusterUnavailableException.class);
+
+        assertEquals(2, requests.get());
+        assertEquals(CircuitBreakerState.OPEN, connectCircuitBreaker.getState("local", "local-connect"));
+        assertEquals(2, meterRegistry.get(STATE_METRIC).tag("connect-cluster", "local-connect").gauge().value());
+        assertEquals(1, meterRegistry.get(REJECTIONS_METRIC).tag("connect-cluster", "local-connect").counter()
+            .count());
+        assertEquals(CircuitBreakerState.CLOSED, connectCircuitBreaker.getState("local", "other-connect"));
+    }
+
+    @Test
+    void shouldNotCountClientErrors() {
+        Mono<String> request = Mono.error(new HttpClientResponseException("Not found", HttpResponse.notFound()));
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", request))
+                .verifyError(HttpClientResponseException.class);
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED, connectCircuitBreaker.getState("local", "local-connect"));
+    }
+
+    @Test
+    void shouldProbeOnceThenBackOffExponentially() throws InterruptedException {
+        connectCircuitBreaker.failureThreshold = 1;
+        connectCircuitBreaker.openDuration = Duration.ofMillis(50);
+
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect",
+                Mono.error(new HttpClientException("Connect refused"))))
+            .verifyError(HttpClientException.class);
+
+        Thread.sleep(60);
+
+        Sinks.One<String> probe = Sinks.one();
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", probe.asMono()))
+            .then(() -> {
+                assertEquals(CircuitBreakerState.HALF_OPEN, connectCircuitBreaker.getState("local", "local-connect"));
+                StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", Mono.just("other")))
+                    .verifyError(ConnectClusterUnavailableException.class);
+                probe.tryEmitError(new HttpClientException("Connect refused"));
+            })
+            .verifyError(HttpClientException.class);
+
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", Mono.just("rejected")))
+            .consumeErrorWith(error -> assertTrue(((ConnectClusterUnavailableException) error).getRetryAfter()
+                .compareTo(Duration.ofMillis(50)) > 0))
+            .verify();
+
+        Thread.sleep(110);
+
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", Mono.just("probe")))
+            .expectNext("probe")
+            .verifyComplete();
+
+        assertEquals(CircuitBreakerState.CLOSED, connectCircuitBreaker.getState("local", "local-connect"));
+    }
+
+    @Test
+    void shouldOpenWhenRequestsTimeOut() {
+        AtomicInteger requests = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            requests.incrementAndGet();
+            return Mono.never();
+        });
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", request,
+                    Duration.ofMillis(20)))
+                .verifyError(TimeoutException.class);
+        }
+
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", request, Duration.ofMillis(20)))
+            .verifyError(ConnectClusterUnavailableException.class);
+
+        assertEquals(2, requests.get());
+        assertEquals(CircuitBreakerState.OPEN, connectCircuitBreaker.getState("local", "local-connect"));
+    }
+
+    @Test
+    void shouldIgnoreOutcomeOfRequestPermittedInPreviousState() throws InterruptedException {
+        connectCircuitBreaker.failureThreshold = 1;
+        connectCircuitBreaker.openDuration = Duration.ofMillis(50);
+
+        Sinks.One<String> slow = Sinks.one();
+        connectCircuitBreaker.protect("local", "local-connect", slow.asMono()).subscribe();
+
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect",
+                Mono.error(new HttpClientException("Connect refused"))))
+            .verifyError(HttpClientException.class);
+
+        Thread.sleep(60);
+
+        Sinks.One<String> probe = Sinks.one();
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect", probe.asMono()))
+            .then(() -> {
+                // Permitted while closed, it does not close the circuit breaker being probed
+                slow.tryEmitValue("late");
+                assertEquals(CircuitBreakerState.HALF_OPEN, connectCircuitBreaker.getState("local", "local-connect"));
+                probe.tryEmitError(new HttpClientException("Connect refused"));
+            })
+            .verifyError(HttpClientException.class);
+
+        assertEquals(CircuitBreakerState.OPEN, connectCircuitBreaker.getState("local", "local-connect"));
+    }
+
+    @Test
+    void shouldResetWhenConnectClusterChanges() {
+        connectCircuitBreaker.failureThreshold = 1;
+
+        StepVerifier.create(connectCircuitBreaker.protect("local", "local-connect",
+                Mono.error(new HttpClientException("Connect refused"))))
+            .verifyError(HttpClientException.class);
+
+        connectCircuitBreaker.onStoreChange(new StoreChangeEvent(ConnectCluster.builder()
+            .metadata(Metadata.builder()
+                .name("local-connect")
+                .cluster("local")
+                .build())
+            .build(), false));
+
+        assertEquals(CircuitBreakerState.CLOSED, connectCircuitBreaker.getState("local", "local-connect"));
+        assertTrue(meterRegistry.find(STATE_METRIC).gauges().isEmpty());
+    }
+}
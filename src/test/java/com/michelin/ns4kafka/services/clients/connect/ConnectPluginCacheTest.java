@@ -0,0 +1,122 @@
+package com.michelin.ns4kafka.services.clients.connect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.ConnectPluginsRefreshEvent;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorPluginInfo;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectPluginCacheTest {
+    private static final String FILE_SINK = "org.apache.kafka.connect.file.FileStreamSinkConnector";
+
+    private static final String FILE_SOURCE = "org.apache.kafka.connect.file.FileStreamSourceConnector";
+
+    @Mock
+    KafkaConnectClient kafkaConnectClient;
+
+    @Mock
+    ApplicationEventPublisher<ConnectPluginsRefreshEvent> applicationEventPublisher;
+
+    ConnectPluginCache connectPluginCache;
+
+    @BeforeEach
+    void setUp() {
+        connectPluginCache = new ConnectPluginCache();
+        connectPluginCache.kafkaConnectClient = kafkaConnectClient;
+        connectPluginCache.meterRegistry = new SimpleMeterRegistry();
+        connectPluginCache.applicationEventPublisher = applicationEventPublisher;
+        connectPluginCache.ttl = Duration.ofMinutes(10);
+        connectPluginCache.minRefreshInterval = Duration.ofMinutes(1);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMisses() {
+        Sinks.One<List<ConnectorPluginInfo>> response = Sinks.one();
+        AtomicInteger requests = new AtomicInteger();
+        when(kafkaConnectClient.connectPlugins("local", "local-connect"))
+            .thenReturn(Mono.defer(() -> {
+                requests.incrementAndGet();
+                return response.asMono();
+            }));
+
+        Mono<ConnectorPluginInfo> first = connectPluginCache.findPlugin("local", "local-connect", FILE_SINK);
+        Mono<ConnectorPluginInfo> second = connectPluginCache.findPlugin("local", "local-connect", FILE_SINK);
+
+        first.subscribe();
+        second.subscribe();
+        response.tryEmitValue(List.of(buildPlugin(FILE_SINK)));
+
+        StepVerifier.create(connectPluginCache.findPlugin("local", "local-connect", FILE_SINK))
+            .consumeNextWith(plugin -> assertEquals(ConnectorType.SINK, plugin.type()))
+            .verifyComplete();
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void shouldNotRefreshMissingClassBeforeInterval() {
+        when(kafkaConnectClient.connectPlugins("local", "local-connect"))
+            .thenReturn(Mono.just(List.of(buildPlugin(FILE_SINK))));
+
+        StepVerifier.create(connectPluginCache.findPlugin("local", "local-connect", FILE_SOURCE))
+            .verifyComplete();
+        StepVerifier.create(connectPluginCache.findPlugin("local", "local-connect", FILE_SOURCE))
+            .verifyComplete();
+
+        verify(kafkaConnectClient, times(1)).connectPlugins("local", "local-connect");
+    }
+
+    @Test
+    void shouldRefreshMissingClassAfterInterval() {
+        connectPluginCache.minRefreshInterval = Duration.ZERO;
+
+        when(kafkaConnectClient.connectPlugins("local", "local-connect"))
+            .thenReturn(Mono.just(List.of(buildPlugin(FILE_SINK))))
+            .thenReturn(Mono.just(List.of(buildPlugin(FILE_SINK), buildPlugin(FILE_SOURCE))));
+
+        StepVerifier.create(connectPluginCache.findPlugin("local", "local-connect", FILE_SOURCE))
+            .expectNextCount(1)
+            .verifyComplete();
+        StepVerifier.create(connectPluginCache.findPlugin("local", "local-connect", FILE_SINK))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(kafkaConnectClient, times(2)).connectPlugins("local", "local-connect");
+        verify(applicationEventPublisher, times(2))
+            .publishEvent(new ConnectPluginsRefreshEvent("local", "local-connect"));
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        when(kafkaConnectClient.connectPlugins("local", "local-connect"))
+            .thenReturn(Mono.error(new IllegalStateException("Connect unavailable")))
+            .thenReturn(Mono.just(List.of(buildPlugin(FILE_SINK))));
+
+        StepVerifier.create(connectPluginCache.getPlugins("local", "local-connect"))
+            .verifyError(IllegalStateException.class);
+        StepVerifier.create(connectPluginCache.getPlugins("local", "local-connect"))
+            .consumeNextWith(plugins -> assertEquals(1, plugins.size()))
+            .verifyComplete();
+    }
+
+    private ConnectorPluginInfo buildPlugin(String className) {
+        return new ConnectorPluginInfo(className, ConnectorType.SINK, "v1");
+    }
+}
@@ -0,0 +1,127 @@
+package com.michelin.ns4kafka.services.clients.connect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.connect.cluster.ConnectCluster;
+import com.michelin.ns4kafka.properties.HttpClientPoolProperties;
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import com.michelin.ns4kafka.properties.SecurityProperties;
+import com.michelin.ns4kafka.repositories.ConnectClusterRepository;
+import com.michelin.ns4kafka.services.clients.HttpClientPools;
+import com.michelin.ns4kafka.utils.EncryptionUtils;
+import com.michelin.ns4kafka.utils.exceptions.ResourceValidationException;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaConnectClientTest {
+    private static final String ENCRYPTION_KEY = "changeitchangeitchangeitchangeit";
+
+    @Mock
+    ConnectClusterRepository connectClusterRepository;
+
+    @Mock
+    SecurityProperties securityProperties;
+
+    @Mock
+    HttpClientPools httpClientPools;
+
+    KafkaConnectClient kafkaConnectClient;
+
+    @BeforeEach
+    void setUp() {
+        ManagedClusterProperties managedClusterProperties = new ManagedClusterProperties("local");
+        managedClusterProperties.setConnects(Map.of());
+
+        kafkaConnectClient = new KafkaConnectClient();
+        kafkaConnectClient.connectClusterRepository = connectClusterRepository;
+        kafkaConnectClient.securityProperties = securityProperties;
+        kafkaConnectClient.httpClientPools = httpClientPools;
+        kafkaConnectClient.managedClusterProperties = List.of(managedClusterProperties);
+    }
+
+    @Test
+    void shouldCacheDecryptedConfigUntilConnectClusterChanges() {
+        ConnectCluster connectCluster = buildConnectCluster("http://localhost:8083",
+            EncryptionUtils.encryptAes256Gcm("password", ENCRYPTION_KEY));
+
+        when(securityProperties.getAes256EncryptionKey()).thenReturn(ENCRYPTION_KEY);
+        when(connectClusterRepository.findAll())
+            .thenReturn(List.of(connectCluster))
+            .thenReturn(List.of(buildConnectCluster("http://localhost:8084", null)));
+
+        KafkaConnectClient.KafkaConnectHttpConfig config =
+            kafkaConnectClient.getKafkaConnectConfig("local", "local-connect");
+
+        assertEquals("password", config.getPassword());
+        assertSame(config, kafkaConnectClient.getKafkaConnectConfig("local", "local-connect"));
+        verify(connectClusterRepository, times(1)).findAll();
+
+        kafkaConnectClient.onStoreChange(new StoreChangeEvent(connectCluster, false));
+        verify(httpClientPools).evict(HttpClientPoolProperties.KAFKA_CONNECT, "local-connect");
+
+        assertEquals("http://localhost:8084/connectors?expand=info&expand=status",
+            kafkaConnectClient.getKafkaConnectConfig("local", "local-connect").getConnectorsUri().toString());
+        verify(connectClusterRepository, times(2)).findAll();
+    }
+
+    @Test
+    void shouldNotCacheUnknownConnectCluster() {
+        when(connectClusterRepository.findAll()).thenReturn(List.of());
+
+        assertThrows(ResourceValidationException.class,
+            () -> kafkaConnectClient.getKafkaConnectConfig("local", "local-connect"));
+        assertThrows(ResourceValidationException.class,
+            () -> kafkaConnectClient.getKafkaConnectConfig("local", "local-connect"));
+
+        verify(connectClusterRepository, times(2)).findAll();
+    }
+
+    @Test
+    void shouldBuildAuthenticatedRequests() {
+        KafkaConnectClient.KafkaConnectHttpConfig config = KafkaConnectClient.KafkaConnectHttpConfig.builder()
+            .url("http://localhost:8083")
+            .username("user")
+            .password("password")
+            .build();
+
+        HttpRequest<?> request = config.request(HttpMethod.GET, config.uri("/connectors/connect1/status"));
+
+        assertEquals("http://localhost:8083/connectors/connect1/status", request.getUri().toString());
+        assertEquals("Basic dXNlcjpwYXNzd29yZA==", request.getHeaders().get(HttpHeaders.AUTHORIZATION));
+        assertEquals(HttpRequest.GET("http://localhost:8083/")
+                .basicAuth("user", "password")
+                .getHeaders()
+                .get(HttpHeaders.AUTHORIZATION),
+            config.request(HttpMethod.GET, config.getRootUri()).getHeaders().get(HttpHeaders.AUTHORIZATION));
+    }
+
+    private ConnectCluster buildConnectCluster(String url, String password) {
+        return ConnectCluster.builder()
+            .metadata(Metadata.builder()
+                .name("local-connect")
+                .cluster("local")
+                .build())
+            .spec(ConnectCluster.ConnectClusterSpec.builder()
+                .url(url)
+                .username("user")
+                .password(password)
+                .build())
+            .build();
+    }
+}
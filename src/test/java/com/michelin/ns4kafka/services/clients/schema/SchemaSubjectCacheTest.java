@@ -0,0 +1,130 @@
+package com.michelin.ns4kafka.services.clients.schema;
+
+import static com.michelin.ns4kafka.services.clients.schema.SchemaSubjectCache.LOADS_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaSubjectCacheTest {
+    @Mock
+    SchemaRegistryClient schemaRegistryClient;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    SchemaSubjectCache schemaSubjectCache;
+
+    @BeforeEach
+    void setUp() {
+        schemaSubjectCache = new SchemaSubjectCache();
+        schemaSubjectCache.schemaRegistryClient = schemaRegistryClient;
+        schemaSubjectCache.meterRegistry = meterRegistry;
+        schemaSubjectCache.expireAfterAccess = Duration.ofMinutes(30);
+    }
+
+    @Test
+    void shouldCoalesceMissesThenServeCachedSubjects() {
+        Sinks.One<List<String>> response = Sinks.one();
+        AtomicInteger requests = new AtomicInteger();
+        when(schemaRegistryClient.getSubjects("local"))
+            .thenReturn(Flux.defer(() -> {
+                requests.incrementAndGet();
+                return response.asMono().flatMapIterable(subjects -> subjects);
+            }));
+
+        Mono<Set<String>> first = schemaSubjectCache.getSubjects("local");
+        Mono<Set<String>> second = schemaSubjectCache.getSubjects("local");
+
+        StepVerifier.create(Mono.zip(first, second))
+            .then(() -> response.tryEmitValue(List.of("topic-key", "topic-value")))
+            .consumeNextWith(subjects -> {
+                assertEquals(Set.of("topic-key", "topic-value"), subjects.getT1());
+                assertEquals(subjects.getT1(), subjects.getT2());
+            })
+            .verifyComplete();
+
+        StepVerifier.create(schemaSubjectCache.getSubjects("local"))
+            .expectNext(Set.of("topic-key", "topic-value"))
+            .verifyComplete();
+
+        assertEquals(1, requests.get());
+        assertEquals(1, meterRegistry.get(LOADS_METRIC).tag("result", "success").counter().count());
+    }
+
+    @Test
+    void shouldApplyChangesMadeDuringRefresh() {
+        Sinks.One<List<String>> refresh = Sinks.one();
+        when(schemaRegistryClient.getSubjects("local"))
+            .thenReturn(Flux.just("first-value", "second-value"))
+            .thenReturn(refresh.asMono().flatMapIterable(subjects -> subjects));
+
+        StepVerifier.create(schemaSubjectCache.getSubjects("local"))
+            .expectNext(Set.of("first-value", "second-value"))
+            .verifyComplete();
+
+        schemaSubjectCache.refresh();
+        schemaSubjectCache.onRegister("local", "third-value");
+        schemaSubjectCache.onDelete("local", "first-value");
+
+        StepVerifier.create(schemaSubjectCache.getSubjects("local"))
+            .expectNext(Set.of("second-value", "third-value"))
+            .verifyComplete();
+
+        refresh.tryEmitValue(List.of("first-value", "second-value"));
+
+        StepVerifier.create(schemaSubjectCache.getSubjects("local"))
+            .expectNext(Set.of("second-value", "third-value"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        when(schemaRegistryClient.getSubjects("local"))
+            .thenReturn(Flux.error(new HttpClientException("Schema Registry refused")))
+            .thenReturn(Flux.just("topic-value"));
+
+        StepVerifier.create(schemaSubjectCache.getSubjects("local"))
+            .verifyError(HttpClientException.class);
+
+        StepVerifier.create(schemaSubjectCache.getSubjects("local"))
+            .expectNext(Set.of("topic-value"))
+            .verifyComplete();
+
+        assertEquals(1, meterRegistry.get(LOADS_METRIC).tag("result", "failure").counter().count());
+    }
+
+    @Test
+    void shouldDropSubjectsNotReadAnymore() {
+        schemaSubjectCache.expireAfterAccess = Duration.ZERO;
+        when(schemaRegistryClient.getSubjects("local"))
+            .thenReturn(Flux.just("topic-value"))
+            .thenReturn(Flux.just("topic-value", "other-value"));
+
+        StepVerifier.create(schemaSubjectCache.getSubjects("local"))
+            .expectNext(Set.of("topic-value"))
+            .verifyComplete();
+
+        schemaSubjectCache.refresh();
+        schemaSubjectCache.onRegister("local", "ignored-value");
+
+        StepVerifier.create(schemaSubjectCache.getSubjects("local"))
+            .expectNext(Set.of("topic-value", "other-value"))
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,144 @@
+package com.michelin.ns4kafka.services.executors;
+
+import static com.michelin.ns4kafka.services.executors.AdminRequestCoalescer.COALESCED;
+import static com.michelin.ns4kafka.services.executors.AdminRequestCoalescer.REQUESTS_METRIC;
+import static com.michelin.ns4kafka.services.executors.AdminRequestCoalescer.REUSED;
+import static com.michelin.ns4kafka.services.executors.AdminRequestCoalescer.SENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AdminRequestCoalescerTest {
+    private static final String LOCAL_CLUSTER = "local";
+
+    @Mock
+    ManagedClusterProperties managedClusterProperties;
+
+    @Mock
+    Admin adminClient;
+
+    @Mock
+    ListTopicsResult listTopicsResult;
+
+    @Mock
+    DescribeAclsResult describeAclsResult;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    AdminRequestCoalescer adminRequestCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+
+        ManagedAdminClient managedAdminClient = new ManagedAdminClient(managedClusterProperties);
+        managedAdminClient.meterRegistry = meterRegistry;
+        managedAdminClient.maxInFlightRequests = 10;
+        managedAdminClient.acquireTimeout = Duration.ofSeconds(1);
+        managedAdminClient.init();
+
+        adminRequestCoalescer = new AdminRequestCoalescer(managedClusterProperties, managedAdminClient);
+        adminRequestCoalescer.meterRegistry = meterRegistry;
+        adminRequestCoalescer.staleness = Duration.ZERO;
+    }
+
+    @Test
+    void shouldShareInFlightRequest() throws Exception {
+        KafkaFutureImpl<Collection<TopicListing>> listings = new KafkaFutureImpl<>();
+        when(adminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.listings()).thenReturn(listings);
+
+        CompletableFuture<Collection<TopicListing>> first = CompletableFuture.supplyAsync(this::listTopics);
+
+        verify(adminClient, timeout(1000)).listTopics();
+
+        CompletableFuture<Collection<TopicListing>> second = CompletableFuture.supplyAsync(this::listTopics);
+
+        // Wait for the second request to join the one in flight
+        while (countRequests("listTopics", COALESCED) == 0) {
+            Thread.onSpinWait();
+        }
+
+        TopicListing topicListing = new TopicListing("topic", Uuid.randomUuid(), false);
+        listings.complete(List.of(topicListing));
+
+        assertEquals(List.of(topicListing), first.get());
+        assertEquals(List.of(topicListing), second.get());
+        verify(adminClient, times(1)).listTopics();
+        assertEquals(1, countRequests("listTopics", SENT));
+    }
+
+    @Test
+    void shouldReuseResultWithinStalenessTolerance()
+        throws ExecutionException, InterruptedException, TimeoutException {
+        adminRequestCoalescer.staleness = Duration.ofMinutes(1);
+
+        when(adminClient.describeAcls(any(AclBindingFilter.class))).thenReturn(describeAclsResult);
+        when(describeAclsResult.values()).thenReturn(KafkaFuture.completedFuture(List.of()));
+
+        Collection<AclBinding> first = adminRequestCoalescer.describeAcls(AclBindingFilter.ANY, 1000);
+        Collection<AclBinding> second = adminRequestCoalescer.describeAcls(AclBindingFilter.ANY, 1000);
+
+        assertEquals(first, second);
+        verify(adminClient, times(1)).describeAcls(any(AclBindingFilter.class));
+        assertEquals(1, countRequests("describeAcls", REUSED));
+    }
+
+    @Test
+    void shouldNotReuseFailedRequest() {
+        adminRequestCoalescer.staleness = Duration.ofMinutes(1);
+
+        KafkaFutureImpl<Collection<TopicListing>> failed = new KafkaFutureImpl<>();
+        failed.completeExceptionally(new org.apache.kafka.common.errors.TimeoutException("timeout"));
+        when(adminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.listings()).thenReturn(failed);
+
+        assertThrows(ExecutionException.class, () -> adminRequestCoalescer.listTopics(1000));
+        assertThrows(ExecutionException.class, () -> adminRequestCoalescer.listTopics(1000));
+
+        verify(adminClient, times(2)).listTopics();
+    }
+
+    private Collection<TopicListing> listTopics() {
+        try {
+            return adminRequestCoalescer.listTopics(5000);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double countRequests(String operation, String result) {
+        return meterRegistry.counter(REQUESTS_METRIC, "cluster", LOCAL_CLUSTER, "operation", operation,
+            "result", result).count();
+    }
+}
@@ -0,0 +1,189 @@
+package com.michelin.ns4kafka.services.executors;
+
+import static com.michelin.ns4kafka.services.executors.BrokerMetadataCache.HIT_RATIO_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.Topic;
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BrokerMetadataCacheTest {
+    private static final String LOCAL_CLUSTER = "local";
+    private static final String TOPIC_NAME = "topic";
+
+    @Mock
+    ManagedClusterProperties managedClusterProperties;
+
+    @Mock
+    Admin adminClient;
+
+    @Mock
+    ListTopicsResult listTopicsResult;
+
+    @Mock
+    DescribeTopicsResult describeTopicsResult;
+
+    @Mock
+    DescribeConfigsResult describeConfigsResult;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    BrokerMetadataCache brokerMetadataCache;
+
+    @BeforeEach
+    void setUp() {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+
+        ManagedAdminClient managedAdminClient = new ManagedAdminClient(managedClusterProperties);
+        managedAdminClient.meterRegistry = meterRegistry;
+        managedAdminClient.maxInFlightRequests = 10;
+        managedAdminClient.acquireTimeout = Duration.ofSeconds(1);
+        managedAdminClient.init();
+
+        AdminRequestCoalescer adminRequestCoalescer =
+            new AdminRequestCoalescer(managedClusterProperties, managedAdminClient);
+        adminRequestCoalescer.meterRegistry = meterRegistry;
+        adminRequestCoalescer.staleness = Duration.ZERO;
+
+        brokerMetadataCache = new BrokerMetadataCache(managedClusterProperties, managedAdminClient,
+            adminRequestCoalescer);
+        brokerMetadataCache.meterRegistry = meterRegistry;
+        brokerMetadataCache.ttl = Duration.ofMinutes(1);
+        brokerMetadataCache.registerHitRatio();
+    }
+
+    @Test
+    void shouldServeTopicNamesFromCacheUntilExpired()
+        throws ExecutionException, InterruptedException, TimeoutException {
+        mockTopicNames(KafkaFuture.completedFuture(List.of(
+            new TopicListing("project1_topic", Uuid.randomUuid(), false),
+            new TopicListing("project1.other", Uuid.randomUuid(), false))));
+
+        assertEquals(Set.of("project1_topic", "project1.other"), brokerMetadataCache.getTopicNames());
+        assertEquals(List.of("project1_topic"), brokerMetadataCache.findCollidingTopicNames("project1.topic"));
+        assertEquals(List.of("project1.other"), brokerMetadataCache.findCollidingTopicNames("project1_other"));
+        assertTrue(brokerMetadataCache.findCollidingTopicNames("project2.topic").isEmpty());
+
+        verify(adminClient, times(1)).listTopics();
+        assertEquals(0.75, meterRegistry.get(HIT_RATIO_METRIC).gauge().value());
+
+        brokerMetadataCache.ttl = Duration.ZERO;
+        brokerMetadataCache.getTopicNames();
+
+        verify(adminClient, times(2)).listTopics();
+    }
+
+    @Test
+    void shouldAddAndRemoveTopicNames() throws ExecutionException, InterruptedException, TimeoutException {
+        mockTopicNames(KafkaFuture.completedFuture(List.of(new TopicListing(TOPIC_NAME, Uuid.randomUuid(), false))));
+
+        assertTrue(brokerMetadataCache.containsTopic(TOPIC_NAME));
+
+        brokerMetadataCache.removeTopic(TOPIC_NAME);
+        brokerMetadataCache.addTopic("project1.topic");
+
+        assertFalse(brokerMetadataCache.containsTopic(TOPIC_NAME));
+        assertTrue(brokerMetadataCache.containsTopic("project1.topic"));
+        verify(adminClient, times(1)).listTopics();
+    }
+
+    @Test
+    void shouldServeTopicsFromCacheAndSkipUnknownTopics()
+        throws ExecutionException, InterruptedException, TimeoutException {
+        mockDescribeTopics();
+
+        Map<String, BrokerMetadataCache.TopicMetadata> topics =
+            brokerMetadataCache.getTopics(List.of(TOPIC_NAME, "unknown"));
+
+        assertEquals(Set.of(TOPIC_NAME), topics.keySet());
+        assertEquals(3, topics.get(TOPIC_NAME).partitions());
+        assertEquals(1, topics.get(TOPIC_NAME).replicationFactor());
+        assertEquals(Map.of("cleanup.policy", "compact"), topics.get(TOPIC_NAME).configs());
+        assertEquals(3, topics.get(TOPIC_NAME).topicPartitions().size());
+
+        brokerMetadataCache.getTopics(List.of(TOPIC_NAME));
+
+        verify(adminClient, times(1)).describeTopics(anyCollection());
+    }
+
+    @Test
+    void shouldEvictTopicsChangedInStore() throws ExecutionException, InterruptedException, TimeoutException {
+        mockDescribeTopics();
+
+        brokerMetadataCache.getTopics(List.of(TOPIC_NAME));
+        brokerMetadataCache.onApplicationEvent(new StoreChangeEvent(Topic.builder()
+            .metadata(Metadata.builder()
+                .name(TOPIC_NAME)
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .build(), false));
+        brokerMetadataCache.getTopics(List.of(TOPIC_NAME));
+
+        verify(adminClient, times(2)).describeTopics(anyCollection());
+    }
+
+    private void mockTopicNames(KafkaFuture<Collection<TopicListing>> listings) {
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(adminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.listings()).thenReturn(listings);
+    }
+
+    private void mockDescribeTopics() {
+        Node node = new Node(0, "localhost", 9092);
+        TopicPartitionInfo partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        KafkaFutureImpl<TopicDescription> unknownTopic = new KafkaFutureImpl<>();
+        unknownTopic.completeExceptionally(new UnknownTopicOrPartitionException("unknown"));
+
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(adminClient.describeTopics(anyCollection())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(anyCollection())).thenReturn(describeConfigsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(
+            TOPIC_NAME, KafkaFuture.completedFuture(new TopicDescription(TOPIC_NAME, false,
+                List.of(partition, partition, partition))),
+            "unknown", unknownTopic));
+        when(describeConfigsResult.values()).thenReturn(Map.of(
+            new ConfigResource(ConfigResource.Type.TOPIC, TOPIC_NAME), KafkaFuture.completedFuture(new Config(List.of(
+                new ConfigEntry("cleanup.policy", "compact", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG,
+                    false, false, List.of(), ConfigEntry.ConfigType.STRING, null),
+                new ConfigEntry("retention.ms", "1000", ConfigEntry.ConfigSource.DEFAULT_CONFIG,
+                    false, false, List.of(), ConfigEntry.ConfigType.LONG, null)))),
+            new ConfigResource(ConfigResource.Type.TOPIC, "unknown"), new KafkaFutureImpl<>()));
+    }
+}
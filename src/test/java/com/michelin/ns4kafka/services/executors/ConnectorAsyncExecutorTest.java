@@ -0,0 +1,250 @@
+package com.michelin.ns4kafka.services.executors;
+
+import static com.michelin.ns4kafka.services.executors.ConnectorAsyncExecutor.CHANGES_METRIC;
+import static com.michelin.ns4kafka.services.executors.ConnectorAsyncExecutor.RESTARTS_METRIC;
+import static com.michelin.ns4kafka.services.executors.ConnectorAsyncExecutor.SYNCHRONIZATION_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.connect.cluster.ConnectCluster;
+import com.michelin.ns4kafka.models.connector.Connector;
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import com.michelin.ns4kafka.repositories.ConnectorRepository;
+import com.michelin.ns4kafka.services.ConnectClusterService;
+import com.michelin.ns4kafka.services.clients.connect.KafkaConnectClient;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorInfo;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorStateInfo;
+import com.michelin.ns4kafka.services.clients.connect.entities.ConnectorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectorAsyncExecutorTest {
+    private static final String LOCAL_CLUSTER = "local";
+
+    private static final String CONNECT_CLUSTER = "local-connect";
+
+    @Mock
+    ManagedClusterProperties managedClusterProperties;
+
+    @Mock
+    ConnectorRepository connectorRepository;
+
+    @Mock
+    KafkaConnectClient kafkaConnectClient;
+
+    @Mock
+    ConnectClusterService connectClusterService;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ConnectorAsyncExecutor connectorAsyncExecutor;
+
+    @BeforeEach
+    void setUp() {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(connectClusterService.checkHealth(LOCAL_CLUSTER)).thenReturn(Flux.just(ConnectCluster.builder()
+            .metadata(Metadata.builder()
+                .name(CONNECT_CLUSTER)
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(ConnectCluster.ConnectClusterSpec.builder()
+                .status(ConnectCluster.Status.HEALTHY)
+                .build())
+            .build()));
+
+        connectorAsyncExecutor = new ConnectorAsyncExecutor(managedClusterProperties, connectorRepository,
+            kafkaConnectClient, connectClusterService);
+        connectorAsyncExecutor.meterRegistry = meterRegistry;
+        connectorAsyncExecutor.deploymentConcurrency = 1;
+        connectorAsyncExecutor.deploymentRate = 0;
+        connectorAsyncExecutor.runHealthCheck().blockLast();
+    }
+
+    @Test
+    void shouldDeployMissingAndChangedConnectorsOnly() {
+        when(kafkaConnectClient.listAll(LOCAL_CLUSTER, CONNECT_CLUSTER)).thenReturn(Mono.just(Map.of(
+            "ns-connect-same", buildConnectorStatus("ns-connect-same", "1"),
+            "ns-connect-changed", buildConnectorStatus("ns-connect-changed", "1"),
+            "unmanaged-connect", buildConnectorStatus("unmanaged-connect", "1"))));
+        when(connectorRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(
+            buildConnector("ns-connect-same", "1"),
+            buildConnector("ns-connect-changed", "2"),
+            buildConnector("ns-connect-new", "1")));
+        when(kafkaConnectClient.createOrUpdate(eq(LOCAL_CLUSTER), eq(CONNECT_CLUSTER), anyString(), any()))
+            .thenAnswer(invocation -> Mono.just(new ConnectorInfo(invocation.getArgument(2), Map.of(), List.of(),
+                null)));
+
+        StepVerifier.create(connectorAsyncExecutor.run().map(ConnectorInfo::name))
+            .expectNext("ns-connect-new")
+            .expectNext("ns-connect-changed")
+            .verifyComplete();
+
+        verify(kafkaConnectClient, never()).createOrUpdate(any(), any(), eq("ns-connect-same"), any());
+        verify(kafkaConnectClient, never()).createOrUpdate(any(), any(), eq("unmanaged-connect"), any());
+        assertEquals(1, meterRegistry.get(CHANGES_METRIC)
+            .tag("operation", ConnectorAsyncExecutor.CREATE)
+            .summary()
+            .totalAmount());
+        assertEquals(1, meterRegistry.get(CHANGES_METRIC)
+            .tag("operation", ConnectorAsyncExecutor.UPDATE)
+            .summary()
+            .totalAmount());
+        assertEquals(1, meterRegistry.get(SYNCHRONIZATION_METRIC)
+            .tag("connect-cluster", CONNECT_CLUSTER)
+            .timer()
+            .count());
+    }
+
+    @Test
+    void shouldLimitDeploymentConcurrency() {
+        connectorAsyncExecutor.deploymentConcurrency = 2;
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(kafkaConnectClient.listAll(LOCAL_CLUSTER, CONNECT_CLUSTER)).thenReturn(Mono.just(Map.of()));
+        when(connectorRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(
+            buildConnector("ns-connect1", "1"),
+            buildConnector("ns-connect2", "1"),
+            buildConnector("ns-connect3", "1"),
+            buildConnector("ns-connect4", "1"),
+            buildConnector("ns-connect5", "1")));
+        when(kafkaConnectClient.createOrUpdate(eq(LOCAL_CLUSTER), eq(CONNECT_CLUSTER), anyString(), any()))
+            .thenAnswer(invocation -> Mono.fromCallable(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                inFlight.decrementAndGet();
+                return new ConnectorInfo(invocation.getArgument(2), Map.of(), List.of(), null);
+            }).subscribeOn(Schedulers.boundedElastic()));
+
+        StepVerifier.create(connectorAsyncExecutor.run())
+            .expectNextCount(5)
+            .verifyComplete();
+
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void shouldReportNoDrift() {
+        when(kafkaConnectClient.listAll(LOCAL_CLUSTER, CONNECT_CLUSTER)).thenReturn(Mono.just(Map.of(
+            "ns-connect1", buildConnectorStatus("ns-connect1", "1"))));
+        when(connectorRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(
+            buildConnector("ns-connect1", "1")));
+
+        StepVerifier.create(connectorAsyncExecutor.run())
+            .verifyComplete();
+
+        verify(kafkaConnectClient, never()).createOrUpdate(any(), any(), any(), any());
+        assertEquals(0, meterRegistry.get(CHANGES_METRIC)
+            .tag("operation", ConnectorAsyncExecutor.CREATE)
+            .summary()
+            .totalAmount());
+    }
+
+    @Test
+    void shouldRestartFailedConnectorsWithinBudget() {
+        connectorAsyncExecutor.autoRestartEnabled = true;
+        connectorAsyncExecutor.restartInitialBackoff = Duration.ofHours(1);
+        connectorAsyncExecutor.restartMaxBackoff = Duration.ofHours(2);
+        connectorAsyncExecutor.restartBudget = 1;
+        connectorAsyncExecutor.restartBudgetWindow = Duration.ofHours(1);
+
+        when(kafkaConnectClient.listAll(LOCAL_CLUSTER, CONNECT_CLUSTER)).thenReturn(Mono.just(Map.of(
+            "ns-connect1", buildConnectorStatus("ns-connect1", "FAILED", "FAILED"),
+            "ns-connect2", buildConnectorStatus("ns-connect2", "RUNNING", "FAILED"),
+            "ns-connect3", buildConnectorStatus("ns-connect3", "RUNNING", "RUNNING"))));
+        when(connectorRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(
+            buildConnector("ns-connect1", "1"),
+            buildConnector("ns-connect2", "1"),
+            buildConnector("ns-connect3", "1")));
+        when(kafkaConnectClient.restart(LOCAL_CLUSTER, CONNECT_CLUSTER, "ns-connect1"))
+            .thenReturn(Mono.just(HttpResponse.noContent()));
+
+        StepVerifier.create(connectorAsyncExecutor.run())
+            .verifyComplete();
+        StepVerifier.create(connectorAsyncExecutor.run())
+            .verifyComplete();
+
+        verify(kafkaConnectClient, times(1)).restart(LOCAL_CLUSTER, CONNECT_CLUSTER, "ns-connect1");
+        verify(kafkaConnectClient, never()).restart(any(), any(), eq("ns-connect2"), anyInt());
+        verify(kafkaConnectClient, never()).restart(any(), any(), eq("ns-connect3"));
+        assertEquals(1, meterRegistry.get(RESTARTS_METRIC).tag("result", "success").counter().count());
+        assertEquals(2, meterRegistry.get(RESTARTS_METRIC).tag("result", "throttled").counter().count());
+    }
+
+    @Test
+    void shouldRestartFailedTasksOnlyWhenEnabled() {
+        connectorAsyncExecutor.restartInitialBackoff = Duration.ofHours(1);
+        connectorAsyncExecutor.restartMaxBackoff = Duration.ofHours(2);
+        connectorAsyncExecutor.restartBudget = 10;
+        connectorAsyncExecutor.restartBudgetWindow = Duration.ofHours(1);
+
+        when(kafkaConnectClient.listAll(LOCAL_CLUSTER, CONNECT_CLUSTER)).thenReturn(Mono.just(Map.of(
+            "ns-connect1", buildConnectorStatus("ns-connect1", "RUNNING", "FAILED"))));
+        when(connectorRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(
+            buildConnector("ns-connect1", "1")));
+
+        StepVerifier.create(connectorAsyncExecutor.run())
+            .verifyComplete();
+
+        verify(kafkaConnectClient, never()).restart(any(), any(), any(), anyInt());
+
+        connectorAsyncExecutor.autoRestartEnabled = true;
+        when(kafkaConnectClient.restart(LOCAL_CLUSTER, CONNECT_CLUSTER, "ns-connect1", 0))
+            .thenReturn(Mono.just(HttpResponse.noContent()));
+
+        StepVerifier.create(connectorAsyncExecutor.run())
+            .verifyComplete();
+
+        verify(kafkaConnectClient).restart(LOCAL_CLUSTER, CONNECT_CLUSTER, "ns-connect1", 0);
+        verify(kafkaConnectClient, never()).restart(any(), any(), any());
+    }
+
+    private Connector buildConnector(String name, String tasksMax) {
+        return Connector.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .namespace("ns")
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(Connector.ConnectorSpec.builder()
+                .connectCluster(CONNECT_CLUSTER)
+                .config(Map.of("tasks.max", tasksMax))
+                .build())
+            .build();
+    }
+
+    private ConnectorStatus buildConnectorStatus(String name, String tasksMax) {
+        return new ConnectorStatus(new ConnectorInfo(name, Map.of("tasks.max", tasksMax), List.of(), null), null);
+    }
+
+    private ConnectorStatus buildConnectorStatus(String name, String connectorState, String taskState) {
+        return new ConnectorStatus(new ConnectorInfo(name, Map.of("tasks.max", "1"), List.of(), null),
+            new ConnectorStateInfo(name, new ConnectorStateInfo.ConnectorState(connectorState, "worker:8083", null),
+                List.of(new ConnectorStateInfo.TaskState(0, taskState, "worker:8083", null)), null));
+    }
+}
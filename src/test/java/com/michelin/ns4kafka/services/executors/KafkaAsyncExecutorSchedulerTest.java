@@ -0,0 +1,82 @@
+package com.michelin.ns4kafka.services.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.event.ApplicationStartupEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaAsyncExecutorSchedulerTest {
+    @Mock
+    ApplicationContext applicationContext;
+
+    @Mock
+    LeaderElection leaderElection;
+
+    @Mock
+    TopicAsyncExecutor topicAsyncExecutor;
+
+    @Mock
+    AccessControlEntryAsyncExecutor accessControlEntryAsyncExecutor;
+
+    @Mock
+    UserAsyncExecutor userAsyncExecutor;
+
+    @Mock
+    ApplicationStartupEvent applicationStartupEvent;
+
+    KafkaAsyncExecutorScheduler kafkaAsyncExecutorScheduler;
+
+    @BeforeEach
+    void setUp() {
+        kafkaAsyncExecutorScheduler = new KafkaAsyncExecutorScheduler();
+        kafkaAsyncExecutorScheduler.applicationContext = applicationContext;
+        kafkaAsyncExecutorScheduler.leaderElection = leaderElection;
+        kafkaAsyncExecutorScheduler.managedClusterProperties = List.of(
+            new ManagedClusterProperties("cluster1"),
+            new ManagedClusterProperties("cluster2"));
+        kafkaAsyncExecutorScheduler.connectorAsyncExecutors = List.of();
+        kafkaAsyncExecutorScheduler.onStartupEvent(applicationStartupEvent);
+    }
+
+    @Test
+    void shouldRunExecutorsOfOwnedClustersOnly() {
+        when(leaderElection.isOwner("cluster1")).thenReturn(true);
+        when(leaderElection.isOwner("cluster2")).thenReturn(false);
+        when(applicationContext.getBean(eq(TopicAsyncExecutor.class), any()))
+            .thenReturn(topicAsyncExecutor);
+        when(applicationContext.getBean(eq(AccessControlEntryAsyncExecutor.class), any()))
+            .thenReturn(accessControlEntryAsyncExecutor);
+        when(applicationContext.getBean(eq(UserAsyncExecutor.class), any()))
+            .thenReturn(userAsyncExecutor);
+
+        kafkaAsyncExecutorScheduler.schedule();
+
+        verify(topicAsyncExecutor).run();
+        verify(accessControlEntryAsyncExecutor).run();
+        verify(userAsyncExecutor).run();
+    }
+
+    @Test
+    void shouldNotRunExecutorsWhenNoClusterIsOwned() {
+        when(leaderElection.isOwner(any())).thenReturn(false);
+
+        kafkaAsyncExecutorScheduler.schedule();
+
+        verify(applicationContext, never()).getBean(eq(TopicAsyncExecutor.class), any());
+        verify(topicAsyncExecutor, never()).run();
+        verify(accessControlEntryAsyncExecutor, never()).run();
+        verify(userAsyncExecutor, never()).run();
+    }
+}
@@ -0,0 +1,118 @@
+package com.michelin.ns4kafka.services.executors;
+
+import static com.michelin.ns4kafka.services.executors.LeaderElection.CLUSTER_OWNER_METRIC;
+import static com.michelin.ns4kafka.services.executors.LeaderElection.LEADER_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import com.michelin.ns4kafka.models.ClusterOwnershipEvent;
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderElectionTest {
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    ApplicationEventPublisher<ClusterOwnershipEvent> applicationEventPublisher;
+
+    @InjectMocks
+    LeaderElection leaderElection;
+
+    @BeforeEach
+    void setUp() {
+        leaderElection.managedClusterProperties = List.of(new ManagedClusterProperties("local"));
+    }
+
+    @Test
+    void shouldAlwaysBeLeaderWhenDisabled() {
+        leaderElection.enabled = false;
+
+        assertTrue(leaderElection.isLeader());
+
+        leaderElection.revoke(List.of(0));
+
+        assertTrue(leaderElection.isLeader());
+        assertTrue(leaderElection.isOwner("local"));
+    }
+
+    @Test
+    void shouldBeLeaderOnlyWhenAssignedFirstPartition() {
+        leaderElection.enabled = true;
+        leaderElection.registerRoleMetric();
+
+        assertFalse(leaderElection.isLeader());
+        assertEquals(0, meterRegistry.get(LEADER_METRIC).gauge().value());
+
+        leaderElection.assign(List.of(0));
+
+        assertTrue(leaderElection.isLeader());
+        assertEquals(1, meterRegistry.get(LEADER_METRIC).gauge().value());
+
+        leaderElection.revoke(List.of(0));
+
+        assertFalse(leaderElection.isLeader());
+        assertEquals(0, meterRegistry.get(LEADER_METRIC).gauge().value());
+    }
+
+    @Test
+    void shouldOwnAllClustersWhenLeaderWithoutSharding() {
+        leaderElection.enabled = true;
+        leaderElection.registerRoleMetric();
+
+        assertEquals(1, leaderElection.getPartitions());
+        assertFalse(leaderElection.isOwner("local"));
+
+        leaderElection.assign(List.of(0));
+
+        assertTrue(leaderElection.isOwner("local"));
+        assertEquals(1, meterRegistry.get(CLUSTER_OWNER_METRIC).tag("cluster", "local").gauge().value());
+        verify(applicationEventPublisher).publishEvent(new ClusterOwnershipEvent("local", true));
+
+        leaderElection.revoke(List.of(0));
+
+        verify(applicationEventPublisher).publishEvent(new ClusterOwnershipEvent("local", false));
+    }
+
+    @Test
+    void shouldOwnClustersOfAssignedPartitionsWithSharding() {
+        leaderElection.enabled = true;
+        leaderElection.sharding = true;
+        leaderElection.managedClusterProperties = IntStream.range(0, 5)
+            .mapToObj(i -> new ManagedClusterProperties("cluster" + i))
+            .toList();
+
+        assertEquals(5, leaderElection.getPartitions());
+        assertTrue(IntStream.range(0, 5).noneMatch(i -> leaderElection.isOwner("cluster" + i)));
+
+        leaderElection.assign(List.of(1, 3));
+
+        assertEquals(List.of("cluster1", "cluster3"), IntStream.range(0, 5)
+            .mapToObj(i -> "cluster" + i)
+            .filter(leaderElection::isOwner)
+            .toList());
+        assertFalse(leaderElection.isLeader());
+        assertFalse(leaderElection.isOwner("unknown"));
+
+        leaderElection.revoke(List.of(3));
+
+        assertTrue(leaderElection.isOwner("cluster1"));
+        assertFalse(leaderElection.isOwner("cluster3"));
+        verify(applicationEventPublisher).publishEvent(new ClusterOwnershipEvent("cluster3", true));
+        verify(applicationEventPublisher).publishEvent(new ClusterOwnershipEvent("cluster3", false));
+    }
+}
@@ -0,0 +1,141 @@
+package com.michelin.ns4kafka.services.executors;
+
+import static com.michelin.ns4kafka.services.executors.ManagedAdminClient.IN_FLIGHT_METRIC;
+import static com.michelin.ns4kafka.services.executors.ManagedAdminClient.REBUILDS_METRIC;
+import static com.michelin.ns4kafka.services.executors.ManagedAdminClient.REQUESTS_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.SaslAuthenticationException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ManagedAdminClientTest {
+    private static final String LOCAL_CLUSTER = "local";
+
+    @Mock
+    ManagedClusterProperties managedClusterProperties;
+
+    @Mock
+    Admin adminClient;
+
+    @Mock
+    DescribeConsumerGroupsResult describeConsumerGroupsResult;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ManagedAdminClient managedAdminClient;
+
+    @BeforeEach
+    void setUp() {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+
+        managedAdminClient = new ManagedAdminClient(managedClusterProperties);
+        managedAdminClient.meterRegistry = meterRegistry;
+        managedAdminClient.maxInFlightRequests = 1;
+        managedAdminClient.acquireTimeout = Duration.ZERO;
+        managedAdminClient.init();
+    }
+
+    @Test
+    void shouldRecordLatencyAndReleaseSlot() throws ExecutionException, InterruptedException {
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+
+        KafkaFutureImpl<Map<String, ConsumerGroupDescription>> descriptions = new KafkaFutureImpl<>();
+        when(adminClient.describeConsumerGroups(any())).thenReturn(describeConsumerGroupsResult);
+        when(describeConsumerGroupsResult.all()).thenReturn(descriptions);
+
+        KafkaFuture<Map<String, ConsumerGroupDescription>> result = managedAdminClient.call("describeConsumerGroups",
+            admin -> admin.describeConsumerGroups(List.of("group")).all());
+
+        assertEquals(1, meterRegistry.get(IN_FLIGHT_METRIC).gauge().value());
+
+        descriptions.complete(Map.of());
+
+        assertTrue(result.get().isEmpty());
+        assertEquals(0, meterRegistry.get(IN_FLIGHT_METRIC).gauge().value());
+        assertEquals(1, meterRegistry.get(REQUESTS_METRIC)
+            .tag("api", "describeConsumerGroups")
+            .tag("result", ManagedAdminClient.SUCCESS)
+            .timer()
+            .count());
+    }
+
+    @Test
+    void shouldFailWhenTooManyRequestsInFlight() {
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+
+        managedAdminClient.call("first", admin -> new KafkaFutureImpl<Void>());
+        KafkaFuture<Void> second = managedAdminClient.call("second", admin -> KafkaFuture.completedFuture(null));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertThrows(TimeoutException.class,
+            () -> managedAdminClient.call("third", admin -> new Object(), result -> KafkaFuture.completedFuture(null)));
+    }
+
+    @Test
+    void shouldCloseAdminClientAfterUnrecoverableError() {
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.closeAdminClient(adminClient)).thenReturn(true);
+
+        KafkaFutureImpl<Void> failed = new KafkaFutureImpl<>();
+        failed.completeExceptionally(new SaslAuthenticationException("Authentication failed"));
+        managedAdminClient.call("describeCluster", admin -> failed);
+
+        verify(managedClusterProperties).closeAdminClient(adminClient);
+        assertEquals(1, meterRegistry.get(REBUILDS_METRIC).counter().count());
+        assertEquals(0, meterRegistry.get(IN_FLIGHT_METRIC).gauge().value());
+    }
+
+    @Test
+    void shouldKeepAdminClientAfterRecoverableError() {
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+
+        KafkaFutureImpl<Void> failed = new KafkaFutureImpl<>();
+        failed.completeExceptionally(new TopicExistsException("Topic already exists"));
+        managedAdminClient.call("createTopics", admin -> failed);
+
+        verify(managedClusterProperties, never()).closeAdminClient(any(Admin.class));
+        assertEquals(1, meterRegistry.get(REQUESTS_METRIC)
+            .tag("result", ManagedAdminClient.FAILURE)
+            .timer()
+            .count());
+    }
+
+    @Test
+    void shouldDetectUnrecoverableErrors() {
+        assertTrue(ManagedAdminClient.isFatal(new SaslAuthenticationException("Authentication failed")));
+        assertTrue(ManagedAdminClient.isFatal(new TimeoutException("The AdminClient thread has exited.")));
+        assertTrue(ManagedAdminClient.isFatal(new KafkaException("Failed to create new KafkaAdminClient")));
+        assertFalse(ManagedAdminClient.isFatal(new TimeoutException("Timed out waiting for a node assignment.")));
+        assertFalse(ManagedAdminClient.isFatal(new TopicExistsException("Topic already exists")));
+        assertFalse(ManagedAdminClient.isFatal(new IllegalArgumentException("Invalid argument")));
+    }
+}
@@ -0,0 +1,168 @@
+package com.michelin.ns4kafka.services.executors;
+
+import static com.michelin.ns4kafka.services.executors.ReconciliationQueue.ACL_RESOURCE;
+import static com.michelin.ns4kafka.services.executors.ReconciliationQueue.QUEUE_DEPTH_METRIC;
+import static com.michelin.ns4kafka.services.executors.ReconciliationQueue.TIME_TO_RECONCILE_METRIC;
+import static com.michelin.ns4kafka.services.executors.ReconciliationQueue.TOPIC_RESOURCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.AccessControlEntry;
+import com.michelin.ns4kafka.models.ClusterOwnershipEvent;
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.StoreChangeEvent;
+import com.michelin.ns4kafka.models.Topic;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationQueueTest {
+    private static final String LOCAL_CLUSTER = "local";
+
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    LeaderElection leaderElection;
+
+    @InjectMocks
+    ReconciliationQueue reconciliationQueue;
+
+    @Test
+    void shouldEnqueueChangedTopics() {
+        when(leaderElection.isOwner(LOCAL_CLUSTER)).thenReturn(true);
+
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(buildTopic("topic1"), false));
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(buildTopic("topic2"), false));
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(buildTopic("topic1"), false));
+
+        assertEquals(2, meterRegistry.get(QUEUE_DEPTH_METRIC)
+            .tags("cluster", LOCAL_CLUSTER, "resource", TOPIC_RESOURCE)
+            .gauge()
+            .value());
+
+        Map<String, Long> pendingTopics = reconciliationQueue.drainTopics(LOCAL_CLUSTER);
+
+        assertEquals(Set.of("topic1", "topic2"), pendingTopics.keySet());
+        assertTrue(reconciliationQueue.drainTopics(LOCAL_CLUSTER).isEmpty());
+        assertEquals(0, meterRegistry.get(QUEUE_DEPTH_METRIC)
+            .tags("cluster", LOCAL_CLUSTER, "resource", TOPIC_RESOURCE)
+            .gauge()
+            .value());
+    }
+
+    @Test
+    void shouldNotEnqueueDeletedTopics() {
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(buildTopic("topic1"), true));
+
+        assertTrue(reconciliationQueue.drainTopics(LOCAL_CLUSTER).isEmpty());
+    }
+
+    @Test
+    void shouldNotEnqueueTopicsWhenOnlyStatusChanged() {
+        Topic pending = buildTopic("topic1", 3);
+        pending.setStatus(Topic.TopicStatus.ofPending());
+        Topic failed = buildTopic("topic1", 3);
+        failed.setStatus(Topic.TopicStatus.ofFailed("Error while creating topic"));
+
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(failed, false, pending));
+
+        assertTrue(reconciliationQueue.drainTopics(LOCAL_CLUSTER).isEmpty());
+    }
+
+    @Test
+    void shouldEnqueueTopicsWhenSpecChanged() {
+        when(leaderElection.isOwner(LOCAL_CLUSTER)).thenReturn(true);
+
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(buildTopic("topic1", 6), false,
+            buildTopic("topic1", 3)));
+
+        assertEquals(Set.of("topic1"), reconciliationQueue.drainTopics(LOCAL_CLUSTER).keySet());
+    }
+
+    @Test
+    void shouldEnqueueAclsOfChangedAccessControlEntries() {
+        when(leaderElection.isOwner(LOCAL_CLUSTER)).thenReturn(true);
+
+        AccessControlEntry accessControlEntry = AccessControlEntry.builder()
+            .metadata(Metadata.builder()
+                .name("acl")
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .build();
+
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(accessControlEntry, false));
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(accessControlEntry, true));
+
+        assertTrue(reconciliationQueue.drainAcls(LOCAL_CLUSTER).isPresent());
+        assertTrue(reconciliationQueue.drainAcls(LOCAL_CLUSTER).isEmpty());
+        assertTrue(reconciliationQueue.drainTopics(LOCAL_CLUSTER).isEmpty());
+    }
+
+    @Test
+    void shouldNotEnqueueWhenNotOwner() {
+        when(leaderElection.isOwner(LOCAL_CLUSTER)).thenReturn(false);
+
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(buildTopic("topic1"), false));
+        reconciliationQueue.enqueueAcls(LOCAL_CLUSTER);
+
+        assertTrue(reconciliationQueue.drainTopics(LOCAL_CLUSTER).isEmpty());
+        assertTrue(reconciliationQueue.drainAcls(LOCAL_CLUSTER).isEmpty());
+    }
+
+    @Test
+    void shouldClearQueueWhenOwnershipChanges() {
+        when(leaderElection.isOwner(LOCAL_CLUSTER)).thenReturn(true);
+
+        reconciliationQueue.onStoreChange(new StoreChangeEvent(buildTopic("topic1"), false));
+        reconciliationQueue.enqueueAcls(LOCAL_CLUSTER);
+        reconciliationQueue.onOwnershipChange(new ClusterOwnershipEvent(LOCAL_CLUSTER, false));
+
+        assertTrue(reconciliationQueue.drainTopics(LOCAL_CLUSTER).isEmpty());
+        assertTrue(reconciliationQueue.drainAcls(LOCAL_CLUSTER).isEmpty());
+    }
+
+    @Test
+    void shouldRecordTimeToReconcile() {
+        when(leaderElection.isOwner(LOCAL_CLUSTER)).thenReturn(true);
+
+        reconciliationQueue.enqueueAcls(LOCAL_CLUSTER);
+        reconciliationQueue.recordReconciled(LOCAL_CLUSTER, ACL_RESOURCE,
+            reconciliationQueue.drainAcls(LOCAL_CLUSTER).stream().toList());
+
+        assertEquals(1, meterRegistry.get(TIME_TO_RECONCILE_METRIC)
+            .tags("cluster", LOCAL_CLUSTER, "resource", ACL_RESOURCE)
+            .timer()
+            .count());
+    }
+
+    private Topic buildTopic(String name) {
+        return Topic.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .build();
+    }
+
+    private Topic buildTopic(String name, int partitions) {
+        return Topic.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(Topic.TopicSpec.builder()
+                .partitions(partitions)
+                .build())
+            .build();
+    }
+}
@@ -1,38 +1,58 @@
 package com.michelin.ns4kafka.services.executors;
 
 import static com.michelin.ns4kafka.services.executors.TopicAsyncExecutor.CLUSTER_ID;
+import static com.michelin.ns4kafka.services.executors.TopicAsyncExecutor.TAG_OPERATIONS_METRIC;
 import static com.michelin.ns4kafka.services.executors.TopicAsyncExecutor.TOPIC_ENTITY_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.models.Metadata;
 import com.michelin.ns4kafka.models.Topic;
 import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import com.michelin.ns4kafka.repositories.TopicRepository;
 import com.michelin.ns4kafka.services.clients.schema.SchemaRegistryClient;
 import com.michelin.ns4kafka.services.clients.schema.entities.TagEntities;
 import com.michelin.ns4kafka.services.clients.schema.entities.TagEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micronaut.http.HttpResponse;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.RecordsToDelete;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.PolicyViolationException;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
@@ -60,6 +80,24 @@ class TopicAsyncExecutorTest {
     @Mock
     KafkaFuture<Void> kafkaFuture;
 
+    @Mock
+    ListOffsetsResult listOffsetsResult;
+
+    @Mock
+    BrokerMetadataCache brokerMetadataCache;
+
+    @Mock
+    ManagedAdminClient managedAdminClient;
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    CreateTopicsResult createTopicsResult;
+
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     TopicAsyncExecutor topicAsyncExecutor;
 
@@ -99,6 +137,10 @@ class TopicAsyncExecutorTest {
 
         verify(schemaRegistryClient).dissociateTag(LOCAL_CLUSTER, CLUSTER_ID_TEST + ":" + TOPIC_NAME, TAG2);
         verify(schemaRegistryClient).dissociateTag(LOCAL_CLUSTER, CLUSTER_ID_TEST + ":" + TOPIC_NAME, TAG3);
+        assertEquals(1, meterRegistry.counter(TAG_OPERATIONS_METRIC, "cluster", LOCAL_CLUSTER,
+            "operation", "dissociate", "result", "success").count());
+        assertEquals(1, meterRegistry.counter(TAG_OPERATIONS_METRIC, "cluster", LOCAL_CLUSTER,
+            "operation", "dissociate", "result", "failure").count());
     }
 
     @Test
@@ -140,6 +182,48 @@ class TopicAsyncExecutorTest {
                 && tags.get(0).entityType().equals(TOPIC_ENTITY_TYPE)));
     }
 
+    @Test
+    void shouldCreateTagsOnceAndAssociateThemByBatches() {
+        Properties properties = new Properties();
+        properties.put(CLUSTER_ID, CLUSTER_ID_TEST);
+
+        when(schemaRegistryClient.associateTags(anyString(), anyList()))
+            .thenReturn(Mono.just(List.of()));
+        when(schemaRegistryClient.createTags(anyList(), anyString()))
+            .thenReturn(Mono.just(List.of()));
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getConfig()).thenReturn(properties);
+
+        List<Topic> ns4kafkaTopics = IntStream.range(0, 150)
+            .mapToObj(i -> Topic.builder()
+                .metadata(Metadata.builder()
+                    .name(TOPIC_NAME + i)
+                    .build())
+                .spec(Topic.TopicSpec.builder()
+                    .tags(List.of(TAG1))
+                    .build())
+                .build())
+            .toList();
+
+        Map<String, Topic> brokerTopics = ns4kafkaTopics
+            .stream()
+            .collect(Collectors.toMap(topic -> topic.getMetadata().getName(), topic -> Topic.builder()
+                .metadata(Metadata.builder()
+                    .name(topic.getMetadata().getName())
+                    .build())
+                .spec(Topic.TopicSpec.builder()
+                    .build())
+                .build()));
+
+        topicAsyncExecutor.alterTags(ns4kafkaTopics, brokerTopics);
+
+        verify(schemaRegistryClient).createTags(argThat(tags -> tags.size() == 1 && tags.get(0).name().equals(TAG1)),
+            eq(LOCAL_CLUSTER));
+        verify(schemaRegistryClient, times(2)).associateTags(eq(LOCAL_CLUSTER), anyList());
+        assertEquals(150, meterRegistry.counter(TAG_OPERATIONS_METRIC, "cluster", LOCAL_CLUSTER,
+            "operation", "associate", "result", "success").count());
+    }
+
     @Test
     void shouldCreateTagsButNotAssociateThem() {
         Properties properties = new Properties();
@@ -227,7 +311,7 @@ class TopicAsyncExecutorTest {
         when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.CONFLUENT_CLOUD);
         when(deleteTopicsResult.all()).thenReturn(kafkaFuture);
         when(adminClient.deleteTopics(anyList())).thenReturn(deleteTopicsResult);
-        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        mockAdminCalls();
 
         Topic topic = Topic.builder()
             .metadata(Metadata.builder()
@@ -247,7 +331,7 @@ class TopicAsyncExecutorTest {
         when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.SELF_MANAGED);
         when(deleteTopicsResult.all()).thenReturn(kafkaFuture);
         when(adminClient.deleteTopics(anyList())).thenReturn(deleteTopicsResult);
-        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        mockAdminCalls();
 
         Topic topic = Topic.builder()
             .metadata(Metadata.builder()
@@ -270,7 +354,7 @@ class TopicAsyncExecutorTest {
         when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.CONFLUENT_CLOUD);
         when(deleteTopicsResult.all()).thenReturn(kafkaFuture);
         when(adminClient.deleteTopics(anyList())).thenReturn(deleteTopicsResult);
-        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        mockAdminCalls();
         when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
         when(managedClusterProperties.getConfig()).thenReturn(properties);
         when(schemaRegistryClient.dissociateTag(anyString(),
@@ -365,4 +449,123 @@ class TopicAsyncExecutorTest {
 
         assertTrue(brokerTopics.get(TOPIC_NAME).getSpec().getTags().isEmpty());
     }
+
+    @Test
+    void shouldFindCollidingBrokerTopicNamesFromCache()
+        throws ExecutionException, InterruptedException, TimeoutException {
+        when(brokerMetadataCache.findCollidingTopicNames("project1.topic")).thenReturn(List.of("project1_topic"));
+
+        assertEquals(List.of("project1_topic"), topicAsyncExecutor.findCollidingBrokerTopicNames("project1.topic"));
+        verify(adminClient, never()).listTopics();
+    }
+
+    @Test
+    void shouldRemoveDeletedTopicFromCache() throws ExecutionException, InterruptedException, TimeoutException {
+        when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.SELF_MANAGED);
+        mockAdminCalls();
+        when(deleteTopicsResult.all()).thenReturn(kafkaFuture);
+        when(adminClient.deleteTopics(anyList())).thenReturn(deleteTopicsResult);
+
+        topicAsyncExecutor.deleteTopic(Topic.builder()
+            .metadata(Metadata.builder()
+                .name(TOPIC_NAME)
+                .build())
+            .spec(Topic.TopicSpec.builder()
+                .build())
+            .build());
+
+        verify(brokerMetadataCache).removeTopic(TOPIC_NAME);
+    }
+
+    @Test
+    void shouldPrepareRecordsToDeleteFromLivePartitions() throws ExecutionException, InterruptedException,
+        TimeoutException {
+        mockAdminCalls();
+        when(brokerMetadataCache.refreshTopics(List.of(TOPIC_NAME))).thenReturn(Map.of(TOPIC_NAME,
+            new BrokerMetadataCache.TopicMetadata(TOPIC_NAME, 2, 1, Map.of())));
+        when(adminClient.listOffsets(anyMap())).thenReturn(listOffsetsResult);
+        when(listOffsetsResult.all()).thenReturn(KafkaFuture.completedFuture(Map.of(
+            new TopicPartition(TOPIC_NAME, 0),
+            new ListOffsetsResult.ListOffsetsResultInfo(10L, 0L, Optional.empty()),
+            new TopicPartition(TOPIC_NAME, 1),
+            new ListOffsetsResult.ListOffsetsResultInfo(20L, 0L, Optional.empty()))));
+
+        Map<TopicPartition, RecordsToDelete> recordsToDelete = topicAsyncExecutor.prepareRecordsToDelete(TOPIC_NAME);
+
+        assertEquals(10L, recordsToDelete.get(new TopicPartition(TOPIC_NAME, 0)).beforeOffset());
+        assertEquals(20L, recordsToDelete.get(new TopicPartition(TOPIC_NAME, 1)).beforeOffset());
+        verify(brokerMetadataCache, never()).getTopics(anyCollection());
+    }
+
+    @Test
+    void shouldBackOffFailedTopicCreationUntilSpecChanges() throws ExecutionException, InterruptedException,
+        TimeoutException {
+        when(managedClusterProperties.isManageTopics()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.SELF_MANAGED);
+        when(brokerMetadataCache.getTopicNames()).thenReturn(Set.of());
+
+        KafkaFutureImpl<Void> failedCreation = new KafkaFutureImpl<>();
+        failedCreation.completeExceptionally(new PolicyViolationException("Replication factor too high"));
+        when(createTopicsResult.values()).thenReturn(Map.of(TOPIC_NAME, failedCreation));
+        when(managedAdminClient.call(eq("createTopics"), any(), any())).thenReturn(createTopicsResult);
+
+        Topic topic = buildTopic(3);
+        when(topicRepository.findAllForCluster(LOCAL_CLUSTER))
+            .thenReturn(List.of(topic))
+            .thenReturn(List.of(topic))
+            .thenReturn(List.of(buildTopic(6)));
+
+        topicAsyncExecutor.reconcileTopics(List.of(TOPIC_NAME));
+
+        verify(topicRepository).create(argThat(failedTopic -> failedTopic.getStatus().getPhase()
+            .equals(Topic.TopicPhase.Failed)));
+
+        // The failed status written in the store triggers no tight retry loop
+        topicAsyncExecutor.reconcileTopics(List.of(TOPIC_NAME));
+        verify(managedAdminClient, times(1)).call(eq("createTopics"), any(), any());
+
+        // A new spec is retried right away
+        topicAsyncExecutor.reconcileTopics(List.of(TOPIC_NAME));
+        verify(managedAdminClient, times(2)).call(eq("createTopics"), any(), any());
+    }
+
+    @Test
+    void shouldUpdateCacheWhenCreatedTopicAlreadyExists() throws ExecutionException, InterruptedException,
+        TimeoutException {
+        when(managedClusterProperties.isManageTopics()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.SELF_MANAGED);
+        when(brokerMetadataCache.getTopicNames()).thenReturn(Set.of());
+
+        KafkaFutureImpl<Void> failedCreation = new KafkaFutureImpl<>();
+        failedCreation.completeExceptionally(new TopicExistsException("Topic already exists"));
+        when(createTopicsResult.values()).thenReturn(Map.of(TOPIC_NAME, failedCreation));
+        when(managedAdminClient.call(eq("createTopics"), any(), any())).thenReturn(createTopicsResult);
+        when(topicRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(buildTopic(3)));
+
+        topicAsyncExecutor.reconcileTopics(List.of(TOPIC_NAME));
+
+        verify(brokerMetadataCache).addTopic(TOPIC_NAME);
+        verify(topicRepository, never()).create(any());
+    }
+
+    private Topic buildTopic(int partitions) {
+        return Topic.builder()
+            .metadata(Metadata.builder()
+                .name(TOPIC_NAME)
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(Topic.TopicSpec.builder()
+                .partitions(partitions)
+                .replicationFactor(3)
+                .configs(Map.of())
+                .build())
+            .build();
+    }
+
+    private void mockAdminCalls() {
+        when(managedAdminClient.call(anyString(), any())).thenAnswer(invocation ->
+            invocation.<Function<Admin, ?>>getArgument(1).apply(adminClient));
+    }
 }
@@ -0,0 +1,189 @@
+package com.michelin.ns4kafka.services.executors;
+
+import static com.michelin.ns4kafka.services.executors.UserAsyncExecutor.ALTERATIONS_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.models.Metadata;
+import com.michelin.ns4kafka.models.Namespace;
+import com.michelin.ns4kafka.models.quota.ResourceQuota;
+import com.michelin.ns4kafka.properties.ManagedClusterProperties;
+import com.michelin.ns4kafka.repositories.NamespaceRepository;
+import com.michelin.ns4kafka.repositories.ResourceQuotaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserAsyncExecutorTest {
+    private static final String LOCAL_CLUSTER = "local";
+
+    @Mock
+    ManagedClusterProperties managedClusterProperties;
+
+    @Mock
+    ManagedAdminClient managedAdminClient;
+
+    @Mock
+    Admin adminClient;
+
+    @Mock
+    DescribeClientQuotasResult describeClientQuotasResult;
+
+    @Mock
+    NamespaceRepository namespaceRepository;
+
+    @Mock
+    ResourceQuotaRepository quotaRepository;
+
+    @Captor
+    ArgumentCaptor<Collection<ClientQuotaAlteration>> alterations;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    UserAsyncExecutor userAsyncExecutor;
+
+    @BeforeEach
+    void setUp() {
+        when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.SELF_MANAGED);
+
+        userAsyncExecutor = new UserAsyncExecutor(managedClusterProperties, managedAdminClient);
+        userAsyncExecutor.namespaceRepository = namespaceRepository;
+        userAsyncExecutor.quotaRepository = quotaRepository;
+        userAsyncExecutor.meterRegistry = meterRegistry;
+        userAsyncExecutor.batchSize = 2;
+    }
+
+    @Test
+    void shouldBatchQuotaAlterations() {
+        mockAlterations();
+        mockBrokerQuotas(Map.of());
+        when(namespaceRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(
+            buildNamespace("ns1", "user1"), buildNamespace("ns2", "user2"), buildNamespace("ns3", "user3")));
+        when(quotaRepository.findAll()).thenReturn(List.of(buildQuota("ns1", "2048")));
+
+        assertTrue(userAsyncExecutor.synchronizeUsers());
+
+        verify(adminClient, times(2)).alterClientQuotas(alterations.capture());
+        assertEquals(List.of(2, 1), alterations.getAllValues().stream().map(Collection::size).toList());
+        assertEquals(3, meterRegistry.get(ALTERATIONS_METRIC)
+            .tag("operation", UserAsyncExecutor.CREATE)
+            .tag("result", UserAsyncExecutor.SUCCESS)
+            .counter()
+            .count());
+    }
+
+    @Test
+    void shouldNotUpdateQuotasWithinTolerance() {
+        mockBrokerQuotas(Map.of("user1", Map.of(
+            "producer_byte_rate", 2048.0000000001,
+            "consumer_byte_rate", UserAsyncExecutor.BYTE_RATE_DEFAULT_VALUE)));
+        when(namespaceRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(buildNamespace("ns1", "user1")));
+        when(quotaRepository.findAll()).thenReturn(List.of(buildQuota("ns1", "2048")));
+
+        assertFalse(userAsyncExecutor.synchronizeUsers());
+        verify(adminClient, never()).alterClientQuotas(anyCollection());
+    }
+
+    @Test
+    void shouldRemoveOrphanQuotasOnlyWhenEnabled() {
+        mockBrokerQuotas(Map.of("orphan", Map.of("producer_byte_rate", 1024.0)));
+        when(namespaceRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of());
+        when(quotaRepository.findAll()).thenReturn(List.of());
+
+        assertFalse(userAsyncExecutor.synchronizeUsers());
+        verify(adminClient, never()).alterClientQuotas(anyCollection());
+
+        mockAlterations();
+        userAsyncExecutor.deleteOrphanQuotas = true;
+
+        assertTrue(userAsyncExecutor.synchronizeUsers());
+
+        verify(adminClient).alterClientQuotas(alterations.capture());
+        ClientQuotaAlteration alteration = alterations.getValue().iterator().next();
+        assertEquals("orphan", alteration.entity().entries().get(ClientQuotaEntity.USER));
+        assertNull(alteration.ops().iterator().next().value());
+    }
+
+    @Test
+    void shouldCompareQuotasWithDefaultsAndTolerance() {
+        assertTrue(UserAsyncExecutor.isSameQuotas(Map.of("producer_byte_rate", 2048.0),
+            Map.of("producer_byte_rate", 2048.0, "consumer_byte_rate", UserAsyncExecutor.BYTE_RATE_DEFAULT_VALUE)));
+        assertTrue(UserAsyncExecutor.isSameQuotas(Map.of("producer_byte_rate", 2048.0),
+            Map.of("producer_byte_rate", 2047.9999999, "consumer_byte_rate", 102400.00001)));
+        assertFalse(UserAsyncExecutor.isSameQuotas(Map.of("producer_byte_rate", 2048.0),
+            Map.of("producer_byte_rate", 2048.0)));
+        assertFalse(UserAsyncExecutor.isSameQuotas(Map.of("producer_byte_rate", 2048.0),
+            Map.of("producer_byte_rate", 4096.0, "consumer_byte_rate", UserAsyncExecutor.BYTE_RATE_DEFAULT_VALUE)));
+    }
+
+    private void mockBrokerQuotas(Map<String, Map<String, Double>> quotas) {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedAdminClient.call(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Function<Admin, ?>>getArgument(1).apply(adminClient));
+        when(adminClient.describeClientQuotas(any())).thenReturn(describeClientQuotasResult);
+        when(describeClientQuotasResult.entities()).thenReturn(KafkaFuture.completedFuture(quotas.entrySet()
+            .stream()
+            .collect(Collectors.toMap(entry -> new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, entry.getKey())),
+                Map.Entry::getValue))));
+    }
+
+    private void mockAlterations() {
+        when(managedAdminClient.call(anyString(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Function<Admin, ?>>getArgument(1).apply(adminClient));
+        when(adminClient.alterClientQuotas(anyCollection())).thenAnswer(invocation -> new AlterClientQuotasResult(
+            invocation.<Collection<ClientQuotaAlteration>>getArgument(0)
+                .stream()
+                .collect(Collectors.toMap(ClientQuotaAlteration::entity,
+                    alteration -> KafkaFuture.<Void>completedFuture(null)))));
+    }
+
+    private Namespace buildNamespace(String name, String kafkaUser) {
+        return Namespace.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(Namespace.NamespaceSpec.builder()
+                .kafkaUser(kafkaUser)
+                .build())
+            .build();
+    }
+
+    private ResourceQuota buildQuota(String namespace, String producerByteRate) {
+        return ResourceQuota.builder()
+            .metadata(Metadata.builder()
+                .name(namespace + "-quota")
+                .namespace(namespace)
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(Map.of("user/producer_byte_rate", producerByteRate))
+            .build();
+    }
+}